@@ -0,0 +1,77 @@
+package ru.clevertec.newsservice.aop;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.ConcurrentLRUCache;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+
+import java.lang.reflect.Method;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the write path of {@link CacheAspect#aroundPutCacheableAnnotation}: the key extraction plus the put into
+ * the cache, once with the former {@code getClass().getMethod("getId")} and {@link Method#invoke} on every write and
+ * once with the {@link KeyExtractors} function. Run with {@code ./gradlew :news-service:jmh -PjmhIncludes=CacheAspect}
+ * and add {@code -prof gc} to the JMH arguments to also compare the allocations per write.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class CacheAspectBenchmark {
+
+    private static final int CAPACITY = 1 << 10;
+
+    @State(Scope.Benchmark)
+    public static class Writes {
+
+        NewsResponse[] results;
+        Cache<Object, Object> cache;
+
+        @Setup
+        public void setUp() {
+            results = new NewsResponse[CAPACITY];
+            for (int i = 0; i < CAPACITY; i++) {
+                results[i] = NewsResponse.newBuilder().setId(i).setTitle("News " + i).build();
+            }
+            cache = new ConcurrentLRUCache<>(CAPACITY);
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int index;
+
+        NewsResponse next(NewsResponse[] results) {
+            return results[index++ & (CAPACITY - 1)];
+        }
+
+    }
+
+    @Benchmark
+    public Object reflectiveKeyPut(Writes writes, Cursor cursor) throws ReflectiveOperationException {
+        NewsResponse result = cursor.next(writes.results);
+        Method method = result.getClass().getMethod("getId");
+        Object id = method.invoke(result);
+        return writes.cache.put(id, result);
+    }
+
+    @Benchmark
+    public Object precompiledKeyPut(Writes writes, Cursor cursor) {
+        NewsResponse result = cursor.next(writes.results);
+        return writes.cache.put(KeyExtractors.keyOf(result), result);
+    }
+
+}
@@ -0,0 +1,99 @@
+package ru.clevertec.newsservice.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the throughput of {@link ClockCache} with the {@link LRUCache} behind a global lock on all available
+ * cores, for a read-only workload of hot news ids and for a workload with writes. Run with
+ * {@code ./gradlew :news-service:jmh -PjmhIncludes=ClockCache}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Threads(Threads.MAX)
+public class ClockCacheBenchmark {
+
+    private static final int CAPACITY = 1_000;
+    private static final int KEY_SPACE = 4_000;
+
+    @State(Scope.Benchmark)
+    public static class Caches {
+
+        ClockCache<Long, Long> clock;
+        Map<Long, Long> synchronizedLru;
+
+        @Setup
+        public void setUp() {
+            clock = new ClockCache<>(CAPACITY);
+            synchronizedLru = Collections.synchronizedMap(new LRUCache<>(CAPACITY));
+            for (long key = 0; key < CAPACITY; key++) {
+                clock.put(key, key);
+                synchronizedLru.put(key, key);
+            }
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Keys {
+
+        private static final int MASK = (1 << 12) - 1;
+
+        @Param({"0", "10"})
+        int writePercent;
+
+        final Long[] keys = new Long[MASK + 1];
+        final boolean[] writes = new boolean[MASK + 1];
+        int index;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom();
+            for (int i = 0; i < keys.length; i++) {
+                double skewed = Math.pow(random.nextDouble(), 3);
+                keys[i] = writePercent == 0
+                        ? (long) (skewed * CAPACITY)
+                        : (long) (skewed * KEY_SPACE);
+                writes[i] = random.nextInt(100) < writePercent;
+            }
+        }
+
+        int next() {
+            return index++ & MASK;
+        }
+
+    }
+
+    @Benchmark
+    public Long clock(Caches caches, Keys keys) {
+        int i = keys.next();
+        Long key = keys.keys[i];
+        return keys.writes[i] ? caches.clock.put(key, key) : caches.clock.get(key);
+    }
+
+    @Benchmark
+    public Long synchronizedLru(Caches caches, Keys keys) {
+        int i = keys.next();
+        Long key = keys.keys[i];
+        return keys.writes[i] ? caches.synchronizedLru.put(key, key) : caches.synchronizedLru.get(key);
+    }
+
+}
@@ -0,0 +1,93 @@
+package ru.clevertec.newsservice.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.clevertec.newsservice.util.CacheTraces;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link ConcurrentLFUCache} with {@link LFUCache} under a Zipfian news id workload, where a miss is
+ * followed by a put as the cache aspects do. Run with {@code ./gradlew :news-service:jmh -PjmhIncludes=LFU} and
+ * add {@code -prof gc} to the JMH arguments to compare the allocation rate per operation.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentLFUCacheBenchmark {
+
+    private static final int KEY_SPACE = 100_000;
+    private static final int TRACE_SIZE = 1 << 16;
+    private static final long[] TRACE = CacheTraces.zipfian(TRACE_SIZE, KEY_SPACE, 0.99, 42);
+
+    @State(Scope.Benchmark)
+    public static class Caches {
+
+        @Param({"1000", "10000"})
+        int capacity;
+
+        ConcurrentLFUCache<Long, Long> concurrentLfu;
+        LFUCache<Long, Long> lfu;
+
+        @Setup
+        public void setUp() {
+            concurrentLfu = new ConcurrentLFUCache<>(capacity);
+            lfu = new LFUCache<>(capacity);
+            for (long key : TRACE) {
+                access(concurrentLfu, key);
+                access(lfu, key);
+            }
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int index;
+
+        long next() {
+            return TRACE[index++ & (TRACE_SIZE - 1)];
+        }
+
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Long lfuSingleThread(Caches caches, Cursor cursor) {
+        return access(caches.lfu, cursor.next());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Long concurrentLfuSingleThread(Caches caches, Cursor cursor) {
+        return access(caches.concurrentLfu, cursor.next());
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Long concurrentLfuAllCores(Caches caches, Cursor cursor) {
+        return access(caches.concurrentLfu, cursor.next());
+    }
+
+    private static Long access(Cache<Long, Long> cache, long key) {
+        Long value = cache.get(key);
+        if (value == null) {
+            cache.put(key, key);
+        }
+        return value;
+    }
+
+}
@@ -0,0 +1,114 @@
+package ru.clevertec.newsservice.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the read-mostly throughput of {@link ConcurrentLRUCache} with the {@link LRUCache} behind a global lock,
+ * on one thread and on all available cores. Run with {@code ./gradlew :news-service:jmh -PjmhIncludes=ConcurrentLRU}.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ConcurrentLRUCacheBenchmark {
+
+    private static final int CAPACITY = 1_000;
+    private static final int KEY_SPACE = 4_000;
+    private static final int WRITE_PERCENT = 10;
+
+    @State(Scope.Benchmark)
+    public static class Caches {
+
+        ConcurrentLRUCache<Long, Long> concurrentLru;
+        Map<Long, Long> synchronizedLru;
+
+        @Setup
+        public void setUp() {
+            concurrentLru = new ConcurrentLRUCache<>(CAPACITY);
+            synchronizedLru = Collections.synchronizedMap(new LRUCache<>(CAPACITY));
+            for (long key = 0; key < CAPACITY; key++) {
+                concurrentLru.put(key, key);
+                synchronizedLru.put(key, key);
+            }
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Keys {
+
+        private static final int MASK = (1 << 12) - 1;
+
+        final long[] keys = new long[MASK + 1];
+        final boolean[] writes = new boolean[MASK + 1];
+        int index;
+
+        @Setup
+        public void setUp() {
+            SplittableRandom random = new SplittableRandom();
+            for (int i = 0; i < keys.length; i++) {
+                double skewed = Math.pow(random.nextDouble(), 3);
+                keys[i] = (long) (skewed * KEY_SPACE);
+                writes[i] = random.nextInt(100) < WRITE_PERCENT;
+            }
+        }
+
+        int next() {
+            return index++ & MASK;
+        }
+
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Long concurrentLruSingleThread(Caches caches, Keys keys) {
+        return access(caches.concurrentLru, keys);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Long concurrentLruAllCores(Caches caches, Keys keys) {
+        return access(caches.concurrentLru, keys);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Long synchronizedLruSingleThread(Caches caches, Keys keys) {
+        return access(caches.synchronizedLru, keys);
+    }
+
+    @Benchmark
+    @Threads(Threads.MAX)
+    public Long synchronizedLruAllCores(Caches caches, Keys keys) {
+        return access(caches.synchronizedLru, keys);
+    }
+
+    private static Long access(Cache<Long, Long> cache, Keys keys) {
+        int i = keys.next();
+        long key = keys.keys[i];
+        return keys.writes[i] ? cache.put(key, key) : cache.get(key);
+    }
+
+    private static Long access(Map<Long, Long> cache, Keys keys) {
+        int i = keys.next();
+        long key = keys.keys[i];
+        return keys.writes[i] ? cache.put(key, key) : cache.get(key);
+    }
+
+}
@@ -0,0 +1,83 @@
+package ru.clevertec.newsservice.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures cache hits on news ids of {@link LongCache} against the boxed {@link LRUCache} and {@link LFUCache}, the
+ * way the cache aspects look up {@code args[0]}. Run with
+ * {@code ./gradlew :news-service:jmh -PjmhIncludes=LongCache} and add {@code -prof gc} to the JMH arguments:
+ * {@code gc.alloc.rate.norm} of the LongCache hits stays at zero bytes per operation, while LFUCache boxes the
+ * growing frequencies and allocates new frequency set nodes on every hit.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LongCacheBenchmark {
+
+    private static final int CAPACITY = 1 << 12;
+    private static final Object VALUE = new Object();
+
+    @State(Scope.Benchmark)
+    public static class Caches {
+
+        Long[] ids;
+        LongCache<Object> longCache;
+        LRUCache<Object, Object> lru;
+        LFUCache<Object, Object> lfu;
+
+        @Setup
+        public void setUp() {
+            ids = new Long[CAPACITY];
+            longCache = new LongCache<>(CAPACITY);
+            lru = new LRUCache<>(CAPACITY);
+            lfu = new LFUCache<>(CAPACITY);
+            for (int i = 0; i < CAPACITY; i++) {
+                ids[i] = 1_000_000L + i;
+                longCache.put(ids[i], VALUE);
+                lru.put(ids[i], VALUE);
+                lfu.put(ids[i], VALUE);
+            }
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int index;
+
+        Long next(Long[] ids) {
+            return ids[index++ & (CAPACITY - 1)];
+        }
+
+    }
+
+    @Benchmark
+    public Object longCacheHit(Caches caches, Cursor cursor) {
+        return caches.longCache.get(cursor.next(caches.ids));
+    }
+
+    @Benchmark
+    public Object lruHit(Caches caches, Cursor cursor) {
+        return caches.lru.get(cursor.next(caches.ids));
+    }
+
+    @Benchmark
+    public Object lfuHit(Caches caches, Cursor cursor) {
+        return caches.lfu.get(cursor.next(caches.ids));
+    }
+
+}
@@ -0,0 +1,94 @@
+package ru.clevertec.newsservice.cache;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.CacheTraces;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares {@link OffHeapCache} with the on-heap {@link LRUCache} holding the same NewsResponse entries under a
+ * Zipfian news id workload. The setup prints the heap retained by each filled cache after a full GC; run with
+ * {@code ./gradlew :news-service:jmh -PjmhIncludes=OffHeap} and add {@code -prof gc} to the JMH arguments to compare
+ * the allocation rate per hit, which for the off-heap cache is the price of parsing the message.
+ */
+@Fork(value = 1, jvmArgs = {"-Xmx1g", "-XX:MaxDirectMemorySize=1g"})
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OffHeapCacheBenchmark {
+
+    private static final int TRACE_SIZE = 1 << 16;
+
+    @State(Scope.Benchmark)
+    public static class Caches {
+
+        @Param({"100000"})
+        int entries;
+
+        long[] trace;
+        LRUCache<Long, NewsResponse> lru;
+        OffHeapCache<NewsResponse> offHeap;
+
+        @Setup
+        public void setUp() {
+            trace = CacheTraces.zipfian(TRACE_SIZE, entries, 0.99, 42);
+            NewsResponseTestBuilder builder = NewsResponseTestBuilder.aNewsResponse();
+            long heapBefore = usedHeap();
+            lru = new LRUCache<>(entries);
+            for (long id = 0; id < entries; id++) {
+                lru.put(id, builder.withId(id).build());
+            }
+            long heapWithLru = usedHeap();
+            offHeap = new OffHeapCache<>(NewsResponse.parser(), 1024L * entries, 1 << 20);
+            for (long id = 0; id < entries; id++) {
+                offHeap.put(id, builder.withId(id).build());
+            }
+            long heapWithBoth = usedHeap();
+            System.out.printf("%nLRUCache retained heap: %d KB, OffHeapCache retained heap: %d KB, off-heap: %d KB%n",
+                    (heapWithLru - heapBefore) >> 10, (heapWithBoth - heapWithLru) >> 10,
+                    offHeap.offHeapBytes() >> 10);
+        }
+
+        private static long usedHeap() {
+            System.gc();
+            return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+        }
+
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+
+        int index;
+
+        long next(long[] trace) {
+            return trace[index++ & (TRACE_SIZE - 1)];
+        }
+
+    }
+
+    @Benchmark
+    public NewsResponse lruGet(Caches caches, Cursor cursor) {
+        return caches.lru.get(cursor.next(caches.trace));
+    }
+
+    @Benchmark
+    public NewsResponse offHeapGet(Caches caches, Cursor cursor) {
+        return caches.offHeap.get(cursor.next(caches.trace));
+    }
+
+}
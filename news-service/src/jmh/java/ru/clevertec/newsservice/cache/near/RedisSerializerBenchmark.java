@@ -0,0 +1,77 @@
+package ru.clevertec.newsservice.cache.near;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import ru.clevertec.newsservice.cache.near.ProtobufRedisSerializer.MessageType;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the JDK serialization that the Redis cache used by default with {@link ProtobufRedisSerializer}, without
+ * and with compression, on a NewsResponse whose text has the given number of characters. The setup prints the bytes
+ * per entry of each serializer; run with {@code ./gradlew :news-service:jmh -PjmhIncludes=RedisSerializer} and add
+ * {@code -prof gc} to the JMH arguments to compare the allocation per call.
+ */
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class RedisSerializerBenchmark {
+
+    @Param({"300", "2000"})
+    int textLength;
+
+    @Param({"jdk", "protobuf", "protobuf-deflate"})
+    String serializerName;
+
+    RedisSerializer<Object> serializer;
+    NewsResponse news;
+    byte[] bytes;
+
+    @Setup
+    public void setUp() {
+        serializer = switch (serializerName) {
+            case "jdk" -> new JdkSerializationRedisSerializer();
+            case "protobuf" -> protobuf(0);
+            default -> protobuf(1024);
+        };
+        news = NewsResponseTestBuilder.aNewsResponse()
+                .withText(("Apple has announced its latest flagship smartphone, the iPhone 15. ")
+                        .repeat(textLength / 67 + 1).substring(0, textLength))
+                .build();
+        bytes = serializer.serialize(news);
+        System.out.printf("%n%s with %d characters of text: %d bytes per entry%n", serializerName, textLength,
+                bytes.length);
+    }
+
+    private static ProtobufRedisSerializer protobuf(int compressionThreshold) {
+        return new ProtobufRedisSerializer(compressionThreshold,
+                new MessageType<>(1, NewsResponse.class, NewsResponse.parser()));
+    }
+
+    @Benchmark
+    public byte[] serialize() {
+        return serializer.serialize(news);
+    }
+
+    @Benchmark
+    public Object deserialize() {
+        return serializer.deserialize(bytes);
+    }
+
+}
@@ -0,0 +1,138 @@
+package ru.clevertec.newsservice.aop;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import ru.clevertec.newsservice.aop.annotation.GetAllCacheable;
+import ru.clevertec.newsservice.aop.annotation.GetCacheable;
+import ru.clevertec.newsservice.aop.annotation.PutCacheable;
+import ru.clevertec.newsservice.aop.annotation.RemoveCacheable;
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.factory.CacheFactory;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The CacheAspect class is an aspect that intercepts method invocations annotated with GetCacheable, GetAllCacheable,
+ * PutCacheable and RemoveCacheable and caches the results of the method calls in the cache named by the annotation. This aspect uses
+ * the {@link CacheFactory} to create and manage the caches.
+ */
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+@Profile("dev")
+public class CacheAspect {
+
+    private final CacheFactory<Object, Object> cacheFactory;
+
+    /**
+     * This method intercepts method invocations that have the GetCacheable annotation and caches the results of the
+     * method calls. If the result is already cached, it will be retrieved from the cache instead of invoking the
+     * method. The invocation is recorded as a load in the statistics of the cache.
+     *
+     * @param joinPoint    the ProceedingJoinPoint.
+     * @param getCacheable the annotation that names the cache.
+     * @return the result of the intercepted method invocation.
+     * @throws Throwable if an error occurs while invoking the intercepted method.
+     */
+    @Around("ru.clevertec.newsservice.aop.pointcut.Pointcuts.isMethodWithGetCacheableAnnotation() " +
+            "&& @annotation(getCacheable)")
+    public Object aroundGetCacheableAnnotation(ProceedingJoinPoint joinPoint, GetCacheable getCacheable)
+            throws Throwable {
+        Object id = joinPoint.getArgs()[0];
+        Cache<Object, Object> cache = cacheFactory.getCache(getCacheable.value());
+        Object result = cache.get(id, key -> proceed(joinPoint));
+        log.debug("{} Cache get: {}", getCacheable.value(), id);
+        return result;
+    }
+
+    /**
+     * This method intercepts method invocations that have the GetAllCacheable annotation, whose first argument is
+     * a collection of IDs and whose result is a list of the found objects. The cached objects are taken from the cache
+     * and the method is invoked once with the IDs that are not cached. The result keeps the order of the IDs.
+     *
+     * @param joinPoint       the ProceedingJoinPoint.
+     * @param getAllCacheable the annotation that names the cache.
+     * @return the cached and found objects.
+     */
+    @Around("ru.clevertec.newsservice.aop.pointcut.Pointcuts.isMethodWithGetAllCacheableAnnotation() " +
+            "&& @annotation(getAllCacheable)")
+    public Object aroundGetAllCacheableAnnotation(ProceedingJoinPoint joinPoint, GetAllCacheable getAllCacheable) {
+        Collection<?> ids = (Collection<?>) joinPoint.getArgs()[0];
+        Cache<Object, Object> cache = cacheFactory.getCache(getAllCacheable.value());
+        Map<Object, Object> results = cache.getAll(ids, missingIds -> proceedAll(joinPoint, missingIds));
+        log.debug("{} Cache get all: {}", getAllCacheable.value(), ids);
+        return new ArrayList<>(results.values());
+    }
+
+    /**
+     * This method intercepts method invocations that have the PutCacheable annotation and caches the results of the
+     * save and update method calls under the ID of the result, which is read by a precompiled {@link KeyExtractors}
+     * function instead of reflection.
+     *
+     * @param joinPoint    the ProceedingJoinPoint.
+     * @param putCacheable the annotation that names the cache.
+     * @return the result of the intercepted method invocation.
+     * @throws Throwable if an error occurs while invoking the intercepted method.
+     */
+    @Around("ru.clevertec.newsservice.aop.pointcut.Pointcuts.isMethodWithPutCacheableAnnotation() " +
+            "&& @annotation(putCacheable)")
+    public Object aroundPutCacheableAnnotation(ProceedingJoinPoint joinPoint, PutCacheable putCacheable)
+            throws Throwable {
+        Object result = joinPoint.proceed(joinPoint.getArgs());
+        Object id = KeyExtractors.keyOf(result);
+        Cache<Object, Object> cache = cacheFactory.getCache(putCacheable.value());
+        cache.put(id, result);
+        log.debug("{} Cache put: {}", putCacheable.value(), id);
+        return result;
+    }
+
+    /**
+     * This method intercepts method invocations that have the RemoveCacheable annotation and removes the object with
+     * the ID of the first argument from the cache.
+     *
+     * @param joinPoint       the ProceedingJoinPoint.
+     * @param removeCacheable the annotation that names the cache.
+     * @return the result of the intercepted method invocation.
+     * @throws Throwable if an error occurs while invoking the intercepted method.
+     */
+    @Around("ru.clevertec.newsservice.aop.pointcut.Pointcuts.isMethodWithRemoveCacheableAnnotation() " +
+            "&& @annotation(removeCacheable)")
+    public Object aroundRemoveCacheableAnnotation(ProceedingJoinPoint joinPoint, RemoveCacheable removeCacheable)
+            throws Throwable {
+        Object id = joinPoint.getArgs()[0];
+        Object result = joinPoint.proceed(joinPoint.getArgs());
+        Cache<Object, Object> cache = cacheFactory.getCache(removeCacheable.value());
+        cache.removeByKey(id);
+        log.debug("{} Cache remove: {}", removeCacheable.value(), id);
+        return result;
+    }
+
+    @SneakyThrows
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        return joinPoint.proceed(joinPoint.getArgs());
+    }
+
+    @SneakyThrows
+    private static Map<Object, Object> proceedAll(ProceedingJoinPoint joinPoint, Set<Object> ids) {
+        Object[] args = joinPoint.getArgs().clone();
+        args[0] = new ArrayList<>(ids);
+        Map<Object, Object> results = new LinkedHashMap<>();
+        for (Object result : (List<?>) joinPoint.proceed(args)) {
+            results.put(KeyExtractors.keyOf(result), result);
+        }
+        return results;
+    }
+
+}
@@ -0,0 +1,77 @@
+package ru.clevertec.newsservice.aop;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import ru.clevertec.newsservice.aop.annotation.GroupCacheable;
+import ru.clevertec.newsservice.cache.GroupedCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The GroupCacheAspect class is an aspect that caches the results of the methods annotated with GroupCacheable in
+ * the {@link GroupedCache} of the same name. The first argument is the group and the other normalized arguments are
+ * the key within the group, e.g. the page of comments of one news. The groups are invalidated by the listeners of
+ * the writes the results depend on, not by this aspect.
+ */
+@Slf4j
+@Aspect
+@Component
+@Profile({"dev", "prod"})
+public class GroupCacheAspect {
+
+    private final Map<String, GroupedCache<Object, Object>> groupedCaches;
+
+    /**
+     * Constructs a new GroupCacheAspect.
+     *
+     * @param groupedCaches the grouped caches of the active profile.
+     */
+    @SuppressWarnings("unchecked")
+    public GroupCacheAspect(List<GroupedCache<?, ?>> groupedCaches) {
+        this.groupedCaches = groupedCaches.stream()
+                .map(cache -> (GroupedCache<Object, Object>) cache)
+                .collect(Collectors.toMap(GroupedCache::name, Function.identity()));
+    }
+
+    /**
+     * This method intercepts method invocations that have the GroupCacheable annotation and returns the cached result
+     * of the same arguments, or invokes the method and caches its result in the group of its first argument.
+     *
+     * @param joinPoint      the ProceedingJoinPoint.
+     * @param groupCacheable the annotation that names the cache.
+     * @return the result of the intercepted method invocation.
+     * @throws Throwable if an error occurs while invoking the intercepted method.
+     */
+    @Around("ru.clevertec.newsservice.aop.pointcut.Pointcuts.isMethodWithGroupCacheableAnnotation() " +
+            "&& @annotation(groupCacheable)")
+    public Object aroundGroupCacheableAnnotation(ProceedingJoinPoint joinPoint, GroupCacheable groupCacheable)
+            throws Throwable {
+        GroupedCache<Object, Object> groupedCache = groupedCaches.get(groupCacheable.value());
+        Object[] args = joinPoint.getArgs();
+        if (groupedCache == null || args.length == 0 || args[0] == null) {
+            return joinPoint.proceed(args);
+        }
+        List<Object> key = new ArrayList<>(args.length - 1);
+        for (int i = 1; i < args.length; i++) {
+            key.add(QueryKeys.normalize(args[i], false));
+        }
+        Object result = groupedCache.get(args[0], key, () -> proceed(joinPoint));
+        log.debug("{} Group Cache get: {} {}", groupCacheable.value(), args[0], key);
+        return result;
+    }
+
+    @SneakyThrows
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        return joinPoint.proceed(joinPoint.getArgs());
+    }
+
+}
@@ -0,0 +1,79 @@
+package ru.clevertec.newsservice.aop;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaConversionException;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+/**
+ * The registry of the functions that extract the cache key from the results of the methods annotated with
+ * {@link ru.clevertec.newsservice.aop.annotation.PutCacheable}. The {@code getId()} accessor of a result type is
+ * looked up once, on the first result of that type, and compiled with {@link LambdaMetafactory} into a
+ * {@link Function} that the JIT can inline, so later writes neither look up nor reflectively invoke it.
+ */
+final class KeyExtractors {
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+    private static final MethodType FUNCTION_TYPE = MethodType.methodType(Function.class);
+    private static final MethodType APPLY_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private static final ClassValue<Function<Object, Object>> EXTRACTORS = new ClassValue<>() {
+        @Override
+        protected Function<Object, Object> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private KeyExtractors() {
+    }
+
+    /**
+     * Returns the value of the {@code getId()} accessor of the result.
+     *
+     * @param result the result of a cached method.
+     * @return the cache key of the result.
+     * @throws IllegalArgumentException if the type of the result has no public {@code getId()} accessor.
+     */
+    static Object keyOf(Object result) {
+        return EXTRACTORS.get(result.getClass()).apply(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Function<Object, Object> compile(Class<?> type) {
+        MethodHandle accessor = accessorOf(type);
+        try {
+            CallSite callSite = LambdaMetafactory.metafactory(LOOKUP, "apply", FUNCTION_TYPE, APPLY_TYPE, accessor,
+                    MethodType.methodType(accessor.type().wrap().returnType(), type));
+            return (Function<Object, Object>) callSite.getTarget().invokeExact();
+        } catch (LambdaConversionException e) {
+            MethodHandle generic = accessor.asType(APPLY_TYPE);
+            return result -> invoke(generic, result);
+        } catch (Throwable e) {
+            throw new IllegalStateException("Failed to compile the key extractor of " + type.getName(), e);
+        }
+    }
+
+    private static MethodHandle accessorOf(Class<?> type) {
+        try {
+            Method method = type.getMethod("getId");
+            return LOOKUP.unreflect(method);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            throw new IllegalArgumentException(type.getName() + " has no public getId() accessor", e);
+        }
+    }
+
+    private static Object invoke(MethodHandle accessor, Object result) {
+        try {
+            return accessor.invokeExact(result);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package ru.clevertec.newsservice.aop;
+
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import ru.clevertec.newsservice.aop.annotation.PutCacheable;
+import ru.clevertec.newsservice.aop.annotation.QueryCacheable;
+import ru.clevertec.newsservice.aop.annotation.RemoveCacheable;
+import ru.clevertec.newsservice.cache.QueryResultCache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The QueryCacheAspect class is an aspect that caches the results of the list and search methods annotated with
+ * QueryCacheable in the {@link QueryResultCache} of the same name. The key is the method name with the normalized
+ * arguments: a {@code Pageable} becomes its page number, page size and sort, and the String arguments are
+ * lower-cased if the annotation ignores case. Methods annotated with PutCacheable or RemoveCacheable invalidate
+ * all the results of their cache when they return and once more after their transaction commits, so that a query
+ * that reads the database before the commit cannot keep its stale result.
+ */
+@Slf4j
+@Aspect
+@Component
+@Profile({"dev", "prod"})
+public class QueryCacheAspect {
+
+    private final Map<String, QueryResultCache> queryCaches;
+
+    /**
+     * Constructs a new QueryCacheAspect.
+     *
+     * @param queryCaches the query result caches of the active profile.
+     */
+    public QueryCacheAspect(List<QueryResultCache> queryCaches) {
+        this.queryCaches = queryCaches.stream()
+                .collect(Collectors.toMap(QueryResultCache::name, Function.identity()));
+    }
+
+    /**
+     * This method intercepts method invocations that have the QueryCacheable annotation and returns the cached result
+     * of the same query, or invokes the method and caches its result.
+     *
+     * @param joinPoint      the ProceedingJoinPoint.
+     * @param queryCacheable the annotation that names the cache.
+     * @return the result of the intercepted method invocation.
+     * @throws Throwable if an error occurs while invoking the intercepted method.
+     */
+    @Around("ru.clevertec.newsservice.aop.pointcut.Pointcuts.isMethodWithQueryCacheableAnnotation() " +
+            "&& @annotation(queryCacheable)")
+    public Object aroundQueryCacheableAnnotation(ProceedingJoinPoint joinPoint, QueryCacheable queryCacheable)
+            throws Throwable {
+        QueryResultCache queryCache = queryCaches.get(queryCacheable.value());
+        if (queryCache == null) {
+            return joinPoint.proceed(joinPoint.getArgs());
+        }
+        List<Object> query = keyOf(joinPoint, queryCacheable.ignoreCase());
+        Object result = queryCache.get(query, () -> proceed(joinPoint));
+        log.debug("{} Query Cache get: {}", queryCacheable.value(), query);
+        return result;
+    }
+
+    /**
+     * Invalidates the cached query results after a method with the PutCacheable annotation returns.
+     *
+     * @param putCacheable the annotation that names the cache.
+     */
+    @AfterReturning("ru.clevertec.newsservice.aop.pointcut.Pointcuts.isMethodWithPutCacheableAnnotation() " +
+                    "&& @annotation(putCacheable)")
+    public void afterPutCacheableAnnotation(PutCacheable putCacheable) {
+        invalidateAfterCommit(putCacheable.value());
+    }
+
+    /**
+     * Invalidates the cached query results after a method with the RemoveCacheable annotation returns.
+     *
+     * @param removeCacheable the annotation that names the cache.
+     */
+    @AfterReturning("ru.clevertec.newsservice.aop.pointcut.Pointcuts.isMethodWithRemoveCacheableAnnotation() " +
+                    "&& @annotation(removeCacheable)")
+    public void afterRemoveCacheableAnnotation(RemoveCacheable removeCacheable) {
+        invalidateAfterCommit(removeCacheable.value());
+    }
+
+    private void invalidateAfterCommit(String name) {
+        QueryResultCache queryCache = queryCaches.get(name);
+        if (queryCache == null) {
+            return;
+        }
+        queryCache.invalidateAll();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    queryCache.invalidateAll();
+                }
+            });
+        }
+        log.debug("{} Query Cache invalidate", name);
+    }
+
+    private static List<Object> keyOf(ProceedingJoinPoint joinPoint, boolean ignoreCase) {
+        Object[] args = joinPoint.getArgs();
+        List<Object> key = new ArrayList<>(args.length + 1);
+        key.add(((MethodSignature) joinPoint.getSignature()).getMethod().getName());
+        for (Object arg : args) {
+            key.add(QueryKeys.normalize(arg, ignoreCase));
+        }
+        return key;
+    }
+
+    @SneakyThrows
+    private static Object proceed(ProceedingJoinPoint joinPoint) {
+        return joinPoint.proceed(joinPoint.getArgs());
+    }
+
+}
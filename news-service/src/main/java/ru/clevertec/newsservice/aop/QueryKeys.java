@@ -0,0 +1,36 @@
+package ru.clevertec.newsservice.aop;
+
+import org.springframework.data.domain.Pageable;
+
+import java.util.Locale;
+
+/**
+ * The normalization of the method arguments that make up the keys of cached query results. A {@link Pageable}
+ * becomes its page number, page size and sort, and the String arguments are lower-cased if the query ignores case,
+ * so that equal queries get equal keys.
+ */
+final class QueryKeys {
+
+    private QueryKeys() {
+    }
+
+    /**
+     * Returns the normalized form of the argument.
+     *
+     * @param arg        the argument of a cached method.
+     * @param ignoreCase whether the String arguments are matched ignoring case.
+     * @return the normalized argument that implements equals and hashCode.
+     */
+    static Object normalize(Object arg, boolean ignoreCase) {
+        if (arg instanceof Pageable pageable) {
+            return pageable.isPaged()
+                    ? pageable.getPageNumber() + ":" + pageable.getPageSize() + ":" + pageable.getSort()
+                    : "unpaged:" + pageable.getSort();
+        }
+        if (arg instanceof String string && ignoreCase) {
+            return string.toLowerCase(Locale.ROOT);
+        }
+        return arg;
+    }
+
+}
@@ -0,0 +1,19 @@
+package ru.clevertec.newsservice.aop.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GetAllCacheable {
+
+    /**
+     * The name of the cache, as returned by {@link ru.clevertec.newsservice.cache.factory.CacheFactory#getCache(String)}.
+     *
+     * @return the name of the cache.
+     */
+    String value();
+
+}
@@ -0,0 +1,20 @@
+package ru.clevertec.newsservice.aop.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface GroupCacheable {
+
+    /**
+     * The name of the grouped cache. The first argument of the method is the group, e.g. the ID of the news, and the
+     * other arguments are the key within the group.
+     *
+     * @return the name of the cache.
+     */
+    String value();
+
+}
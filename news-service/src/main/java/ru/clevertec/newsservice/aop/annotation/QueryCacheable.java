@@ -0,0 +1,26 @@
+package ru.clevertec.newsservice.aop.annotation;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryCacheable {
+
+    /**
+     * The name of the cache whose writes invalidate the cached results, as in {@link PutCacheable#value()}.
+     *
+     * @return the name of the cache.
+     */
+    String value();
+
+    /**
+     * Whether the String arguments are matched ignoring case, so that they are lower-cased in the key.
+     *
+     * @return true if the String arguments are matched ignoring case.
+     */
+    boolean ignoreCase() default false;
+
+}
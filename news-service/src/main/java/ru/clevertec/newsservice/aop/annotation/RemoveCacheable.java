@@ -8,4 +8,12 @@ import java.lang.annotation.Target;
 @Target(ElementType.METHOD)
 @Retention(RetentionPolicy.RUNTIME)
 public @interface RemoveCacheable {
+
+    /**
+     * The name of the cache, as returned by {@link ru.clevertec.newsservice.cache.factory.CacheFactory#getCache(String)}.
+     *
+     * @return the name of the cache.
+     */
+    String value();
+
 }
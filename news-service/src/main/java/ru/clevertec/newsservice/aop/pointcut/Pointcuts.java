@@ -8,20 +8,24 @@ public class Pointcuts {
     public void isMethodWithGetCacheableAnnotation() {
     }
 
-    @Pointcut("@annotation(ru.clevertec.newsservice.aop.annotation.PutCacheable)")
-    public void isMethodWithPutCacheableAnnotation() {
+    @Pointcut("@annotation(ru.clevertec.newsservice.aop.annotation.GetAllCacheable)")
+    public void isMethodWithGetAllCacheableAnnotation() {
     }
 
-    @Pointcut("@annotation(ru.clevertec.newsservice.aop.annotation.RemoveCacheable)")
-    public void isMethodWithRemoveCacheableAnnotation() {
+    @Pointcut("@annotation(ru.clevertec.newsservice.aop.annotation.QueryCacheable)")
+    public void isMethodWithQueryCacheableAnnotation() {
+    }
+
+    @Pointcut("@annotation(ru.clevertec.newsservice.aop.annotation.GroupCacheable)")
+    public void isMethodWithGroupCacheableAnnotation() {
     }
 
-    @Pointcut("within(ru.clevertec.newsservice.service.impl.NewsServiceImpl)")
-    public void isNewsServiceImplLayer() {
+    @Pointcut("@annotation(ru.clevertec.newsservice.aop.annotation.PutCacheable)")
+    public void isMethodWithPutCacheableAnnotation() {
     }
 
-    @Pointcut("within(ru.clevertec.newsservice.service.impl.CommentServiceImpl)")
-    public void isCommentServiceImplLayer() {
+    @Pointcut("@annotation(ru.clevertec.newsservice.aop.annotation.RemoveCacheable)")
+    public void isMethodWithRemoveCacheableAnnotation() {
     }
 
 }
@@ -0,0 +1,394 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe implementation of the Cache interface that uses the Adaptive Replacement Cache (ARC) algorithm.
+ * <p>
+ * Resident entries are split into two LRU lists: T1 holds the entries seen once recently, e.g. breaking news, and T2
+ * the entries seen at least twice, e.g. evergreen stories. Each list has a ghost list, B1 and B2, that remembers the
+ * keys, but not the values, of the entries recently evicted from it. The target size of T1 adapts to the workload:
+ * a put of a key found in B1 means that T1 was too small and enlarges the target, a put of a key found in B2 shrinks
+ * it. Eviction takes the least recently used entry of T1 while T1 exceeds its target, and of T2 otherwise.
+ * <p>
+ * Since the cache aspects look up a key and put it after a miss, the ghost lists are consulted on put, and a hit
+ * of a ghost key on get is a miss. Updating a resident entry counts as a second access. All operations take a lock.
+ *
+ * @param <K> the type of keys maintained by this cache.
+ * @param <V> the type of mapped values.
+ */
+public class ARCCache<K, V> implements Cache<K, V> {
+
+    private static final int T1 = 0;
+    private static final int T2 = 1;
+    private static final int B1 = 2;
+    private static final int B2 = 3;
+
+    private final Map<K, Node<K, V>> data;
+    private final Node<K, V>[] lists;
+    private final int[] sizes;
+    private final ReentrantLock lock;
+    private int capacity;
+    private int target;
+    private long evictionCount;
+
+    /**
+     * Constructs a new ARCCache with the specified capacity.
+     *
+     * @param capacity the maximum number of entries that this cache can hold.
+     */
+    public ARCCache(int capacity) {
+        this.capacity = Math.max(0, capacity);
+        this.data = new HashMap<>();
+        @SuppressWarnings("unchecked")
+        Node<K, V>[] lists = (Node<K, V>[]) new Node<?, ?>[4];
+        this.lists = lists;
+        for (int list = T1; list <= B2; list++) {
+            lists[list] = sentinel();
+        }
+        this.sizes = new int[4];
+        this.lock = new ReentrantLock();
+    }
+
+    /**
+     * Returns the value associated with the specified key in this cache,
+     * or null if the cache contains no mapping for the key. A hit moves the entry to the most recently used end of T2.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V get(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node == null || node.list >= B1) {
+                return null;
+            }
+            moveTo(node, T2);
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the value associated with the specified key without moving its entry to the frequently used list.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V peek(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            return node == null || node.list >= B1 ? null : node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache.
+     * If the cache previously contained a mapping for the key, the old value is replaced.
+     * If the cache is full, an entry of T1 or T2 is evicted according to the adaptive target size of T1.
+     *
+     * @param key   key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return the previous value associated with the specified key, or null if there was no mapping for the key.
+     */
+    @Override
+    public V put(K key, V value) {
+        if (capacity == 0) {
+            return null;
+        }
+        lock.lock();
+        try {
+            Node<K, V> node = data.get(key);
+            if (node != null && node.list < B1) {
+                V oldValue = node.value;
+                node.value = value;
+                moveTo(node, T2);
+                return oldValue;
+            }
+            if (node != null) {
+                boolean inB2 = node.list == B2;
+                adaptTarget(inB2);
+                unlink(node);
+                if (isFull()) {
+                    replace(inB2);
+                }
+                node.value = value;
+                linkLast(node, T2);
+                return null;
+            }
+            makeRoomForNewKey();
+            node = new Node<>(key, value);
+            data.put(key, node);
+            linkLast(node, T1);
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key from this cache if present, including its ghost.
+     * Returns the value to which this cache previously associated the key,
+     * or null if the cache contained no mapping for the key.
+     *
+     * @param key the key whose mapping is to be removed from the cache.
+     * @return the previous value associated with key, or null if there was no mapping for key.
+     */
+    @Override
+    public V removeByKey(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node == null) {
+                return null;
+            }
+            unlink(node);
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of resident entries in this cache, not counting the ghost keys.
+     *
+     * @return the number of entries in this cache.
+     */
+    @Override
+    public int size() {
+        lock.lock();
+        try {
+            return sizes[T1] + sizes[T2];
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the current target size of T1, the part of the capacity given to entries seen once.
+     *
+     * @return the adaptive target size of T1.
+     */
+    public int targetRecencySize() {
+        lock.lock();
+        try {
+            return target;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public long capacity() {
+        lock.lock();
+        try {
+            return capacity;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes the capacity of this cache, evicting entries as ARC would and trimming the ghost lists to the new
+     * capacity.
+     *
+     * @param capacity the new maximum number of entries.
+     */
+    @Override
+    public void resize(long capacity) {
+        lock.lock();
+        try {
+            this.capacity = (int) Math.max(0, Math.min(capacity, Integer.MAX_VALUE));
+            target = Math.min(target, this.capacity);
+            while (sizes[T1] + sizes[T2] > this.capacity) {
+                replace(false);
+            }
+            while (sizes[T1] + sizes[B1] > this.capacity && sizes[B1] > 0) {
+                removeFirst(B1);
+            }
+            while (sizes[T2] + sizes[B2] > this.capacity && sizes[B2] > 0) {
+                removeFirst(B2);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        lock.lock();
+        try {
+            return Map.of(EvictionCause.SIZE, evictionCount);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the entries of T1 and then of T2, each from the least to the most recently used. Entries of T1 have
+     * the frequency 1 and entries of T2 the frequency 2.
+     *
+     * @return the resident entries of this cache from the coldest to the hottest.
+     */
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        lock.lock();
+        try {
+            List<CacheEntry<K, V>> entries = new ArrayList<>(sizes[T1] + sizes[T2]);
+            for (int list = T1; list <= T2; list++) {
+                for (Node<K, V> node = lists[list].next; node != lists[list]; node = node.next) {
+                    entries.add(new CacheEntry<>(node.key, node.value, list + 1));
+                }
+            }
+            return entries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Puts the entries into this cache, moving the entries with a frequency above 1 into T2.
+     *
+     * @param entries the entries from the coldest to the hottest.
+     */
+    @Override
+    public void restore(List<CacheEntry<K, V>> entries) {
+        lock.lock();
+        try {
+            for (CacheEntry<K, V> entry : entries) {
+                put(entry.key(), entry.value());
+                if (entry.frequency() > 1) {
+                    put(entry.key(), entry.value());
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return "ARCCache(capacity=" + capacity + ", target=" + target + ", size=" + (sizes[T1] + sizes[T2]) + ")";
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void adaptTarget(boolean inB2) {
+        if (inB2) {
+            target = Math.max(0, target - Math.max(sizes[B1] / Math.max(1, sizes[B2]), 1));
+        } else {
+            target = Math.min(capacity, target + Math.max(sizes[B2] / Math.max(1, sizes[B1]), 1));
+        }
+    }
+
+    private void makeRoomForNewKey() {
+        int recency = sizes[T1] + sizes[B1];
+        int total = recency + sizes[T2] + sizes[B2];
+        if (recency >= capacity) {
+            if (sizes[T1] < capacity) {
+                removeFirst(B1);
+                if (isFull()) {
+                    replace(false);
+                }
+            } else {
+                evictFirst(T1);
+            }
+        } else if (total >= capacity) {
+            if (total >= 2 * capacity) {
+                removeFirst(B2);
+            }
+            if (isFull()) {
+                replace(false);
+            }
+        }
+    }
+
+    private boolean isFull() {
+        return sizes[T1] + sizes[T2] >= capacity;
+    }
+
+    private void replace(boolean inB2) {
+        if (sizes[T1] > 0 && (sizes[T1] > target || (inB2 && sizes[T1] == target) || sizes[T2] == 0)) {
+            Node<K, V> victim = lists[T1].next;
+            moveTo(victim, B1);
+            victim.value = null;
+        } else {
+            Node<K, V> victim = lists[T2].next;
+            moveTo(victim, B2);
+            victim.value = null;
+        }
+        evictionCount++;
+    }
+
+    private void evictFirst(int list) {
+        removeFirst(list);
+        evictionCount++;
+    }
+
+    private void removeFirst(int list) {
+        Node<K, V> node = lists[list].next;
+        unlink(node);
+        data.remove(node.key);
+    }
+
+    private void moveTo(Node<K, V> node, int list) {
+        unlink(node);
+        linkLast(node, list);
+    }
+
+    private void linkLast(Node<K, V> node, int list) {
+        Node<K, V> head = lists[list];
+        Node<K, V> last = head.prev;
+        node.prev = last;
+        node.next = head;
+        last.next = node;
+        head.prev = node;
+        node.list = list;
+        sizes[list]++;
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+        sizes[node.list]--;
+    }
+
+    private static <K, V> Node<K, V> sentinel() {
+        Node<K, V> sentinel = new Node<>(null, null);
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+        return sentinel;
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private V value;
+        private int list;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+}
@@ -1,11 +1,254 @@
 package ru.clevertec.newsservice.cache;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
 public interface Cache<K, V> {
 
     V get(K key);
 
+    /**
+     * Returns the value associated with the specified key without recording an access, so that the read changes
+     * neither the eviction order nor the idle deadline of the entry. Caches that cannot read an entry without touching
+     * it fall back to {@link #get(Object)}.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    default V peek(K key) {
+        return get(key);
+    }
+
+    /**
+     * Returns true if this cache contains a mapping for the specified key, without recording an access.
+     *
+     * @param key the key whose presence is to be tested.
+     * @return true if this cache contains a mapping for the key.
+     */
+    default boolean containsKey(K key) {
+        return peek(key) != null;
+    }
+
+    /**
+     * Returns the value associated with the specified key, or loads it with the loader, caches it and returns it
+     * if the cache contains no mapping for the key. A null loaded value is returned but not cached. Concurrent misses
+     * of the same key may load it more than once.
+     *
+     * @param key    the key whose associated value is to be returned.
+     * @param loader the function that loads the value on a miss.
+     * @return the cached or loaded value.
+     */
+    default V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value == null) {
+            value = loader.apply(key);
+            if (value != null) {
+                put(key, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Returns a future of the value associated with the specified key. The future is already completed if the cache
+     * contains a mapping for the key; otherwise the value is loaded as by {@link #get(Object, Function)} in the
+     * common fork-join pool. A failed load completes the future exceptionally and leaves nothing in the cache, so the
+     * next call loads the key again. Meant for callers that compose the future; a caller that only blocks on it should
+     * use {@link #get(Object, Function)}, which loads on its own thread.
+     *
+     * @param key    the key whose associated value is to be returned.
+     * @param loader the function that loads the value on a miss.
+     * @return the future of the cached or loaded value.
+     */
+    default CompletableFuture<V> getAsync(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+        return CompletableFuture.supplyAsync(() -> get(key, loader));
+    }
+
+    /**
+     * Returns the values associated with the specified keys in this cache, in the order of the keys. Keys without
+     * a mapping are left out of the result.
+     *
+     * @param keys the keys whose associated values are to be returned.
+     * @return the cached values by key.
+     */
+    default Map<K, V> getAll(Collection<? extends K> keys) {
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the values associated with the specified keys, loading all the keys that this cache contains no mapping
+     * for with a single call of the loader. The loaded values are cached. The result is in the order of the keys and
+     * leaves out the keys that the loader did not return a value for.
+     *
+     * @param keys   the keys whose associated values are to be returned.
+     * @param loader the function that loads the values of the missing keys at once.
+     * @return the cached and loaded values by key.
+     */
+    default Map<K, V> getAll(Collection<? extends K> keys,
+                             Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> loader) {
+        Map<K, V> cached = getAll(keys);
+        if (cached.size() == keys.size()) {
+            return cached;
+        }
+        Set<K> missingKeys = new LinkedHashSet<>(keys);
+        missingKeys.removeAll(cached.keySet());
+        if (missingKeys.isEmpty()) {
+            return cached;
+        }
+        Map<? extends K, ? extends V> loaded = loader.apply(missingKeys);
+        putAll(loaded);
+        Map<K, V> result = new LinkedHashMap<>();
+        for (K key : keys) {
+            V value = cached.containsKey(key) ? cached.get(key) : loaded.get(key);
+            if (value != null) {
+                result.put(key, value);
+            }
+        }
+        return result;
+    }
+
     V put (K key, V value);
 
+    /**
+     * Copies all the mappings of the specified map to this cache, skipping null values.
+     *
+     * @param entries the mappings to be stored in this cache.
+     */
+    default void putAll(Map<? extends K, ? extends V> entries) {
+        entries.forEach((key, value) -> {
+            if (value != null) {
+                put(key, value);
+            }
+        });
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache and expires it according to the expiry.
+     * Caches that do not support expiration ignore it and keep the entry until it is evicted.
+     *
+     * @param key    key with which the specified value is to be associated.
+     * @param value  value to be associated with the specified key.
+     * @param expiry the expiration settings of this entry.
+     * @return the previous value associated with the specified key, or null if there was no mapping for the key.
+     */
+    default V put(K key, V value, Expiry expiry) {
+        return put(key, value);
+    }
+
     V removeByKey(K key);
 
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of entries in this cache.
+     */
+    int size();
+
+    /**
+     * Returns the number of entries this cache has evicted on its own, by cause.
+     *
+     * @return the number of evicted entries by cause, empty if the cache does not evict.
+     */
+    default Map<EvictionCause, Long> evictionCounts() {
+        return Map.of();
+    }
+
+    /**
+     * Returns the number of puts this cache rejected because it held a newer version of the value, see
+     * {@link VersionedCache}. A rejected put removes nothing, so it is not an eviction.
+     *
+     * @return the number of rejected stale puts, 0 if the cache does not compare versions.
+     */
+    default long staleWriteCount() {
+        return 0;
+    }
+
+    /**
+     * Returns the total weight of the entries in this cache, in the unit of {@link #capacity()}.
+     *
+     * @return the total weight of the entries, which is the number of entries unless the cache has a {@link Weigher}.
+     */
+    default long weightedSize() {
+        return size();
+    }
+
+    /**
+     * Returns the total weight of the entries this cache has evicted because it exceeded its capacity.
+     *
+     * @return the total weight of the {@link EvictionCause#SIZE} evictions.
+     */
+    default long evictionWeight() {
+        return evictionCounts().getOrDefault(EvictionCause.SIZE, 0L);
+    }
+
+    /**
+     * Returns the maximum size of this cache, in entries or, for a cache bounded by a {@link Weigher}, in the unit of
+     * its weights.
+     *
+     * @return the capacity of this cache, or -1 if the cache cannot be resized.
+     */
+    default long capacity() {
+        return -1;
+    }
+
+    /**
+     * Changes the maximum size of this cache. Shrinking evicts the entries the cache would evict first until the cache
+     * fits the new capacity; the evictions are counted as {@link EvictionCause#SIZE}.
+     *
+     * @param capacity the new maximum size, in the unit of {@link #capacity()}.
+     * @throws UnsupportedOperationException if this cache cannot be resized.
+     */
+    default void resize(long capacity) {
+        throw new UnsupportedOperationException(getClass().getSimpleName() + " cannot be resized");
+    }
+
+    /**
+     * Returns the entries of this cache ordered from the coldest to the hottest, i.e. in the order in which
+     * {@link #restore(List)} puts them back into an empty cache to rebuild its recency, together with the access
+     * frequency of each entry if the cache tracks it. Caches that cannot list their entries return an empty list.
+     *
+     * @return the entries of this cache from the coldest to the hottest.
+     */
+    default List<CacheEntry<K, V>> entries() {
+        return List.of();
+    }
+
+    /**
+     * Puts the entries listed by {@link #entries()}, e.g. of a snapshot taken before a restart, into this cache in
+     * their order. Caches that track access frequencies restore the frequencies as well. Restoring does not count as
+     * lookups of the entries.
+     *
+     * @param entries the entries from the coldest to the hottest.
+     */
+    default void restore(List<CacheEntry<K, V>> entries) {
+        entries.forEach(entry -> put(entry.key(), entry.value()));
+    }
+
+    /**
+     * Returns a snapshot of the statistics of this cache. Only an {@link InstrumentedCache} records lookups and loads,
+     * other caches report their size, weight, capacity and evictions.
+     *
+     * @return the statistics of this cache.
+     */
+    default CacheStats stats() {
+        return CacheStats.of(this);
+    }
+
 }
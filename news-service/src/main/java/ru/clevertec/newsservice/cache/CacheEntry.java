@@ -0,0 +1,14 @@
+package ru.clevertec.newsservice.cache;
+
+/**
+ * The CacheEntry record is a mapping of a cache together with the access frequency the cache tracks for it, as
+ * listed by {@link Cache#entries()} and restored by {@link Cache#restore(java.util.List)}.
+ *
+ * @param key       the key of the entry.
+ * @param value     the value of the entry.
+ * @param frequency the number of accesses the cache counted for the entry, 1 if the cache tracks recency only.
+ * @param <K>       the type of the key.
+ * @param <V>       the type of the value.
+ */
+public record CacheEntry<K, V>(K key, V value, int frequency) {
+}
@@ -0,0 +1,77 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An immutable snapshot of the statistics of a {@link Cache}.
+ *
+ * @param hitCount             the number of lookups that found a value.
+ * @param missCount            the number of lookups that found no value.
+ * @param loadSuccessCount     the number of values loaded after a miss.
+ * @param loadFailureCount     the number of loads that threw an exception.
+ * @param totalLoadTimeNanos   the total time spent loading values.
+ * @param loadTimeHistogram    the number of loads per duration bucket, see {@link StatsCounter#bucketOf(long)}.
+ * @param evictionCounts       the number of evicted entries by cause.
+ * @param size                 the current number of entries.
+ * @param weightedSize         the current total weight of the entries, which equals the size for unweighted caches.
+ * @param capacity             the maximum size or total weight, or -1 if the cache is not bounded by it.
+ * @param evictionWeight       the total weight of the entries evicted because the cache exceeded its capacity.
+ * @param staleWriteCount      the number of puts rejected because the cache held a newer version of the value.
+ */
+public record CacheStats(long hitCount,
+                         long missCount,
+                         long loadSuccessCount,
+                         long loadFailureCount,
+                         long totalLoadTimeNanos,
+                         List<Long> loadTimeHistogram,
+                         Map<EvictionCause, Long> evictionCounts,
+                         long size,
+                         long weightedSize,
+                         long capacity,
+                         long evictionWeight,
+                         long staleWriteCount) {
+
+    /**
+     * Returns the statistics of a cache that does not record lookups and loads, with only its size, weight and
+     * evictions.
+     *
+     * @param cache the cache.
+     * @return the statistics.
+     */
+    public static CacheStats of(Cache<?, ?> cache) {
+        return new CacheStats(0, 0, 0, 0, 0, List.of(), cache.evictionCounts(), cache.size(), cache.weightedSize(),
+                cache.capacity(), cache.evictionWeight(), cache.staleWriteCount());
+    }
+
+    /**
+     * Returns the ratio of lookups that found a value.
+     *
+     * @return the hit rate, or 1 if there were no lookups.
+     */
+    public double hitRate() {
+        long requestCount = hitCount + missCount;
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    /**
+     * Returns the average time spent loading a value.
+     *
+     * @return the average load time in nanoseconds, or 0 if there were no loads.
+     */
+    public double averageLoadPenaltyNanos() {
+        long loadCount = loadSuccessCount + loadFailureCount;
+        return loadCount == 0 ? 0.0 : (double) totalLoadTimeNanos / loadCount;
+    }
+
+    /**
+     * Returns the number of entries evicted for the specified cause.
+     *
+     * @param cause the eviction cause.
+     * @return the number of evicted entries.
+     */
+    public long evictionCount(EvictionCause cause) {
+        return evictionCounts.getOrDefault(cause, 0L);
+    }
+
+}
@@ -0,0 +1,291 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe implementation of the Cache interface that approximates the Least Recently Used (LRU) algorithm with
+ * the CLOCK, or second chance, algorithm.
+ * <p>
+ * Entries are stored in a {@link ConcurrentHashMap} and in the slots of a circular buffer. A read only sets the
+ * reference bit of the entry, so reads never take a lock, reorder a list or allocate. When the cache is full, a write
+ * sweeps the buffer from the clock hand, clearing the reference bits it passes, and evicts the first entry that has
+ * not been read since the hand last passed it. Writes take a lock.
+ *
+ * @param <K> the type of keys maintained by this cache.
+ * @param <V> the type of mapped values.
+ */
+public class ClockCache<K, V> implements Cache<K, V> {
+
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final ReentrantLock lock;
+    private Node<K, V>[] slots;
+    private int[] freeSlots;
+    private int freeCount;
+    private int hand;
+    private volatile long evictionCount;
+
+    /**
+     * Constructs a new ClockCache with the specified capacity.
+     *
+     * @param capacity the maximum number of entries that this cache can hold.
+     */
+    public ClockCache(int capacity) {
+        this.data = new ConcurrentHashMap<>();
+        this.lock = new ReentrantLock();
+        allocateSlots(Math.max(0, capacity));
+    }
+
+    /**
+     * Returns the value associated with the specified key in this cache,
+     * or null if the cache contains no mapping for the key. Does not take a lock.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (!node.referenced) {
+            node.referenced = true;
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns the value associated with the specified key without recording an access.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V peek(K key) {
+        Node<K, V> node = data.get(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache.
+     * If the cache previously contained a mapping for the key, the old value is replaced and the entry is referenced.
+     * If the cache is full, the clock hand evicts the first entry that has not been referenced since its last sweep.
+     *
+     * @param key   key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return the previous value associated with the specified key, or null if there was no mapping for the key.
+     */
+    @Override
+    public V put(K key, V value) {
+        lock.lock();
+        try {
+            if (slots.length == 0) {
+                return null;
+            }
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                V oldValue = node.value;
+                node.value = value;
+                node.referenced = true;
+                return oldValue;
+            }
+            if (freeCount == 0) {
+                evict();
+            }
+            node = new Node<>(key, value, freeSlots[--freeCount]);
+            slots[node.slot] = node;
+            data.put(key, node);
+            return null;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key from this cache if present.
+     * Returns the value to which this cache previously associated the key,
+     * or null if the cache contained no mapping for the key.
+     *
+     * @param key the key whose mapping is to be removed from the cache.
+     * @return the previous value associated with key, or null if there was no mapping for key.
+     */
+    @Override
+    public V removeByKey(K key) {
+        lock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node == null) {
+                return null;
+            }
+            release(node);
+            return node.value;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of entries in this cache.
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public long capacity() {
+        lock.lock();
+        try {
+            return slots.length;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Changes the capacity of this cache. Entries beyond the new capacity are evicted by the clock hand, and the
+     * remaining entries keep their order and reference bits in the new buffer.
+     *
+     * @param capacity the new maximum number of entries.
+     */
+    @Override
+    public void resize(long capacity) {
+        lock.lock();
+        try {
+            int newCapacity = (int) Math.max(0, Math.min(capacity, Integer.MAX_VALUE));
+            while (data.size() > newCapacity) {
+                evict();
+            }
+            List<Node<K, V>> nodes = nodesFromHand();
+            allocateSlots(newCapacity);
+            for (Node<K, V> node : nodes) {
+                node.slot = freeSlots[--freeCount];
+                slots[node.slot] = node;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        return Map.of(EvictionCause.SIZE, evictionCount);
+    }
+
+    /**
+     * Returns the entries of this cache in the order in which the clock hand reaches them. Referenced entries have
+     * the frequency 2 and the others the frequency 1.
+     *
+     * @return the entries of this cache from the next to be swept to the last.
+     */
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        lock.lock();
+        try {
+            List<Node<K, V>> nodes = nodesFromHand();
+            List<CacheEntry<K, V>> entries = new ArrayList<>(nodes.size());
+            for (Node<K, V> node : nodes) {
+                entries.add(new CacheEntry<>(node.key, node.value, node.referenced ? 2 : 1));
+            }
+            return entries;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Puts the entries into this cache in their order, setting the reference bit of the entries with a frequency
+     * above 1.
+     *
+     * @param entries the entries from the coldest to the hottest.
+     */
+    @Override
+    public void restore(List<CacheEntry<K, V>> entries) {
+        lock.lock();
+        try {
+            for (CacheEntry<K, V> entry : entries) {
+                put(entry.key(), entry.value());
+                Node<K, V> node = data.get(entry.key());
+                if (node != null) {
+                    node.referenced = entry.frequency() > 1;
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ClockCache(capacity=" + slots.length + ", size=" + data.size()
+               + ", evictionCount=" + evictionCount + ")";
+    }
+
+    private void evict() {
+        while (true) {
+            Node<K, V> node = slots[hand];
+            hand = (hand + 1) % slots.length;
+            if (node == null) {
+                continue;
+            }
+            if (node.referenced) {
+                node.referenced = false;
+                continue;
+            }
+            data.remove(node.key, node);
+            release(node);
+            evictionCount++;
+            return;
+        }
+    }
+
+    private void release(Node<K, V> node) {
+        slots[node.slot] = null;
+        freeSlots[freeCount++] = node.slot;
+    }
+
+    private List<Node<K, V>> nodesFromHand() {
+        List<Node<K, V>> nodes = new ArrayList<>(data.size());
+        for (int i = 0; i < slots.length; i++) {
+            Node<K, V> node = slots[(hand + i) % slots.length];
+            if (node != null) {
+                nodes.add(node);
+            }
+        }
+        return nodes;
+    }
+
+    private void allocateSlots(int capacity) {
+        @SuppressWarnings("unchecked")
+        Node<K, V>[] slots = (Node<K, V>[]) new Node<?, ?>[capacity];
+        this.slots = slots;
+        freeSlots = new int[capacity];
+        for (int i = 0; i < capacity; i++) {
+            freeSlots[i] = capacity - 1 - i;
+        }
+        freeCount = capacity;
+        hand = 0;
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private volatile V value;
+        private volatile boolean referenced;
+        private int slot;
+
+        private Node(K key, V value, int slot) {
+            this.key = key;
+            this.value = value;
+            this.slot = slot;
+        }
+
+    }
+
+}
@@ -0,0 +1,155 @@
+package ru.clevertec.newsservice.cache;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * A decorator of the Cache interface whose {@link #get(Object, Function)} lets concurrent misses of the same key share
+ * a single load through a {@link SingleFlight}, so that an entry dropping out of the cache does not send every
+ * concurrent request to the database. {@link #getAsync(Object, Function)} joins the same loads. The loaded
+ * value is put into the underlying cache before the waiting callers are released.
+ *
+ * @param <K> the type of keys maintained by this cache.
+ * @param <V> the type of mapped values.
+ */
+public class CoalescingCache<K, V> implements Cache<K, V> {
+
+    private final Cache<K, V> delegate;
+    private final SingleFlight<K, V> singleFlight;
+
+    /**
+     * Constructs a new CoalescingCache.
+     *
+     * @param delegate the underlying cache.
+     * @param maxWait  the maximum time a miss waits for the load of another caller before loading directly.
+     */
+    public CoalescingCache(Cache<K, V> delegate, Duration maxWait) {
+        this.delegate = delegate;
+        this.singleFlight = new SingleFlight<>(maxWait);
+    }
+
+    @Override
+    public V get(K key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public V peek(K key) {
+        return delegate.peek(key);
+    }
+
+    /**
+     * Returns the cached value, or loads it once for all concurrent callers of the key on a miss.
+     *
+     * @param key    the key whose associated value is to be returned.
+     * @param loader the function that loads the value on a miss.
+     * @return the cached or loaded value.
+     */
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = delegate.get(key);
+        if (value != null) {
+            return value;
+        }
+        return singleFlight.load(key, () -> load(key, loader));
+    }
+
+    /**
+     * Returns a future of the cached value, or loads the value in the common fork-join pool once for all concurrent
+     * callers of the key, blocking or not, on a miss.
+     *
+     * @param key    the key whose associated value is to be returned.
+     * @param loader the function that loads the value on a miss.
+     * @return the future of the cached or loaded value.
+     */
+    @Override
+    public CompletableFuture<V> getAsync(K key, Function<? super K, ? extends V> loader) {
+        V value = delegate.get(key);
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+        return singleFlight.loadAsync(key, () -> load(key, loader), ForkJoinPool.commonPool());
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return delegate.put(key, value);
+    }
+
+    @Override
+    public V put(K key, V value, Expiry expiry) {
+        return delegate.put(key, value, expiry);
+    }
+
+    @Override
+    public V removeByKey(K key) {
+        return delegate.removeByKey(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        return delegate.evictionCounts();
+    }
+
+    @Override
+    public long staleWriteCount() {
+        return delegate.staleWriteCount();
+    }
+
+    @Override
+    public long weightedSize() {
+        return delegate.weightedSize();
+    }
+
+    @Override
+    public long evictionWeight() {
+        return delegate.evictionWeight();
+    }
+
+    @Override
+    public long capacity() {
+        return delegate.capacity();
+    }
+
+    @Override
+    public void resize(long capacity) {
+        delegate.resize(capacity);
+    }
+
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        return delegate.entries();
+    }
+
+    @Override
+    public void restore(List<CacheEntry<K, V>> entries) {
+        delegate.restore(entries);
+    }
+
+    @Override
+    public String toString() {
+        return "CoalescingCache(delegate=" + delegate + ")";
+    }
+
+    private V load(K key, Function<? super K, ? extends V> loader) {
+        V cached = delegate.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        V loaded = loader.apply(key);
+        if (loaded != null) {
+            delegate.put(key, loaded);
+        }
+        return loaded;
+    }
+
+}
@@ -0,0 +1,363 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe implementation of the Cache interface that uses the Least Frequently Used (LFU) algorithm
+ * to evict entries when the cache reaches its capacity.
+ * <p>
+ * Entries are grouped into frequency buckets kept in a doubly linked list sorted by frequency, so that get, put and
+ * eviction are all O(1). Within a bucket entries are ordered by insertion, which evicts the oldest of the least
+ * frequently used entries first. Reads never block: they are recorded in a {@link ReadBuffer} and applied to the
+ * buckets in batches under a lock. Emptied buckets are recycled, so a cache hit does not allocate.
+ *
+ * @param <K> the type of keys maintained by this cache.
+ * @param <V> the type of mapped values.
+ */
+public class ConcurrentLFUCache<K, V> implements Cache<K, V> {
+
+    private volatile int capacity;
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final ReadBuffer<Node<K, V>> readBuffer;
+    private final ReentrantLock evictionLock;
+    private final Bucket<K, V> buckets;
+    private Bucket<K, V> freeBuckets;
+    private volatile long evictionCount;
+
+    /**
+     * Constructs a new ConcurrentLFUCache with the specified capacity.
+     *
+     * @param capacity the maximum number of entries that this cache can hold.
+     */
+    public ConcurrentLFUCache(int capacity) {
+        this.capacity = capacity;
+        this.data = new ConcurrentHashMap<>(Math.max(capacity, 16));
+        this.readBuffer = new ReadBuffer<>();
+        this.evictionLock = new ReentrantLock();
+        this.buckets = new Bucket<>();
+        buckets.prev = buckets;
+        buckets.next = buckets;
+    }
+
+    /**
+     * Returns the value associated with the specified key in this cache,
+     * or null if the cache contains no mapping for the key. Does not take a lock.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (readBuffer.offer(node)) {
+            tryDrainReadBuffer();
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns the value associated with the specified key without recording an access.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V peek(K key) {
+        Node<K, V> node = data.get(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache.
+     * If the cache previously contained a mapping for the key, the old value is replaced.
+     * If the cache is full, the least frequently used entry will be removed.
+     *
+     * @param key   key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return the previous value associated with the specified key, or null if there was no mapping for the key.
+     */
+    @Override
+    public V put(K key, V value) {
+        if (capacity <= 0) {
+            return null;
+        }
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                V oldValue = node.value;
+                node.value = value;
+                increment(node);
+                return oldValue;
+            }
+            if (data.size() >= capacity) {
+                evict();
+            }
+            node = new Node<>(key, value);
+            data.put(key, node);
+            addFirstFrequency(node);
+            return null;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key from this cache if present.
+     * Returns the value to which this cache previously associated the key,
+     * or null if the cache contained no mapping for the key.
+     *
+     * @param key the key whose mapping is to be removed from the cache.
+     * @return the previous value associated with key, or null if there was no mapping for key.
+     */
+    @Override
+    public V removeByKey(K key) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node == null) {
+                return null;
+            }
+            detach(node);
+            return node.value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of entries in this cache.
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Changes the capacity of this cache and evicts the least frequently used entries beyond it.
+     *
+     * @param capacity the new maximum number of entries.
+     */
+    @Override
+    public void resize(long capacity) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            this.capacity = (int) Math.min(capacity, Integer.MAX_VALUE);
+            while (data.size() > this.capacity) {
+                evict();
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        return Map.of(EvictionCause.SIZE, evictionCount);
+    }
+
+    /**
+     * Returns the entries of this cache from the least to the most frequently used, each with its frequency, after
+     * applying the buffered reads.
+     *
+     * @return the entries of this cache in frequency order.
+     */
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            List<CacheEntry<K, V>> entries = new ArrayList<>(data.size());
+            for (Bucket<K, V> bucket = buckets.next; bucket != buckets; bucket = bucket.next) {
+                for (Node<K, V> node = bucket.entries.next; node != bucket.entries; node = node.next) {
+                    entries.add(new CacheEntry<>(node.key, node.value, bucket.frequency));
+                }
+            }
+            return entries;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Puts the entries into this cache with their frequencies.
+     *
+     * @param entries the entries from the least to the most frequently used.
+     */
+    @Override
+    public void restore(List<CacheEntry<K, V>> entries) {
+        evictionLock.lock();
+        try {
+            for (CacheEntry<K, V> entry : entries) {
+                put(entry.key(), entry.value());
+                Node<K, V> node = data.get(entry.key());
+                if (node != null && node.bucket.frequency < entry.frequency()) {
+                    moveToFrequency(node, entry.frequency());
+                }
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentLFUCache(capacity=" + capacity + ", size=" + data.size() + ")";
+    }
+
+    private void tryDrainReadBuffer() {
+        if (evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(this::onAccess);
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.bucket != null) {
+            increment(node);
+        }
+    }
+
+    private void increment(Node<K, V> node) {
+        Bucket<K, V> current = node.bucket;
+        if (current.frequency == Integer.MAX_VALUE) {
+            return;
+        }
+        Bucket<K, V> next = current.next;
+        if (next == buckets || next.frequency != current.frequency + 1) {
+            next = newBucketAfter(current, current.frequency + 1);
+        }
+        detach(node);
+        next.add(node);
+    }
+
+    private void moveToFrequency(Node<K, V> node, int frequency) {
+        Bucket<K, V> previous = node.bucket;
+        while (previous.next != buckets && previous.next.frequency <= frequency) {
+            previous = previous.next;
+        }
+        Bucket<K, V> target = previous.frequency == frequency
+                ? previous
+                : newBucketAfter(previous, frequency);
+        detach(node);
+        target.add(node);
+    }
+
+    private void addFirstFrequency(Node<K, V> node) {
+        Bucket<K, V> first = buckets.next;
+        if (first == buckets || first.frequency != 1) {
+            first = newBucketAfter(buckets, 1);
+        }
+        first.add(node);
+    }
+
+    private void evict() {
+        Bucket<K, V> first = buckets.next;
+        Node<K, V> victim = first.entries.next;
+        data.remove(victim.key, victim);
+        detach(victim);
+        evictionCount++;
+    }
+
+    private void detach(Node<K, V> node) {
+        Bucket<K, V> bucket = node.bucket;
+        bucket.remove(node);
+        if (bucket.isEmpty()) {
+            bucket.prev.next = bucket.next;
+            bucket.next.prev = bucket.prev;
+            bucket.prev = null;
+            bucket.next = freeBuckets;
+            freeBuckets = bucket;
+        }
+    }
+
+    private Bucket<K, V> newBucketAfter(Bucket<K, V> previous, int frequency) {
+        Bucket<K, V> bucket = freeBuckets;
+        if (bucket == null) {
+            bucket = new Bucket<>();
+        } else {
+            freeBuckets = bucket.next;
+        }
+        bucket.frequency = frequency;
+        bucket.prev = previous;
+        bucket.next = previous.next;
+        previous.next.prev = bucket;
+        previous.next = bucket;
+        return bucket;
+    }
+
+    private static final class Bucket<K, V> {
+
+        private int frequency;
+        private Bucket<K, V> prev;
+        private Bucket<K, V> next;
+        private final Node<K, V> entries;
+
+        private Bucket() {
+            this.entries = new Node<>(null, null);
+            entries.prev = entries;
+            entries.next = entries;
+        }
+
+        private boolean isEmpty() {
+            return entries.next == entries;
+        }
+
+        private void add(Node<K, V> node) {
+            Node<K, V> last = entries.prev;
+            node.prev = last;
+            node.next = entries;
+            last.next = node;
+            entries.prev = node;
+            node.bucket = this;
+        }
+
+        private void remove(Node<K, V> node) {
+            node.prev.next = node.next;
+            node.next.prev = node.prev;
+            node.prev = null;
+            node.next = null;
+            node.bucket = null;
+        }
+
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private volatile V value;
+        private Bucket<K, V> bucket;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+}
@@ -0,0 +1,327 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe implementation of the Cache interface that uses the Least Recently Used (LRU) algorithm
+ * to evict entries when the cache reaches its capacity.
+ * <p>
+ * Entries are stored in a {@link ConcurrentHashMap}, so reads never block. The access order is kept in a doubly
+ * linked list guarded by a lock; reads are only recorded in a {@link ReadBuffer} and replayed on the list in batches
+ * when the buffer fills up or when the next write takes the lock.
+ * <p>
+ * The cache is bounded either by its number of entries or, when constructed with a {@link Weigher}, by the total
+ * weight of its entries, e.g. their serialized size in bytes.
+ *
+ * @param <K> the type of keys maintained by this cache.
+ * @param <V> the type of mapped values.
+ */
+public class ConcurrentLRUCache<K, V> implements Cache<K, V> {
+
+    private volatile long capacity;
+    private final Weigher<? super K, ? super V> weigher;
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final ReadBuffer<Node<K, V>> readBuffer;
+    private final ReentrantLock evictionLock;
+    private final Node<K, V> head;
+    private volatile long weightedSize;
+    private volatile long evictionCount;
+    private volatile long evictionWeight;
+
+    /**
+     * Constructs a new ConcurrentLRUCache with the specified capacity.
+     *
+     * @param capacity the maximum number of entries that this cache can hold.
+     */
+    public ConcurrentLRUCache(int capacity) {
+        this(capacity, Weigher.singleton());
+    }
+
+    /**
+     * Constructs a new ConcurrentLRUCache bounded by the total weight of its entries.
+     *
+     * @param maximumWeight the maximum total weight of the entries that this cache can hold.
+     * @param weigher       the weigher that calculates the weight of each entry.
+     */
+    public ConcurrentLRUCache(long maximumWeight, Weigher<? super K, ? super V> weigher) {
+        this.capacity = maximumWeight;
+        this.weigher = weigher;
+        this.data = new ConcurrentHashMap<>();
+        this.readBuffer = new ReadBuffer<>();
+        this.evictionLock = new ReentrantLock();
+        this.head = new Node<>(null, null);
+        head.prev = head;
+        head.next = head;
+    }
+
+    /**
+     * Returns the value associated with the specified key in this cache,
+     * or null if the cache contains no mapping for the key. Does not take a lock.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (readBuffer.offer(node)) {
+            tryDrainReadBuffer();
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns the value associated with the specified key without recording an access.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V peek(K key) {
+        Node<K, V> node = data.get(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache.
+     * If the cache previously contained a mapping for the key, the old value is replaced.
+     * If the cache is full, the least recently used entries will be removed. An entry heavier than the whole capacity
+     * is not cached, and the previous mapping of its key is removed, instead of evicting every other entry first.
+     *
+     * @param key   key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return the previous value associated with the specified key, or null if there was no mapping for the key.
+     */
+    @Override
+    public V put(K key, V value) {
+        if (capacity <= 0) {
+            return null;
+        }
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            Node<K, V> node = data.get(key);
+            int weight = weigher.weigh(key, value);
+            if (weight > capacity) {
+                if (node == null) {
+                    return null;
+                }
+                data.remove(key, node);
+                unlink(node);
+                weightedSize -= node.weight;
+                return node.value;
+            }
+            if (node != null) {
+                V oldValue = node.value;
+                node.value = value;
+                weightedSize += weight - node.weight;
+                node.weight = weight;
+                moveToTail(node);
+                evict();
+                return oldValue;
+            }
+            node = new Node<>(key, value);
+            node.weight = weight;
+            data.put(key, node);
+            linkLast(node);
+            weightedSize += weight;
+            evict();
+            return null;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key from this cache if present.
+     * Returns the value to which this cache previously associated the key,
+     * or null if the cache contained no mapping for the key.
+     *
+     * @param key the key whose mapping is to be removed from the cache.
+     * @return the previous value associated with key, or null if there was no mapping for key.
+     */
+    @Override
+    public V removeByKey(K key) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node == null) {
+                return null;
+            }
+            unlink(node);
+            weightedSize -= node.weight;
+            return node.value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of entries in this cache.
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    /**
+     * Returns the total weight of the entries in this cache, which equals the number of entries unless the cache
+     * was constructed with a {@link Weigher}.
+     *
+     * @return the total weight of the entries.
+     */
+    @Override
+    public long weightedSize() {
+        return weightedSize;
+    }
+
+    /**
+     * Returns the number of entries evicted because the cache exceeded its capacity.
+     *
+     * @return the number of evicted entries.
+     */
+    public long evictionCount() {
+        return evictionCount;
+    }
+
+    /**
+     * Returns the total weight of the entries evicted because the cache exceeded its capacity.
+     *
+     * @return the total weight of evicted entries.
+     */
+    @Override
+    public long evictionWeight() {
+        return evictionWeight;
+    }
+
+    @Override
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Changes the capacity of this cache and evicts the least recently used entries beyond it.
+     *
+     * @param capacity the new maximum number or total weight of entries.
+     */
+    @Override
+    public void resize(long capacity) {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            this.capacity = capacity;
+            evict();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        return Map.of(EvictionCause.SIZE, evictionCount);
+    }
+
+    /**
+     * Returns the entries of this cache from the least to the most recently used, after applying the buffered reads.
+     *
+     * @return the entries of this cache in access order.
+     */
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            List<CacheEntry<K, V>> entries = new ArrayList<>(data.size());
+            for (Node<K, V> node = head.next; node != head; node = node.next) {
+                entries.add(new CacheEntry<>(node.key, node.value, 1));
+            }
+            return entries;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ConcurrentLRUCache(capacity=" + capacity + ", weightedSize=" + weightedSize
+               + ", size=" + data.size() + ", evictionCount=" + evictionCount + ")";
+    }
+
+    private void tryDrainReadBuffer() {
+        if (evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(this::onAccess);
+    }
+
+    private void onAccess(Node<K, V> node) {
+        if (node.prev != null) {
+            moveToTail(node);
+        }
+    }
+
+    private void evict() {
+        while (weightedSize > capacity) {
+            Node<K, V> eldest = head.next;
+            data.remove(eldest.key, eldest);
+            unlink(eldest);
+            weightedSize -= eldest.weight;
+            evictionCount++;
+            evictionWeight += eldest.weight;
+        }
+    }
+
+    private void linkLast(Node<K, V> node) {
+        Node<K, V> last = head.prev;
+        node.prev = last;
+        node.next = head;
+        last.next = node;
+        head.prev = node;
+    }
+
+    private void unlink(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    private void moveToTail(Node<K, V> node) {
+        if (head.prev != node) {
+            unlink(node);
+            linkLast(node);
+        }
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private volatile V value;
+        private int weight;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+}
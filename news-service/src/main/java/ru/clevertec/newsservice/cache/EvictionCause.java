@@ -0,0 +1,23 @@
+package ru.clevertec.newsservice.cache;
+
+/**
+ * The causes for which a cache removes an entry on its own, as opposed to an explicit removal by key.
+ */
+public enum EvictionCause {
+
+    /**
+     * The entry was evicted because the cache exceeded its capacity.
+     */
+    SIZE,
+
+    /**
+     * The entry was removed because its expiration time has passed.
+     */
+    EXPIRED,
+
+    /**
+     * The entry was removed to give memory back to the heap when a heap pool exceeded its usage threshold.
+     */
+    MEMORY_PRESSURE
+
+}
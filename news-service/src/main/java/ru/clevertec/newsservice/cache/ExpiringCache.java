@@ -0,0 +1,351 @@
+package ru.clevertec.newsservice.cache;
+
+import ru.clevertec.newsservice.cache.TimerWheel.Timer;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * A decorator of the Cache interface that expires entries of the underlying cache after write and/or after access.
+ * <p>
+ * Every expiring entry has a timer in a {@link TimerWheel}. A read checks the deadline of its entry and never
+ * returns an expired value; with expire-after-access it only moves the deadline forward, and the wheel reschedules
+ * the timer lazily when its old bucket comes up. The wheel is advanced on writes and, at most once per tick, on
+ * reads, so expired entries are removed from the underlying cache without scanning it. Timers of entries that the
+ * underlying cache evicted for its capacity are dropped in batches on writes.
+ *
+ * @param <K> the type of keys maintained by this cache.
+ * @param <V> the type of mapped values.
+ */
+public class ExpiringCache<K, V> implements Cache<K, V> {
+
+    private static final long TICK_NANOS = 1L << 30;
+    private static final int MIN_TIMERS_TO_SWEEP = 64;
+
+    private final Cache<K, V> delegate;
+    private final Expiry defaultExpiry;
+    private final LongSupplier ticker;
+    private final ConcurrentHashMap<K, Timer<K>> timers;
+    private final TimerWheel<K> timerWheel;
+    private final ReentrantLock lock;
+    private volatile long nextTickNanos;
+    private volatile long expiredCount;
+
+    /**
+     * Constructs a new ExpiringCache that expires the entries of the delegate according to the default expiry.
+     *
+     * @param delegate      the underlying cache.
+     * @param defaultExpiry the expiration settings of entries put without an explicit expiry.
+     */
+    public ExpiringCache(Cache<K, V> delegate, Expiry defaultExpiry) {
+        this(delegate, defaultExpiry, System::nanoTime);
+    }
+
+    /**
+     * Constructs a new ExpiringCache with the specified time source.
+     *
+     * @param delegate      the underlying cache.
+     * @param defaultExpiry the expiration settings of entries put without an explicit expiry.
+     * @param ticker        the time source in nanoseconds.
+     */
+    public ExpiringCache(Cache<K, V> delegate, Expiry defaultExpiry, LongSupplier ticker) {
+        this.delegate = delegate;
+        this.defaultExpiry = defaultExpiry;
+        this.ticker = ticker;
+        this.timers = new ConcurrentHashMap<>();
+        long now = ticker.getAsLong();
+        this.timerWheel = new TimerWheel<>(now);
+        this.lock = new ReentrantLock();
+        this.nextTickNanos = now + TICK_NANOS;
+    }
+
+    /**
+     * Returns the value associated with the specified key in this cache,
+     * or null if the cache contains no mapping for the key or the mapping has expired.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no live mapping.
+     */
+    @Override
+    public V get(K key) {
+        long now = ticker.getAsLong();
+        if (now - nextTickNanos >= 0) {
+            tryExpireEntries(now);
+        }
+        V value = delegate.get(key);
+        if (value == null) {
+            return null;
+        }
+        Timer<K> timer = timers.get(key);
+        if (timer == null) {
+            return value;
+        }
+        if (timer.isExpired(now)) {
+            tryExpire(timer);
+            return null;
+        }
+        if (timer.accessNanos > 0) {
+            timer.deadline = Math.min(timer.writeDeadline, now + timer.accessNanos);
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value associated with the specified key without moving its expire-after-access deadline, or null if
+     * the cache contains no mapping for the key or the mapping has expired.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no live mapping.
+     */
+    @Override
+    public V peek(K key) {
+        V value = delegate.peek(key);
+        if (value == null) {
+            return null;
+        }
+        Timer<K> timer = timers.get(key);
+        return timer == null || !timer.isExpired(ticker.getAsLong()) ? value : null;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache, expiring it according to the default
+     * expiry of this cache.
+     *
+     * @param key   key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return the previous value associated with the specified key, or null if there was no mapping for the key.
+     */
+    @Override
+    public V put(K key, V value) {
+        return put(key, value, defaultExpiry);
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache and expires it according to the expiry.
+     *
+     * @param key    key with which the specified value is to be associated.
+     * @param value  value to be associated with the specified key.
+     * @param expiry the expiration settings of this entry.
+     * @return the previous value associated with the specified key, or null if there was no mapping for the key.
+     */
+    @Override
+    public V put(K key, V value, Expiry expiry) {
+        lock.lock();
+        try {
+            long now = ticker.getAsLong();
+            expireEntries(now);
+            V oldValue = delegate.put(key, value);
+            Timer<K> oldTimer = timers.remove(key);
+            if (oldTimer != null) {
+                timerWheel.deschedule(oldTimer);
+            }
+            if (!expiry.isEternal()) {
+                Timer<K> timer = newTimer(key, expiry, now);
+                timers.put(key, timer);
+                timerWheel.schedule(timer);
+            }
+            removeEvictedTimers();
+            return oldValue;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key from this cache if present.
+     * Returns the value to which this cache previously associated the key,
+     * or null if the cache contained no mapping for the key.
+     *
+     * @param key the key whose mapping is to be removed from the cache.
+     * @return the previous value associated with key, or null if there was no mapping for key.
+     */
+    @Override
+    public V removeByKey(K key) {
+        lock.lock();
+        try {
+            Timer<K> timer = timers.remove(key);
+            if (timer != null) {
+                timerWheel.deschedule(timer);
+            }
+            return delegate.removeByKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public long staleWriteCount() {
+        return delegate.staleWriteCount();
+    }
+
+    @Override
+    public long weightedSize() {
+        return delegate.weightedSize();
+    }
+
+    @Override
+    public long evictionWeight() {
+        return delegate.evictionWeight();
+    }
+
+    @Override
+    public long capacity() {
+        return delegate.capacity();
+    }
+
+    @Override
+    public void resize(long capacity) {
+        lock.lock();
+        try {
+            delegate.resize(capacity);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the evictions of the underlying cache together with the number of expired entries.
+     *
+     * @return the number of evicted entries by cause.
+     */
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        Map<EvictionCause, Long> evictionCounts = new EnumMap<>(EvictionCause.class);
+        evictionCounts.putAll(delegate.evictionCounts());
+        evictionCounts.put(EvictionCause.EXPIRED, expiredCount);
+        return evictionCounts;
+    }
+
+    /**
+     * Returns the entries of the underlying cache that have not expired.
+     *
+     * @return the live entries from the coldest to the hottest.
+     */
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        long now = ticker.getAsLong();
+        return delegate.entries().stream()
+                .filter(entry -> {
+                    Timer<K> timer = timers.get(entry.key());
+                    return timer == null || !timer.isExpired(now);
+                })
+                .toList();
+    }
+
+    /**
+     * Restores the entries into the underlying cache and expires them according to the default expiry of this cache,
+     * counting from now. Entries that the underlying cache did not keep, e.g. because there were more of them than its
+     * capacity, get no timer.
+     *
+     * @param entries the entries from the coldest to the hottest.
+     */
+    @Override
+    public void restore(List<CacheEntry<K, V>> entries) {
+        lock.lock();
+        try {
+            long now = ticker.getAsLong();
+            expireEntries(now);
+            delegate.restore(entries);
+            if (defaultExpiry.isEternal()) {
+                return;
+            }
+            for (CacheEntry<K, V> entry : entries) {
+                Timer<K> oldTimer = timers.remove(entry.key());
+                if (oldTimer != null) {
+                    timerWheel.deschedule(oldTimer);
+                }
+                if (!delegate.containsKey(entry.key())) {
+                    continue;
+                }
+                Timer<K> timer = newTimer(entry.key(), defaultExpiry, now);
+                timers.put(entry.key(), timer);
+                timerWheel.schedule(timer);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries that have a timer.
+     *
+     * @return the number of timers.
+     */
+    int timerCount() {
+        return timers.size();
+    }
+
+    @Override
+    public String toString() {
+        return "ExpiringCache(expiry=" + defaultExpiry + ", delegate=" + delegate + ")";
+    }
+
+    private Timer<K> newTimer(K key, Expiry expiry, long now) {
+        long afterWrite = expiry.afterWriteNanos();
+        long afterAccess = expiry.afterAccessNanos();
+        long writeDeadline = afterWrite > 0 ? now + afterWrite : Long.MAX_VALUE;
+        long deadline = afterAccess > 0 ? Math.min(writeDeadline, now + afterAccess) : writeDeadline;
+        return new Timer<>(key, deadline, writeDeadline, afterAccess);
+    }
+
+    /**
+     * Drops the timers of the keys that the underlying cache has evicted on its own, once there are twice as many
+     * timers as entries, so that the timers are bounded by the capacity of the underlying cache rather than by the
+     * number of keys put within the time-to-live. Each sweep checks every timer, but it runs at most once per as many
+     * puts as the cache holds entries.
+     */
+    private void removeEvictedTimers() {
+        if (timers.size() <= Math.max(2L * delegate.size(), MIN_TIMERS_TO_SWEEP)) {
+            return;
+        }
+        timers.values().removeIf(timer -> {
+            if (delegate.containsKey(timer.key)) {
+                return false;
+            }
+            timerWheel.deschedule(timer);
+            return true;
+        });
+    }
+
+    private void tryExpireEntries(long now) {
+        if (lock.tryLock()) {
+            try {
+                expireEntries(now);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void tryExpire(Timer<K> timer) {
+        if (lock.tryLock()) {
+            try {
+                timerWheel.deschedule(timer);
+                expire(timer);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void expireEntries(long now) {
+        timerWheel.advance(now, this::expire);
+        nextTickNanos = now + TICK_NANOS;
+    }
+
+    private void expire(Timer<K> timer) {
+        if (timers.remove(timer.key, timer) && delegate.removeByKey(timer.key) != null) {
+            expiredCount++;
+        }
+    }
+
+}
@@ -0,0 +1,59 @@
+package ru.clevertec.newsservice.cache;
+
+import java.time.Duration;
+
+/**
+ * The expiration settings of a cache entry. A zero or null duration disables the corresponding expiration.
+ *
+ * @param afterWrite  the time after which an entry expires once it was put, regardless of reads.
+ * @param afterAccess the time after which an entry expires once it was last put or read.
+ */
+public record Expiry(Duration afterWrite, Duration afterAccess) {
+
+    /**
+     * The entries never expire.
+     */
+    public static final Expiry NEVER = new Expiry(Duration.ZERO, Duration.ZERO);
+
+    /**
+     * Returns an Expiry that expires entries a fixed time after they were put.
+     *
+     * @param afterWrite the time to live of an entry.
+     * @return the Expiry.
+     */
+    public static Expiry afterWrite(Duration afterWrite) {
+        return new Expiry(afterWrite, Duration.ZERO);
+    }
+
+    /**
+     * Returns an Expiry that expires entries that were not read for the specified time.
+     *
+     * @param afterAccess the time to idle of an entry.
+     * @return the Expiry.
+     */
+    public static Expiry afterAccess(Duration afterAccess) {
+        return new Expiry(Duration.ZERO, afterAccess);
+    }
+
+    /**
+     * Returns true if neither expiration is enabled.
+     *
+     * @return true if the entries never expire.
+     */
+    public boolean isEternal() {
+        return !isEnabled(afterWrite) && !isEnabled(afterAccess);
+    }
+
+    long afterWriteNanos() {
+        return isEnabled(afterWrite) ? afterWrite.toNanos() : 0;
+    }
+
+    long afterAccessNanos() {
+        return isEnabled(afterAccess) ? afterAccess.toNanos() : 0;
+    }
+
+    private static boolean isEnabled(Duration duration) {
+        return duration != null && !duration.isNegative() && !duration.isZero();
+    }
+
+}
@@ -0,0 +1,100 @@
+package ru.clevertec.newsservice.cache;
+
+/**
+ * A count-min sketch that estimates how often an element was seen, used by {@link TinyLFUCache} as its admission
+ * filter. Counters are 4 bits wide, sixteen of them packed into one long, and every element is counted in four
+ * of them. After a sample of ten times the cache capacity all counters are halved, so that the popularity of old
+ * stories decays and new ones can win admission. Not thread-safe, callers must hold the policy lock.
+ *
+ * @param <E> the type of counted elements.
+ */
+final class FrequencySketch<E> {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_COUNT = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int additions;
+
+    /**
+     * Constructs a new FrequencySketch sized for a cache of the specified capacity.
+     *
+     * @param capacity the maximum number of entries of the cache.
+     */
+    FrequencySketch(int capacity) {
+        int maximum = Math.max(capacity, 1);
+        int length = maximum <= 1 ? 1 : Integer.highestOneBit(maximum - 1) << 1;
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = 10 * maximum;
+    }
+
+    /**
+     * Returns the estimated number of occurrences of the element, up to 15.
+     *
+     * @param element the element to count.
+     * @return the estimated frequency of the element.
+     */
+    int frequency(E element) {
+        int hash = spread(element.hashCode());
+        int frequency = MAX_COUNT;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long slot = slot(hash, i);
+            int count = (int) ((table[index(slot)] >>> offset(slot)) & MAX_COUNT);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    /**
+     * Increments the counters of the element and ages the sketch when the sample size is reached.
+     *
+     * @param element the element to count.
+     */
+    void increment(E element) {
+        int hash = spread(element.hashCode());
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            long slot = slot(hash, i);
+            int index = index(slot);
+            int offset = offset(slot);
+            if (((table[index] >>> offset) & MAX_COUNT) < MAX_COUNT) {
+                table[index] += 1L << offset;
+                added = true;
+            }
+        }
+        if (added && ++additions >= sampleSize) {
+            reset();
+        }
+    }
+
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        additions >>>= 1;
+    }
+
+    private static long slot(int hash, int i) {
+        long slot = (hash + SEEDS[i]) * SEEDS[i];
+        return slot + (slot >>> 32);
+    }
+
+    private int index(long slot) {
+        return (int) slot & tableMask;
+    }
+
+    private static int offset(long slot) {
+        return (int) (slot >>> 40 & 0xF) << 2;
+    }
+
+    private static int spread(int hash) {
+        int h = hash * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+}
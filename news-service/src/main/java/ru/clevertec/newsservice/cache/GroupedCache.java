@@ -0,0 +1,129 @@
+package ru.clevertec.newsservice.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.function.UnaryOperator;
+
+/**
+ * The GroupedCache class caches results that depend on one entity, e.g. the pages of comments of one news, in a
+ * group per entity, so that a write of the entity or of its dependents drops or rewrites exactly the results of its
+ * group and nothing else. The groups are bounded by an LRU capacity and a time-to-live, the results of one group by
+ * {@link #MAX_ENTRIES_PER_GROUP}.
+ * <p>
+ * A load caches its result in the group it looked up before loading. Invalidating or updating a group replaces the
+ * group object, so a result that was loaded from the database while the group changed lands in a detached group and
+ * can no longer be found.
+ *
+ * @param <G> the type of the group, e.g. the ID of the news.
+ * @param <V> the type of cached results.
+ */
+public final class GroupedCache<G, V> {
+
+    /**
+     * The maximum number of results cached per group; further results of a full group are loaded but not cached.
+     */
+    public static final int MAX_ENTRIES_PER_GROUP = 64;
+
+    private final String name;
+    private final Cache<G, Map<Object, V>> groups;
+    private final Consumer<? super G> invalidationPublisher;
+
+    /**
+     * Constructs a new GroupedCache. A capacity of zero disables caching.
+     *
+     * @param name                  the name of the cache.
+     * @param capacity              the maximum number of cached groups.
+     * @param ttl                   the time after which a group expires even without writes.
+     * @param invalidationPublisher notified of the groups this node invalidated or updated, e.g. to publish them
+     *                              to the other nodes.
+     */
+    public GroupedCache(String name, int capacity, Duration ttl, Consumer<? super G> invalidationPublisher) {
+        this.name = name;
+        this.groups = new ExpiringCache<>(new ConcurrentLRUCache<>(capacity), Expiry.afterWrite(ttl));
+        this.invalidationPublisher = invalidationPublisher;
+    }
+
+    /**
+     * Returns the name of this cache.
+     *
+     * @return the name of the cache.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the cached result of the key in the group, or runs the loader and caches its result.
+     *
+     * @param group  the group the result depends on.
+     * @param key    the key of the result within the group; must implement equals and hashCode.
+     * @param loader the loader of the result.
+     * @return the cached or loaded result.
+     */
+    public V get(G group, Object key, Supplier<? extends V> loader) {
+        Map<Object, V> entries = groups.get(group, g -> new ConcurrentHashMap<>());
+        V value = entries.get(key);
+        if (value != null) {
+            return value;
+        }
+        value = loader.get();
+        if (value != null && entries.size() < MAX_ENTRIES_PER_GROUP) {
+            entries.putIfAbsent(key, value);
+        }
+        return value;
+    }
+
+    /**
+     * Drops all the results of the group on this node and notifies the invalidation publisher.
+     *
+     * @param group the group whose results are dropped.
+     */
+    public void invalidateGroup(G group) {
+        invalidateLocal(group);
+        invalidationPublisher.accept(group);
+    }
+
+    /**
+     * Drops all the results of the group on this node only, e.g. on an invalidation received from another node.
+     *
+     * @param group the group whose results are dropped.
+     */
+    public void invalidateLocal(G group) {
+        groups.removeByKey(group);
+    }
+
+    /**
+     * Rewrites all the cached results of the group on this node, e.g. to replace the news embedded in each page of
+     * its comments, and notifies the invalidation publisher so that the other nodes drop the group.
+     *
+     * @param group  the group whose results are rewritten.
+     * @param update the function that rewrites one result.
+     */
+    public void updateGroup(G group, UnaryOperator<V> update) {
+        Map<Object, V> entries = groups.removeByKey(group);
+        if (entries != null && !entries.isEmpty()) {
+            Map<Object, V> updated = new ConcurrentHashMap<>();
+            entries.forEach((key, value) -> updated.put(key, update.apply(value)));
+            groups.put(group, updated);
+        }
+        invalidationPublisher.accept(group);
+    }
+
+    /**
+     * Returns the number of cached groups.
+     *
+     * @return the number of cached groups.
+     */
+    public int size() {
+        return groups.size();
+    }
+
+    @Override
+    public String toString() {
+        return "GroupedCache(name=" + name + ", groups=" + groups + ")";
+    }
+
+}
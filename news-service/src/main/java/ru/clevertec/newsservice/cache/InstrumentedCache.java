@@ -0,0 +1,195 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A decorator of the Cache interface that records hits, misses and loads of the underlying cache in a
+ * {@link StatsCounter}. The size and evictions are reported by the underlying cache itself.
+ *
+ * @param <K> the type of keys maintained by this cache.
+ * @param <V> the type of mapped values.
+ */
+public class InstrumentedCache<K, V> implements Cache<K, V> {
+
+    private final Cache<K, V> delegate;
+    private final StatsCounter statsCounter;
+
+    /**
+     * Constructs a new InstrumentedCache.
+     *
+     * @param delegate the underlying cache.
+     */
+    public InstrumentedCache(Cache<K, V> delegate) {
+        this.delegate = delegate;
+        this.statsCounter = new StatsCounter();
+    }
+
+    @Override
+    public V get(K key) {
+        V value = delegate.get(key);
+        if (value == null) {
+            statsCounter.recordMiss();
+        } else {
+            statsCounter.recordHit();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value without recording an access in the underlying cache or a hit or miss in the statistics.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V peek(K key) {
+        return delegate.peek(key);
+    }
+
+    /**
+     * Returns the cached value, or loads it through the underlying cache on a miss, recording the load time.
+     *
+     * @param key    the key whose associated value is to be returned.
+     * @param loader the function that loads the value on a miss.
+     * @return the cached or loaded value.
+     */
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return value;
+        }
+        return delegate.get(key, timed(loader));
+    }
+
+    /**
+     * Returns a future of the cached value, or loads the value asynchronously through the underlying cache on a miss,
+     * recording the load time.
+     *
+     * @param key    the key whose associated value is to be returned.
+     * @param loader the function that loads the value on a miss.
+     * @return the future of the cached or loaded value.
+     */
+    @Override
+    public CompletableFuture<V> getAsync(K key, Function<? super K, ? extends V> loader) {
+        V value = get(key);
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+        return delegate.getAsync(key, timed(loader));
+    }
+
+    /**
+     * Returns the cached values and loads the missing ones with a single call of the loader, recording a hit or a miss
+     * per key and the load time of the whole batch as one load.
+     *
+     * @param keys   the keys whose associated values are to be returned.
+     * @param loader the function that loads the values of the missing keys at once.
+     * @return the cached and loaded values by key.
+     */
+    @Override
+    public Map<K, V> getAll(Collection<? extends K> keys,
+                            Function<? super Set<K>, ? extends Map<? extends K, ? extends V>> loader) {
+        return Cache.super.getAll(keys, missingKeys -> {
+            long start = System.nanoTime();
+            try {
+                Map<? extends K, ? extends V> loaded = loader.apply(missingKeys);
+                statsCounter.recordLoadSuccess(System.nanoTime() - start);
+                return loaded;
+            } catch (Throwable e) {
+                statsCounter.recordLoadFailure(System.nanoTime() - start);
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return delegate.put(key, value);
+    }
+
+    @Override
+    public V put(K key, V value, Expiry expiry) {
+        return delegate.put(key, value, expiry);
+    }
+
+    @Override
+    public V removeByKey(K key) {
+        return delegate.removeByKey(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        return delegate.evictionCounts();
+    }
+
+    @Override
+    public long staleWriteCount() {
+        return delegate.staleWriteCount();
+    }
+
+    @Override
+    public long weightedSize() {
+        return delegate.weightedSize();
+    }
+
+    @Override
+    public long evictionWeight() {
+        return delegate.evictionWeight();
+    }
+
+    @Override
+    public long capacity() {
+        return delegate.capacity();
+    }
+
+    @Override
+    public void resize(long capacity) {
+        delegate.resize(capacity);
+    }
+
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        return delegate.entries();
+    }
+
+    @Override
+    public void restore(List<CacheEntry<K, V>> entries) {
+        delegate.restore(entries);
+    }
+
+    @Override
+    public CacheStats stats() {
+        return statsCounter.snapshot(this);
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentedCache(delegate=" + delegate + ")";
+    }
+
+    private Function<K, V> timed(Function<? super K, ? extends V> loader) {
+        return missingKey -> {
+            long start = System.nanoTime();
+            try {
+                V loaded = loader.apply(missingKey);
+                statsCounter.recordLoadSuccess(System.nanoTime() - start);
+                return loaded;
+            } catch (Throwable e) {
+                statsCounter.recordLoadFailure(System.nanoTime() - start);
+                throw e;
+            }
+        };
+    }
+
+}
@@ -2,10 +2,13 @@ package ru.clevertec.newsservice.cache;
 
 import lombok.ToString;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 
 /**
  * An implementation of the Cache interface that uses the Least Frequently Used (LFU) algorithm
@@ -17,11 +20,13 @@ import java.util.Set;
 @ToString
 public class LFUCache<K, V> implements Cache<K, V> {
 
-    private final int capacity;
+    private int capacity;
     private final Map<K, V> cache;
     private final Map<K, Integer> frequencies;
     private final Map<Integer, Set<K>> frequencySets;
     private int minFrequency;
+    @ToString.Exclude
+    private long evictionCount;
 
     /**
      * Constructs a new LFUCache with the specified capacity.
@@ -62,6 +67,17 @@ public class LFUCache<K, V> implements Cache<K, V> {
         return cache.get(key);
     }
 
+    /**
+     * Returns the value associated with the specified key without incrementing its frequency.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V peek(K key) {
+        return cache.get(key);
+    }
+
     /**
      * Associates the specified value with the specified key in this cache.
      * If the cache previously contained a mapping for the key, the old value is replaced.
@@ -88,10 +104,7 @@ public class LFUCache<K, V> implements Cache<K, V> {
         }
 
         if (cache.size() >= capacity) {
-            K removingKey = frequencySets.get(minFrequency).iterator().next();
-            frequencySets.get(minFrequency).remove(removingKey);
-            cache.remove(removingKey);
-            frequencies.remove(removingKey);
+            evict();
         }
 
         cache.put(key, value);
@@ -125,4 +138,86 @@ public class LFUCache<K, V> implements Cache<K, V> {
         return cache.remove(key);
     }
 
+    @Override
+    public int size() {
+        return cache.size();
+    }
+
+    @Override
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Changes the capacity of this cache and evicts the least frequently used entries beyond it.
+     *
+     * @param capacity the new maximum number of entries.
+     */
+    @Override
+    public void resize(long capacity) {
+        this.capacity = (int) Math.min(capacity, Integer.MAX_VALUE);
+        while (cache.size() > this.capacity) {
+            evict();
+            if (frequencySets.get(minFrequency).isEmpty()) {
+                updateMinFrequency();
+            }
+        }
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        return Map.of(EvictionCause.SIZE, evictionCount);
+    }
+
+    /**
+     * Returns the entries of this cache from the least to the most frequently used, each with its frequency.
+     *
+     * @return the entries of this cache in frequency order.
+     */
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        List<CacheEntry<K, V>> entries = new ArrayList<>(cache.size());
+        new TreeMap<>(frequencySets).forEach((frequency, keys) ->
+                keys.forEach(key -> entries.add(new CacheEntry<>(key, cache.get(key), frequency))));
+        return entries;
+    }
+
+    /**
+     * Puts the entries into this cache with their frequencies.
+     *
+     * @param entries the entries from the least to the most frequently used.
+     */
+    @Override
+    public void restore(List<CacheEntry<K, V>> entries) {
+        for (CacheEntry<K, V> entry : entries) {
+            K key = entry.key();
+            put(key, entry.value());
+            if (!cache.containsKey(key) || entry.frequency() <= frequencies.get(key)) {
+                continue;
+            }
+            int frequency = frequencies.put(key, entry.frequency());
+            frequencySets.get(frequency).remove(key);
+            frequencySets.computeIfAbsent(entry.frequency(), k -> new LinkedHashSet<>()).add(key);
+            if (frequencySets.get(minFrequency).isEmpty()) {
+                updateMinFrequency();
+            }
+        }
+    }
+
+    private void evict() {
+        K removingKey = frequencySets.get(minFrequency).iterator().next();
+        frequencySets.get(minFrequency).remove(removingKey);
+        cache.remove(removingKey);
+        frequencies.remove(removingKey);
+        evictionCount++;
+    }
+
+    private void updateMinFrequency() {
+        minFrequency = frequencySets.entrySet().stream()
+                .filter(frequencySet -> !frequencySet.getValue().isEmpty())
+                .mapToInt(Map.Entry::getKey)
+                .min()
+                .orElse(0);
+    }
+
 }
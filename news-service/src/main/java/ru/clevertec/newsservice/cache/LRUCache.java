@@ -2,7 +2,9 @@ package ru.clevertec.newsservice.cache;
 
 import lombok.EqualsAndHashCode;
 
+import java.util.Iterator;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -15,7 +17,9 @@ import java.util.Map;
 @EqualsAndHashCode(callSuper = false)
 public class LRUCache<K, V> extends LinkedHashMap<K, V> implements Cache<K, V> {
 
-    private final int capacity;
+    private int capacity;
+    @EqualsAndHashCode.Exclude
+    private long evictionCount;
 
     /**
      * Constructs a new LRUCache with the specified capacity.
@@ -35,7 +39,11 @@ public class LRUCache<K, V> extends LinkedHashMap<K, V> implements Cache<K, V> {
      */
     @Override
     protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
-        return size() > this.capacity;
+        boolean evict = size() > this.capacity;
+        if (evict) {
+            evictionCount++;
+        }
+        return evict;
     }
 
     /**
@@ -50,4 +58,42 @@ public class LRUCache<K, V> extends LinkedHashMap<K, V> implements Cache<K, V> {
         return remove(key);
     }
 
+    @Override
+    public long capacity() {
+        return capacity;
+    }
+
+    /**
+     * Changes the capacity of this cache and evicts the least recently used entries beyond it.
+     *
+     * @param capacity the new maximum number of entries.
+     */
+    @Override
+    public void resize(long capacity) {
+        this.capacity = (int) Math.min(capacity, Integer.MAX_VALUE);
+        Iterator<Map.Entry<K, V>> eldest = entrySet().iterator();
+        while (size() > this.capacity) {
+            eldest.next();
+            eldest.remove();
+            evictionCount++;
+        }
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        return Map.of(EvictionCause.SIZE, evictionCount);
+    }
+
+    /**
+     * Returns the entries of this cache from the least to the most recently used.
+     *
+     * @return the entries of this cache in access order.
+     */
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        return entrySet().stream()
+                .map(entry -> new CacheEntry<>(entry.getKey(), entry.getValue(), 1))
+                .toList();
+    }
+
 }
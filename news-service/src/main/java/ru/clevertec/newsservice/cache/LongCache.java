@@ -0,0 +1,393 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * A thread-safe implementation of the Cache interface specialized for primitive long keys such as the ids of news
+ * and comments, that uses the Least Recently Used (LRU) algorithm to evict entries when the cache reaches its capacity.
+ * <p>
+ * The keys live in an open-addressing {@code long[]} table with linear probing and backward-shift deletion, which
+ * points into fixed arrays of values and int links of the LRU list. All arrays are allocated up front for the
+ * capacity, so neither a hit nor a put of a new entry allocates: no boxed keys, no map entries and no list nodes.
+ * Boxed keys passed through the Cache interface are unboxed before the lookup.
+ * <p>
+ * Lookups take no lock: they probe the table under an optimistic read stamp and retry under the read lock only if a
+ * write raced with them. A hit records its entry in a {@link ReadBuffer} instead of moving it to the most recently
+ * used end, and the buffered reads are applied in batches by the thread holding the write lock, before every write
+ * or when a stripe of the buffer fills up.
+ *
+ * @param <V> the type of mapped values.
+ */
+public class LongCache<V> implements Cache<Long, V> {
+
+    private static final int EMPTY = -1;
+
+    private final int capacity;
+    private final long[] tableKeys;
+    private final int[] tableEntries;
+    private final int mask;
+    private final long[] keys;
+    private final Object[] values;
+    private final int[] prev;
+    private final int[] next;
+    private final int head;
+    private final Integer[] entryRefs;
+    private final ReadBuffer<Integer> readBuffer;
+    private final StampedLock lock;
+    private int freeEntry;
+    private int size;
+    private long evictionCount;
+
+    /**
+     * Constructs a new LongCache with the specified capacity.
+     *
+     * @param capacity the maximum number of entries that this cache can hold.
+     */
+    public LongCache(int capacity) {
+        this.capacity = Math.max(0, capacity);
+        int tableSize = Integer.highestOneBit(Math.max(2, this.capacity * 2) - 1) << 1;
+        this.tableKeys = new long[tableSize];
+        this.tableEntries = new int[tableSize];
+        this.mask = tableSize - 1;
+        this.keys = new long[this.capacity];
+        this.values = new Object[this.capacity];
+        this.prev = new int[this.capacity + 1];
+        this.next = new int[this.capacity + 1];
+        this.head = this.capacity;
+        this.entryRefs = new Integer[this.capacity];
+        this.readBuffer = new ReadBuffer<>();
+        this.lock = new StampedLock();
+        Arrays.fill(tableEntries, EMPTY);
+        prev[head] = head;
+        next[head] = head;
+        for (int i = 0; i < this.capacity; i++) {
+            entryRefs[i] = i;
+            prev[i] = EMPTY;
+            next[i] = i + 1 < this.capacity ? i + 1 : EMPTY;
+        }
+        this.freeEntry = this.capacity > 0 ? 0 : EMPTY;
+    }
+
+    /**
+     * Returns the value associated with the specified key in this cache,
+     * or null if the cache contains no mapping for the key.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V get(Long key) {
+        return key == null ? null : get(key.longValue());
+    }
+
+    /**
+     * Returns the value associated with the specified primitive key in this cache,
+     * or null if the cache contains no mapping for the key. Does not take a lock unless a write races with the lookup.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    public V get(long key) {
+        long stamp = lock.tryOptimisticRead();
+        int entry = entryOf(key);
+        V value = entry == EMPTY ? null : value(entry);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                entry = entryOf(key);
+                value = entry == EMPTY ? null : value(entry);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        if (entry != EMPTY && readBuffer.offer(entryRefs[entry])) {
+            tryDrainReadBuffer();
+        }
+        return value;
+    }
+
+    /**
+     * Returns the value associated with the specified key without moving its entry to the most recently used end.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V peek(Long key) {
+        if (key == null) {
+            return null;
+        }
+        long stamp = lock.tryOptimisticRead();
+        int entry = entryOf(key);
+        V value = entry == EMPTY ? null : value(entry);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            entry = entryOf(key);
+            return entry == EMPTY ? null : value(entry);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache.
+     * If the cache previously contained a mapping for the key, the old value is replaced.
+     * If the cache is full, the least recently used entry will be removed.
+     *
+     * @param key   key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return the previous value associated with the specified key, or null if there was no mapping for the key.
+     */
+    @Override
+    public V put(Long key, V value) {
+        return put(key.longValue(), value);
+    }
+
+    /**
+     * Associates the specified value with the specified primitive key in this cache.
+     * If the cache previously contained a mapping for the key, the old value is replaced.
+     * If the cache is full, the least recently used entry will be removed.
+     *
+     * @param key   key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return the previous value associated with the specified key, or null if there was no mapping for the key.
+     */
+    public V put(long key, V value) {
+        if (capacity == 0) {
+            return null;
+        }
+        long stamp = lock.writeLock();
+        try {
+            drainReadBuffer();
+            int slot = slotOf(key);
+            if (slot != EMPTY) {
+                int entry = tableEntries[slot];
+                V oldValue = value(entry);
+                values[entry] = value;
+                moveToTail(entry);
+                return oldValue;
+            }
+            if (size == capacity) {
+                removeEntry(next[head]);
+                evictionCount++;
+            }
+            int entry = freeEntry;
+            freeEntry = next[entry];
+            keys[entry] = key;
+            values[entry] = value;
+            linkLast(entry);
+            insert(key, entry);
+            size++;
+            return null;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key from this cache if present.
+     * Returns the value to which this cache previously associated the key,
+     * or null if the cache contained no mapping for the key.
+     *
+     * @param key the key whose mapping is to be removed from the cache.
+     * @return the previous value associated with key, or null if there was no mapping for key.
+     */
+    @Override
+    public V removeByKey(Long key) {
+        return key == null ? null : removeByKey(key.longValue());
+    }
+
+    /**
+     * Removes the entry for the specified primitive key from this cache if present.
+     *
+     * @param key the key whose mapping is to be removed from the cache.
+     * @return the previous value associated with key, or null if there was no mapping for key.
+     */
+    public V removeByKey(long key) {
+        long stamp = lock.writeLock();
+        try {
+            drainReadBuffer();
+            int slot = slotOf(key);
+            if (slot == EMPTY) {
+                return null;
+            }
+            int entry = tableEntries[slot];
+            V oldValue = value(entry);
+            removeEntry(entry);
+            return oldValue;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of entries in this cache.
+     */
+    @Override
+    public int size() {
+        long stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        long stamp = lock.readLock();
+        try {
+            return Map.of(EvictionCause.SIZE, evictionCount);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the entries of this cache from the least to the most recently used, after applying the buffered reads.
+     *
+     * @return the entries of this cache in access order.
+     */
+    @Override
+    public List<CacheEntry<Long, V>> entries() {
+        long stamp = lock.writeLock();
+        try {
+            drainReadBuffer();
+            List<CacheEntry<Long, V>> entries = new ArrayList<>(size);
+            for (int entry = next[head]; entry != head; entry = next[entry]) {
+                entries.add(new CacheEntry<>(keys[entry], value(entry), 1));
+            }
+            return entries;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "LongCache(capacity=" + capacity + ", size=" + size() + ")";
+    }
+
+    private void tryDrainReadBuffer() {
+        long stamp = lock.tryWriteLock();
+        if (stamp != 0) {
+            try {
+                drainReadBuffer();
+            } finally {
+                lock.unlockWrite(stamp);
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(this::onAccess);
+    }
+
+    private void onAccess(Integer entry) {
+        if (prev[entry] != EMPTY) {
+            moveToTail(entry);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private V value(int entry) {
+        return (V) values[entry];
+    }
+
+    private void removeEntry(int entry) {
+        deleteSlot(slotOf(keys[entry]));
+        unlink(entry);
+        prev[entry] = EMPTY;
+        values[entry] = null;
+        next[entry] = freeEntry;
+        freeEntry = entry;
+        size--;
+    }
+
+    private int entryOf(long key) {
+        int slot = indexOf(key);
+        for (int probes = 0; probes <= mask; probes++, slot = (slot + 1) & mask) {
+            int entry = tableEntries[slot];
+            if (entry == EMPTY) {
+                return EMPTY;
+            }
+            if (tableKeys[slot] == key) {
+                return entry;
+            }
+        }
+        return EMPTY;
+    }
+
+    private int slotOf(long key) {
+        for (int slot = indexOf(key); tableEntries[slot] != EMPTY; slot = (slot + 1) & mask) {
+            if (tableKeys[slot] == key) {
+                return slot;
+            }
+        }
+        return EMPTY;
+    }
+
+    private void insert(long key, int entry) {
+        int slot = indexOf(key);
+        while (tableEntries[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        tableKeys[slot] = key;
+        tableEntries[slot] = entry;
+    }
+
+    private void deleteSlot(int hole) {
+        int slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (tableEntries[slot] == EMPTY) {
+                break;
+            }
+            int home = indexOf(tableKeys[slot]);
+            boolean movable = hole <= slot
+                    ? home <= hole || home > slot
+                    : home <= hole && home > slot;
+            if (movable) {
+                tableKeys[hole] = tableKeys[slot];
+                tableEntries[hole] = tableEntries[slot];
+                hole = slot;
+            }
+        }
+        tableEntries[hole] = EMPTY;
+    }
+
+    private void linkLast(int entry) {
+        int last = prev[head];
+        prev[entry] = last;
+        next[entry] = head;
+        next[last] = entry;
+        prev[head] = entry;
+    }
+
+    private void unlink(int entry) {
+        next[prev[entry]] = next[entry];
+        prev[next[entry]] = prev[entry];
+    }
+
+    private void moveToTail(int entry) {
+        if (prev[head] != entry) {
+            unlink(entry);
+            linkLast(entry);
+        }
+    }
+
+    private int indexOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+}
@@ -0,0 +1,181 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.Arrays;
+
+/**
+ * An open-addressing hash map from primitive long keys to primitive long values, used by {@link OffHeapCache} to
+ * locate the serialized entries. Keys and values are stored in parallel arrays with linear probing and
+ * backward-shift deletion, so the index holds no boxed objects and leaves no tombstones. Not thread-safe.
+ */
+final class LongIndex {
+
+    static final long MISSING = -1L;
+    private static final float LOAD_FACTOR = 0.5f;
+
+    private long[] keys;
+    private long[] values;
+    private boolean[] used;
+    private int mask;
+    private int size;
+
+    /**
+     * Constructs a new LongIndex sized for the expected number of entries.
+     *
+     * @param expectedSize the expected number of entries.
+     */
+    LongIndex(int expectedSize) {
+        allocate(tableSizeFor(expectedSize));
+    }
+
+    /**
+     * Returns the value of the key, or {@link #MISSING} if the index has no mapping for it.
+     *
+     * @param key the key.
+     * @return the value of the key or MISSING.
+     */
+    long get(long key) {
+        for (int i = indexOf(key); used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                return values[i];
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Maps the key to the value.
+     *
+     * @param key   the key.
+     * @param value the non-negative value.
+     * @return the previous value of the key, or {@link #MISSING} if there was none.
+     */
+    long put(long key, long value) {
+        int i = indexOf(key);
+        for (; used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                long previous = values[i];
+                values[i] = value;
+                return previous;
+            }
+        }
+        used[i] = true;
+        keys[i] = key;
+        values[i] = value;
+        if (++size > keys.length * LOAD_FACTOR) {
+            resize();
+        }
+        return MISSING;
+    }
+
+    /**
+     * Removes the mapping of the key.
+     *
+     * @param key the key.
+     * @return the removed value of the key, or {@link #MISSING} if there was none.
+     */
+    long remove(long key) {
+        for (int i = indexOf(key); used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                long previous = values[i];
+                shiftBack(i);
+                size--;
+                return previous;
+            }
+        }
+        return MISSING;
+    }
+
+    /**
+     * Removes the mapping of the key only if it is mapped to the expected value.
+     *
+     * @param key           the key.
+     * @param expectedValue the expected value.
+     * @return true if the mapping was removed.
+     */
+    boolean remove(long key, long expectedValue) {
+        for (int i = indexOf(key); used[i]; i = (i + 1) & mask) {
+            if (keys[i] == key) {
+                if (values[i] != expectedValue) {
+                    return false;
+                }
+                shiftBack(i);
+                size--;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the number of mappings.
+     *
+     * @return the number of mappings.
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Removes all mappings.
+     */
+    void clear() {
+        Arrays.fill(used, false);
+        size = 0;
+    }
+
+    private void shiftBack(int hole) {
+        int i = hole;
+        while (true) {
+            i = (i + 1) & mask;
+            if (!used[i]) {
+                break;
+            }
+            int home = indexOf(keys[i]);
+            boolean movable = hole <= i
+                    ? home <= hole || home > i
+                    : home <= hole && home > i;
+            if (movable) {
+                keys[hole] = keys[i];
+                values[hole] = values[i];
+                hole = i;
+            }
+        }
+        used[hole] = false;
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        boolean[] oldUsed = used;
+        allocate(oldKeys.length << 1);
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldUsed[i]) {
+                int j = indexOf(oldKeys[i]);
+                while (used[j]) {
+                    j = (j + 1) & mask;
+                }
+                used[j] = true;
+                keys[j] = oldKeys[i];
+                values[j] = oldValues[i];
+            }
+        }
+    }
+
+    private void allocate(int length) {
+        keys = new long[length];
+        values = new long[length];
+        used = new boolean[length];
+        mask = length - 1;
+    }
+
+    private int indexOf(long key) {
+        long hash = key * 0x9E3779B97F4A7C15L;
+        return (int) (hash ^ (hash >>> 32)) & mask;
+    }
+
+    private static int tableSizeFor(int expectedSize) {
+        int minimum = (int) Math.ceil(Math.max(expectedSize, 8) / LOAD_FACTOR);
+        return Integer.highestOneBit(minimum - 1) << 1;
+    }
+
+}
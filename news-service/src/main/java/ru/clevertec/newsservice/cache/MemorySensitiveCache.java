@@ -0,0 +1,142 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A decorator of the Cache interface that gives memory back to the heap under pressure. Every call of {@link #shed()}
+ * removes the coldest part of the entries listed by the underlying cache, so that the next collection reclaims their
+ * values instead of the heap filling up to a full collection or an {@link OutOfMemoryError}. The removed entries are
+ * counted as {@link EvictionCause#MEMORY_PRESSURE} evictions; the capacity of the underlying cache is unchanged, so the
+ * cache fills up again with the entries that are still read. Caches that cannot list their entries, e.g. OFFHEAP,
+ * shed nothing.
+ *
+ * @param <K> the type of keys maintained by this cache.
+ * @param <V> the type of mapped values.
+ */
+public class MemorySensitiveCache<K, V> implements Cache<K, V> {
+
+    private final Cache<K, V> delegate;
+    private final double shedFraction;
+    private final LongAdder memoryPressureCount;
+
+    /**
+     * Constructs a new MemorySensitiveCache.
+     *
+     * @param delegate     the underlying cache.
+     * @param shedFraction the part of the entries, between 0 and 1, removed on every call of {@link #shed()}.
+     */
+    public MemorySensitiveCache(Cache<K, V> delegate, double shedFraction) {
+        if (shedFraction <= 0 || shedFraction > 1) {
+            throw new IllegalArgumentException("Shed fraction must be in (0, 1]: " + shedFraction);
+        }
+        this.delegate = delegate;
+        this.shedFraction = shedFraction;
+        this.memoryPressureCount = new LongAdder();
+    }
+
+    @Override
+    public V get(K key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public V peek(K key) {
+        return delegate.peek(key);
+    }
+
+    @Override
+    public V put(K key, V value) {
+        return delegate.put(key, value);
+    }
+
+    @Override
+    public V put(K key, V value, Expiry expiry) {
+        return delegate.put(key, value, expiry);
+    }
+
+    @Override
+    public V removeByKey(K key) {
+        return delegate.removeByKey(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Removes the coldest entries of the underlying cache, at least one if the cache lists any entry.
+     *
+     * @return the number of removed entries.
+     */
+    public synchronized int shed() {
+        List<CacheEntry<K, V>> entries = delegate.entries();
+        int count = (int) Math.ceil(entries.size() * shedFraction);
+        int removed = 0;
+        for (CacheEntry<K, V> entry : entries.subList(0, count)) {
+            if (delegate.removeByKey(entry.key()) != null) {
+                removed++;
+            }
+        }
+        memoryPressureCount.add(removed);
+        return removed;
+    }
+
+    /**
+     * Returns the evictions of the underlying cache together with the number of entries removed under memory
+     * pressure.
+     *
+     * @return the number of evicted entries by cause.
+     */
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        Map<EvictionCause, Long> evictionCounts = new EnumMap<>(EvictionCause.class);
+        evictionCounts.putAll(delegate.evictionCounts());
+        evictionCounts.put(EvictionCause.MEMORY_PRESSURE, memoryPressureCount.sum());
+        return evictionCounts;
+    }
+
+    @Override
+    public long staleWriteCount() {
+        return delegate.staleWriteCount();
+    }
+
+    @Override
+    public long weightedSize() {
+        return delegate.weightedSize();
+    }
+
+    @Override
+    public long evictionWeight() {
+        return delegate.evictionWeight();
+    }
+
+    @Override
+    public long capacity() {
+        return delegate.capacity();
+    }
+
+    @Override
+    public void resize(long capacity) {
+        delegate.resize(capacity);
+    }
+
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        return delegate.entries();
+    }
+
+    @Override
+    public void restore(List<CacheEntry<K, V>> entries) {
+        delegate.restore(entries);
+    }
+
+    @Override
+    public String toString() {
+        return "MemorySensitiveCache(delegate=" + delegate + ", memoryPressureCount=" + memoryPressureCount.sum() + ")";
+    }
+
+}
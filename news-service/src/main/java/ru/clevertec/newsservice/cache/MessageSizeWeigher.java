@@ -0,0 +1,19 @@
+package ru.clevertec.newsservice.cache;
+
+import com.google.protobuf.MessageLite;
+
+/**
+ * A Weigher that weighs protobuf messages such as NewsResponse and CommentResponse by their serialized size in bytes,
+ * so that a 2000 character news text costs more of the cache than a short comment. The serialized size is memoized
+ * by the generated message classes, so weighing is cheap. Values that are not protobuf messages weigh 1.
+ */
+public class MessageSizeWeigher implements Weigher<Object, Object> {
+
+    @Override
+    public int weigh(Object key, Object value) {
+        return value instanceof MessageLite message
+                ? message.getSerializedSize()
+                : 1;
+    }
+
+}
@@ -0,0 +1,132 @@
+package ru.clevertec.newsservice.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The NegativeCache class remembers for a short time that a key does not exist, e.g. the
+ * {@code NoSuchNewsException} thrown for an unknown news id, so that repeated requests for the id are answered
+ * without a database query. The exceptions are kept in a bounded {@link ConcurrentLRUCache} that expires them after
+ * the time-to-live.
+ * <p>
+ * A write of a key must {@link #invalidate(Object)} it. Every invalidation also prevents the loads that are in flight
+ * at that moment from remembering their result, so a load that started before the key was created cannot report
+ * the new key as missing afterwards.
+ *
+ * @param <K> the type of keys.
+ */
+public final class NegativeCache<K> {
+
+    private final int capacity;
+    private final Duration ttl;
+    private final Predicate<Throwable> isMissing;
+    private final AtomicLong invalidations;
+    private volatile Cache<K, RuntimeException> missing;
+
+    /**
+     * Constructs a new NegativeCache.
+     *
+     * @param capacity  the maximum number of remembered missing keys.
+     * @param ttl       the time for which a key is remembered as missing.
+     * @param isMissing the predicate that tells whether an exception of the loader means that the key is missing.
+     */
+    public NegativeCache(int capacity, Duration ttl, Predicate<Throwable> isMissing) {
+        this.capacity = capacity;
+        this.ttl = ttl;
+        this.isMissing = isMissing;
+        this.invalidations = new AtomicLong();
+        this.missing = newCache();
+    }
+
+    /**
+     * Runs the loader unless the key is remembered as missing, in which case the remembered exception is rethrown.
+     * An exception of the loader that means the key is missing is remembered before it is rethrown.
+     *
+     * @param key    the key to load.
+     * @param loader the loader of the value.
+     * @param <V>    the type of the value.
+     * @return the loaded value.
+     */
+    public <V> V load(K key, Supplier<V> loader) {
+        RuntimeException exception = missing.get(key);
+        if (exception != null) {
+            throw exception;
+        }
+        long invalidationsBefore = invalidations.get();
+        try {
+            return loader.get();
+        } catch (RuntimeException e) {
+            if (isMissing.test(e) && invalidations.get() == invalidationsBefore) {
+                missing.put(key, e);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Starts the asynchronous loader unless the key is remembered as missing, in which case a future failed with the
+     * remembered exception is returned. An exception of the loader that means the key is missing is remembered before
+     * the returned future fails with it.
+     *
+     * @param key    the key to load.
+     * @param loader the starter of the asynchronous load of the value.
+     * @param <V>    the type of the value.
+     * @return the future of the loaded value.
+     */
+    public <V> CompletableFuture<V> loadAsync(K key, Supplier<CompletableFuture<V>> loader) {
+        RuntimeException exception = missing.get(key);
+        if (exception != null) {
+            return CompletableFuture.failedFuture(exception);
+        }
+        long invalidationsBefore = invalidations.get();
+        CompletableFuture<V> future;
+        try {
+            future = loader.get();
+        } catch (RuntimeException e) {
+            future = CompletableFuture.failedFuture(e);
+        }
+        return future.whenComplete((value, e) -> {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof RuntimeException runtimeException && isMissing.test(runtimeException)
+                && invalidations.get() == invalidationsBefore) {
+                missing.put(key, runtimeException);
+            }
+        });
+    }
+
+    /**
+     * Forgets that the key is missing.
+     *
+     * @param key the key that was written.
+     */
+    public void invalidate(K key) {
+        invalidations.incrementAndGet();
+        missing.removeByKey(key);
+    }
+
+    /**
+     * Forgets all missing keys.
+     */
+    public void invalidateAll() {
+        invalidations.incrementAndGet();
+        missing = newCache();
+    }
+
+    /**
+     * Returns the number of remembered missing keys.
+     *
+     * @return the number of missing keys.
+     */
+    public int size() {
+        return missing.size();
+    }
+
+    private Cache<K, RuntimeException> newCache() {
+        return new ExpiringCache<>(new ConcurrentLRUCache<>(capacity), Expiry.afterWrite(ttl));
+    }
+
+}
@@ -0,0 +1,143 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Function;
+
+/**
+ * A decorator of the Cache interface that remembers the keys whose loader reported them missing in a
+ * {@link NegativeCache}, so that {@link #get(Object, Function)} rethrows the remembered exception instead of loading
+ * the key again. Puts and removals of a key forget that it is missing.
+ *
+ * @param <K> the type of keys maintained by this cache.
+ * @param <V> the type of mapped values.
+ */
+public class NegativeCachingCache<K, V> implements Cache<K, V> {
+
+    private final Cache<K, V> delegate;
+    private final NegativeCache<K> negativeCache;
+
+    /**
+     * Constructs a new NegativeCachingCache.
+     *
+     * @param delegate      the underlying cache.
+     * @param negativeCache the cache of missing keys.
+     */
+    public NegativeCachingCache(Cache<K, V> delegate, NegativeCache<K> negativeCache) {
+        this.delegate = delegate;
+        this.negativeCache = negativeCache;
+    }
+
+    @Override
+    public V get(K key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public V peek(K key) {
+        return delegate.peek(key);
+    }
+
+    /**
+     * Returns the cached value, or loads it on a miss unless the key is remembered as missing.
+     *
+     * @param key    the key whose associated value is to be returned.
+     * @param loader the function that loads the value on a miss.
+     * @return the cached or loaded value.
+     */
+    @Override
+    public V get(K key, Function<? super K, ? extends V> loader) {
+        V value = delegate.get(key);
+        if (value != null) {
+            return value;
+        }
+        return negativeCache.load(key, () -> delegate.get(key, loader));
+    }
+
+    /**
+     * Returns a future of the cached value, or loads the value asynchronously on a miss unless the key is remembered
+     * as missing, in which case the future fails with the remembered exception.
+     *
+     * @param key    the key whose associated value is to be returned.
+     * @param loader the function that loads the value on a miss.
+     * @return the future of the cached or loaded value.
+     */
+    @Override
+    public CompletableFuture<V> getAsync(K key, Function<? super K, ? extends V> loader) {
+        V value = delegate.get(key);
+        if (value != null) {
+            return CompletableFuture.completedFuture(value);
+        }
+        return negativeCache.loadAsync(key, () -> delegate.getAsync(key, loader));
+    }
+
+    @Override
+    public V put(K key, V value) {
+        negativeCache.invalidate(key);
+        return delegate.put(key, value);
+    }
+
+    @Override
+    public V put(K key, V value, Expiry expiry) {
+        negativeCache.invalidate(key);
+        return delegate.put(key, value, expiry);
+    }
+
+    @Override
+    public V removeByKey(K key) {
+        negativeCache.invalidate(key);
+        return delegate.removeByKey(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        return delegate.evictionCounts();
+    }
+
+    @Override
+    public long staleWriteCount() {
+        return delegate.staleWriteCount();
+    }
+
+    @Override
+    public long weightedSize() {
+        return delegate.weightedSize();
+    }
+
+    @Override
+    public long evictionWeight() {
+        return delegate.evictionWeight();
+    }
+
+    @Override
+    public long capacity() {
+        return delegate.capacity();
+    }
+
+    @Override
+    public void resize(long capacity) {
+        delegate.resize(capacity);
+    }
+
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        return delegate.entries();
+    }
+
+    @Override
+    public void restore(List<CacheEntry<K, V>> entries) {
+        delegate.restore(entries);
+    }
+
+    @Override
+    public String toString() {
+        return "NegativeCachingCache(missing=" + negativeCache.size() + ", delegate=" + delegate + ")";
+    }
+
+}
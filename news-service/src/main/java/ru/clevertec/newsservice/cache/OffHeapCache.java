@@ -0,0 +1,243 @@
+package ru.clevertec.newsservice.cache;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * An implementation of the Cache interface that keeps protobuf messages such as NewsResponse and CommentResponse
+ * serialized outside of the Java heap, so that a large cache does not grow the old generation and GC pauses.
+ * <p>
+ * The memory is split into fixed-size slabs of direct {@link ByteBuffer}s that are filled like a log: every put
+ * appends a record of the key, the length and the protobuf wire bytes to the current slab. The only on-heap
+ * structure is a {@link LongIndex} from the primitive long id to the position of its latest record. When all
+ * slabs are full, the oldest slab is recycled as a whole and the entries still pointing into it are evicted,
+ * so eviction is first-in first-out by slab. Values are parsed with the message {@link Parser} on every hit.
+ * A put never parses the record it replaces, so it always returns null.
+ *
+ * @param <V> the type of cached protobuf messages.
+ */
+public class OffHeapCache<V extends MessageLite> implements Cache<Long, V> {
+
+    private static final int HEADER_BYTES = Long.BYTES + Integer.BYTES;
+
+    private final Parser<V> parser;
+    private final ByteBuffer[] slabs;
+    private final int slabBytes;
+    private final LongIndex index;
+    private final ReentrantReadWriteLock lock;
+    private int currentSlab;
+    private int writeOffset;
+    private long evictionCount;
+
+    /**
+     * Constructs a new OffHeapCache.
+     *
+     * @param parser    the parser of the cached messages, e.g. {@code NewsResponse.parser()}.
+     * @param maxBytes  the total size of the off-heap memory.
+     * @param slabBytes the size of one slab, which is also the maximum size of a serialized entry.
+     */
+    public OffHeapCache(Parser<V> parser, long maxBytes, int slabBytes) {
+        int slabCount = (int) Math.max(2, maxBytes / slabBytes);
+        this.parser = parser;
+        this.slabBytes = slabBytes;
+        this.slabs = new ByteBuffer[slabCount];
+        this.slabs[0] = ByteBuffer.allocateDirect(slabBytes);
+        this.index = new LongIndex(1024);
+        this.lock = new ReentrantReadWriteLock();
+    }
+
+    /**
+     * Returns the value associated with the specified key in this cache,
+     * or null if the cache contains no mapping for the key. The value is parsed from its off-heap bytes.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V get(Long key) {
+        lock.readLock().lock();
+        try {
+            long location = index.get(key);
+            return location == LongIndex.MISSING ? null : read(location);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Serializes the value and associates it with the specified key in this cache.
+     * If the cache previously contained a mapping for the key, the old value is replaced.
+     * If the cache is full, the entries of the oldest slab will be removed. Values larger than a slab are not cached.
+     * The replaced value is not parsed from its off-heap bytes only to be returned.
+     *
+     * @param key   key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return always null, even if the cache previously contained a mapping for the key.
+     */
+    @Override
+    public V put(Long key, V value) {
+        int length = value.getSerializedSize();
+        int recordBytes = HEADER_BYTES + length;
+        lock.writeLock().lock();
+        try {
+            if (recordBytes > slabBytes) {
+                index.remove(key);
+                return null;
+            }
+            if (writeOffset + recordBytes > slabBytes) {
+                nextSlab();
+            }
+            ByteBuffer slab = slabs[currentSlab];
+            slab.putLong(writeOffset, key);
+            slab.putInt(writeOffset + Long.BYTES, length);
+            write(value, slab, writeOffset + HEADER_BYTES, length);
+            index.put(key, location(currentSlab, writeOffset));
+            writeOffset += recordBytes;
+            return null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key from this cache if present.
+     * Returns the value to which this cache previously associated the key,
+     * or null if the cache contained no mapping for the key.
+     *
+     * @param key the key whose mapping is to be removed from the cache.
+     * @return the previous value associated with key, or null if there was no mapping for key.
+     */
+    @Override
+    public V removeByKey(Long key) {
+        lock.writeLock().lock();
+        try {
+            long location = index.remove(key);
+            return location == LongIndex.MISSING ? null : read(location);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of entries in this cache.
+     */
+    @Override
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries evicted because their slab was recycled.
+     *
+     * @return the number of evicted entries.
+     */
+    public long evictionCount() {
+        lock.readLock().lock();
+        try {
+            return evictionCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        return Map.of(EvictionCause.SIZE, evictionCount());
+    }
+
+    /**
+     * Returns the amount of allocated off-heap memory in bytes.
+     *
+     * @return the allocated off-heap memory.
+     */
+    public long offHeapBytes() {
+        lock.readLock().lock();
+        try {
+            long allocated = 0;
+            for (ByteBuffer slab : slabs) {
+                allocated += slab == null ? 0 : slab.capacity();
+            }
+            return allocated;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "OffHeapCache(slabs=" + slabs.length + ", slabBytes=" + slabBytes + ", size=" + size() + ")";
+    }
+
+    private void nextSlab() {
+        currentSlab = (currentSlab + 1) % slabs.length;
+        writeOffset = 0;
+        ByteBuffer slab = slabs[currentSlab];
+        if (slab == null) {
+            slabs[currentSlab] = ByteBuffer.allocateDirect(slabBytes);
+            return;
+        }
+        int offset = 0;
+        while (offset + HEADER_BYTES <= slabBytes) {
+            int length = slab.getInt(offset + Long.BYTES);
+            if (length < 0) {
+                break;
+            }
+            if (index.remove(slab.getLong(offset), location(currentSlab, offset))) {
+                evictionCount++;
+            }
+            offset += HEADER_BYTES + length;
+        }
+        if (slabBytes >= HEADER_BYTES) {
+            slab.putInt(Long.BYTES, -1);
+        }
+    }
+
+    private V read(long location) {
+        ByteBuffer slab = slabs[(int) (location >>> 32)];
+        int offset = (int) location;
+        int length = slab.getInt(offset + Long.BYTES);
+        ByteBuffer bytes = slab.duplicate();
+        bytes.position(offset + HEADER_BYTES).limit(offset + HEADER_BYTES + length);
+        try {
+            return parser.parseFrom(bytes);
+        } catch (InvalidProtocolBufferException e) {
+            throw new IllegalStateException("Corrupted off-heap cache entry", e);
+        }
+    }
+
+    private void write(V value, ByteBuffer slab, int offset, int length) {
+        ByteBuffer target = slab.duplicate();
+        target.position(offset).limit(offset + length);
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(target);
+            value.writeTo(output);
+            output.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        int end = offset + length;
+        if (end + HEADER_BYTES <= slabBytes) {
+            slab.putInt(end + Long.BYTES, -1);
+        }
+    }
+
+    private static long location(int slab, int offset) {
+        return (long) slab << 32 | offset;
+    }
+
+}
@@ -0,0 +1,93 @@
+package ru.clevertec.newsservice.cache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * The QueryResultCache class caches the results of list and search queries, e.g. a page of news, by the normalized
+ * parameters of the query. Every write of the queried entities calls {@link #invalidateAll()}, which increments the
+ * generation that is part of every key instead of scanning the entries, so the results cached before the write can
+ * no longer be found and are evicted by the capacity or the time-to-live.
+ * <p>
+ * A load caches its result under the generation it started in. A write that happens while the load runs therefore
+ * leaves the possibly stale result unreachable as well. Concurrent loads of the same query are shared through a
+ * {@link CoalescingCache}.
+ */
+public final class QueryResultCache {
+
+    private final String name;
+    private final Cache<Object, Object> results;
+    private final AtomicLong generation;
+
+    /**
+     * Constructs a new QueryResultCache. A capacity of zero disables caching.
+     *
+     * @param name     the name of the cache whose writes invalidate the results, e.g. "news".
+     * @param capacity the maximum number of cached results.
+     * @param ttl      the time after which a cached result expires even without writes.
+     * @param maxWait  the maximum time a miss waits for the load of the same query by another caller.
+     */
+    public QueryResultCache(String name, int capacity, Duration ttl, Duration maxWait) {
+        this.name = name;
+        this.results = new InstrumentedCache<>(new CoalescingCache<>(
+                new ExpiringCache<>(new ConcurrentLRUCache<>(capacity), Expiry.afterWrite(ttl)), maxWait));
+        this.generation = new AtomicLong();
+    }
+
+    /**
+     * Returns the name of the cache whose writes invalidate the results.
+     *
+     * @return the name of the cache.
+     */
+    public String name() {
+        return name;
+    }
+
+    /**
+     * Returns the cached result of the query of the current generation, or runs the loader and caches its result.
+     *
+     * @param query  the normalized parameters of the query; must implement equals and hashCode.
+     * @param loader the loader that runs the query.
+     * @param <T>    the type of the result.
+     * @return the cached or loaded result.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object query, Supplier<T> loader) {
+        return (T) results.get(new Key(generation.get(), query), key -> loader.get());
+    }
+
+    /**
+     * Makes all the results cached so far unreachable.
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+    }
+
+    /**
+     * Returns the current generation, which is the number of invalidations so far.
+     *
+     * @return the current generation.
+     */
+    public long generation() {
+        return generation.get();
+    }
+
+    /**
+     * Returns a snapshot of the statistics of the cached results.
+     *
+     * @return the statistics of the cached results.
+     */
+    public CacheStats stats() {
+        return results.stats();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryResultCache(name=" + name + ", generation=" + generation.get() + ", results=" + results + ")";
+    }
+
+    private record Key(long generation, Object query) {
+    }
+
+}
@@ -0,0 +1,101 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Consumer;
+
+/**
+ * A lossy, striped buffer that records cache reads without taking a lock. Every reader thread is mapped to one of
+ * the stripes and appends to its ring with a single CAS. The buffer is drained by the thread holding the policy
+ * lock, so the access-order bookkeeping is applied in batches instead of on every hit. When a stripe is full the
+ * read is simply dropped, which only makes the replacement policy slightly less precise.
+ *
+ * @param <E> the type of buffered elements.
+ */
+final class ReadBuffer<E> {
+
+    static final int STRIPE_SIZE = 16;
+    private static final int STRIPE_MASK = STRIPE_SIZE - 1;
+
+    private final Stripe<E>[] stripes;
+    private final int mask;
+
+    /**
+     * Constructs a new ReadBuffer with one stripe per available processor, rounded up to a power of two.
+     */
+    ReadBuffer() {
+        int count = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors() - 1) << 1);
+        @SuppressWarnings("unchecked")
+        Stripe<E>[] stripes = (Stripe<E>[]) new Stripe<?>[count];
+        this.stripes = stripes;
+        for (int i = 0; i < count; i++) {
+            stripes[i] = new Stripe<>();
+        }
+        this.mask = count - 1;
+    }
+
+    /**
+     * Records the element in the stripe of the current thread.
+     *
+     * @param element the element to record.
+     * @return true if the stripe is full and should be drained, false otherwise.
+     */
+    boolean offer(E element) {
+        return stripes[stripeIndex()].offer(element);
+    }
+
+    /**
+     * Drains all stripes to the consumer. Must be called by one thread at a time.
+     *
+     * @param consumer the consumer of the buffered elements.
+     */
+    void drainTo(Consumer<E> consumer) {
+        for (Stripe<E> stripe : stripes) {
+            stripe.drainTo(consumer);
+        }
+    }
+
+    private int stripeIndex() {
+        long id = Thread.currentThread().getId();
+        int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    private static final class Stripe<E> {
+
+        private final AtomicReferenceArray<E> buffer = new AtomicReferenceArray<>(STRIPE_SIZE);
+        private final AtomicLong writeCounter = new AtomicLong();
+        private volatile long readCounter;
+
+        boolean offer(E element) {
+            long tail = writeCounter.get();
+            long size = tail - readCounter;
+            if (size >= STRIPE_SIZE) {
+                return true;
+            }
+            if (writeCounter.compareAndSet(tail, tail + 1)) {
+                buffer.lazySet((int) (tail & STRIPE_MASK), element);
+                return size + 1 == STRIPE_SIZE;
+            }
+            return false;
+        }
+
+        void drainTo(Consumer<E> consumer) {
+            long head = readCounter;
+            long tail = writeCounter.get();
+            while (head < tail) {
+                int index = (int) (head & STRIPE_MASK);
+                E element = buffer.get(index);
+                if (element == null) {
+                    break;
+                }
+                buffer.lazySet(index, null);
+                consumer.accept(element);
+                head++;
+            }
+            readCounter = head;
+        }
+
+    }
+
+}
@@ -0,0 +1,139 @@
+package ru.clevertec.newsservice.cache;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * The SingleFlight class coalesces concurrent loads of the same key into one. The first caller of a key runs the
+ * loader and publishes its result through a future; callers that arrive while that load is in flight wait for the
+ * future instead of running the loader themselves. A waiting caller gives up after the maximum wait and falls back to
+ * a direct load, so one slow load cannot stall all requests of a key. A failed load is rethrown to the waiting callers
+ * and is not remembered, so the next caller loads again. Asynchronous loads share the same flights, so a key is loaded
+ * once no matter whether its callers block or not.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of loaded values.
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight;
+    private final long maxWaitNanos;
+
+    /**
+     * Constructs a new SingleFlight.
+     *
+     * @param maxWait the maximum time a caller waits for the load of another caller.
+     */
+    public SingleFlight(Duration maxWait) {
+        this.inFlight = new ConcurrentHashMap<>();
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Loads the value of the key, sharing the load with the concurrent callers of the same key.
+     *
+     * @param key    the key to load.
+     * @param loader the loader, run by at most one caller at a time unless a waiting caller times out.
+     * @return the loaded value.
+     */
+    public V load(K key, Supplier<? extends V> loader) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing == null) {
+            try {
+                V value = loader.get();
+                future.complete(value);
+                return value;
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, future);
+            }
+        }
+        return await(existing, loader);
+    }
+
+    /**
+     * Loads the value of the key on the executor, sharing the load with the concurrent callers of the same key. Callers
+     * that arrive while the load is in flight get a future of the same load; if the load is still running after the
+     * maximum wait, their future is completed by a direct load on the executor instead. The returned futures are
+     * copies, so cancelling one does not cancel the load. The key is released before the load completes its future, so
+     * a failed load is not handed to later callers. If the executor rejects the load, e.g. because its queue is full or
+     * it is shutting down, the load runs on the calling thread.
+     *
+     * @param key      the key to load.
+     * @param loader   the loader, run once for all the callers that share the load unless a waiting caller times out.
+     * @param executor the executor that runs the load.
+     * @return the future of the loaded value.
+     */
+    public CompletableFuture<V> loadAsync(K key, Supplier<? extends V> loader, Executor executor) {
+        CompletableFuture<V> future = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            return awaitAsync(existing, loader, executor);
+        }
+        Runnable load = () -> {
+            try {
+                V value = loader.get();
+                inFlight.remove(key, future);
+                future.complete(value);
+            } catch (Throwable e) {
+                inFlight.remove(key, future);
+                future.completeExceptionally(e);
+            }
+        };
+        try {
+            executor.execute(load);
+        } catch (RejectedExecutionException e) {
+            load.run();
+        }
+        return future.copy();
+    }
+
+    /**
+     * Returns the number of loads in flight.
+     *
+     * @return the number of keys being loaded.
+     */
+    public int inFlightCount() {
+        return inFlight.size();
+    }
+
+    private CompletableFuture<V> awaitAsync(CompletableFuture<V> future, Supplier<? extends V> loader,
+                                            Executor executor) {
+        return future.copy()
+                .orTimeout(maxWaitNanos, TimeUnit.NANOSECONDS)
+                .exceptionallyCompose(e -> e instanceof TimeoutException
+                        ? CompletableFuture.<V>supplyAsync(loader::get, executor)
+                        : CompletableFuture.failedFuture(e));
+    }
+
+    private V await(CompletableFuture<V> future, Supplier<? extends V> loader) {
+        try {
+            return future.get(maxWaitNanos, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            return loader.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return loader.get();
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            return loader.get();
+        }
+    }
+
+}
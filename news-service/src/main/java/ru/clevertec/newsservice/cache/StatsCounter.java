@@ -0,0 +1,103 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A thread-safe recorder of the lookups and loads of a cache. Every record is a single striped counter increment,
+ * so it is cheap enough for the hit path. Load times are counted in a histogram with power-of-two microsecond
+ * buckets.
+ */
+public final class StatsCounter {
+
+    static final int BUCKETS = 32;
+
+    private final LongAdder hitCount;
+    private final LongAdder missCount;
+    private final LongAdder loadSuccessCount;
+    private final LongAdder loadFailureCount;
+    private final LongAdder totalLoadTime;
+    private final AtomicLongArray loadTimeHistogram;
+
+    /**
+     * Constructs a new StatsCounter with all counters at zero.
+     */
+    public StatsCounter() {
+        this.hitCount = new LongAdder();
+        this.missCount = new LongAdder();
+        this.loadSuccessCount = new LongAdder();
+        this.loadFailureCount = new LongAdder();
+        this.totalLoadTime = new LongAdder();
+        this.loadTimeHistogram = new AtomicLongArray(BUCKETS);
+    }
+
+    /**
+     * Returns the histogram bucket of a load time: bucket 0 counts loads under 1 microsecond, and bucket i counts
+     * loads of at least 2^(i-1) and less than 2^i microseconds. The last bucket counts all longer loads.
+     *
+     * @param loadNanos the load time in nanoseconds.
+     * @return the bucket index.
+     */
+    public static int bucketOf(long loadNanos) {
+        long micros = Math.max(0, loadNanos / 1_000);
+        return Math.min(BUCKETS - 1, Long.SIZE - Long.numberOfLeadingZeros(micros));
+    }
+
+    /**
+     * Records a lookup that found a value.
+     */
+    public void recordHit() {
+        hitCount.increment();
+    }
+
+    /**
+     * Records a lookup that found no value.
+     */
+    public void recordMiss() {
+        missCount.increment();
+    }
+
+    /**
+     * Records a successful load.
+     *
+     * @param loadNanos the load time in nanoseconds.
+     */
+    public void recordLoadSuccess(long loadNanos) {
+        loadSuccessCount.increment();
+        recordLoadTime(loadNanos);
+    }
+
+    /**
+     * Records a load that threw an exception.
+     *
+     * @param loadNanos the load time in nanoseconds.
+     */
+    public void recordLoadFailure(long loadNanos) {
+        loadFailureCount.increment();
+        recordLoadTime(loadNanos);
+    }
+
+    /**
+     * Returns a snapshot of the recorded statistics together with the size, weight and evictions of the cache.
+     *
+     * @param cache the cache whose lookups and loads were recorded.
+     * @return the statistics.
+     */
+    public CacheStats snapshot(Cache<?, ?> cache) {
+        List<Long> histogram = new ArrayList<>(BUCKETS);
+        for (int i = 0; i < BUCKETS; i++) {
+            histogram.add(loadTimeHistogram.get(i));
+        }
+        return new CacheStats(hitCount.sum(), missCount.sum(), loadSuccessCount.sum(), loadFailureCount.sum(),
+                totalLoadTime.sum(), List.copyOf(histogram), cache.evictionCounts(), cache.size(), cache.weightedSize(),
+                cache.capacity(), cache.evictionWeight(), cache.staleWriteCount());
+    }
+
+    private void recordLoadTime(long loadNanos) {
+        totalLoadTime.add(loadNanos);
+        loadTimeHistogram.incrementAndGet(bucketOf(loadNanos));
+    }
+
+}
@@ -0,0 +1,168 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.function.Consumer;
+
+/**
+ * A hierarchical timer wheel that keeps the expiration timers of {@link ExpiringCache} entries. Each level is an
+ * array of buckets covering a power-of-two time span (about 1 second, 1 minute, 1 hour, 19 hours and 3 days), and
+ * a timer is placed in the coarsest bucket that still fits its deadline. Advancing the wheel only visits the buckets
+ * whose time has passed, and timers that are not due yet cascade down to finer levels, so scheduling, cancelling
+ * and expiring a timer are amortized O(1). Not thread-safe, callers must hold the cache lock.
+ *
+ * @param <K> the type of keys of the timers.
+ */
+final class TimerWheel<K> {
+
+    private static final int[] BUCKETS = {64, 64, 32, 4, 1};
+    private static final long[] SPANS = {1L << 30, 1L << 36, 1L << 42, 1L << 46, 1L << 48, 1L << 48};
+    private static final long[] SHIFT = {30, 36, 42, 46, 48};
+
+    private final Timer<K>[][] wheel;
+    private long nanos;
+
+    /**
+     * Constructs a new TimerWheel starting at the specified time.
+     *
+     * @param nanos the current time in nanoseconds.
+     */
+    TimerWheel(long nanos) {
+        this.nanos = nanos;
+        @SuppressWarnings("unchecked")
+        Timer<K>[][] wheel = (Timer<K>[][]) new Timer<?>[BUCKETS.length][];
+        this.wheel = wheel;
+        for (int i = 0; i < BUCKETS.length; i++) {
+            @SuppressWarnings("unchecked")
+            Timer<K>[] bucket = (Timer<K>[]) new Timer<?>[BUCKETS[i]];
+            wheel[i] = bucket;
+            for (int j = 0; j < BUCKETS[i]; j++) {
+                Timer<K> sentinel = new Timer<>(null, 0);
+                sentinel.prev = sentinel;
+                sentinel.next = sentinel;
+                wheel[i][j] = sentinel;
+            }
+        }
+    }
+
+    /**
+     * Returns the time up to which the wheel was advanced.
+     *
+     * @return the time in nanoseconds.
+     */
+    long nanos() {
+        return nanos;
+    }
+
+    /**
+     * Places the timer in the bucket matching its deadline.
+     *
+     * @param timer the timer to schedule.
+     */
+    void schedule(Timer<K> timer) {
+        Timer<K> sentinel = bucketFor(timer.deadline);
+        timer.prev = sentinel.prev;
+        timer.next = sentinel;
+        sentinel.prev.next = timer;
+        sentinel.prev = timer;
+    }
+
+    /**
+     * Removes the timer from the wheel if it is scheduled.
+     *
+     * @param timer the timer to cancel.
+     */
+    void deschedule(Timer<K> timer) {
+        if (timer.next != null) {
+            timer.next.prev = timer.prev;
+            timer.prev.next = timer.next;
+            timer.next = null;
+            timer.prev = null;
+        }
+    }
+
+    /**
+     * Advances the wheel to the current time, passing every timer whose deadline has passed to the consumer.
+     * Timers whose deadline was extended in the meantime are rescheduled instead.
+     *
+     * @param currentNanos the current time in nanoseconds.
+     * @param onExpired    the consumer of expired timers.
+     */
+    void advance(long currentNanos, Consumer<Timer<K>> onExpired) {
+        long previousNanos = nanos;
+        nanos = currentNanos;
+        for (int i = 0; i < SHIFT.length; i++) {
+            long previousTicks = previousNanos >>> SHIFT[i];
+            long currentTicks = currentNanos >>> SHIFT[i];
+            if (currentTicks - previousTicks <= 0) {
+                break;
+            }
+            expire(i, previousTicks, currentTicks, onExpired);
+        }
+    }
+
+    private void expire(int level, long previousTicks, long currentTicks, Consumer<Timer<K>> onExpired) {
+        Timer<K>[] buckets = wheel[level];
+        int mask = buckets.length - 1;
+        long steps = Math.min(1 + currentTicks - previousTicks, buckets.length);
+        int start = (int) (previousTicks & mask);
+        for (int i = start; i < start + steps; i++) {
+            Timer<K> sentinel = buckets[i & mask];
+            Timer<K> timer = sentinel.next;
+            sentinel.prev = sentinel;
+            sentinel.next = sentinel;
+            while (timer != sentinel) {
+                Timer<K> next = timer.next;
+                timer.prev = null;
+                timer.next = null;
+                if (timer.deadline - nanos > 0) {
+                    schedule(timer);
+                } else {
+                    onExpired.accept(timer);
+                }
+                timer = next;
+            }
+        }
+    }
+
+    private Timer<K> bucketFor(long deadline) {
+        long duration = deadline - nanos;
+        for (int i = 0; i < BUCKETS.length; i++) {
+            if (duration < SPANS[i + 1]) {
+                long ticks = deadline >>> SHIFT[i];
+                return wheel[i][(int) (ticks & (BUCKETS[i] - 1))];
+            }
+        }
+        return wheel[BUCKETS.length - 1][0];
+    }
+
+    /**
+     * An expiration timer of one cache entry.
+     *
+     * @param <K> the type of the entry key.
+     */
+    static final class Timer<K> {
+
+        final K key;
+        volatile long deadline;
+        final long writeDeadline;
+        final long accessNanos;
+        Timer<K> prev;
+        Timer<K> next;
+
+        Timer(K key, long deadline) {
+            this(key, deadline, deadline, 0);
+        }
+
+        Timer(K key, long deadline, long writeDeadline, long accessNanos) {
+            this.key = key;
+            this.deadline = deadline;
+            this.writeDeadline = writeDeadline;
+            this.accessNanos = accessNanos;
+        }
+
+        boolean isExpired(long nanos) {
+            return deadline - nanos <= 0;
+        }
+
+    }
+
+}
@@ -0,0 +1,345 @@
+package ru.clevertec.newsservice.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A thread-safe implementation of the Cache interface that uses the Window TinyLFU (W-TinyLFU) algorithm.
+ * <p>
+ * New entries first land in a small LRU admission window (1% of the capacity), so breaking stories get a chance to
+ * collect hits. Entries leaving the window compete with the eviction victim of the main region, and are admitted
+ * only if the {@link FrequencySketch} has seen them more often, which keeps one-off scans from paged listings out.
+ * The main region is a segmented LRU: entries hit while on probation are promoted to the protected segment (80% of
+ * the main region). Reads never block and are applied in batches through a {@link ReadBuffer}.
+ *
+ * @param <K> the type of keys maintained by this cache.
+ * @param <V> the type of mapped values.
+ */
+public class TinyLFUCache<K, V> implements Cache<K, V> {
+
+    private static final int WINDOW = 0;
+    private static final int PROBATION = 1;
+    private static final int PROTECTED = 2;
+    private static final int MAX_RESTORED_FREQUENCY = 16;
+
+    private final int capacity;
+    private final int maxWindow;
+    private final int maxProtected;
+    private final ConcurrentHashMap<K, Node<K, V>> data;
+    private final ReadBuffer<Node<K, V>> readBuffer;
+    private final ReentrantLock evictionLock;
+    private final FrequencySketch<K> sketch;
+    private final Node<K, V> window;
+    private final Node<K, V> probation;
+    private final Node<K, V> protectedSegment;
+    private int windowSize;
+    private int protectedSize;
+    private volatile long evictionCount;
+
+    /**
+     * Constructs a new TinyLFUCache with the specified capacity.
+     *
+     * @param capacity the maximum number of entries that this cache can hold.
+     */
+    public TinyLFUCache(int capacity) {
+        this.capacity = capacity;
+        this.maxWindow = Math.max(1, capacity / 100);
+        this.maxProtected = (int) ((capacity - maxWindow) * 0.8);
+        this.data = new ConcurrentHashMap<>(Math.max(capacity, 16));
+        this.readBuffer = new ReadBuffer<>();
+        this.evictionLock = new ReentrantLock();
+        this.sketch = new FrequencySketch<>(capacity);
+        this.window = sentinel();
+        this.probation = sentinel();
+        this.protectedSegment = sentinel();
+    }
+
+    /**
+     * Returns the value associated with the specified key in this cache,
+     * or null if the cache contains no mapping for the key. Does not take a lock.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V get(K key) {
+        Node<K, V> node = data.get(key);
+        if (node == null) {
+            return null;
+        }
+        if (readBuffer.offer(node)) {
+            tryDrainReadBuffer();
+        }
+        return node.value;
+    }
+
+    /**
+     * Returns the value associated with the specified key without recording an access.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value to which the specified key is mapped, or null if this cache contains no mapping for the key.
+     */
+    @Override
+    public V peek(K key) {
+        Node<K, V> node = data.get(key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache.
+     * If the cache previously contained a mapping for the key, the old value is replaced.
+     * If the cache is full, either the new entry or the eviction victim of the main region is discarded,
+     * depending on which one was seen more often.
+     *
+     * @param key   key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return the previous value associated with the specified key, or null if there was no mapping for the key.
+     */
+    @Override
+    public V put(K key, V value) {
+        if (capacity <= 0) {
+            return null;
+        }
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            Node<K, V> node = data.get(key);
+            if (node != null) {
+                V oldValue = node.value;
+                node.value = value;
+                onAccess(node);
+                return oldValue;
+            }
+            sketch.increment(key);
+            node = new Node<>(key, value);
+            data.put(key, node);
+            node.queue = WINDOW;
+            linkLast(window, node);
+            windowSize++;
+            evict();
+            return null;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Removes the entry for the specified key from this cache if present.
+     * Returns the value to which this cache previously associated the key,
+     * or null if the cache contained no mapping for the key.
+     *
+     * @param key the key whose mapping is to be removed from the cache.
+     * @return the previous value associated with key, or null if there was no mapping for key.
+     */
+    @Override
+    public V removeByKey(K key) {
+        evictionLock.lock();
+        try {
+            Node<K, V> node = data.remove(key);
+            if (node == null) {
+                return null;
+            }
+            detach(node);
+            return node.value;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns the number of entries in this cache.
+     *
+     * @return the number of entries in this cache.
+     */
+    @Override
+    public int size() {
+        return data.size();
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        return Map.of(EvictionCause.SIZE, evictionCount);
+    }
+
+    /**
+     * Returns the entries of the probation, window and protected segments of this cache in this order, each segment
+     * from the least to the most recently used, with the frequencies estimated by the sketch.
+     *
+     * @return the entries of this cache from the coldest to the hottest.
+     */
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        evictionLock.lock();
+        try {
+            drainReadBuffer();
+            List<CacheEntry<K, V>> entries = new ArrayList<>(data.size());
+            for (Node<K, V> segment : List.of(probation, window, protectedSegment)) {
+                for (Node<K, V> node = segment.next; node != segment; node = node.next) {
+                    entries.add(new CacheEntry<>(node.key, node.value, sketch.frequency(node.key)));
+                }
+            }
+            return entries;
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    /**
+     * Records the frequencies of the entries in the sketch and puts them into this cache, so that the admission
+     * policy keeps the entries that were popular before the snapshot.
+     *
+     * @param entries the entries from the coldest to the hottest.
+     */
+    @Override
+    public void restore(List<CacheEntry<K, V>> entries) {
+        evictionLock.lock();
+        try {
+            for (CacheEntry<K, V> entry : entries) {
+                for (int i = 1; i < Math.min(entry.frequency(), MAX_RESTORED_FREQUENCY); i++) {
+                    sketch.increment(entry.key());
+                }
+                put(entry.key(), entry.value());
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "TinyLFUCache(capacity=" + capacity + ", size=" + data.size() + ")";
+    }
+
+    private void tryDrainReadBuffer() {
+        if (evictionLock.tryLock()) {
+            try {
+                drainReadBuffer();
+            } finally {
+                evictionLock.unlock();
+            }
+        }
+    }
+
+    private void drainReadBuffer() {
+        readBuffer.drainTo(node -> {
+            if (node.prev != null) {
+                onAccess(node);
+            }
+        });
+    }
+
+    private void onAccess(Node<K, V> node) {
+        sketch.increment(node.key);
+        switch (node.queue) {
+            case WINDOW -> moveToTail(window, node);
+            case PROBATION -> {
+                unlink(node);
+                node.queue = PROTECTED;
+                linkLast(protectedSegment, node);
+                protectedSize++;
+                if (protectedSize > maxProtected) {
+                    Node<K, V> demoted = protectedSegment.next;
+                    unlink(demoted);
+                    protectedSize--;
+                    demoted.queue = PROBATION;
+                    linkLast(probation, demoted);
+                }
+            }
+            default -> moveToTail(protectedSegment, node);
+        }
+    }
+
+    private void evict() {
+        Node<K, V> candidate = null;
+        while (windowSize > maxWindow) {
+            candidate = window.next;
+            unlink(candidate);
+            windowSize--;
+            candidate.queue = PROBATION;
+            linkLast(probation, candidate);
+        }
+        while (data.size() > capacity) {
+            Node<K, V> victim = victim(candidate);
+            if (candidate == null || candidate == victim
+                || sketch.frequency(candidate.key) > sketch.frequency(victim.key)) {
+                remove(victim);
+            } else {
+                remove(candidate);
+            }
+            evictionCount++;
+            candidate = null;
+        }
+    }
+
+    private Node<K, V> victim(Node<K, V> candidate) {
+        if (probation.next != probation && probation.next != candidate) {
+            return probation.next;
+        }
+        if (protectedSegment.next != protectedSegment) {
+            return protectedSegment.next;
+        }
+        return probation.next != probation ? probation.next : window.next;
+    }
+
+    private void remove(Node<K, V> node) {
+        data.remove(node.key, node);
+        detach(node);
+    }
+
+    private void detach(Node<K, V> node) {
+        if (node.queue == WINDOW) {
+            windowSize--;
+        } else if (node.queue == PROTECTED) {
+            protectedSize--;
+        }
+        unlink(node);
+    }
+
+    private static <K, V> Node<K, V> sentinel() {
+        Node<K, V> sentinel = new Node<>(null, null);
+        sentinel.prev = sentinel;
+        sentinel.next = sentinel;
+        return sentinel;
+    }
+
+    private static <K, V> void linkLast(Node<K, V> sentinel, Node<K, V> node) {
+        Node<K, V> last = sentinel.prev;
+        node.prev = last;
+        node.next = sentinel;
+        last.next = node;
+        sentinel.prev = node;
+    }
+
+    private static <K, V> void unlink(Node<K, V> node) {
+        node.prev.next = node.next;
+        node.next.prev = node.prev;
+        node.prev = null;
+        node.next = null;
+    }
+
+    private static <K, V> void moveToTail(Node<K, V> sentinel, Node<K, V> node) {
+        if (sentinel.prev != node) {
+            unlink(node);
+            linkLast(sentinel, node);
+        }
+    }
+
+    private static final class Node<K, V> {
+
+        private final K key;
+        private volatile V value;
+        private int queue;
+        private Node<K, V> prev;
+        private Node<K, V> next;
+
+        private Node(K key, V value) {
+            this.key = key;
+            this.value = value;
+        }
+
+    }
+
+}
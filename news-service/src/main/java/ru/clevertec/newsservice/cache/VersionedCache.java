@@ -0,0 +1,192 @@
+package ru.clevertec.newsservice.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.ToLongFunction;
+
+/**
+ * A decorator of the Cache interface whose puts never replace a cached value with an older version of it. The version
+ * of a value is read from the value itself, e.g. the modification time of a NewsResponse, so a reader that loaded a
+ * news from the database before an update and puts it after the update cannot overwrite the updated news. Values of
+ * the same version replace each other. Puts of the same key are serialized on one of a fixed number of locks, so the
+ * version check and the put are atomic with respect to each other. The version check peeks at the cached value, so
+ * it neither counts as an access for the eviction policy nor extends an expire-after-access deadline. Rejected puts
+ * remove nothing, so they are counted apart from the evictions, in {@link #staleWriteCount()}.
+ * <p>
+ * A stale put is still inserted if the newer value has already been evicted or removed from the cache.
+ *
+ * @param <K> the type of keys maintained by this cache.
+ * @param <V> the type of mapped values.
+ */
+public class VersionedCache<K, V> implements Cache<K, V> {
+
+    private static final int LOCK_COUNT = 64;
+
+    private final Cache<K, V> delegate;
+    private final ToLongFunction<? super V> versionOf;
+    private final Object[] locks;
+    private final LongAdder staleWriteCount;
+
+    /**
+     * Constructs a new VersionedCache.
+     *
+     * @param delegate  the underlying cache.
+     * @param versionOf the function that returns the version of a value, which grows with every modification.
+     */
+    public VersionedCache(Cache<K, V> delegate, ToLongFunction<? super V> versionOf) {
+        this.delegate = delegate;
+        this.versionOf = versionOf;
+        this.locks = new Object[LOCK_COUNT];
+        for (int i = 0; i < LOCK_COUNT; i++) {
+            locks[i] = new Object();
+        }
+        this.staleWriteCount = new LongAdder();
+    }
+
+    /**
+     * Returns the version of an entity from its modification time in the ISO-8601 format of the protobuf responses,
+     * in microseconds, or {@link Long#MIN_VALUE} if the time is empty or malformed.
+     *
+     * @param time the modification time, e.g. {@code 2023-06-01T10:15:30.123456}.
+     * @return the version of the entity.
+     */
+    public static long timeVersion(String time) {
+        if (time == null || time.isEmpty()) {
+            return Long.MIN_VALUE;
+        }
+        try {
+            LocalDateTime dateTime = LocalDateTime.parse(time);
+            return dateTime.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + dateTime.getNano() / 1_000;
+        } catch (DateTimeParseException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    @Override
+    public V get(K key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public V peek(K key) {
+        return delegate.peek(key);
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache unless the cached value has a newer version.
+     *
+     * @param key   key with which the specified value is to be associated.
+     * @param value value to be associated with the specified key.
+     * @return the previous value associated with the specified key, or the newer cached value if the put was rejected.
+     */
+    @Override
+    public V put(K key, V value) {
+        synchronized (lockFor(key)) {
+            V current = delegate.peek(key);
+            if (isStale(value, current)) {
+                return current;
+            }
+            return delegate.put(key, value);
+        }
+    }
+
+    /**
+     * Associates the specified value with the specified key in this cache for the specified expiry unless the cached
+     * value has a newer version.
+     *
+     * @param key    key with which the specified value is to be associated.
+     * @param value  value to be associated with the specified key.
+     * @param expiry the expiry of the entry.
+     * @return the previous value associated with the specified key, or the newer cached value if the put was rejected.
+     */
+    @Override
+    public V put(K key, V value, Expiry expiry) {
+        synchronized (lockFor(key)) {
+            V current = delegate.peek(key);
+            if (isStale(value, current)) {
+                return current;
+            }
+            return delegate.put(key, value, expiry);
+        }
+    }
+
+    @Override
+    public V removeByKey(K key) {
+        synchronized (lockFor(key)) {
+            return delegate.removeByKey(key);
+        }
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
+    /**
+     * Returns the number of puts rejected because the cache held a newer version of the value.
+     *
+     * @return the number of rejected stale puts.
+     */
+    @Override
+    public long staleWriteCount() {
+        return staleWriteCount.sum();
+    }
+
+    @Override
+    public Map<EvictionCause, Long> evictionCounts() {
+        return delegate.evictionCounts();
+    }
+
+    @Override
+    public long weightedSize() {
+        return delegate.weightedSize();
+    }
+
+    @Override
+    public long evictionWeight() {
+        return delegate.evictionWeight();
+    }
+
+    @Override
+    public long capacity() {
+        return delegate.capacity();
+    }
+
+    @Override
+    public void resize(long capacity) {
+        delegate.resize(capacity);
+    }
+
+    @Override
+    public List<CacheEntry<K, V>> entries() {
+        return delegate.entries();
+    }
+
+    @Override
+    public void restore(List<CacheEntry<K, V>> entries) {
+        delegate.restore(entries);
+    }
+
+    @Override
+    public String toString() {
+        return "VersionedCache(delegate=" + delegate + ", staleWriteCount=" + staleWriteCount.sum() + ")";
+    }
+
+    private boolean isStale(V value, V current) {
+        if (current == null || value == null || versionOf.applyAsLong(value) >= versionOf.applyAsLong(current)) {
+            return false;
+        }
+        staleWriteCount.increment();
+        return true;
+    }
+
+    private Object lockFor(K key) {
+        int hash = key == null ? 0 : key.hashCode();
+        return locks[(hash ^ (hash >>> 16)) & (LOCK_COUNT - 1)];
+    }
+
+}
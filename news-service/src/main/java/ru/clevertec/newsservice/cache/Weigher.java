@@ -0,0 +1,32 @@
+package ru.clevertec.newsservice.cache;
+
+/**
+ * Calculates the weight of a cache entry, used by caches bounded by a total weight instead of an entry count.
+ *
+ * @param <K> the type of keys.
+ * @param <V> the type of values.
+ */
+@FunctionalInterface
+public interface Weigher<K, V> {
+
+    /**
+     * Returns the weight of the entry. The weight must not change while the entry is cached.
+     *
+     * @param key   the key of the entry.
+     * @param value the value of the entry.
+     * @return the non-negative weight of the entry.
+     */
+    int weigh(K key, V value);
+
+    /**
+     * Returns a Weigher that gives every entry the weight 1, which bounds a cache by its number of entries.
+     *
+     * @param <K> the type of keys.
+     * @param <V> the type of values.
+     * @return the Weigher.
+     */
+    static <K, V> Weigher<K, V> singleton() {
+        return (key, value) -> 1;
+    }
+
+}
@@ -2,10 +2,40 @@ package ru.clevertec.newsservice.cache.factory;
 
 import ru.clevertec.newsservice.cache.Cache;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public interface CacheFactory<K, V> {
 
     Cache<K, V> createNewsCache();
 
     Cache<K, V> createCommentCache();
 
+    /**
+     * Returns the cache of this factory with the specified name.
+     *
+     * @param name the name of the cache, either "news" or "comment".
+     * @return the cache with the specified name.
+     * @throws IllegalArgumentException if this factory has no cache with the specified name.
+     */
+    default Cache<K, V> getCache(String name) {
+        return switch (name) {
+            case "news" -> createNewsCache();
+            case "comment" -> createCommentCache();
+            default -> throw new IllegalArgumentException("There is no cache named " + name);
+        };
+    }
+
+    /**
+     * Returns the caches of this factory by name.
+     *
+     * @return the news and comment caches.
+     */
+    default Map<String, Cache<K, V>> getCaches() {
+        Map<String, Cache<K, V>> caches = new LinkedHashMap<>();
+        caches.put("news", getCache("news"));
+        caches.put("comment", getCache("comment"));
+        return caches;
+    }
+
 }
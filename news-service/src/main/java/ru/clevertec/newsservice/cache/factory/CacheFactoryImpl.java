@@ -1,43 +1,233 @@
 package ru.clevertec.newsservice.cache.factory;
 
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
+import ru.clevertec.exceptionhandlerstarter.exception.NoSuchCommentException;
+import ru.clevertec.exceptionhandlerstarter.exception.NoSuchNewsException;
+import ru.clevertec.newsservice.cache.ARCCache;
 import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.ClockCache;
+import ru.clevertec.newsservice.cache.CoalescingCache;
+import ru.clevertec.newsservice.cache.ConcurrentLFUCache;
+import ru.clevertec.newsservice.cache.ConcurrentLRUCache;
+import ru.clevertec.newsservice.cache.ExpiringCache;
+import ru.clevertec.newsservice.cache.Expiry;
+import ru.clevertec.newsservice.cache.GroupedCache;
+import ru.clevertec.newsservice.cache.InstrumentedCache;
 import ru.clevertec.newsservice.cache.LFUCache;
 import ru.clevertec.newsservice.cache.LRUCache;
+import ru.clevertec.newsservice.cache.LongCache;
+import ru.clevertec.newsservice.cache.MemorySensitiveCache;
+import ru.clevertec.newsservice.cache.MessageSizeWeigher;
+import ru.clevertec.newsservice.cache.NegativeCache;
+import ru.clevertec.newsservice.cache.NegativeCachingCache;
+import ru.clevertec.newsservice.cache.OffHeapCache;
+import ru.clevertec.newsservice.cache.QueryResultCache;
+import ru.clevertec.newsservice.cache.TinyLFUCache;
+import ru.clevertec.newsservice.cache.VersionedCache;
+import ru.clevertec.newsservice.cache.sizing.HeapPressureMonitor;
+import ru.clevertec.newsservice.cache.warmup.WarmUpTarget;
+import ru.clevertec.newsservice.dto.proto.CommentResponse;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.dto.proto.NewsWithCommentsResponse;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.ToLongFunction;
 
 /**
- * The CacheFactoryImpl class that implements CacheFactory interface and produces a cache depending on the parameters
- * in the application.yaml file.
+ * The CacheFactoryImpl class that implements CacheFactory interface and produces a cache depending on the parameters in
+ * the application.yaml file. The news and comment caches have their own algorithm, capacity and expiration under
+ * cache.news and cache.comment, which default to the shared cache.algorithm and cache.capacity.
  */
+@Slf4j
 @Configuration
 @Profile("dev")
 public class CacheFactoryImpl<K, V> implements CacheFactory<K, V> {
 
-    @Value("${cache.algorithm}")
-    private String algorithm;
+    private final List<MemorySensitiveCache<K, V>> memorySensitiveCaches = new CopyOnWriteArrayList<>();
+
+    @Value("${cache.news.algorithm:${cache.algorithm:LFU}}")
+    private String newsAlgorithm;
+
+    @Value("${cache.news.capacity:${cache.capacity:100}}")
+    private Integer newsCapacity;
+
+    @Value("${cache.comment.algorithm:${cache.algorithm:LFU}}")
+    private String commentAlgorithm;
+
+    @Value("${cache.comment.capacity:${cache.capacity:100}}")
+    private Integer commentCapacity;
+
+    @Value("${cache.max-bytes:0}")
+    private Long maxBytes;
+
+    @Value("${cache.off-heap.max-bytes:67108864}")
+    private Long offHeapMaxBytes;
+
+    @Value("${cache.off-heap.slab-bytes:1048576}")
+    private Integer offHeapSlabBytes;
+
+    @Value("${cache.single-flight.max-wait:5s}")
+    private Duration singleFlightMaxWait;
+
+    @Value("${cache.negative.capacity:1000}")
+    private Integer negativeCapacity;
+
+    @Value("${cache.negative.ttl:30s}")
+    private Duration negativeTtl;
+
+    @Value("${cache.query.capacity:200}")
+    private Integer queryCapacity;
+
+    @Value("${cache.query.ttl:1m}")
+    private Duration queryTtl;
+
+    @Value("${cache.news-with-comments.capacity:500}")
+    private Integer newsWithCommentsCapacity;
+
+    @Value("${cache.news-with-comments.ttl:10m}")
+    private Duration newsWithCommentsTtl;
+
+    @Value("${cache.memory-pressure.enabled:true}")
+    private Boolean memoryPressureEnabled;
+
+    @Value("${cache.memory-pressure.heap-threshold:0.8}")
+    private Double memoryPressureHeapThreshold;
+
+    @Value("${cache.memory-pressure.shed-fraction:0.5}")
+    private Double memoryPressureShedFraction;
+
+    @Value("${cache.news.expire-after-write:0s}")
+    private Duration newsExpireAfterWrite;
+
+    @Value("${cache.news.expire-after-access:0s}")
+    private Duration newsExpireAfterAccess;
 
-    @Value("${cache.capacity}")
-    private Integer capacity;
+    @Value("${cache.comment.expire-after-write:0s}")
+    private Duration commentExpireAfterWrite;
+
+    @Value("${cache.comment.expire-after-access:0s}")
+    private Duration commentExpireAfterAccess;
 
     @Bean
     @Override
     public Cache<K, V> createNewsCache() {
-        return getCache();
+        return decorate(getCache(newsAlgorithm, newsCapacity, NewsResponse.parser()),
+                new Expiry(newsExpireAfterWrite, newsExpireAfterAccess), NoSuchNewsException.class,
+                news -> VersionedCache.timeVersion(((NewsResponse) news).getTime()));
     }
 
     @Bean
     @Override
     public Cache<K, V> createCommentCache() {
-        return getCache();
+        return decorate(getCache(commentAlgorithm, commentCapacity, CommentResponse.parser()),
+                new Expiry(commentExpireAfterWrite, commentExpireAfterAccess), NoSuchCommentException.class,
+                comment -> VersionedCache.timeVersion(((CommentResponse) comment).getTime()));
+    }
+
+    @Bean
+    public QueryResultCache newsQueryCache() {
+        return new QueryResultCache("news", queryCapacity, queryTtl, singleFlightMaxWait);
+    }
+
+    @Bean
+    public GroupedCache<Long, NewsWithCommentsResponse> newsWithCommentsCache() {
+        return new GroupedCache<>("newsWithComments", newsWithCommentsCapacity, newsWithCommentsTtl, newsId -> {
+        });
+    }
+
+    @Bean
+    @SuppressWarnings("unchecked")
+    public WarmUpTarget newsWarmUpTarget() {
+        Cache<K, V> newsCache = createNewsCache();
+        boolean boundedByEntries = maxBytes <= 0 && !"OFFHEAP".equalsIgnoreCase(newsAlgorithm);
+        return new WarmUpTarget() {
+
+            @Override
+            public void put(Long id, NewsResponse news) {
+                newsCache.put((K) id, (V) news);
+            }
+
+            @Override
+            public long capacity() {
+                return boundedByEntries ? newsCache.capacity() : -1;
+            }
+
+            @Override
+            public boolean contains(Long id) {
+                return newsCache.containsKey((K) id);
+            }
+
+        };
+    }
+
+    @Bean(destroyMethod = "stop")
+    public HeapPressureMonitor cacheHeapPressureMonitor() {
+        HeapPressureMonitor monitor = new HeapPressureMonitor(memoryPressureHeapThreshold);
+        if (Boolean.TRUE.equals(memoryPressureEnabled)) {
+            monitor.addListener(this::shedCaches);
+            monitor.start();
+        }
+        return monitor;
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cache<K, V> getCache(String algorithm, int capacity, Parser<? extends MessageLite> parser) {
+        if ("OFFHEAP".equalsIgnoreCase(algorithm)) {
+            return (Cache<K, V>) new OffHeapCache<>(parser, offHeapMaxBytes, offHeapSlabBytes);
+        }
+        if (maxBytes > 0) {
+            if (!"CONCURRENT_LRU".equalsIgnoreCase(algorithm)) {
+                log.warn("cache.max-bytes is set, so the {} algorithm is replaced by a CONCURRENT_LRU cache of {} bytes",
+                        algorithm, maxBytes);
+            }
+            return new ConcurrentLRUCache<>(maxBytes, new MessageSizeWeigher());
+        }
+        return switch (algorithm.toUpperCase()) {
+            case "LRU" -> new LRUCache<>(capacity);
+            case "CONCURRENT_LRU" -> new ConcurrentLRUCache<>(capacity);
+            case "CONCURRENT_LFU" -> new ConcurrentLFUCache<>(capacity);
+            case "TINYLFU" -> new TinyLFUCache<>(capacity);
+            case "ARC" -> new ARCCache<>(capacity);
+            case "CLOCK" -> new ClockCache<>(capacity);
+            case "LONG_LRU" -> (Cache<K, V>) new LongCache<>(capacity);
+            default -> new LFUCache<>(capacity);
+        };
+    }
+
+    private Cache<K, V> decorate(Cache<K, V> cache, Expiry expiry, Class<? extends RuntimeException> missingType,
+                                 ToLongFunction<? super V> versionOf) {
+        Cache<K, V> expiring = expiry.isEternal()
+                ? cache
+                : new ExpiringCache<>(cache, expiry);
+        Cache<K, V> memorySensitive = expiring;
+        if (Boolean.TRUE.equals(memoryPressureEnabled)) {
+            MemorySensitiveCache<K, V> shedding = new MemorySensitiveCache<>(expiring, memoryPressureShedFraction);
+            memorySensitiveCaches.add(shedding);
+            memorySensitive = shedding;
+        }
+        NegativeCache<K> negativeCache = new NegativeCache<>(negativeCapacity, negativeTtl, missingType::isInstance);
+        return new InstrumentedCache<>(new NegativeCachingCache<>(
+                new CoalescingCache<>(new VersionedCache<>(memorySensitive, versionOf), singleFlightMaxWait),
+                negativeCache));
     }
 
-    private Cache<K, V> getCache() {
-        return "LRU".equalsIgnoreCase(algorithm)
-                ? new LRUCache<>(capacity)
-                : new LFUCache<>(capacity);
+    private void shedCaches() {
+        int removed = memorySensitiveCaches.stream()
+                .mapToInt(MemorySensitiveCache::shed)
+                .sum();
+        if (removed > 0) {
+            log.warn("Memory pressure, removed {} cold entries from the caches", removed);
+        } else {
+            log.debug("Memory pressure, no cold entries to remove from the caches");
+        }
     }
 
 }
@@ -0,0 +1,152 @@
+package ru.clevertec.newsservice.cache.jmx;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.CacheStats;
+import ru.clevertec.newsservice.cache.EvictionCause;
+import ru.clevertec.newsservice.cache.factory.CacheFactory;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The CacheStatsJmxExporter class registers a {@link CacheStatsMXBean} for every cache of the {@link CacheFactory}
+ * in the platform MBean server under {@code ru.clevertec.newsservice:type=Cache,name=<cache name>}.
+ */
+@Slf4j
+@Component
+@Profile("dev")
+@RequiredArgsConstructor
+public class CacheStatsJmxExporter {
+
+    private final CacheFactory<Object, Object> cacheFactory;
+    private final List<ObjectName> registered = new ArrayList<>();
+
+    /**
+     * Registers the MXBeans of the caches, replacing the beans left by a previous application context.
+     *
+     * @throws JMException if an MXBean cannot be registered.
+     */
+    @PostConstruct
+    public void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (var entry : cacheFactory.getCaches().entrySet()) {
+            ObjectName name = new ObjectName("ru.clevertec.newsservice:type=Cache,name=" + entry.getKey());
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(new CacheStatsView(entry.getValue()), name);
+            registered.add(name);
+        }
+    }
+
+    /**
+     * Unregisters the MXBeans of the caches.
+     */
+    @PreDestroy
+    public void unregister() {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        for (ObjectName name : registered) {
+            try {
+                server.unregisterMBean(name);
+            } catch (JMException e) {
+                log.warn("Failed to unregister " + name, e);
+            }
+        }
+        registered.clear();
+    }
+
+    @RequiredArgsConstructor
+    private static final class CacheStatsView implements CacheStatsMXBean {
+
+        private final Cache<?, ?> cache;
+
+        @Override
+        public long getSize() {
+            return cache.size();
+        }
+
+        @Override
+        public long getWeightedSize() {
+            return cache.weightedSize();
+        }
+
+        @Override
+        public long getCapacity() {
+            return cache.capacity();
+        }
+
+        @Override
+        public long getEvictionWeight() {
+            return cache.evictionWeight();
+        }
+
+        @Override
+        public long getHitCount() {
+            return cache.stats().hitCount();
+        }
+
+        @Override
+        public long getMissCount() {
+            return cache.stats().missCount();
+        }
+
+        @Override
+        public double getHitRate() {
+            return cache.stats().hitRate();
+        }
+
+        @Override
+        public long getLoadSuccessCount() {
+            return cache.stats().loadSuccessCount();
+        }
+
+        @Override
+        public long getLoadFailureCount() {
+            return cache.stats().loadFailureCount();
+        }
+
+        @Override
+        public double getAverageLoadPenaltyNanos() {
+            return cache.stats().averageLoadPenaltyNanos();
+        }
+
+        @Override
+        public long[] getLoadTimeHistogram() {
+            return cache.stats().loadTimeHistogram().stream()
+                    .mapToLong(Long::longValue)
+                    .toArray();
+        }
+
+        @Override
+        public long getSizeEvictionCount() {
+            return cache.stats().evictionCount(EvictionCause.SIZE);
+        }
+
+        @Override
+        public long getExpiredEvictionCount() {
+            return cache.stats().evictionCount(EvictionCause.EXPIRED);
+        }
+
+        @Override
+        public long getMemoryPressureEvictionCount() {
+            return cache.stats().evictionCount(EvictionCause.MEMORY_PRESSURE);
+        }
+
+        @Override
+        public long getStaleWriteCount() {
+            return cache.staleWriteCount();
+        }
+
+    }
+
+}
@@ -0,0 +1,38 @@
+package ru.clevertec.newsservice.cache.jmx;
+
+/**
+ * The management interface exposing the statistics of one cache through JMX.
+ */
+public interface CacheStatsMXBean {
+
+    long getSize();
+
+    long getWeightedSize();
+
+    long getCapacity();
+
+    long getEvictionWeight();
+
+    long getHitCount();
+
+    long getMissCount();
+
+    double getHitRate();
+
+    long getLoadSuccessCount();
+
+    long getLoadFailureCount();
+
+    double getAverageLoadPenaltyNanos();
+
+    long[] getLoadTimeHistogram();
+
+    long getSizeEvictionCount();
+
+    long getExpiredEvictionCount();
+
+    long getMemoryPressureEvictionCount();
+
+    long getStaleWriteCount();
+
+}
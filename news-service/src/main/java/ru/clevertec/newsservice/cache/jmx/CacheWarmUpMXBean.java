@@ -0,0 +1,14 @@
+package ru.clevertec.newsservice.cache.jmx;
+
+/**
+ * The management interface exposing the result of the last cache warm-up through JMX.
+ */
+public interface CacheWarmUpMXBean {
+
+    long getDurationMillis();
+
+    long getEntriesLoaded();
+
+    boolean isCompleted();
+
+}
@@ -0,0 +1,51 @@
+package ru.clevertec.newsservice.cache.near;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The InvalidationMessageListener class applies the invalidations published by {@link RedisInvalidationPublisher}
+ * on the other nodes to the {@link NearCacheManager}. Messages of this node are ignored, because its own in-process
+ * caches are already up to date. Numeric keys, which are the entity ids used by the services, are restored as Long,
+ * the other keys as String.
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class InvalidationMessageListener implements MessageListener {
+
+    private final String nodeId;
+    private final NearCacheManager cacheManager;
+
+    /**
+     * Applies an invalidation received from the Redis channel.
+     *
+     * @param message the message.
+     * @param pattern the channel pattern.
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + RedisInvalidationPublisher.SEPARATOR, 3);
+        if (parts.length < 3) {
+            log.warn("Malformed cache invalidation message: " + body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        cacheManager.invalidateLocal(parts[1], parts[2].isEmpty() ? null : parseKey(parts[2]));
+    }
+
+    private static Object parseKey(String key) {
+        try {
+            return Long.valueOf(key);
+        } catch (NumberFormatException e) {
+            return key;
+        }
+    }
+
+}
@@ -0,0 +1,17 @@
+package ru.clevertec.newsservice.cache.near;
+
+/**
+ * The InvalidationPublisher interface notifies the other nodes that an entry of a {@link NearCache} has changed,
+ * so that they drop it from their in-process caches.
+ */
+public interface InvalidationPublisher {
+
+    /**
+     * Publishes the invalidation of the entry with the specified key.
+     *
+     * @param cacheName the name of the cache.
+     * @param key       the key of the changed entry, or null if the whole cache was cleared.
+     */
+    void publish(String cacheName, Object key);
+
+}
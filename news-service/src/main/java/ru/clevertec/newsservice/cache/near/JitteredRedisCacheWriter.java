@@ -0,0 +1,97 @@
+package ru.clevertec.newsservice.cache.near;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * The JitteredRedisCacheWriter class is a {@link RedisCacheWriter} that shortens the time-to-live of every written
+ * entry by a random part of up to the jitter, so that entries written together, e.g. by a warm-up or after a
+ * deployment, do not expire in the same second and send all their readers to the database at once.
+ */
+public class JitteredRedisCacheWriter implements RedisCacheWriter {
+
+    private final RedisCacheWriter delegate;
+    private final double jitter;
+    private final DoubleSupplier random;
+
+    /**
+     * Constructs a new JitteredRedisCacheWriter.
+     *
+     * @param delegate the writer that talks to Redis.
+     * @param jitter   the maximum part of the time-to-live, between 0 and 1, that is cut off an entry.
+     * @param random   the source of random numbers between 0 and 1.
+     */
+    public JitteredRedisCacheWriter(RedisCacheWriter delegate, double jitter, DoubleSupplier random) {
+        if (jitter < 0 || jitter >= 1) {
+            throw new IllegalArgumentException("TTL jitter must be in [0, 1): " + jitter);
+        }
+        this.delegate = delegate;
+        this.jitter = jitter;
+        this.random = random;
+    }
+
+    /**
+     * Constructs a new JitteredRedisCacheWriter with a thread-local random source.
+     *
+     * @param delegate the writer that talks to Redis.
+     * @param jitter   the maximum part of the time-to-live that is cut off an entry.
+     */
+    public JitteredRedisCacheWriter(RedisCacheWriter delegate, double jitter) {
+        this(delegate, jitter, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        delegate.put(name, key, value, jitter(ttl));
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return delegate.get(name, key);
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        return delegate.putIfAbsent(name, key, value, jitter(ttl));
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new JitteredRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector), jitter, random);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    Duration jitter(Duration ttl) {
+        if (jitter == 0 || ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return ttl;
+        }
+        long millis = ttl.toMillis();
+        long cut = (long) (millis * jitter * random.getAsDouble());
+        return Duration.ofMillis(Math.max(1, millis - cut));
+    }
+
+}
@@ -0,0 +1,412 @@
+package ru.clevertec.newsservice.cache.near;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import ru.clevertec.newsservice.cache.Expiry;
+import ru.clevertec.newsservice.cache.NegativeCache;
+import ru.clevertec.newsservice.cache.SingleFlight;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * The NearCache class is a Spring {@link Cache} with two tiers: a small bounded in-process cache (L1) built on the
+ * {@link ru.clevertec.newsservice.cache.Cache} abstraction in front of a shared remote cache (L2) such as a Redis cache.
+ * Reads are served from L1 when possible and fill L1 from L2 otherwise. Writes go to L2 first, then to L1, and are
+ * published through the {@link InvalidationPublisher}, so that the other nodes drop their stale L1 copies.
+ * Misses of both tiers are loaded once per key and node through a {@link SingleFlight}, which gives
+ * {@code @Cacheable(sync = true)} per-key rather than per-cache locking. Keys reported missing by the loader are
+ * remembered in a node-local {@link NegativeCache}, which writes and invalidations of the key clear.
+ * Hits of each tier are counted separately.
+ * <p>
+ * With a {@link RefreshAhead}, a hit through {@link #get(Object, Callable)} on an entry in the last part of its
+ * time-to-live returns the cached value and reloads the entry in the background, once per key at a time, so that hot
+ * entries are replaced before they expire instead of sending their next reader to the database. A reload is only
+ * written if the in-process entry it refreshes was not replaced or dropped in the meantime, and a failed reload
+ * keeps the cached value. If the remote cache is a {@link RemainingTtl}, the window is measured from the remaining
+ * time-to-live of the remote entry, which is read together with the entry when it is copied into this cache. The
+ * in-process copy then expires with the remote entry at the latest, and an entry that the remote cache no longer
+ * holds is not copied at all. Entries written through this cache are fresh and live for the time-to-live of L1.
+ * <p>
+ * A read that missed L1 copies the remote value into L1 only if no write or invalidation of this cache happened
+ * while the value was read, so an invalidation that overtakes the read cannot leave the old value in L1.
+ */
+@Slf4j
+public class NearCache implements Cache {
+
+    private final Cache remote;
+    private final Supplier<ru.clevertec.newsservice.cache.Cache<Object, Object>> localFactory;
+    private final InvalidationPublisher publisher;
+    private final SingleFlight<Object, Object> singleFlight;
+    private final NegativeCache<Object> negativeCache;
+    private final Duration ttl;
+    private final RefreshAhead refreshAhead;
+    private final Set<Object> refreshing;
+    private final AtomicLong invalidations;
+    private final LongAdder localHits;
+    private final LongAdder remoteHits;
+    private final LongAdder misses;
+    private volatile ru.clevertec.newsservice.cache.Cache<Object, Object> local;
+
+    /**
+     * Constructs a new NearCache.
+     *
+     * @param remote        the shared remote cache (L2).
+     * @param localFactory  the factory of the in-process cache (L1), called again when the cache is cleared.
+     * @param publisher     the publisher of invalidations to the other nodes.
+     * @param maxWait       the maximum time a miss waits for the load of another caller before loading directly.
+     * @param negativeCache the cache of keys reported missing by the loader.
+     */
+    public NearCache(Cache remote,
+                     Supplier<ru.clevertec.newsservice.cache.Cache<Object, Object>> localFactory,
+                     InvalidationPublisher publisher,
+                     Duration maxWait,
+                     NegativeCache<Object> negativeCache) {
+        this(remote, localFactory, publisher, maxWait, negativeCache, Duration.ZERO, RefreshAhead.disabled());
+    }
+
+    /**
+     * Constructs a new NearCache that reloads hot entries ahead of their expiration.
+     *
+     * @param remote        the shared remote cache (L2).
+     * @param localFactory  the factory of the in-process cache (L1), called again when the cache is cleared.
+     * @param publisher     the publisher of invalidations to the other nodes.
+     * @param maxWait       the maximum time a miss waits for the load of another caller before loading directly.
+     * @param negativeCache the cache of keys reported missing by the loader.
+     * @param ttl           the time-to-live of the entries of this cache, which the refresh window is a part of.
+     * @param refreshAhead  the policy and executor of the reloads.
+     */
+    public NearCache(Cache remote,
+                     Supplier<ru.clevertec.newsservice.cache.Cache<Object, Object>> localFactory,
+                     InvalidationPublisher publisher,
+                     Duration maxWait,
+                     NegativeCache<Object> negativeCache,
+                     Duration ttl,
+                     RefreshAhead refreshAhead) {
+        this.remote = remote;
+        this.localFactory = localFactory;
+        this.publisher = publisher;
+        this.singleFlight = new SingleFlight<>(maxWait);
+        this.negativeCache = negativeCache;
+        this.ttl = ttl;
+        this.refreshAhead = refreshAhead;
+        this.refreshing = ConcurrentHashMap.newKeySet();
+        this.invalidations = new AtomicLong();
+        this.localHits = new LongAdder();
+        this.remoteHits = new LongAdder();
+        this.misses = new LongAdder();
+        this.local = localFactory.get();
+    }
+
+    @Override
+    public String getName() {
+        return remote.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return remote.getNativeCache();
+    }
+
+    /**
+     * Returns the value from L1, or from L2 filling L1 with it.
+     *
+     * @param key the key whose associated value is to be returned.
+     * @return the value wrapper, or null if neither tier contains the key.
+     */
+    @Override
+    public ValueWrapper get(Object key) {
+        Stamped stamped = lookup(key);
+        return stamped == null ? null : new SimpleValueWrapper(stamped.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper == null ? null : wrapper.get();
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    /**
+     * Returns the value from L1 or L2, or loads it with the value loader and puts it into both tiers. Concurrent
+     * misses of the same key on this node share one load. A hit that is due for refresh-ahead submits a reload.
+     *
+     * @param key         the key whose associated value is to be returned.
+     * @param valueLoader the loader of the value.
+     * @return the cached or loaded value.
+     * @throws ValueRetrievalException if the value loader throws an exception.
+     */
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Stamped stamped = lookup(key);
+        if (stamped != null) {
+            refreshIfDue(key, stamped, valueLoader);
+            return (T) stamped.value();
+        }
+        return (T) negativeCache.load(key, () -> singleFlight.load(key, () -> {
+            long invalidationsBefore = invalidations.get();
+            RemainingTtl.Entry cached = readRemote(key);
+            if (cached != null) {
+                copyToLocal(key, cached, invalidationsBefore);
+                return cached.value();
+            }
+            T value = call(key, valueLoader);
+            if (value != null) {
+                remote.put(key, value);
+                copyToLocal(key, new RemainingTtl.Entry(value, null), invalidationsBefore);
+            }
+            return value;
+        }));
+    }
+
+    /**
+     * Puts the value into L2 and L1 and invalidates the key on the other nodes.
+     *
+     * @param key   the key with which the specified value is to be associated.
+     * @param value the value to be associated with the specified key.
+     */
+    @Override
+    public void put(Object key, Object value) {
+        invalidations.incrementAndGet();
+        negativeCache.invalidate(key);
+        remote.put(key, value);
+        if (value == null) {
+            local.removeByKey(key);
+        } else {
+            putLocal(key, stamp(value, null), null);
+        }
+        publisher.publish(getName(), key);
+    }
+
+    /**
+     * Puts the value into L2 unless L2 already holds the key, and copies the value that L2 holds afterwards into L1,
+     * reading an existing value again with its remaining time-to-live. Nothing changes on the other nodes, so no
+     * invalidation is published; an existing value in L2 is never replaced.
+     *
+     * @param key   the key with which the specified value is to be associated.
+     * @param value the value to be associated with the specified key.
+     * @return the value that L2 already held, or null if the value was put.
+     */
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = remote.putIfAbsent(key, value);
+        if (existing == null) {
+            negativeCache.invalidate(key);
+            putLocal(key, stamp(value, null), null);
+            return null;
+        }
+        long invalidationsBefore = invalidations.get();
+        RemainingTtl.Entry cached = readRemote(key);
+        if (cached != null) {
+            copyToLocal(key, cached, invalidationsBefore);
+        }
+        return existing;
+    }
+
+    /**
+     * Evicts the key from L2 and L1 and invalidates it on the other nodes.
+     *
+     * @param key the key whose mapping is to be removed from the cache.
+     */
+    @Override
+    public void evict(Object key) {
+        invalidations.incrementAndGet();
+        negativeCache.invalidate(key);
+        remote.evict(key);
+        local.removeByKey(key);
+        publisher.publish(getName(), key);
+    }
+
+    /**
+     * Clears L2, replaces L1 with an empty cache and invalidates the whole cache on the other nodes.
+     */
+    @Override
+    public void clear() {
+        invalidations.incrementAndGet();
+        negativeCache.invalidateAll();
+        remote.clear();
+        local = localFactory.get();
+        publisher.publish(getName(), null);
+    }
+
+    /**
+     * Drops the key from L1 and from the missing keys only, on an invalidation received from another node.
+     *
+     * @param key the key to drop, or null to drop every entry.
+     */
+    public void invalidateLocal(Object key) {
+        invalidations.incrementAndGet();
+        if (key == null) {
+            negativeCache.invalidateAll();
+            local = localFactory.get();
+        } else {
+            negativeCache.invalidate(key);
+            local.removeByKey(key);
+        }
+    }
+
+    /**
+     * Returns the number of reads served by the in-process cache.
+     *
+     * @return the number of L1 hits.
+     */
+    public long localHitCount() {
+        return localHits.sum();
+    }
+
+    /**
+     * Returns the number of reads that missed L1 and were served by the remote cache.
+     *
+     * @return the number of L2 hits.
+     */
+    public long remoteHitCount() {
+        return remoteHits.sum();
+    }
+
+    /**
+     * Returns the number of reads that missed both tiers.
+     *
+     * @return the number of misses.
+     */
+    public long missCount() {
+        return misses.sum();
+    }
+
+    /**
+     * Returns the share of all reads served by L1.
+     *
+     * @return the L1 hit ratio, or 0 if there were no reads.
+     */
+    public double localHitRatio() {
+        long local = localHitCount();
+        long total = local + remoteHitCount() + missCount();
+        return total == 0 ? 0 : (double) local / total;
+    }
+
+    /**
+     * Returns the share of the L1 misses served by L2.
+     *
+     * @return the L2 hit ratio, or 0 if there were no L1 misses.
+     */
+    public double remoteHitRatio() {
+        long remote = remoteHitCount();
+        long total = remote + missCount();
+        return total == 0 ? 0 : (double) remote / total;
+    }
+
+    /**
+     * Returns the number of entries that are being reloaded ahead of their expiration.
+     *
+     * @return the number of reloads in flight.
+     */
+    public int refreshingCount() {
+        return refreshing.size();
+    }
+
+    private Stamped lookup(Object key) {
+        if (local.get(key) instanceof Stamped stamped) {
+            localHits.increment();
+            return stamped;
+        }
+        long invalidationsBefore = invalidations.get();
+        RemainingTtl.Entry cached = readRemote(key);
+        if (cached == null) {
+            misses.increment();
+            return null;
+        }
+        remoteHits.increment();
+        return copyToLocal(key, cached, invalidationsBefore);
+    }
+
+    private RemainingTtl.Entry readRemote(Object key) {
+        if (remote instanceof RemainingTtl remainingTtl) {
+            return remainingTtl.getWithRemainingTtl(key);
+        }
+        ValueWrapper wrapper = remote.get(key);
+        return wrapper == null || wrapper.get() == null ? null : new RemainingTtl.Entry(wrapper.get(), null);
+    }
+
+    private void refreshIfDue(Object key, Stamped stamped, Callable<?> valueLoader) {
+        if (!refreshAhead.isDue(stamped.writtenAt(), ttl) || !refreshing.add(key)) {
+            return;
+        }
+        if (!refreshAhead.submit(() -> refresh(key, stamped, valueLoader))) {
+            refreshing.remove(key);
+        }
+    }
+
+    private void refresh(Object key, Stamped stamped, Callable<?> valueLoader) {
+        try {
+            Object value = valueLoader.call();
+            if (value != null && local.get(key) == stamped) {
+                remote.put(key, value);
+                putLocal(key, stamp(value, null), null);
+            }
+        } catch (Exception e) {
+            log.warn("Refresh-ahead of key {} in cache {} failed, keeping the cached value", key, getName(), e);
+        } finally {
+            refreshing.remove(key);
+        }
+    }
+
+    private Stamped copyToLocal(Object key, RemainingTtl.Entry cached, long invalidationsBefore) {
+        Stamped stamped = stamp(cached.value(), cached.remainingTtl());
+        if (invalidations.get() == invalidationsBefore) {
+            putLocal(key, stamped, cached.remainingTtl());
+            if (invalidations.get() != invalidationsBefore) {
+                local.removeByKey(key);
+            }
+        }
+        return stamped;
+    }
+
+    private Stamped stamp(Object value, Duration remaining) {
+        long now = refreshAhead.now();
+        if (remaining == null || ttl.isZero() || ttl.isNegative()) {
+            return new Stamped(value, now);
+        }
+        return new Stamped(value, now - ttl.toNanos() + remaining.toNanos());
+    }
+
+    private void putLocal(Object key, Stamped stamped, Duration remaining) {
+        if (remaining == null) {
+            local.put(key, stamped);
+        } else if (!remaining.isZero()) {
+            local.put(key, stamped, Expiry.afterWrite(remaining));
+        }
+    }
+
+    private static <T> T call(Object key, Callable<T> valueLoader) {
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "NearCache(name=" + getName() + ", localHits=" + localHitCount() + ", remoteHits=" + remoteHitCount()
+               + ", misses=" + missCount() + ", local=" + local + ")";
+    }
+
+    /**
+     * An in-process entry with the time its remote entry was written, which the refresh window is measured from. The
+     * time is derived from the remaining time-to-live of the remote entry if the remote cache tells it, so an entry
+     * copied late in its life is refreshed before the remote cache expires it; otherwise it is the time of the copy.
+     */
+    private record Stamped(Object value, long writtenAt) {
+    }
+
+}
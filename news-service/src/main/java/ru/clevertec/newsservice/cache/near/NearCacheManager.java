@@ -0,0 +1,134 @@
+package ru.clevertec.newsservice.cache.near;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.cache.RedisCache;
+import ru.clevertec.newsservice.cache.NegativeCache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * The NearCacheManager class is a {@link CacheManager} that decorates every cache of the remote cache manager with
+ * a {@link NearCache}, and drops the entries changed by other nodes from the in-process caches. The in-process cache
+ * of a Redis cache is created with the time-to-live configured for that Redis cache, which is also the time-to-live
+ * that refresh-ahead measures its window from.
+ */
+public class NearCacheManager implements CacheManager {
+
+    private final CacheManager remoteCacheManager;
+    private final Function<Duration, ru.clevertec.newsservice.cache.Cache<Object, Object>> localFactory;
+    private final InvalidationPublisher publisher;
+    private final Duration maxWait;
+    private final Supplier<NegativeCache<Object>> negativeCacheFactory;
+    private final RefreshAhead refreshAhead;
+    private final Map<String, NearCache> caches;
+    private final List<BiConsumer<String, Object>> invalidationListeners;
+
+    /**
+     * Constructs a new NearCacheManager.
+     *
+     * @param remoteCacheManager   the cache manager of the shared remote caches.
+     * @param localFactory         the factory of the in-process caches.
+     * @param publisher            the publisher of invalidations to the other nodes.
+     * @param maxWait              the maximum time a miss waits for the load of another caller.
+     * @param negativeCacheFactory the factory of the caches of missing keys.
+     */
+    public NearCacheManager(CacheManager remoteCacheManager,
+                            Supplier<ru.clevertec.newsservice.cache.Cache<Object, Object>> localFactory,
+                            InvalidationPublisher publisher,
+                            Duration maxWait,
+                            Supplier<NegativeCache<Object>> negativeCacheFactory) {
+        this(remoteCacheManager, ttl -> localFactory.get(), publisher, maxWait, negativeCacheFactory,
+                RefreshAhead.disabled());
+    }
+
+    /**
+     * Constructs a new NearCacheManager whose in-process caches follow the time-to-live of each remote cache and
+     * reload hot entries ahead of their expiration.
+     *
+     * @param remoteCacheManager   the cache manager of the shared remote caches.
+     * @param localFactory         the factory of the in-process caches, given the time-to-live of the remote cache,
+     *                             which is zero if the remote cache does not expire its entries.
+     * @param publisher            the publisher of invalidations to the other nodes.
+     * @param maxWait              the maximum time a miss waits for the load of another caller.
+     * @param negativeCacheFactory the factory of the caches of missing keys.
+     * @param refreshAhead         the policy and executor of the reloads, shared by all caches.
+     */
+    public NearCacheManager(CacheManager remoteCacheManager,
+                            Function<Duration, ru.clevertec.newsservice.cache.Cache<Object, Object>> localFactory,
+                            InvalidationPublisher publisher,
+                            Duration maxWait,
+                            Supplier<NegativeCache<Object>> negativeCacheFactory,
+                            RefreshAhead refreshAhead) {
+        this.remoteCacheManager = remoteCacheManager;
+        this.localFactory = localFactory;
+        this.publisher = publisher;
+        this.maxWait = maxWait;
+        this.negativeCacheFactory = negativeCacheFactory;
+        this.refreshAhead = refreshAhead;
+        this.caches = new ConcurrentHashMap<>();
+        this.invalidationListeners = new CopyOnWriteArrayList<>();
+    }
+
+    @Override
+    public NearCache getCache(String name) {
+        NearCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = remoteCacheManager.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        Duration ttl = ttlOf(remote);
+        return caches.computeIfAbsent(name, key -> new NearCache(remote, () -> localFactory.apply(ttl), publisher,
+                maxWait, negativeCacheFactory.get(), ttl, refreshAhead));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return remoteCacheManager.getCacheNames();
+    }
+
+    /**
+     * Drops the key from the in-process cache on an invalidation received from another node. Caches that were not
+     * used on this node yet have nothing to drop.
+     *
+     * @param cacheName the name of the cache.
+     * @param key       the key to drop, or null to drop every entry.
+     */
+    public void invalidateLocal(String cacheName, Object key) {
+        NearCache cache = caches.get(cacheName);
+        if (cache != null) {
+            cache.invalidateLocal(key);
+        }
+        invalidationListeners.forEach(listener -> listener.accept(cacheName, key));
+    }
+
+    /**
+     * Adds a listener that is notified of every invalidation received from another node, e.g. to drop the results of
+     * queries over the changed cache.
+     *
+     * @param listener the listener of the cache name and the key, which is null if the whole cache was cleared.
+     */
+    public void addInvalidationListener(BiConsumer<String, Object> listener) {
+        invalidationListeners.add(listener);
+    }
+
+    private static Duration ttlOf(Cache remote) {
+        if (remote instanceof RedisCache redisCache) {
+            Duration ttl = redisCache.getCacheConfiguration().getTtl();
+            return ttl == null ? Duration.ZERO : ttl;
+        }
+        return Duration.ZERO;
+    }
+
+}
@@ -0,0 +1,165 @@
+package ru.clevertec.newsservice.cache.near;
+
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * The ProtobufRedisSerializer class is a {@link RedisSerializer} of protobuf messages such as NewsResponse and
+ * CommentResponse, which stores a one-byte type tag followed by the protobuf wire bytes instead of a JDK serialization
+ * stream with class descriptors. Messages whose wire bytes reach the compression threshold are deflated if that makes
+ * them smaller; the high bit of the tag marks them and the tag is followed by the length of the wire bytes.
+ * <p>
+ * Values with an unknown tag, e.g. JDK serialized values written before this serializer was introduced, are read as
+ * missing, so the cache reloads and overwrites them instead of failing the read.
+ */
+public class ProtobufRedisSerializer implements RedisSerializer<Object> {
+
+    private static final int COMPRESSED = 0x80;
+    private static final int HEADER_BYTES = 1;
+    private static final int COMPRESSED_HEADER_BYTES = HEADER_BYTES + Integer.BYTES;
+    private static final ThreadLocal<Deflater> DEFLATER =
+            ThreadLocal.withInitial(() -> new Deflater(Deflater.BEST_SPEED));
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private final int compressionThreshold;
+    private final MessageType<?>[] typesByTag;
+    private final Map<Class<?>, MessageType<?>> typesByClass;
+
+    /**
+     * Constructs a new ProtobufRedisSerializer.
+     *
+     * @param compressionThreshold the size of the wire bytes from which messages are deflated; zero or less disables
+     *                             compression.
+     * @param types                the message types this serializer writes and reads, with distinct tags.
+     */
+    public ProtobufRedisSerializer(int compressionThreshold, MessageType<?>... types) {
+        this.compressionThreshold = compressionThreshold;
+        this.typesByTag = new MessageType<?>[COMPRESSED];
+        this.typesByClass = new HashMap<>();
+        for (MessageType<?> type : types) {
+            if (typesByTag[type.tag()] != null) {
+                throw new IllegalArgumentException("Duplicate protobuf type tag: " + type.tag());
+            }
+            typesByTag[type.tag()] = type;
+            typesByClass.put(type.type(), type);
+        }
+    }
+
+    @Override
+    public byte[] serialize(Object value) {
+        if (value == null) {
+            return new byte[0];
+        }
+        MessageType<?> type = typesByClass.get(value.getClass());
+        if (type == null) {
+            throw new SerializationException("Cannot serialize unregistered type " + value.getClass().getName());
+        }
+        MessageLite message = (MessageLite) value;
+        int size = message.getSerializedSize();
+        byte[] bytes = new byte[HEADER_BYTES + size];
+        bytes[0] = (byte) type.tag();
+        writeMessage(message, bytes, HEADER_BYTES, size);
+        if (compressionThreshold <= 0 || size < compressionThreshold) {
+            return bytes;
+        }
+        byte[] compressed = deflate(bytes, size);
+        return compressed == null ? bytes : compressed;
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        int header = bytes[0] & 0xFF;
+        MessageType<?> type = typesByTag[header & ~COMPRESSED];
+        if (type == null) {
+            return null;
+        }
+        try {
+            if ((header & COMPRESSED) == 0) {
+                return type.parser().parseFrom(bytes, HEADER_BYTES, bytes.length - HEADER_BYTES);
+            }
+            return type.parser().parseFrom(inflate(bytes));
+        } catch (InvalidProtocolBufferException | DataFormatException e) {
+            throw new SerializationException("Cannot deserialize " + type.type().getName(), e);
+        }
+    }
+
+    private static void writeMessage(MessageLite message, byte[] bytes, int offset, int size) {
+        try {
+            CodedOutputStream output = CodedOutputStream.newInstance(bytes, offset, size);
+            message.writeTo(output);
+            output.checkNoSpaceLeft();
+        } catch (IOException e) {
+            throw new SerializationException("Cannot serialize " + message.getClass().getName(), e);
+        }
+    }
+
+    private static byte[] deflate(byte[] bytes, int size) {
+        Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        deflater.setInput(bytes, HEADER_BYTES, size);
+        deflater.finish();
+        byte[] compressed = new byte[bytes.length];
+        int length = COMPRESSED_HEADER_BYTES;
+        while (!deflater.finished() && length < compressed.length) {
+            length += deflater.deflate(compressed, length, compressed.length - length);
+        }
+        if (!deflater.finished()) {
+            return null;
+        }
+        compressed[0] = (byte) (bytes[0] | COMPRESSED);
+        ByteBuffer.wrap(compressed, HEADER_BYTES, Integer.BYTES).putInt(size);
+        return Arrays.copyOf(compressed, length);
+    }
+
+    private static byte[] inflate(byte[] bytes) throws DataFormatException {
+        int size = ByteBuffer.wrap(bytes, HEADER_BYTES, Integer.BYTES).getInt();
+        Inflater inflater = INFLATER.get();
+        inflater.reset();
+        inflater.setInput(bytes, COMPRESSED_HEADER_BYTES, bytes.length - COMPRESSED_HEADER_BYTES);
+        byte[] raw = new byte[size];
+        int length = 0;
+        while (length < size && !inflater.finished()) {
+            int inflated = inflater.inflate(raw, length, size - length);
+            if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                throw new DataFormatException("Truncated compressed protobuf message");
+            }
+            length += inflated;
+        }
+        return raw;
+    }
+
+    /**
+     * A protobuf message type known to the serializer.
+     *
+     * @param tag    the tag that identifies the type in Redis, between 1 and 127; never reuse the tag of a removed type.
+     * @param type   the generated message class.
+     * @param parser the parser of the message, e.g. {@code NewsResponse.parser()}.
+     * @param <V>    the type of the message.
+     */
+    public record MessageType<V extends MessageLite>(int tag, Class<V> type, Parser<V> parser) {
+
+        public MessageType {
+            if (tag < 1 || tag >= COMPRESSED) {
+                throw new IllegalArgumentException("Protobuf type tag must be in [1, 127]: " + tag);
+            }
+        }
+
+    }
+
+}
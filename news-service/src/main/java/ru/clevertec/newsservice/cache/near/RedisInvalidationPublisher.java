@@ -0,0 +1,31 @@
+package ru.clevertec.newsservice.cache.near;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+/**
+ * The RedisInvalidationPublisher class publishes the invalidations of {@link NearCache} entries to a Redis pub/sub
+ * channel. A message has the form {@code nodeId|cacheName|key}, with an empty key when the whole cache was cleared.
+ */
+@RequiredArgsConstructor
+public class RedisInvalidationPublisher implements InvalidationPublisher {
+
+    static final String SEPARATOR = "|";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId;
+
+    /**
+     * Publishes the invalidation to the Redis channel.
+     *
+     * @param cacheName the name of the cache.
+     * @param key       the key of the changed entry, or null if the whole cache was cleared.
+     */
+    @Override
+    public void publish(String cacheName, Object key) {
+        String message = nodeId + SEPARATOR + cacheName + SEPARATOR + (key == null ? "" : key);
+        redisTemplate.convertAndSend(channel, message);
+    }
+
+}
@@ -0,0 +1,128 @@
+package ru.clevertec.newsservice.cache.near;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * The RefreshAhead class decides when a cached entry is old enough to be reloaded before it expires, and runs the
+ * reloads on a bounded executor. An entry is due once its age reaches {@code 1 - fraction} of its time-to-live, so a
+ * fraction of 0.2 reloads the entries read within the last 20% of their life. Reloads rejected by a full executor are
+ * dropped and counted; the entry is then loaded again on its next read or after it expired.
+ */
+public final class RefreshAhead {
+
+    private static final RefreshAhead DISABLED = new RefreshAhead(0, Runnable::run, System::nanoTime);
+
+    private final double fraction;
+    private final Executor executor;
+    private final LongSupplier ticker;
+    private final LongAdder refreshes;
+    private final LongAdder rejections;
+
+    /**
+     * Constructs a new RefreshAhead.
+     *
+     * @param fraction the last part of the time-to-live, between 0 and 1, in which a read reloads the entry;
+     *                 0 disables refresh-ahead.
+     * @param executor the executor of the reloads, which should be bounded and reject reloads when it is full.
+     * @param ticker   the source of the current time in nanoseconds.
+     */
+    public RefreshAhead(double fraction, Executor executor, LongSupplier ticker) {
+        if (fraction < 0 || fraction >= 1) {
+            throw new IllegalArgumentException("Refresh-ahead fraction must be in [0, 1): " + fraction);
+        }
+        this.fraction = fraction;
+        this.executor = executor;
+        this.ticker = ticker;
+        this.refreshes = new LongAdder();
+        this.rejections = new LongAdder();
+    }
+
+    /**
+     * Constructs a new RefreshAhead on the system clock.
+     *
+     * @param fraction the last part of the time-to-live in which a read reloads the entry.
+     * @param executor the executor of the reloads.
+     */
+    public RefreshAhead(double fraction, Executor executor) {
+        this(fraction, executor, System::nanoTime);
+    }
+
+    /**
+     * Returns a RefreshAhead that never reloads entries.
+     *
+     * @return the disabled RefreshAhead.
+     */
+    public static RefreshAhead disabled() {
+        return DISABLED;
+    }
+
+    /**
+     * Returns the current time of the ticker.
+     *
+     * @return the current time in nanoseconds.
+     */
+    public long now() {
+        return ticker.getAsLong();
+    }
+
+    /**
+     * Returns true if an entry written at the specified time should be reloaded now.
+     *
+     * @param writtenAt the time the entry was written, in nanoseconds of the ticker.
+     * @param ttl       the time-to-live of the entry; zero or null means the entry never expires.
+     * @return true if the entry is in the refresh window of its time-to-live.
+     */
+    public boolean isDue(long writtenAt, Duration ttl) {
+        if (fraction == 0 || ttl == null || ttl.isZero() || ttl.isNegative()) {
+            return false;
+        }
+        long ttlNanos = ttl.toNanos();
+        return now() - writtenAt >= ttlNanos - (long) (ttlNanos * fraction);
+    }
+
+    /**
+     * Submits a reload to the executor.
+     *
+     * @param reload the reload of one entry.
+     * @return true if the reload was accepted, false if the executor rejected it.
+     */
+    public boolean submit(Runnable reload) {
+        try {
+            executor.execute(reload);
+            refreshes.increment();
+            return true;
+        } catch (RejectedExecutionException e) {
+            rejections.increment();
+            return false;
+        }
+    }
+
+    /**
+     * Returns the number of reloads accepted by the executor.
+     *
+     * @return the number of submitted reloads.
+     */
+    public long refreshCount() {
+        return refreshes.sum();
+    }
+
+    /**
+     * Returns the number of reloads dropped because the executor was full.
+     *
+     * @return the number of rejected reloads.
+     */
+    public long rejectionCount() {
+        return rejections.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "RefreshAhead(fraction=" + fraction + ", refreshes=" + refreshCount()
+               + ", rejections=" + rejectionCount() + ")";
+    }
+
+}
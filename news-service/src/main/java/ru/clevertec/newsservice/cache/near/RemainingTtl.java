@@ -0,0 +1,31 @@
+package ru.clevertec.newsservice.cache.near;
+
+import java.time.Duration;
+
+/**
+ * The RemainingTtl interface is implemented by the remote caches that can tell how long an entry still lives, so that
+ * a {@link NearCache} measures the refresh window and the expiry of its in-process copy from the remote entry rather
+ * than from the time this node copied it. The value and its remaining time-to-live are read together, in one round
+ * trip to the remote cache.
+ */
+public interface RemainingTtl {
+
+    /**
+     * Returns the value of the entry with the specified key together with the time it still lives in the remote cache.
+     *
+     * @param key the key of the entry.
+     * @return the entry, or null if the remote cache does not hold the key.
+     */
+    Entry getWithRemainingTtl(Object key);
+
+    /**
+     * A value read from the remote cache with its remaining time-to-live.
+     *
+     * @param value        the cached value.
+     * @param remainingTtl the remaining time-to-live, zero if the entry expired while it was read, or null if the entry
+     *                     never expires.
+     */
+    record Entry(Object value, Duration remainingTtl) {
+    }
+
+}
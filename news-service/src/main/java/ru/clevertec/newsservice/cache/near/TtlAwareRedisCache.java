@@ -0,0 +1,65 @@
+package ru.clevertec.newsservice.cache.near;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * The TtlAwareRedisCache class is a {@link RedisCache} that reads its entries together with their remaining
+ * time-to-live, pipelining the Redis {@code GET} and {@code PTTL} commands on the key that the cache itself reads and
+ * writes, so that the time-to-live costs no extra round trip.
+ */
+public class TtlAwareRedisCache extends RedisCache implements RemainingTtl {
+
+    private final RedisConnectionFactory connectionFactory;
+
+    /**
+     * Constructs a new TtlAwareRedisCache.
+     *
+     * @param name              the name of the cache.
+     * @param cacheWriter       the writer that talks to Redis.
+     * @param cacheConfig       the configuration of the cache.
+     * @param connectionFactory the factory of the connections that read the entries with their time-to-live.
+     */
+    public TtlAwareRedisCache(String name,
+                              RedisCacheWriter cacheWriter,
+                              RedisCacheConfiguration cacheConfig,
+                              RedisConnectionFactory connectionFactory) {
+        super(name, cacheWriter, cacheConfig);
+        this.connectionFactory = connectionFactory;
+    }
+
+    /**
+     * Returns the value of the entry in Redis together with its remaining time-to-live, read in one pipeline.
+     *
+     * @param key the key of the entry.
+     * @return the entry, or null if Redis does not hold the key.
+     */
+    @Override
+    public Entry getWithRemainingTtl(Object key) {
+        byte[] cacheKey = serializeCacheKey(createCacheKey(key));
+        List<Object> results;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            connection.stringCommands().get(cacheKey);
+            connection.keyCommands().pTtl(cacheKey);
+            results = connection.closePipeline();
+        }
+        if (!(results.get(0) instanceof byte[] bytes)) {
+            return null;
+        }
+        Object value = fromStoreValue(deserializeCacheValue(bytes));
+        if (value == null) {
+            return null;
+        }
+        Long millis = (Long) results.get(1);
+        Duration remainingTtl = millis == null || millis == -1 ? null : Duration.ofMillis(Math.max(0, millis));
+        return new Entry(value, remainingTtl);
+    }
+
+}
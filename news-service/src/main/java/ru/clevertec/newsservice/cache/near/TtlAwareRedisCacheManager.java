@@ -0,0 +1,45 @@
+package ru.clevertec.newsservice.cache.near;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+
+import java.util.Map;
+
+/**
+ * The TtlAwareRedisCacheManager class is a {@link RedisCacheManager} whose caches are {@link TtlAwareRedisCache}s, so
+ * that the {@link NearCache}s in front of them follow the remaining time-to-live of the Redis entries.
+ */
+public class TtlAwareRedisCacheManager extends RedisCacheManager {
+
+    private final RedisCacheWriter cacheWriter;
+    private final RedisCacheConfiguration defaultCacheConfig;
+    private final RedisConnectionFactory connectionFactory;
+
+    /**
+     * Constructs a new TtlAwareRedisCacheManager.
+     *
+     * @param cacheWriter         the writer that talks to Redis.
+     * @param connectionFactory   the factory of the connections that read the remaining time-to-live.
+     * @param defaultCacheConfig  the configuration of the caches that are not configured by name.
+     * @param cacheConfigurations the configurations of the caches by name.
+     */
+    public TtlAwareRedisCacheManager(RedisCacheWriter cacheWriter,
+                                     RedisConnectionFactory connectionFactory,
+                                     RedisCacheConfiguration defaultCacheConfig,
+                                     Map<String, RedisCacheConfiguration> cacheConfigurations) {
+        super(cacheWriter, defaultCacheConfig, cacheConfigurations);
+        this.cacheWriter = cacheWriter;
+        this.defaultCacheConfig = defaultCacheConfig;
+        this.connectionFactory = connectionFactory;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfig) {
+        return new TtlAwareRedisCache(name, cacheWriter, cacheConfig == null ? defaultCacheConfig : cacheConfig,
+                connectionFactory);
+    }
+
+}
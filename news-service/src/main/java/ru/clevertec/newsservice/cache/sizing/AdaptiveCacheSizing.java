@@ -0,0 +1,133 @@
+package ru.clevertec.newsservice.cache.sizing;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import ru.clevertec.newsservice.cache.factory.CacheFactory;
+
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The AdaptiveCacheSizing class puts the resizable news and comment caches under a {@link CapacityController} at
+ * startup. Every cache.sizing.interval the controller grows each cache by cache.sizing.growth-factor while that raises
+ * its hit ratio by at least cache.sizing.min-gain, up to cache.sizing.max-factor times its configured capacity. Unless
+ * cache.memory-pressure.enabled is false, a heap pool exceeding cache.memory-pressure.heap-threshold of its maximum
+ * makes the shared {@link HeapPressureMonitor} also shrink every cache by cache.sizing.shrink-factor, down to
+ * cache.sizing.min-factor times its configured capacity, and growth pauses for cache.sizing.pressure-cooldown. Caches
+ * that cannot be resized, such as TINYLFU, LONG_LRU and OFFHEAP, keep their size.
+ */
+@Slf4j
+@Component
+@Profile("dev")
+@RequiredArgsConstructor
+public class AdaptiveCacheSizing implements ApplicationRunner {
+
+    private final CacheFactory<Object, Object> cacheFactory;
+    private final HeapPressureMonitor heapPressureMonitor;
+    private ScheduledExecutorService scheduler;
+    private Runnable pressureListener;
+    private CapacityController controller;
+
+    @Value("${cache.sizing.enabled:false}")
+    private Boolean enabled;
+
+    @Value("${cache.sizing.interval:1m}")
+    private Duration interval;
+
+    @Value("${cache.sizing.min-gain:0.01}")
+    private Double minGain;
+
+    @Value("${cache.sizing.min-requests:100}")
+    private Long minRequests;
+
+    @Value("${cache.sizing.growth-factor:1.25}")
+    private Double growthFactor;
+
+    @Value("${cache.sizing.shrink-factor:0.5}")
+    private Double shrinkFactor;
+
+    @Value("${cache.sizing.min-factor:0.25}")
+    private Double minFactor;
+
+    @Value("${cache.sizing.max-factor:4}")
+    private Double maxFactor;
+
+    @Value("${cache.sizing.pressure-cooldown:5m}")
+    private Duration pressureCooldown;
+
+    @Value("${cache.memory-pressure.enabled:true}")
+    private Boolean memoryPressureEnabled;
+
+    /**
+     * Registers the resizable caches and starts the periodic adjustment and the heap monitoring.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!Boolean.TRUE.equals(enabled)) {
+            return;
+        }
+        controller = new CapacityController(minGain, growthFactor, shrinkFactor, minRequests, pressureCooldown,
+                System::nanoTime);
+        cacheFactory.getCaches().forEach((name, cache) -> {
+            long capacity = cache.capacity();
+            if (capacity > 0) {
+                controller.register(name, cache, (long) (capacity * minFactor), (long) (capacity * maxFactor));
+            } else {
+                log.info("Cache {} cannot be resized and keeps its size", name);
+            }
+        });
+        if (Boolean.TRUE.equals(memoryPressureEnabled)) {
+            pressureListener = controller::onMemoryPressure;
+            heapPressureMonitor.addListener(pressureListener);
+            heapPressureMonitor.start();
+        }
+        scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "cache-sizing");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long intervalMillis = interval.toMillis();
+        scheduler.scheduleWithFixedDelay(this::adjust, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the periodic adjustment and the heap monitoring.
+     */
+    @PreDestroy
+    public void stop() {
+        if (scheduler != null) {
+            scheduler.shutdownNow();
+        }
+        if (pressureListener != null) {
+            heapPressureMonitor.removeListener(pressureListener);
+        }
+    }
+
+    /**
+     * Returns the controller of the cache capacities, or null if adaptive sizing is disabled.
+     *
+     * @return the {@link CapacityController}.
+     */
+    public CapacityController controller() {
+        return controller;
+    }
+
+    private void adjust() {
+        try {
+            controller.adjust();
+        } catch (RuntimeException e) {
+            log.warn("Adjusting the cache capacities failed", e);
+        }
+    }
+
+}
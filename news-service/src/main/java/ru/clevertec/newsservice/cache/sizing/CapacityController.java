@@ -0,0 +1,169 @@
+package ru.clevertec.newsservice.cache.sizing;
+
+import lombok.extern.slf4j.Slf4j;
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.CacheStats;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.LongSupplier;
+
+/**
+ * The CapacityController class adjusts the capacity of resizable caches to their workload by hill climbing on the hit
+ * ratio. Each call of {@link #adjust()} measures the hit ratio of every cache since the previous call. A growing cache
+ * is enlarged by the growth factor as long as the last enlargement raised its hit ratio by at least the minimum gain;
+ * once an enlargement stops paying off the cache keeps its size, until its hit ratio drops by the minimum gain again,
+ * e.g. because the set of popular news grew, and it starts growing anew.
+ * <p>
+ * On memory pressure every cache is shrunk by the shrink factor and none of them grows during the pressure cooldown,
+ * so that the caches do not refill the heap that the collector just reported as full. Capacities never leave the
+ * bounds given on registration. Intervals with fewer lookups than the minimum number of requests are not judged.
+ */
+@Slf4j
+public class CapacityController {
+
+    private final double minGain;
+    private final double growthFactor;
+    private final double shrinkFactor;
+    private final long minRequests;
+    private final long pressureCooldownNanos;
+    private final LongSupplier ticker;
+    private final Map<String, Sizing> sizings;
+    private long growthAllowedAt;
+
+    /**
+     * Constructs a new CapacityController.
+     *
+     * @param minGain          the minimum rise of the hit ratio, e.g. 0.01, for which growing a cache pays off.
+     * @param growthFactor     the factor, greater than 1, by which a growing cache is enlarged.
+     * @param shrinkFactor     the factor, between 0 and 1, by which the caches are shrunk on memory pressure.
+     * @param minRequests      the minimum number of lookups of an interval to judge the hit ratio of a cache.
+     * @param pressureCooldown the time after a memory pressure during which no cache grows.
+     * @param ticker           the source of the current time in nanoseconds.
+     */
+    public CapacityController(double minGain, double growthFactor, double shrinkFactor, long minRequests,
+                              Duration pressureCooldown, LongSupplier ticker) {
+        if (growthFactor <= 1 || shrinkFactor <= 0 || shrinkFactor >= 1) {
+            throw new IllegalArgumentException("Growth factor must be above 1 and shrink factor in (0, 1)");
+        }
+        this.minGain = minGain;
+        this.growthFactor = growthFactor;
+        this.shrinkFactor = shrinkFactor;
+        this.minRequests = minRequests;
+        this.pressureCooldownNanos = pressureCooldown.toNanos();
+        this.ticker = ticker;
+        this.sizings = new LinkedHashMap<>();
+        this.growthAllowedAt = ticker.getAsLong();
+    }
+
+    /**
+     * Puts a cache under the control of this controller. The cache must be resizable and record its statistics,
+     * e.g. be wrapped into an {@link ru.clevertec.newsservice.cache.InstrumentedCache}.
+     *
+     * @param name        the name of the cache.
+     * @param cache       the cache.
+     * @param minCapacity the capacity below which the cache is never shrunk.
+     * @param maxCapacity the capacity above which the cache never grows.
+     * @throws IllegalArgumentException if the cache cannot be resized.
+     */
+    public synchronized void register(String name, Cache<?, ?> cache, long minCapacity, long maxCapacity) {
+        if (cache.capacity() < 0) {
+            throw new IllegalArgumentException("Cache " + name + " cannot be resized");
+        }
+        sizings.put(name, new Sizing(cache, Math.max(1, minCapacity), Math.max(minCapacity, maxCapacity),
+                cache.stats()));
+    }
+
+    /**
+     * Measures the hit ratio of every cache since the previous call and grows the caches for which it pays off.
+     */
+    public synchronized void adjust() {
+        boolean growthAllowed = ticker.getAsLong() - growthAllowedAt >= 0;
+        sizings.forEach((name, sizing) -> adjust(name, sizing, growthAllowed));
+    }
+
+    /**
+     * Shrinks every cache by the shrink factor and suspends growth for the pressure cooldown.
+     */
+    public synchronized void onMemoryPressure() {
+        growthAllowedAt = ticker.getAsLong() + pressureCooldownNanos;
+        sizings.forEach((name, sizing) -> {
+            long capacity = sizing.cache.capacity();
+            long shrunk = Math.max(sizing.minCapacity, (long) (capacity * shrinkFactor));
+            if (shrunk < capacity) {
+                log.warn("Memory pressure, shrinking cache {} from {} to {}", name, capacity, shrunk);
+                sizing.cache.resize(shrunk);
+            }
+            sizing.growing = false;
+            sizing.stableRatio = Double.NaN;
+        });
+    }
+
+    /**
+     * Returns the current capacities of the controlled caches by name.
+     *
+     * @return the capacities by cache name.
+     */
+    public synchronized Map<String, Long> capacities() {
+        Map<String, Long> capacities = new LinkedHashMap<>();
+        sizings.forEach((name, sizing) -> capacities.put(name, sizing.cache.capacity()));
+        return capacities;
+    }
+
+    private void adjust(String name, Sizing sizing, boolean growthAllowed) {
+        CacheStats stats = sizing.cache.stats();
+        long hits = stats.hitCount() - sizing.lastStats.hitCount();
+        long requests = hits + stats.missCount() - sizing.lastStats.missCount();
+        if (requests < minRequests) {
+            return;
+        }
+        sizing.lastStats = stats;
+        double ratio = (double) hits / requests;
+        if (!sizing.growing) {
+            if (Double.isNaN(sizing.stableRatio)) {
+                sizing.stableRatio = ratio;
+            } else if (growthAllowed && sizing.stableRatio - ratio >= minGain) {
+                sizing.growing = true;
+                sizing.ratioBeforeGrowth = Double.NaN;
+            }
+        }
+        if (!sizing.growing) {
+            return;
+        }
+        boolean paidOff = Double.isNaN(sizing.ratioBeforeGrowth) || ratio - sizing.ratioBeforeGrowth >= minGain;
+        long capacity = sizing.cache.capacity();
+        long grown = Math.min(sizing.maxCapacity, Math.max(capacity + 1, (long) Math.ceil(capacity * growthFactor)));
+        if (!growthAllowed || !paidOff || grown <= capacity) {
+            sizing.growing = false;
+            sizing.stableRatio = ratio;
+            return;
+        }
+        log.debug("Hit ratio of cache {} is {}, growing it from {} to {}", name, ratio, capacity, grown);
+        sizing.ratioBeforeGrowth = ratio;
+        sizing.cache.resize(grown);
+    }
+
+    private static final class Sizing {
+
+        private final Cache<?, ?> cache;
+        private final long minCapacity;
+        private final long maxCapacity;
+        private CacheStats lastStats;
+        private boolean growing;
+        private double ratioBeforeGrowth;
+        private double stableRatio;
+
+        private Sizing(Cache<?, ?> cache, long minCapacity, long maxCapacity, CacheStats lastStats) {
+            this.cache = cache;
+            this.minCapacity = minCapacity;
+            this.maxCapacity = maxCapacity;
+            this.lastStats = lastStats;
+            this.growing = true;
+            this.ratioBeforeGrowth = Double.NaN;
+            this.stableRatio = Double.NaN;
+        }
+
+    }
+
+}
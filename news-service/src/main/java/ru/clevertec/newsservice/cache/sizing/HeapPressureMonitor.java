@@ -0,0 +1,131 @@
+package ru.clevertec.newsservice.cache.sizing;
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.ListenerNotFoundException;
+import javax.management.Notification;
+import javax.management.NotificationEmitter;
+import javax.management.NotificationListener;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The HeapPressureMonitor class reports memory pressure through the usage thresholds of the heap memory pools. It sets
+ * the usage threshold and, where supported, the collection usage threshold of every heap pool that has a maximum
+ * size, e.g. the old generation, to the specified fraction of that maximum, and runs its callbacks on every
+ * {@link MemoryNotificationInfo#MEMORY_THRESHOLD_EXCEEDED} and
+ * {@link MemoryNotificationInfo#MEMORY_COLLECTION_THRESHOLD_EXCEEDED} notification. The JVM sends a notification only
+ * when the usage crosses the threshold upwards, so a heap that stays full reports it once. Since the thresholds belong
+ * to the JVM, one monitor is shared by all callbacks, which are added with {@link #addListener(Runnable)}.
+ */
+@Slf4j
+public class HeapPressureMonitor implements NotificationListener {
+
+    private final double usageFraction;
+    private final List<Runnable> listeners;
+    private final List<MemoryPoolMXBean> pools;
+
+    /**
+     * Constructs a new HeapPressureMonitor.
+     *
+     * @param usageFraction the part of the maximum size of a heap pool, between 0 and 1, from which it is under
+     *                      pressure.
+     */
+    public HeapPressureMonitor(double usageFraction) {
+        if (usageFraction <= 0 || usageFraction >= 1) {
+            throw new IllegalArgumentException("Usage fraction must be in (0, 1): " + usageFraction);
+        }
+        this.usageFraction = usageFraction;
+        this.listeners = new CopyOnWriteArrayList<>();
+        this.pools = new ArrayList<>();
+    }
+
+    /**
+     * Adds a callback run on the notification thread of the JVM when a pool is under pressure, after the callbacks
+     * added before it.
+     *
+     * @param listener the callback.
+     */
+    public void addListener(Runnable listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a callback added with {@link #addListener(Runnable)}.
+     *
+     * @param listener the callback.
+     */
+    public void removeListener(Runnable listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Sets the thresholds of the heap pools and starts listening to their notifications, unless this monitor has
+     * already been started.
+     *
+     * @return the number of monitored pools.
+     */
+    public synchronized int start() {
+        if (!pools.isEmpty()) {
+            return pools.size();
+        }
+        for (MemoryPoolMXBean pool : ManagementFactory.getMemoryPoolMXBeans()) {
+            long max = pool.getUsage().getMax();
+            if (pool.getType() != MemoryType.HEAP || max <= 0 || !pool.isUsageThresholdSupported()) {
+                continue;
+            }
+            long threshold = (long) (max * usageFraction);
+            pool.setUsageThreshold(threshold);
+            if (pool.isCollectionUsageThresholdSupported()) {
+                pool.setCollectionUsageThreshold(threshold);
+            }
+            pools.add(pool);
+        }
+        if (!pools.isEmpty()) {
+            ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).addNotificationListener(this, null, null);
+        }
+        return pools.size();
+    }
+
+    /**
+     * Stops listening and clears the thresholds set by {@link #start()}.
+     */
+    public synchronized void stop() {
+        if (pools.isEmpty()) {
+            return;
+        }
+        try {
+            ((NotificationEmitter) ManagementFactory.getMemoryMXBean()).removeNotificationListener(this);
+        } catch (ListenerNotFoundException e) {
+            log.debug("Heap pressure listener was not registered", e);
+        }
+        for (MemoryPoolMXBean pool : pools) {
+            pool.setUsageThreshold(0);
+            if (pool.isCollectionUsageThresholdSupported()) {
+                pool.setCollectionUsageThreshold(0);
+            }
+        }
+        pools.clear();
+    }
+
+    @Override
+    public void handleNotification(Notification notification, Object handback) {
+        String type = notification.getType();
+        if (MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED.equals(type)
+            || MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED.equals(type)) {
+            for (Runnable listener : listeners) {
+                try {
+                    listener.run();
+                } catch (RuntimeException e) {
+                    log.warn("Memory pressure callback failed", e);
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,152 @@
+package ru.clevertec.newsservice.cache.snapshot;
+
+import com.google.protobuf.CodedInputStream;
+import com.google.protobuf.CodedOutputStream;
+import com.google.protobuf.ExtensionRegistryLite;
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import ru.clevertec.newsservice.cache.CacheEntry;
+import ru.clevertec.newsservice.dto.proto.CacheSnapshotEntry;
+import ru.clevertec.newsservice.dto.proto.CacheSnapshotHeader;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * The CacheSnapshotFile class writes and reads the entries of a cache of protobuf messages keyed by entity ids as a
+ * file of length-delimited protobuf records: one {@link CacheSnapshotHeader} followed by one
+ * {@link CacheSnapshotEntry} per entry, from the coldest to the hottest entry.
+ * <p>
+ * Both directions go through a memory-mapped file. The writer sizes the mapping up front, writes into a temporary file
+ * and moves it over the previous snapshot, so that a crash while writing never leaves a truncated snapshot behind.
+ * The reader parses the records straight from the mapping in batches, so the file is paged in as it is read and is
+ * never copied into the heap as a whole.
+ */
+public final class CacheSnapshotFile {
+
+    /**
+     * The version of the format, which is written to the header. Snapshots of other versions are not read.
+     */
+    public static final int VERSION = 1;
+
+    private final CacheSnapshotHeader header;
+    private final CodedInputStream input;
+    private int entriesRead;
+
+    private CacheSnapshotFile(CacheSnapshotHeader header, CodedInputStream input) {
+        this.header = header;
+        this.input = input;
+    }
+
+    /**
+     * Writes the entries to the snapshot file, replacing the previous snapshot.
+     *
+     * @param path      the path of the snapshot file.
+     * @param cacheName the name of the cache.
+     * @param entries   the entries from the coldest to the hottest.
+     * @param createdAt the time the snapshot is taken.
+     * @throws IOException if the file cannot be written.
+     */
+    public static void write(Path path, String cacheName, List<CacheEntry<Long, ? extends MessageLite>> entries,
+                             Instant createdAt) throws IOException {
+        CacheSnapshotHeader header = CacheSnapshotHeader.newBuilder()
+                .setVersion(VERSION)
+                .setCacheName(cacheName)
+                .setCreatedAt(createdAt.toEpochMilli())
+                .setEntryCount(entries.size())
+                .build();
+        List<CacheSnapshotEntry> records = new ArrayList<>(entries.size());
+        long size = CodedOutputStream.computeMessageSizeNoTag(header);
+        for (CacheEntry<Long, ? extends MessageLite> entry : entries) {
+            CacheSnapshotEntry record = CacheSnapshotEntry.newBuilder()
+                    .setKey(entry.key())
+                    .setValue(entry.value().toByteString())
+                    .setFrequency(entry.frequency())
+                    .build();
+            records.add(record);
+            size += CodedOutputStream.computeMessageSizeNoTag(record);
+        }
+        if (size > Integer.MAX_VALUE) {
+            throw new IOException("Cache snapshot of " + size + " bytes is too large to be mapped");
+        }
+        Path parent = path.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temporary = parent.resolve(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temporary, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            CodedOutputStream output = CodedOutputStream.newInstance(buffer);
+            output.writeMessageNoTag(header);
+            for (CacheSnapshotEntry record : records) {
+                output.writeMessageNoTag(record);
+            }
+            output.flush();
+            buffer.force();
+        }
+        Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Maps the snapshot file and reads its header. The entries are read by {@link #readEntries}.
+     *
+     * @param path the path of the snapshot file.
+     * @return the opened snapshot.
+     * @throws IOException if the file cannot be mapped or its header is malformed.
+     */
+    public static CacheSnapshotFile open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            CodedInputStream input = CodedInputStream.newInstance(buffer);
+            CacheSnapshotHeader header = input.readMessage(CacheSnapshotHeader.parser(),
+                    ExtensionRegistryLite.getEmptyRegistry());
+            return new CacheSnapshotFile(header, input);
+        }
+    }
+
+    /**
+     * Returns the header of the snapshot.
+     *
+     * @return the {@link CacheSnapshotHeader}.
+     */
+    public CacheSnapshotHeader header() {
+        return header;
+    }
+
+    /**
+     * Parses the entries of the snapshot and passes them to the consumer in batches of at most batchSize entries,
+     * in the order they were written.
+     *
+     * @param parser    the parser of the cached messages, e.g. {@code NewsResponse.parser()}.
+     * @param batchSize the maximum number of entries per batch.
+     * @param consumer  the consumer of the batches.
+     * @param <V>       the type of the cached messages.
+     * @throws IOException if an entry is malformed.
+     */
+    public <V extends MessageLite> void readEntries(Parser<V> parser, int batchSize,
+                                                    Consumer<List<CacheEntry<Long, V>>> consumer) throws IOException {
+        List<CacheEntry<Long, V>> batch = new ArrayList<>(batchSize);
+        while (entriesRead < header.getEntryCount() && !input.isAtEnd()) {
+            CacheSnapshotEntry record = input.readMessage(CacheSnapshotEntry.parser(),
+                    ExtensionRegistryLite.getEmptyRegistry());
+            entriesRead++;
+            batch.add(new CacheEntry<>(record.getKey(), parser.parseFrom(record.getValue()), record.getFrequency()));
+            if (batch.size() == batchSize) {
+                consumer.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            consumer.accept(batch);
+        }
+    }
+
+}
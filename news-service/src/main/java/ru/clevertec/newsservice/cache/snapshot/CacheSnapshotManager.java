@@ -0,0 +1,205 @@
+package ru.clevertec.newsservice.cache.snapshot;
+
+import com.google.protobuf.MessageLite;
+import com.google.protobuf.Parser;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.CacheEntry;
+import ru.clevertec.newsservice.cache.factory.CacheFactory;
+import ru.clevertec.newsservice.dto.proto.CacheSnapshotHeader;
+import ru.clevertec.newsservice.dto.proto.CommentResponse;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.repository.CommentRepository;
+import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.repository.projection.EntityTime;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The CacheSnapshotManager class keeps the in-process news and comment caches across restarts. On a graceful
+ * shutdown it writes the entries of every cache with their recency order and access frequencies to a
+ * {@link CacheSnapshotFile} in cache.snapshot.directory. At startup it restores the snapshot before the other
+ * {@link ApplicationRunner}s, so before the application reports that it accepts traffic, and deletes it.
+ * <p>
+ * A snapshot older than cache.snapshot.max-age is discarded as a whole. The other entries are read in batches of
+ * cache.snapshot.batch-size and restored only if the time of their last change still equals the time of the database
+ * row, which one query per batch reads without loading the entities. The times are compared to the microsecond,
+ * which is the precision PostgreSQL stores.
+ */
+@Slf4j
+@Component
+@Profile("dev")
+@RequiredArgsConstructor
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class CacheSnapshotManager implements ApplicationRunner {
+
+    private final CacheFactory<Object, Object> cacheFactory;
+    private final NewsRepository newsRepository;
+    private final CommentRepository commentRepository;
+
+    @Value("${cache.snapshot.enabled:false}")
+    private Boolean enabled;
+
+    @Value("${cache.snapshot.directory:${java.io.tmpdir}/news-service/cache-snapshots}")
+    private Path directory;
+
+    @Value("${cache.snapshot.max-age:10m}")
+    private Duration maxAge;
+
+    @Value("${cache.snapshot.batch-size:500}")
+    private Integer batchSize;
+
+    /**
+     * Restores the snapshots of the news and comment caches.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (Boolean.TRUE.equals(enabled)) {
+            restore("news", NewsResponse.parser(), NewsResponse::getTime, newsRepository::findTimesByIdIn);
+            restore("comment", CommentResponse.parser(), CommentResponse::getTime, commentRepository::findTimesByIdIn);
+        }
+    }
+
+    /**
+     * Writes the snapshots of the news and comment caches on shutdown.
+     */
+    @PreDestroy
+    public void save() {
+        if (Boolean.TRUE.equals(enabled)) {
+            cacheFactory.getCaches().forEach(this::save);
+        }
+    }
+
+    /**
+     * Restores the snapshot of one cache, skipping the entries whose time does not match the database.
+     *
+     * @param name   the name of the cache.
+     * @param parser the parser of the cached messages.
+     * @param timeOf the function that returns the time of the last change of a cached message.
+     * @param times  the query of the times of the last change by IDs.
+     * @param <V>    the type of the cached messages.
+     * @return the number of restored entries.
+     */
+    public <V extends MessageLite> int restore(String name, Parser<V> parser, Function<V, String> timeOf,
+                                               Function<Collection<Long>, List<EntityTime>> times) {
+        Path path = pathOf(name);
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        int[] restored = new int[1];
+        try {
+            CacheSnapshotFile snapshot = CacheSnapshotFile.open(path);
+            if (isUsable(snapshot.header(), name)) {
+                Cache<Object, Object> cache = cacheFactory.getCache(name);
+                snapshot.readEntries(parser, batchSize, batch -> restored[0] += restore(cache, batch, timeOf, times));
+            }
+            log.info("Restored {} entries of the {} cache from {}", restored[0], name, path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to restore the " + name + " cache from " + path, e);
+        } finally {
+            deleteQuietly(path);
+        }
+        return restored[0];
+    }
+
+    /**
+     * Writes the snapshot of one cache. Only the entries keyed by entity IDs with protobuf values are written.
+     *
+     * @param name  the name of the cache.
+     * @param cache the cache.
+     */
+    public void save(String name, Cache<Object, Object> cache) {
+        List<CacheEntry<Long, ? extends MessageLite>> entries = new ArrayList<>();
+        for (CacheEntry<Object, Object> entry : cache.entries()) {
+            if (entry.key() instanceof Long key && entry.value() instanceof MessageLite value) {
+                entries.add(new CacheEntry<>(key, value, entry.frequency()));
+            }
+        }
+        if (entries.isEmpty()) {
+            return;
+        }
+        Path path = pathOf(name);
+        try {
+            CacheSnapshotFile.write(path, name, entries, Instant.now());
+            log.info("Saved {} entries of the {} cache to {}", entries.size(), name, path);
+        } catch (IOException | RuntimeException e) {
+            log.warn("Failed to save the " + name + " cache to " + path, e);
+        }
+    }
+
+    private boolean isUsable(CacheSnapshotHeader header, String name) {
+        if (header.getVersion() != CacheSnapshotFile.VERSION || !name.equals(header.getCacheName())) {
+            log.info("Discarded the snapshot of the {} cache of version {}", name, header.getVersion());
+            return false;
+        }
+        Instant createdAt = Instant.ofEpochMilli(header.getCreatedAt());
+        if (createdAt.plus(maxAge).isBefore(Instant.now())) {
+            log.info("Discarded the snapshot of the {} cache taken at {}", name, createdAt);
+            return false;
+        }
+        return true;
+    }
+
+    private static <V extends MessageLite> int restore(Cache<Object, Object> cache, List<CacheEntry<Long, V>> batch,
+                                                       Function<V, String> timeOf,
+                                                       Function<Collection<Long>, List<EntityTime>> times) {
+        Map<Long, LocalDateTime> currentTimes = times.apply(batch.stream().map(CacheEntry::key).toList()).stream()
+                .collect(Collectors.toMap(EntityTime::getId, entityTime -> truncate(entityTime.getTime())));
+        List<CacheEntry<Object, Object>> fresh = batch.stream()
+                .filter(entry -> Objects.equals(currentTimes.get(entry.key()), parseTime(timeOf.apply(entry.value()))))
+                .map(entry -> new CacheEntry<Object, Object>(entry.key(), entry.value(), entry.frequency()))
+                .toList();
+        cache.restore(fresh);
+        return fresh.size();
+    }
+
+    private static LocalDateTime parseTime(String time) {
+        try {
+            return truncate(LocalDateTime.parse(time));
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private static LocalDateTime truncate(LocalDateTime time) {
+        return time == null ? null : time.truncatedTo(ChronoUnit.MICROS);
+    }
+
+    private Path pathOf(String name) {
+        return directory.resolve(name + ".snapshot");
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete " + path, e);
+        }
+    }
+
+}
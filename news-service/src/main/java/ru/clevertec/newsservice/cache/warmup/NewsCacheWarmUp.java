@@ -0,0 +1,212 @@
+package ru.clevertec.newsservice.cache.warmup;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.context.annotation.Profile;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+import ru.clevertec.newsservice.cache.jmx.CacheWarmUpMXBean;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.mapper.NewsMapper;
+import ru.clevertec.newsservice.model.News;
+import ru.clevertec.newsservice.repository.NewsRepository;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The NewsCacheWarmUp class loads the cache.warm-up.size most recent news into the news cache at application startup,
+ * so that the first requests after a deploy do not all miss. No more news are loaded than the capacity of the
+ * {@link WarmUpTarget}, and news that the cache already holds, e.g. from a restored snapshot, are neither mapped nor
+ * put again. The news are read in pages of cache.warm-up.batch-size by cache.warm-up.parallelism threads and mapped
+ * with {@link NewsMapper#toResponse}.
+ * <p>
+ * Spring Boot runs the {@link ApplicationRunner}s before it reports the application as ready to accept traffic, so
+ * the readiness state changes only after the warm-up completes or after cache.warm-up.timeout has passed. The duration
+ * of the last warm-up and the number of loaded entries are exposed through JMX under
+ * {@code ru.clevertec.newsservice:type=CacheWarmUp,name=news}.
+ */
+@Slf4j
+@Component
+@Profile({"dev", "prod"})
+@RequiredArgsConstructor
+public class NewsCacheWarmUp implements ApplicationRunner, CacheWarmUpMXBean {
+
+    private static final Sort MOST_RECENT = Sort.by(Sort.Order.desc("time"), Sort.Order.desc("id"));
+
+    private final NewsRepository newsRepository;
+    private final NewsMapper newsMapper;
+    private final WarmUpTarget warmUpTarget;
+    private final AtomicInteger entriesLoaded = new AtomicInteger();
+    private final AtomicInteger entriesSkipped = new AtomicInteger();
+    private volatile long durationMillis;
+    private volatile boolean completed;
+    private ObjectName objectName;
+
+    @Value("${cache.warm-up.enabled:true}")
+    private Boolean enabled;
+
+    @Value("${cache.warm-up.size:1000}")
+    private Integer size;
+
+    @Value("${cache.warm-up.batch-size:100}")
+    private Integer batchSize;
+
+    @Value("${cache.warm-up.parallelism:4}")
+    private Integer parallelism;
+
+    @Value("${cache.warm-up.timeout:30s}")
+    private Duration timeout;
+
+    /**
+     * Registers the MXBean of the warm-up, replacing the bean left by a previous application context.
+     *
+     * @throws JMException if the MXBean cannot be registered.
+     */
+    @PostConstruct
+    public void register() throws JMException {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        objectName = new ObjectName("ru.clevertec.newsservice:type=CacheWarmUp,name=news");
+        if (server.isRegistered(objectName)) {
+            server.unregisterMBean(objectName);
+        }
+        server.registerMBean(this, objectName);
+    }
+
+    /**
+     * Unregisters the MXBean of the warm-up.
+     */
+    @PreDestroy
+    public void unregister() {
+        try {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(objectName);
+        } catch (JMException e) {
+            log.warn("Failed to unregister " + objectName, e);
+        }
+    }
+
+    /**
+     * Loads the most recent news into the news cache, waiting at most cache.warm-up.timeout.
+     *
+     * @param args the application arguments.
+     */
+    @Override
+    public void run(ApplicationArguments args) {
+        if (Boolean.TRUE.equals(enabled) && size > 0) {
+            warmUp();
+        }
+    }
+
+    /**
+     * Loads the most recent news into the news cache, waiting at most cache.warm-up.timeout. Pages that are not
+     * loaded in time are cancelled and the warm-up is reported as not completed.
+     */
+    public void warmUp() {
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        entriesLoaded.set(0);
+        entriesSkipped.set(0);
+        completed = false;
+        long capacity = warmUpTarget.capacity();
+        int count = capacity < 0 ? size : (int) Math.min(size, capacity);
+        if (count <= 0) {
+            completed = true;
+            durationMillis = 0;
+            return;
+        }
+        int pageSize = Math.min(batchSize, count);
+        int pages = (count + pageSize - 1) / pageSize;
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, Math.min(parallelism, pages)), runnable -> {
+            Thread thread = new Thread(runnable, "news-cache-warm-up");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            List<Future<?>> futures = new ArrayList<>(pages);
+            for (int page = 0; page < pages; page++) {
+                int pageNumber = page;
+                futures.add(executor.submit(() -> loadPage(pageNumber, pageSize, count)));
+            }
+            completed = awaitAll(futures, deadline);
+        } finally {
+            executor.shutdownNow();
+            durationMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        }
+        if (completed) {
+            log.info("Cache warm-up loaded {} news in {} ms, {} news were already cached", entriesLoaded.get(),
+                    durationMillis, entriesSkipped.get());
+        } else {
+            log.warn("Cache warm-up stopped after {} ms with {} news loaded", durationMillis, entriesLoaded.get());
+        }
+    }
+
+    @Override
+    public long getDurationMillis() {
+        return durationMillis;
+    }
+
+    @Override
+    public long getEntriesLoaded() {
+        return entriesLoaded.get();
+    }
+
+    @Override
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    private void loadPage(int page, int pageSize, int count) {
+        int wanted = Math.min(pageSize, count - page * pageSize);
+        List<News> news = newsRepository.findAll(PageRequest.of(page, pageSize, MOST_RECENT)).getContent();
+        for (News entity : news.subList(0, Math.min(wanted, news.size()))) {
+            if (Thread.currentThread().isInterrupted()) {
+                return;
+            }
+            if (warmUpTarget.contains(entity.getId())) {
+                entriesSkipped.incrementAndGet();
+                continue;
+            }
+            NewsResponse response = newsMapper.toResponse(entity);
+            warmUpTarget.put(response.getId(), response);
+            entriesLoaded.incrementAndGet();
+        }
+    }
+
+    private static boolean awaitAll(List<Future<?>> futures, long deadline) {
+        boolean allDone = true;
+        for (Future<?> future : futures) {
+            try {
+                future.get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException | CancellationException e) {
+                allDone = false;
+            } catch (ExecutionException e) {
+                log.warn("Cache warm-up failed to load a page of news", e.getCause());
+                allDone = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+        return allDone;
+    }
+
+}
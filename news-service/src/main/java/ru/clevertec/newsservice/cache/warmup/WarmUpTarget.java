@@ -0,0 +1,38 @@
+package ru.clevertec.newsservice.cache.warmup;
+
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+
+/**
+ * The cache that {@link NewsCacheWarmUp} fills with the most recent news at application startup.
+ */
+@FunctionalInterface
+public interface WarmUpTarget {
+
+    /**
+     * Puts one news into the cache under its ID.
+     *
+     * @param id   the ID of the news.
+     * @param news the {@link NewsResponse} to cache.
+     */
+    void put(Long id, NewsResponse news);
+
+    /**
+     * Returns the maximum number of news the cache holds, which bounds the number of news worth loading.
+     *
+     * @return the capacity in entries, or -1 if the cache is not bounded by a number of entries.
+     */
+    default long capacity() {
+        return -1;
+    }
+
+    /**
+     * Returns true if the cache already holds the news, which is then neither mapped nor put again.
+     *
+     * @param id the ID of the news.
+     * @return true if the cache contains the news.
+     */
+    default boolean contains(Long id) {
+        return false;
+    }
+
+}
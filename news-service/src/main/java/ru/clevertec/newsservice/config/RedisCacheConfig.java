@@ -1,23 +1,112 @@
 package ru.clevertec.newsservice.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import ru.clevertec.exceptionhandlerstarter.exception.NoSuchCommentException;
+import ru.clevertec.exceptionhandlerstarter.exception.NoSuchNewsException;
+import ru.clevertec.newsservice.cache.ConcurrentLRUCache;
+import ru.clevertec.newsservice.cache.ExpiringCache;
+import ru.clevertec.newsservice.cache.Expiry;
+import ru.clevertec.newsservice.cache.GroupedCache;
+import ru.clevertec.newsservice.cache.NegativeCache;
+import ru.clevertec.newsservice.cache.QueryResultCache;
+import ru.clevertec.newsservice.cache.near.InvalidationMessageListener;
+import ru.clevertec.newsservice.cache.near.JitteredRedisCacheWriter;
+import ru.clevertec.newsservice.cache.near.NearCache;
+import ru.clevertec.newsservice.cache.near.NearCacheManager;
+import ru.clevertec.newsservice.cache.near.ProtobufRedisSerializer;
+import ru.clevertec.newsservice.cache.near.ProtobufRedisSerializer.MessageType;
+import ru.clevertec.newsservice.cache.near.RedisInvalidationPublisher;
+import ru.clevertec.newsservice.cache.near.RefreshAhead;
+import ru.clevertec.newsservice.cache.near.TtlAwareRedisCacheManager;
+import ru.clevertec.newsservice.cache.warmup.WarmUpTarget;
+import ru.clevertec.newsservice.dto.proto.CommentResponse;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.dto.proto.NewsWithCommentsResponse;
 
 import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
- * This class provides configuration for Redis caching in production mode.
+ * This class provides configuration for Redis caching in production mode. Every Redis cache is fronted by a small
+ * in-process cache, which other nodes invalidate through Redis pub/sub messages on their writes.
  */
 @Configuration
 @EnableCaching
 @Profile(value = "prod")
 public class RedisCacheConfig {
 
+    private static final Duration TTL = Duration.ofMinutes(30);
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${cache.near.capacity:1000}")
+    private Integer nearCacheCapacity;
+
+    @Value("${cache.near.channel:news-service:cache-invalidation}")
+    private String invalidationChannel;
+
+    @Value("${cache.single-flight.max-wait:5s}")
+    private Duration singleFlightMaxWait;
+
+    @Value("${cache.negative.capacity:1000}")
+    private Integer negativeCapacity;
+
+    @Value("${cache.negative.ttl:30s}")
+    private Duration negativeTtl;
+
+    @Value("${cache.query.capacity:200}")
+    private Integer queryCapacity;
+
+    @Value("${cache.query.ttl:1m}")
+    private Duration queryTtl;
+
+    @Value("${cache.news-with-comments.capacity:500}")
+    private Integer newsWithCommentsCapacity;
+
+    @Value("${cache.news-with-comments.ttl:10m}")
+    private Duration newsWithCommentsTtl;
+
+    @Value("${cache.redis.news-ttl:30m}")
+    private Duration newsTtl;
+
+    @Value("${cache.redis.comment-ttl:30m}")
+    private Duration commentTtl;
+
+    @Value("${cache.redis.compression-threshold:1024}")
+    private Integer compressionThreshold;
+
+    @Value("${cache.redis.ttl-jitter:0.1}")
+    private Double ttlJitter;
+
+    @Value("${cache.refresh-ahead.fraction:0.2}")
+    private Double refreshAheadFraction;
+
+    @Value("${cache.refresh-ahead.threads:2}")
+    private Integer refreshAheadThreads;
+
+    @Value("${cache.refresh-ahead.queue-capacity:100}")
+    private Integer refreshAheadQueueCapacity;
+
     /**
-     * Configures the Redis cache with a default time-to-live of 30 minutes and disables caching of null values.
+     * Configures the Redis cache with a default time-to-live of 30 minutes, disables caching of null values and
+     * stores the cached responses as tagged protobuf messages, deflated from cache.redis.compression-threshold bytes.
      *
      * @return {@link RedisCacheConfiguration}.
      */
@@ -25,7 +114,160 @@ public class RedisCacheConfig {
     public RedisCacheConfiguration redisCacheConfiguration() {
         return RedisCacheConfiguration.defaultCacheConfig()
                 .disableCachingNullValues()
-                .entryTtl(Duration.ofMinutes(30));
+                .serializeValuesWith(SerializationPair.fromSerializer(protobufRedisSerializer()))
+                .entryTtl(TTL);
+    }
+
+    /**
+     * Configures the serializer of the cached NewsResponse and CommentResponse messages. The tags are stored in Redis
+     * and must not change.
+     *
+     * @return {@link ProtobufRedisSerializer}.
+     */
+    @Bean
+    public ProtobufRedisSerializer protobufRedisSerializer() {
+        return new ProtobufRedisSerializer(compressionThreshold,
+                new MessageType<>(1, NewsResponse.class, NewsResponse.parser()),
+                new MessageType<>(2, CommentResponse.class, CommentResponse.parser()));
+    }
+
+    /**
+     * Configures the cache manager that puts a bounded in-process {@link ConcurrentLRUCache} of cache.near.capacity
+     * entries in front of every Redis cache. The news and comment caches live for cache.redis.news-ttl and
+     * cache.redis.comment-ttl, shortened in Redis by a random part of up to cache.redis.ttl-jitter, and the in-process
+     * entries expire with their Redis entries. Entries read in the last cache.refresh-ahead.fraction of their
+     * time-to-live in Redis are reloaded in the background. Concurrent misses of a key wait at most
+     * cache.single-flight.max-wait for a shared load, and ids of news and comments that do not exist are remembered for
+     * cache.negative.ttl.
+     *
+     * @param connectionFactory the Redis connection factory.
+     * @param redisTemplate     the template used to publish invalidations.
+     * @return {@link NearCacheManager}.
+     */
+    @Bean
+    public NearCacheManager cacheManager(RedisConnectionFactory connectionFactory, StringRedisTemplate redisTemplate) {
+        RedisCacheWriter cacheWriter = new JitteredRedisCacheWriter(
+                RedisCacheWriter.nonLockingRedisCacheWriter(connectionFactory), ttlJitter);
+        RedisCacheManager redisCacheManager = new TtlAwareRedisCacheManager(cacheWriter, connectionFactory,
+                redisCacheConfiguration(), Map.of(
+                "news", redisCacheConfiguration().entryTtl(newsTtl),
+                "comment", redisCacheConfiguration().entryTtl(commentTtl)));
+        redisCacheManager.initializeCaches();
+        return new NearCacheManager(redisCacheManager,
+                ttl -> new ExpiringCache<>(new ConcurrentLRUCache<>(nearCacheCapacity), Expiry.afterWrite(ttl)),
+                new RedisInvalidationPublisher(redisTemplate, invalidationChannel, nodeId),
+                singleFlightMaxWait,
+                () -> new NegativeCache<>(negativeCapacity, negativeTtl, RedisCacheConfig::isMissingEntity),
+                new RefreshAhead(refreshAheadFraction, refreshAheadExecutor()));
+    }
+
+    /**
+     * Configures the executor of the refresh-ahead reloads with cache.refresh-ahead.threads daemon threads and a queue
+     * of cache.refresh-ahead.queue-capacity reloads. Reloads beyond the queue are rejected and dropped, so a slow
+     * database cannot pile up reloads.
+     *
+     * @return {@link ThreadPoolExecutor}.
+     */
+    @Bean(destroyMethod = "shutdownNow")
+    public ThreadPoolExecutor refreshAheadExecutor() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(refreshAheadThreads, refreshAheadThreads,
+                30, TimeUnit.SECONDS, new ArrayBlockingQueue<>(refreshAheadQueueCapacity), runnable -> {
+            Thread thread = new Thread(runnable, "cache-refresh-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }, new ThreadPoolExecutor.AbortPolicy());
+        executor.allowCoreThreadTimeOut(true);
+        return executor;
+    }
+
+    /**
+     * Tells whether the loader failed because the news or comment does not exist. The exception of the loader reaches
+     * the near cache wrapped by Spring's cache interceptor, so the whole cause chain is searched.
+     *
+     * @param e the exception thrown by the load.
+     * @return true if the cause chain contains a NoSuchNewsException or a NoSuchCommentException.
+     */
+    static boolean isMissingEntity(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof NoSuchNewsException || cause instanceof NoSuchCommentException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Fills the news cache at startup without overwriting the news that Redis already holds, which also copies them
+     * into the in-process cache of this node. The other nodes are not invalidated, so their copies survive the start.
+     *
+     * @param cacheManager the cache manager of the news cache.
+     * @return {@link WarmUpTarget}.
+     */
+    @Bean
+    public WarmUpTarget newsWarmUpTarget(NearCacheManager cacheManager) {
+        NearCache newsCache = cacheManager.getCache("news");
+        return newsCache::putIfAbsent;
+    }
+
+    /**
+     * Configures the node-local cache of the news pages and searches, which holds at most cache.query.capacity
+     * results for cache.query.ttl. The results are dropped on the writes of news on this node and on the invalidations
+     * of the news cache received from the other nodes.
+     *
+     * @param cacheManager the cache manager that receives the invalidations of the other nodes.
+     * @return {@link QueryResultCache}.
+     */
+    @Bean
+    public QueryResultCache newsQueryCache(NearCacheManager cacheManager) {
+        QueryResultCache queryCache = new QueryResultCache("news", queryCapacity, queryTtl, singleFlightMaxWait);
+        cacheManager.addInvalidationListener((cacheName, key) -> {
+            if (queryCache.name().equals(cacheName)) {
+                queryCache.invalidateAll();
+            }
+        });
+        return queryCache;
+    }
+
+    /**
+     * Configures the node-local cache of the pages of comments of cache.news-with-comments.capacity news, which are
+     * kept for cache.news-with-comments.ttl. The pages of a news that this node invalidates or updates are published
+     * to the other nodes, which drop them as well as the pages of the news invalidated in their news cache.
+     *
+     * @param cacheManager  the cache manager that receives the invalidations of the other nodes.
+     * @param redisTemplate the template used to publish invalidations.
+     * @return {@link GroupedCache}.
+     */
+    @Bean
+    public GroupedCache<Long, NewsWithCommentsResponse> newsWithCommentsCache(NearCacheManager cacheManager,
+                                                                              StringRedisTemplate redisTemplate) {
+        RedisInvalidationPublisher publisher = new RedisInvalidationPublisher(redisTemplate, invalidationChannel, nodeId);
+        GroupedCache<Long, NewsWithCommentsResponse> newsWithCommentsCache = new GroupedCache<>("newsWithComments",
+                newsWithCommentsCapacity, newsWithCommentsTtl, newsId -> publisher.publish("newsWithComments", newsId));
+        cacheManager.addInvalidationListener((cacheName, key) -> {
+            if (key instanceof Long newsId
+                && ("news".equals(cacheName) || newsWithCommentsCache.name().equals(cacheName))) {
+                newsWithCommentsCache.invalidateLocal(newsId);
+            }
+        });
+        return newsWithCommentsCache;
+    }
+
+    /**
+     * Subscribes this node to the invalidations published by the other nodes.
+     *
+     * @param connectionFactory the Redis connection factory.
+     * @param cacheManager      the cache manager whose in-process caches are invalidated.
+     * @return {@link RedisMessageListenerContainer}.
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            NearCacheManager cacheManager) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(new InvalidationMessageListener(nodeId, cacheManager),
+                new ChannelTopic(invalidationChannel));
+        return container;
     }
 
 }
@@ -0,0 +1,27 @@
+package ru.clevertec.newsservice.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import ru.clevertec.newsservice.controller.openapi.CacheStatsOpenApi;
+import ru.clevertec.newsservice.dto.proto.CacheStatsResponseList;
+import ru.clevertec.newsservice.service.CacheStatsService;
+
+@RestController
+@Profile("dev")
+@RequiredArgsConstructor
+@RequestMapping(value = "/caches", produces = "application/json")
+public class CacheStatsController implements CacheStatsOpenApi {
+
+    private final CacheStatsService cacheStatsService;
+
+    @Override
+    @GetMapping("/stats")
+    public ResponseEntity<CacheStatsResponseList> findAll() {
+        return ResponseEntity.ok(cacheStatsService.findAll());
+    }
+
+}
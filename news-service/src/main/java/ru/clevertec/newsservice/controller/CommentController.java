@@ -26,6 +26,8 @@ import ru.clevertec.newsservice.dto.proto.NewsWithCommentsResponse;
 import ru.clevertec.newsservice.service.CommentService;
 import ru.clevertec.newsservice.util.ProtobufValidator;
 
+import java.util.List;
+
 @Loggable
 @RestController
 @RequiredArgsConstructor
@@ -40,6 +42,14 @@ public class CommentController implements CommentOpenApi {
         return ResponseEntity.ok(commentService.findById(id));
     }
 
+    @Override
+    @GetMapping(params = "ids")
+    public ResponseEntity<CommentResponseList> findAllByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(CommentResponseList.newBuilder()
+                .addAllComments(commentService.findAllByIds(ids))
+                .build());
+    }
+
     @Override
     @GetMapping("/news/{newsId}")
     public ResponseEntity<NewsWithCommentsResponse> findNewsByNewsIdWithComments(@PathVariable Long newsId,
@@ -24,6 +24,8 @@ import ru.clevertec.newsservice.dto.proto.NewsResponseList;
 import ru.clevertec.newsservice.service.NewsService;
 import ru.clevertec.newsservice.util.ProtobufValidator;
 
+import java.util.List;
+
 @Loggable
 @RestController
 @RequiredArgsConstructor
@@ -38,6 +40,14 @@ public class NewsController implements NewsOpenApi {
         return ResponseEntity.ok(newsService.findById(id));
     }
 
+    @Override
+    @GetMapping(params = "ids")
+    public ResponseEntity<NewsResponseList> findAllByIds(@RequestParam List<Long> ids) {
+        return ResponseEntity.ok(NewsResponseList.newBuilder()
+                .addAllNews(newsService.findAllByIds(ids))
+                .build());
+    }
+
     @Override
     @GetMapping
     public ResponseEntity<NewsResponseList> findAll(Pageable pageable) {
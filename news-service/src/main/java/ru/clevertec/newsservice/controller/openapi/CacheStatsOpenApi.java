@@ -0,0 +1,49 @@
+package ru.clevertec.newsservice.controller.openapi;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import ru.clevertec.newsservice.dto.proto.CacheStatsResponseList;
+
+@Tag(name = "Cache", description = "The Cache Statistics Api")
+public interface CacheStatsOpenApi {
+
+    @Operation(summary = "Find statistics of the news and comment caches.", tags = "Cache")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Cache statistics retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CacheStatsResponseList.class), examples = @ExampleObject("""
+                            {
+                              "caches": [
+                                {
+                                  "name": "news",
+                                  "size": "5",
+                                  "weightedSize": "5",
+                                  "capacity": "100",
+                                  "evictionWeight": "3",
+                                  "hitCount": "120",
+                                  "missCount": "8",
+                                  "hitRate": 0.9375,
+                                  "loadSuccessCount": "7",
+                                  "loadFailureCount": "1",
+                                  "averageLoadPenaltyNanos": 2431250.0,
+                                  "loadTimeHistogram": ["0", "0", "0", "0", "0", "0", "0", "0", "0", "0", "0", "3", "5"],
+                                  "evictionCounts": {
+                                    "SIZE": "3",
+                                    "EXPIRED": "0",
+                                    "MEMORY_PRESSURE": "0"
+                                  },
+                                  "staleWriteCount": "0"
+                                }
+                              ]
+                            }
+                            """)))
+    })
+    ResponseEntity<CacheStatsResponseList> findAll();
+
+}
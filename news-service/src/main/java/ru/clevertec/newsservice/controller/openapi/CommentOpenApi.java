@@ -11,6 +11,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -24,6 +25,8 @@ import ru.clevertec.newsservice.dto.proto.CommentWithNewsRequest;
 import ru.clevertec.newsservice.dto.proto.DeleteResponse;
 import ru.clevertec.newsservice.dto.proto.NewsWithCommentsResponse;
 
+import java.util.List;
+
 @Validated
 @Tag(name = "Comment", description = "The Comment Api")
 public interface CommentOpenApi {
@@ -68,6 +71,43 @@ public interface CommentOpenApi {
     })
     ResponseEntity<CommentResponse> findById(@Positive Long id);
 
+    @Operation(summary = "Find Comments by list of ids in one request.", tags = "Comment",
+            parameters = @Parameter(name = "ids", description = "Enter up to 40 ids here",
+                    schema = @Schema(type = "array", example = "[\"1\", \"2\"]")))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of Comments retrieved successfully, ids that do not " +
+                                                             "exist are skipped",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = CommentResponseList.class), examples = @ExampleObject("""
+                            {
+                              "comments": [
+                                {
+                                  "id": "1",
+                                  "time": "2023-06-14T10:31:00",
+                                  "text": "Wow! That's scary! I hope everyone is safe!",
+                                  "username": "LavaLover",
+                                  "email": "lavalover@gmail.com"
+                                }
+                              ]
+                            }
+                            """))),
+            @ApiResponse(responseCode = "409", description = "Validation error",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ValidationErrorResponse.class),
+                            examples = @ExampleObject("""
+                                    {
+                                      "error_code": "409 CONFLICT",
+                                      "violations": [
+                                        {
+                                          "field_name": "findAllByIds.ids",
+                                          "error_message": "size must be between 1 and 40"
+                                        }
+                                      ]
+                                    }
+                                    """)))
+    })
+    ResponseEntity<CommentResponseList> findAllByIds(@Size(min = 1, max = 40) List<@Positive Long> ids);
+
     @Operation(summary = "Find News by newsId with its Comments with pagination.", tags = "Comment", parameters = {
             @Parameter(name = "newsId", description = "Enter News id here", example = "19"),
             @Parameter(name = "page", description = "Enter your page number here", example = "1"),
@@ -12,6 +12,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.constraints.Positive;
+import jakarta.validation.constraints.Size;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
@@ -23,6 +24,8 @@ import ru.clevertec.newsservice.dto.proto.NewsRequest;
 import ru.clevertec.newsservice.dto.proto.NewsResponse;
 import ru.clevertec.newsservice.dto.proto.NewsResponseList;
 
+import java.util.List;
+
 @Validated
 @Tag(name = "News", description = "The News Api")
 public interface NewsOpenApi {
@@ -67,6 +70,43 @@ public interface NewsOpenApi {
     })
     ResponseEntity<NewsResponse> findById(@Positive Long id);
 
+    @Operation(summary = "Find News by list of ids in one request.", tags = "News",
+            parameters = @Parameter(name = "ids", description = "Enter up to 40 ids here",
+                    schema = @Schema(type = "array", example = "[\"1\", \"2\"]")))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "List of News retrieved successfully, ids that do not " +
+                                                             "exist are skipped",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = NewsResponseList.class), examples = @ExampleObject("""
+                            {
+                              "news": [
+                                {
+                                  "id": "1",
+                                  "time": "2023-06-14T10:30:00",
+                                  "title": "Breaking: Volcano erupts in Hawaii",
+                                  "text": "A massive volcanic eruption has occurred on the Big Island of Hawaii, spewing lava and ash into the air. The eruption was triggered by a series of earthquakes that rocked the island in the past few days. Authorities have issued evacuation orders for nearby residents and warned of possible tsunamis and landslides.",
+                                  "email": "reporter@news.com"
+                                }
+                              ]
+                            }
+                            """))),
+            @ApiResponse(responseCode = "409", description = "Validation error",
+                    content = @Content(mediaType = "application/json",
+                            schema = @Schema(implementation = ValidationErrorResponse.class),
+                            examples = @ExampleObject("""
+                                    {
+                                      "error_code": "409 CONFLICT",
+                                      "violations": [
+                                        {
+                                          "field_name": "findAllByIds.ids",
+                                          "error_message": "size must be between 1 and 40"
+                                        }
+                                      ]
+                                    }
+                                    """)))
+    })
+    ResponseEntity<NewsResponseList> findAllByIds(@Size(min = 1, max = 40) List<@Positive Long> ids);
+
     @Operation(summary = "Find all News with pagination.", tags = "News", parameters = {
             @Parameter(name = "page", description = "Enter your page number here", example = "1"),
             @Parameter(name = "size", description = "Enter your page size here", example = "5"),
@@ -0,0 +1,9 @@
+package ru.clevertec.newsservice.event;
+
+/**
+ * The CommentsChangedEvent record is published when a comment of a news is saved, updated or deleted.
+ *
+ * @param newsId the ID of the news whose comments changed.
+ */
+public record CommentsChangedEvent(Long newsId) {
+}
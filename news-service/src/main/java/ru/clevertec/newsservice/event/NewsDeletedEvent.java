@@ -0,0 +1,9 @@
+package ru.clevertec.newsservice.event;
+
+/**
+ * The NewsDeletedEvent record is published when a news is deleted together with its comments.
+ *
+ * @param newsId the ID of the deleted news.
+ */
+public record NewsDeletedEvent(Long newsId) {
+}
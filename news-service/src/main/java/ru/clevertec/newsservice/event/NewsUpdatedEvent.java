@@ -0,0 +1,11 @@
+package ru.clevertec.newsservice.event;
+
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+
+/**
+ * The NewsUpdatedEvent record is published when a news is updated.
+ *
+ * @param news the updated news.
+ */
+public record NewsUpdatedEvent(NewsResponse news) {
+}
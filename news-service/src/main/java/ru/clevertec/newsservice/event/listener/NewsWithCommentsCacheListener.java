@@ -0,0 +1,65 @@
+package ru.clevertec.newsservice.event.listener;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import ru.clevertec.newsservice.cache.GroupedCache;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.dto.proto.NewsWithCommentsResponse;
+import ru.clevertec.newsservice.event.CommentsChangedEvent;
+import ru.clevertec.newsservice.event.NewsDeletedEvent;
+import ru.clevertec.newsservice.event.NewsUpdatedEvent;
+import ru.clevertec.newsservice.mapper.CommentMapper;
+
+/**
+ * The NewsWithCommentsCacheListener class keeps the cached pages of a news with its comments consistent with their
+ * dependencies once the writes commit: a change of a comment drops only the pages of its news, an update of a news
+ * rewrites the news embedded in each of its pages and a deletion of a news drops its pages.
+ */
+@Slf4j
+@Component
+@Profile({"dev", "prod"})
+@RequiredArgsConstructor
+public class NewsWithCommentsCacheListener {
+
+    private final GroupedCache<Long, NewsWithCommentsResponse> newsWithCommentsCache;
+    private final CommentMapper commentMapper;
+
+    /**
+     * Drops the cached pages of the news whose comments changed.
+     *
+     * @param event the {@link CommentsChangedEvent}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCommentsChanged(CommentsChangedEvent event) {
+        newsWithCommentsCache.invalidateGroup(event.newsId());
+        log.debug("{} Group Cache invalidate: {}", newsWithCommentsCache.name(), event.newsId());
+    }
+
+    /**
+     * Replaces the news embedded in the cached pages of the updated news.
+     *
+     * @param event the {@link NewsUpdatedEvent}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsUpdated(NewsUpdatedEvent event) {
+        NewsResponse news = event.news();
+        newsWithCommentsCache.updateGroup(news.getId(),
+                page -> commentMapper.toNewsWithCommentsResponse(news, page.getCommentsList()));
+        log.debug("{} Group Cache update: {}", newsWithCommentsCache.name(), news.getId());
+    }
+
+    /**
+     * Drops the cached pages of the deleted news.
+     *
+     * @param event the {@link NewsDeletedEvent}.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onNewsDeleted(NewsDeletedEvent event) {
+        newsWithCommentsCache.invalidateGroup(event.newsId());
+        log.debug("{} Group Cache invalidate: {}", newsWithCommentsCache.name(), event.newsId());
+    }
+
+}
@@ -3,11 +3,15 @@ package ru.clevertec.newsservice.repository;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.clevertec.newsservice.model.Comment;
+import ru.clevertec.newsservice.repository.projection.EntityTime;
 
+import java.util.Collection;
 import java.util.List;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
     List<Comment> findAllByNewsId(Long newsId, Pageable pageable);
 
+    List<EntityTime> findTimesByIdIn(Collection<Long> ids);
+
 }
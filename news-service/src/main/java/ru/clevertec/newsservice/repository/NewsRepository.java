@@ -2,6 +2,13 @@ package ru.clevertec.newsservice.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import ru.clevertec.newsservice.model.News;
+import ru.clevertec.newsservice.repository.projection.EntityTime;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface NewsRepository extends JpaRepository<News, Long> {
+
+    List<EntityTime> findTimesByIdIn(Collection<Long> ids);
+
 }
@@ -0,0 +1,14 @@
+package ru.clevertec.newsservice.repository.projection;
+
+import java.time.LocalDateTime;
+
+/**
+ * The EntityTime interface is a projection of the ID and the time of the last change of a news or a comment.
+ */
+public interface EntityTime {
+
+    Long getId();
+
+    LocalDateTime getTime();
+
+}
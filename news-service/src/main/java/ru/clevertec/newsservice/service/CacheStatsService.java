@@ -0,0 +1,12 @@
+package ru.clevertec.newsservice.service;
+
+import ru.clevertec.newsservice.dto.proto.CacheStatsResponseList;
+
+/**
+ * The CacheStatsService interface provides the statistics of the application caches.
+ */
+public interface CacheStatsService {
+
+    CacheStatsResponseList findAll();
+
+}
@@ -8,6 +8,8 @@ import ru.clevertec.newsservice.dto.proto.CommentWithNewsRequest;
 import ru.clevertec.newsservice.dto.proto.DeleteResponse;
 import ru.clevertec.newsservice.dto.proto.NewsWithCommentsResponse;
 
+import java.util.List;
+
 /**
  * The CommentService interface provides the implementation for CRUD operations.
  */
@@ -15,6 +17,8 @@ public interface CommentService {
 
     CommentResponse findById(Long id);
 
+    List<CommentResponse> findAllByIds(List<Long> ids);
+
     NewsWithCommentsResponse findNewsByNewsIdWithComments(Long newsId, Pageable pageable);
 
     CommentResponseList findAllByMatchingTextParams(String text, String username, Pageable pageable);
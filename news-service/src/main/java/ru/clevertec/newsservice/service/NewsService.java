@@ -6,6 +6,8 @@ import ru.clevertec.newsservice.dto.proto.NewsRequest;
 import ru.clevertec.newsservice.dto.proto.NewsResponse;
 import ru.clevertec.newsservice.dto.proto.NewsResponseList;
 
+import java.util.List;
+
 /**
  * The NewsService interface provides the implementation for CRUD operations.
  */
@@ -13,6 +15,8 @@ public interface NewsService {
 
     NewsResponse findById(Long id);
 
+    List<NewsResponse> findAllByIds(List<Long> ids);
+
     NewsResponseList findAll(Pageable pageable);
 
     NewsResponseList findAllByMatchingTextParams(String title, String text, Pageable pageable);
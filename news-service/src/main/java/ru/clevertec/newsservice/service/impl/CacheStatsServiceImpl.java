@@ -0,0 +1,51 @@
+package ru.clevertec.newsservice.service.impl;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.stereotype.Service;
+import ru.clevertec.newsservice.cache.CacheStats;
+import ru.clevertec.newsservice.cache.factory.CacheFactory;
+import ru.clevertec.newsservice.dto.proto.CacheStatsResponse;
+import ru.clevertec.newsservice.dto.proto.CacheStatsResponseList;
+import ru.clevertec.newsservice.service.CacheStatsService;
+
+@Service
+@Profile("dev")
+@RequiredArgsConstructor
+public class CacheStatsServiceImpl implements CacheStatsService {
+
+    private final CacheFactory<Object, Object> cacheFactory;
+
+    /**
+     * Finds the statistics of all caches created by the {@link CacheFactory}.
+     *
+     * @return {@link CacheStatsResponseList} with the statistics of every cache.
+     */
+    @Override
+    public CacheStatsResponseList findAll() {
+        CacheStatsResponseList.Builder builder = CacheStatsResponseList.newBuilder();
+        cacheFactory.getCaches()
+                .forEach((name, cache) -> builder.addCaches(toResponse(name, cache.stats())));
+        return builder.build();
+    }
+
+    private static CacheStatsResponse toResponse(String name, CacheStats stats) {
+        CacheStatsResponse.Builder builder = CacheStatsResponse.newBuilder()
+                .setName(name)
+                .setSize(stats.size())
+                .setWeightedSize(stats.weightedSize())
+                .setCapacity(stats.capacity())
+                .setEvictionWeight(stats.evictionWeight())
+                .setStaleWriteCount(stats.staleWriteCount())
+                .setHitCount(stats.hitCount())
+                .setMissCount(stats.missCount())
+                .setHitRate(stats.hitRate())
+                .setLoadSuccessCount(stats.loadSuccessCount())
+                .setLoadFailureCount(stats.loadFailureCount())
+                .setAverageLoadPenaltyNanos(stats.averageLoadPenaltyNanos())
+                .addAllLoadTimeHistogram(stats.loadTimeHistogram());
+        stats.evictionCounts().forEach((cause, count) -> builder.putEvictionCounts(cause.name(), count));
+        return builder.build();
+    }
+
+}
@@ -4,13 +4,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.clevertec.exceptionhandlerstarter.exception.NoSuchCommentException;
+import ru.clevertec.newsservice.aop.annotation.GetAllCacheable;
 import ru.clevertec.newsservice.aop.annotation.GetCacheable;
+import ru.clevertec.newsservice.aop.annotation.GroupCacheable;
 import ru.clevertec.newsservice.aop.annotation.PutCacheable;
 import ru.clevertec.newsservice.aop.annotation.RemoveCacheable;
 import ru.clevertec.newsservice.dto.proto.CommentRequest;
@@ -22,6 +25,7 @@ import ru.clevertec.newsservice.dto.proto.NewsResponse;
 import ru.clevertec.newsservice.dto.proto.NewsWithCommentsResponse;
 import ru.clevertec.newsservice.dto.proto.Role;
 import ru.clevertec.newsservice.dto.proto.TokenValidationResponse;
+import ru.clevertec.newsservice.event.CommentsChangedEvent;
 import ru.clevertec.newsservice.mapper.CommentMapper;
 import ru.clevertec.newsservice.mapper.NewsMapper;
 import ru.clevertec.newsservice.model.Comment;
@@ -32,6 +36,10 @@ import ru.clevertec.newsservice.service.CommentService;
 import ru.clevertec.newsservice.service.NewsService;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * The CommentServiceImpl class implements CommentService and provides the implementation for CRUD operations.
@@ -46,6 +54,7 @@ public class CommentServiceImpl implements CommentService {
     private final NewsService newsService;
     private final NewsMapper newsMapper;
     private final AuthenticationService authenticationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Finds one {@link Comment} by ID.
@@ -55,14 +64,34 @@ public class CommentServiceImpl implements CommentService {
      * @throws NoSuchCommentException if Comment is not exists by finding it by ID.
      */
     @Override
-    @GetCacheable
-    @Cacheable(value = "comment")
+    @GetCacheable("comment")
+    @Cacheable(value = "comment", sync = true)
     public CommentResponse findById(Long id) {
         return commentRepository.findById(id)
                 .map(commentMapper::toResponse)
                 .orElseThrow(() -> new NoSuchCommentException("Comment with ID " + id + " does not exist"));
     }
 
+    /**
+     * Finds all {@link Comment}s with the specified IDs in a single query. The IDs that are already cached are not
+     * queried.
+     *
+     * @param ids the IDs of the Comments.
+     * @return the list of {@link CommentResponse} in the order of the IDs, without the IDs that do not exist.
+     */
+    @Override
+    @GetAllCacheable("comment")
+    public List<CommentResponse> findAllByIds(List<Long> ids) {
+        Map<Long, CommentResponse> responses = commentRepository.findAllById(ids).stream()
+                .map(commentMapper::toResponse)
+                .collect(Collectors.toMap(CommentResponse::getId, Function.identity()));
+        return ids.stream()
+                .distinct()
+                .map(responses::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * Finds {@link News} with {@link Comment}s and pagination.
      *
@@ -71,6 +100,7 @@ public class CommentServiceImpl implements CommentService {
      * @return {@link NewsWithCommentsResponse} that contains one News and its Comments.
      */
     @Override
+    @GroupCacheable("newsWithComments")
     public NewsWithCommentsResponse findNewsByNewsIdWithComments(Long newsId, Pageable pageable) {
         NewsResponse response = newsService.findById(newsId);
         List<CommentResponse> responses = commentMapper.toResponses(commentRepository.findAllByNewsId(newsId, pageable));
@@ -109,7 +139,7 @@ public class CommentServiceImpl implements CommentService {
      * @return the CommentResponse which was mapped from saved Comment entity.
      */
     @Override
-    @PutCacheable
+    @PutCacheable("comment")
     @Transactional
     @CachePut(value = "comment", key = "#result.getId()")
     public CommentResponse save(CommentWithNewsRequest commentWithNewsRequest, String token) {
@@ -120,6 +150,7 @@ public class CommentServiceImpl implements CommentService {
         comment.setEmail(response.getEmail());
         comment.setNews(news);
         Comment saved = commentRepository.save(comment);
+        eventPublisher.publishEvent(new CommentsChangedEvent(commentWithNewsRequest.getNewsId()));
         return commentMapper.toResponse(saved);
     }
 
@@ -133,7 +164,7 @@ public class CommentServiceImpl implements CommentService {
      * @throws NoSuchCommentException if Comment is not exists by finding it by ID.
      */
     @Override
-    @PutCacheable
+    @PutCacheable("comment")
     @Transactional
     @CachePut(value = "comment", key = "#result.getId()")
     public CommentResponse updateById(Long id, CommentRequest commentRequest, String token) {
@@ -146,6 +177,7 @@ public class CommentServiceImpl implements CommentService {
         comment.setUsername(commentRequest.getUsername());
         comment.setEmail(response.getEmail());
         Comment saved = commentRepository.saveAndFlush(comment);
+        eventPublisher.publishEvent(new CommentsChangedEvent(comment.getNews().getId()));
         return commentMapper.toResponse(saved);
     }
 
@@ -159,7 +191,7 @@ public class CommentServiceImpl implements CommentService {
      */
     @Override
     @Transactional
-    @RemoveCacheable
+    @RemoveCacheable("comment")
     @CacheEvict(value = "comment", key = "#id")
     public DeleteResponse deleteById(Long id, String token) {
         TokenValidationResponse response = authenticationService.checkTokenValidationForRole(token, Role.SUBSCRIBER);
@@ -168,6 +200,7 @@ public class CommentServiceImpl implements CommentService {
         authenticationService.isObjectOwnedByEmailAndRole(
                 response.getRole(), Role.SUBSCRIBER, response.getEmail(), comment.getEmail());
         commentRepository.delete(comment);
+        eventPublisher.publishEvent(new CommentsChangedEvent(comment.getNews().getId()));
         return DeleteResponse.newBuilder().setMessage("Comment with ID " + id + " was successfully deleted").build();
     }
 
@@ -4,14 +4,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.CachePut;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import ru.clevertec.exceptionhandlerstarter.exception.NoSuchNewsException;
+import ru.clevertec.newsservice.aop.annotation.GetAllCacheable;
 import ru.clevertec.newsservice.aop.annotation.GetCacheable;
 import ru.clevertec.newsservice.aop.annotation.PutCacheable;
+import ru.clevertec.newsservice.aop.annotation.QueryCacheable;
 import ru.clevertec.newsservice.aop.annotation.RemoveCacheable;
 import ru.clevertec.newsservice.dto.proto.DeleteResponse;
 import ru.clevertec.newsservice.dto.proto.NewsRequest;
@@ -19,6 +22,8 @@ import ru.clevertec.newsservice.dto.proto.NewsResponse;
 import ru.clevertec.newsservice.dto.proto.NewsResponseList;
 import ru.clevertec.newsservice.dto.proto.Role;
 import ru.clevertec.newsservice.dto.proto.TokenValidationResponse;
+import ru.clevertec.newsservice.event.NewsDeletedEvent;
+import ru.clevertec.newsservice.event.NewsUpdatedEvent;
 import ru.clevertec.newsservice.mapper.NewsMapper;
 import ru.clevertec.newsservice.model.News;
 import ru.clevertec.newsservice.repository.NewsRepository;
@@ -26,6 +31,10 @@ import ru.clevertec.newsservice.service.AuthenticationService;
 import ru.clevertec.newsservice.service.NewsService;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 /**
  * The NewsServiceImpl class implements NewsService and provides the implementation for CRUD operations.
@@ -38,6 +47,7 @@ public class NewsServiceImpl implements NewsService {
     private final NewsRepository newsRepository;
     private final NewsMapper newsMapper;
     private final AuthenticationService authenticationService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * Finds one {@link News} by ID.
@@ -47,14 +57,33 @@ public class NewsServiceImpl implements NewsService {
      * @throws NoSuchNewsException if News is not exists by finding it by ID.
      */
     @Override
-    @GetCacheable
-    @Cacheable(value = "news")
+    @GetCacheable("news")
+    @Cacheable(value = "news", sync = true)
     public NewsResponse findById(Long id) {
         return newsRepository.findById(id)
                 .map(newsMapper::toResponse)
                 .orElseThrow(() -> new NoSuchNewsException("News with ID " + id + " does not exist"));
     }
 
+    /**
+     * Finds all {@link News} with the specified IDs in a single query. The IDs that are already cached are not queried.
+     *
+     * @param ids the IDs of the News.
+     * @return the list of {@link NewsResponse} in the order of the IDs, without the IDs that do not exist.
+     */
+    @Override
+    @GetAllCacheable("news")
+    public List<NewsResponse> findAllByIds(List<Long> ids) {
+        Map<Long, NewsResponse> responses = newsRepository.findAllById(ids).stream()
+                .map(newsMapper::toResponse)
+                .collect(Collectors.toMap(NewsResponse::getId, Function.identity()));
+        return ids.stream()
+                .distinct()
+                .map(responses::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
     /**
      * Finds all {@link News} with pagination.
      *
@@ -62,6 +91,7 @@ public class NewsServiceImpl implements NewsService {
      * @return a sorted by pageable and mapped from entity to dto {@link NewsResponseList}.
      */
     @Override
+    @QueryCacheable("news")
     public NewsResponseList findAll(Pageable pageable) {
         List<NewsResponse> responses = newsMapper.toResponses(newsRepository.findAll(pageable));
         return NewsResponseList.newBuilder()
@@ -78,6 +108,7 @@ public class NewsServiceImpl implements NewsService {
      * @return sorted by pageable, filtered by ExampleMatcher and mapped from entity to dto {@link NewsResponseList}.
      */
     @Override
+    @QueryCacheable(value = "news", ignoreCase = true)
     public NewsResponseList findAllByMatchingTextParams(String title, String text, Pageable pageable) {
         News news = newsMapper.fromParams(title, text);
         ExampleMatcher exampleMatcher = ExampleMatcher.matchingAll()
@@ -100,7 +131,7 @@ public class NewsServiceImpl implements NewsService {
      * @return the NewsResponse which was mapped from saved News entity.
      */
     @Override
-    @PutCacheable
+    @PutCacheable("news")
     @Transactional
     @CachePut(value = "news", key = "#result.getId()")
     public NewsResponse save(NewsRequest newsRequest, String token) {
@@ -121,7 +152,7 @@ public class NewsServiceImpl implements NewsService {
      * @throws NoSuchNewsException if News is not exists by finding it by ID.
      */
     @Override
-    @PutCacheable
+    @PutCacheable("news")
     @Transactional
     @CachePut(value = "news", key = "#result.getId()")
     public NewsResponse updateById(Long id, NewsRequest newsRequest, String token) {
@@ -134,7 +165,9 @@ public class NewsServiceImpl implements NewsService {
         news.setText(newsRequest.getText());
         news.setEmail(response.getEmail());
         News saved = newsRepository.saveAndFlush(news);
-        return newsMapper.toResponse(saved);
+        NewsResponse updated = newsMapper.toResponse(saved);
+        eventPublisher.publishEvent(new NewsUpdatedEvent(updated));
+        return updated;
     }
 
     /**
@@ -147,7 +180,7 @@ public class NewsServiceImpl implements NewsService {
      */
     @Override
     @Transactional
-    @RemoveCacheable
+    @RemoveCacheable("news")
     @CacheEvict(value = "news", key = "#id")
     public DeleteResponse deleteById(Long id, String token) {
         TokenValidationResponse response = authenticationService.checkTokenValidationForRole(token, Role.JOURNALIST);
@@ -156,6 +189,7 @@ public class NewsServiceImpl implements NewsService {
         authenticationService.isObjectOwnedByEmailAndRole(
                 response.getRole(), Role.JOURNALIST, response.getEmail(), news.getEmail());
         newsRepository.delete(news);
+        eventPublisher.publishEvent(new NewsDeletedEvent(id));
         return DeleteResponse.newBuilder().setMessage("News with ID " + id + " was successfully deleted").build();
     }
 
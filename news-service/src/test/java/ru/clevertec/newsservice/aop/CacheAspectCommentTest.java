@@ -24,10 +24,10 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.doReturn;
 
 @ExtendWith(MockitoExtension.class)
-class CommentCacheAspectTest {
+class CacheAspectCommentTest {
 
     @InjectMocks
-    private CommentCacheAspect commentCacheAspect;
+    private CacheAspect cacheAspect;
     @Mock
     private CacheFactory<Object, Object> cacheFactory;
     @Mock
@@ -40,7 +40,7 @@ class CommentCacheAspectTest {
         cache = new LFUCache<>(3);
         cache.put(1L, CommentResponseTestBuilder.aCommentResponse().build());
         factory = new AspectJProxyFactory(commentService);
-        factory.addAspect(commentCacheAspect);
+        factory.addAspect(cacheAspect);
     }
 
     @Nested
@@ -54,7 +54,7 @@ class CommentCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createCommentCache();
+                    .getCache("comment");
 
             doReturn(expectedValue)
                     .when(commentService)
@@ -75,7 +75,7 @@ class CommentCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createCommentCache();
+                    .getCache("comment");
 
             doReturn(expectedValue)
                     .when(commentService)
@@ -96,7 +96,7 @@ class CommentCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createCommentCache();
+                    .getCache("comment");
 
             CommentService proxy = factory.getProxy();
 
@@ -113,7 +113,7 @@ class CommentCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createCommentCache();
+                    .getCache("comment");
 
             CommentService proxy = factory.getProxy();
 
@@ -136,7 +136,7 @@ class CommentCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createCommentCache();
+                    .getCache("comment");
 
             doReturn(expectedValue)
                     .when(commentService)
@@ -158,7 +158,7 @@ class CommentCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createCommentCache();
+                    .getCache("comment");
 
             doReturn(expectedValue)
                     .when(commentService)
@@ -187,7 +187,7 @@ class CommentCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createCommentCache();
+                    .getCache("comment");
 
             doReturn(expectedValue)
                     .when(commentService)
@@ -208,7 +208,7 @@ class CommentCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createCommentCache();
+                    .getCache("comment");
 
             CommentService proxy = factory.getProxy();
 
@@ -20,14 +20,19 @@ import ru.clevertec.newsservice.service.impl.NewsServiceImpl;
 import ru.clevertec.newsservice.util.testbuilder.news.NewsRequestTestBuilder;
 import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
-class NewsCacheAspectTest {
+class CacheAspectNewsTest {
 
     @InjectMocks
-    private NewsCacheAspect newsCacheAspect;
+    private CacheAspect cacheAspect;
     @Mock
     private CacheFactory<Object, Object> cacheFactory;
     @Mock
@@ -40,7 +45,7 @@ class NewsCacheAspectTest {
         cache = new LRUCache<>(3);
         cache.put(1L, NewsResponseTestBuilder.aNewsResponse().build());
         factory = new AspectJProxyFactory(newsService);
-        factory.addAspect(newsCacheAspect);
+        factory.addAspect(cacheAspect);
     }
 
     @Nested
@@ -54,7 +59,7 @@ class NewsCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createNewsCache();
+                    .getCache("news");
 
             doReturn(expectedValue)
                     .when(newsService)
@@ -75,7 +80,7 @@ class NewsCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createNewsCache();
+                    .getCache("news");
 
             doReturn(expectedValue)
                     .when(newsService)
@@ -96,7 +101,7 @@ class NewsCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createNewsCache();
+                    .getCache("news");
 
             NewsService proxy = factory.getProxy();
 
@@ -113,7 +118,7 @@ class NewsCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createNewsCache();
+                    .getCache("news");
 
             NewsService proxy = factory.getProxy();
 
@@ -122,6 +127,73 @@ class NewsCacheAspectTest {
             assertThat(cache.get(id)).isEqualTo(expectedValue);
         }
 
+        @Test
+        @DisplayName("test aspect should rethrow exception of service and not cache it")
+        void testAspectShouldRethrowExceptionOfServiceAndNotCacheIt() {
+            long id = 2L;
+            NewsResponse expectedValue = NewsResponseTestBuilder.aNewsResponse().withId(id).build();
+
+            doReturn(cache)
+                    .when(cacheFactory)
+                    .getCache("news");
+
+            doThrow(new IllegalStateException("Database is down"))
+                    .doReturn(expectedValue)
+                    .when(newsService)
+                    .findById(id);
+
+            NewsService proxy = factory.getProxy();
+
+            assertThrows(IllegalStateException.class, () -> proxy.findById(id));
+            NewsResponse actualValue = proxy.findById(id);
+
+            assertThat(actualValue).isEqualTo(expectedValue);
+        }
+
+    }
+
+    @Nested
+    class AroundGetAllCacheableAnnotationTest {
+
+        @Test
+        @DisplayName("test aspect should find only not cached ids in service")
+        void testAspectShouldFindOnlyNotCachedIdsInService() {
+            NewsResponse cachedValue = NewsResponseTestBuilder.aNewsResponse().build();
+            NewsResponse foundValue = NewsResponseTestBuilder.aNewsResponse().withId(2L).build();
+
+            doReturn(cache)
+                    .when(cacheFactory)
+                    .getCache("news");
+
+            doReturn(List.of(foundValue))
+                    .when(newsService)
+                    .findAllByIds(List.of(2L, 3L));
+
+            NewsService proxy = factory.getProxy();
+
+            List<NewsResponse> actualValues = proxy.findAllByIds(List.of(2L, 1L, 3L));
+
+            assertThat(actualValues).containsExactly(foundValue, cachedValue);
+            assertThat(cache.get(2L)).isEqualTo(foundValue);
+        }
+
+        @Test
+        @DisplayName("test aspect should not call service if all ids are cached")
+        void testAspectShouldNotCallServiceIfAllIdsAreCached() {
+            NewsResponse expectedValue = NewsResponseTestBuilder.aNewsResponse().build();
+
+            doReturn(cache)
+                    .when(cacheFactory)
+                    .getCache("news");
+
+            NewsService proxy = factory.getProxy();
+
+            List<NewsResponse> actualValues = proxy.findAllByIds(List.of(1L));
+
+            assertThat(actualValues).containsExactly(expectedValue);
+            verifyNoInteractions(newsService);
+        }
+
     }
 
     @Nested
@@ -136,7 +208,7 @@ class NewsCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createNewsCache();
+                    .getCache("news");
 
             doReturn(expectedValue)
                     .when(newsService)
@@ -158,7 +230,7 @@ class NewsCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createNewsCache();
+                    .getCache("news");
 
             doReturn(expectedValue)
                     .when(newsService)
@@ -187,7 +259,7 @@ class NewsCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createNewsCache();
+                    .getCache("news");
 
             doReturn(expectedValue)
                     .when(newsService)
@@ -208,7 +280,7 @@ class NewsCacheAspectTest {
 
             doReturn(cache)
                     .when(cacheFactory)
-                    .createNewsCache();
+                    .getCache("news");
 
             NewsService proxy = factory.getProxy();
 
@@ -0,0 +1,45 @@
+package ru.clevertec.newsservice.aop;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.dto.proto.CommentResponse;
+import ru.clevertec.newsservice.dto.proto.DeleteResponse;
+import ru.clevertec.newsservice.model.News;
+import ru.clevertec.newsservice.util.testbuilder.comment.CommentResponseTestBuilder;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeyExtractorsTest {
+
+    @Test
+    @DisplayName("test keyOf should return boxed primitive id of protobuf message")
+    void testKeyOfShouldReturnBoxedPrimitiveIdOfProtobufMessage() {
+        Object actualValue = KeyExtractors.keyOf(NewsResponseTestBuilder.aNewsResponse().withId(7L).build());
+
+        assertThat(actualValue).isEqualTo(7L);
+    }
+
+    @Test
+    @DisplayName("test keyOf should use extractor of the result type")
+    void testKeyOfShouldUseExtractorOfTheResultType() {
+        CommentResponse comment = CommentResponseTestBuilder.aCommentResponse().withId(3L).build();
+        News news = News.builder().id(5L).build();
+
+        assertThat(KeyExtractors.keyOf(comment)).isEqualTo(3L);
+        assertThat(KeyExtractors.keyOf(news)).isEqualTo(5L);
+        assertThat(KeyExtractors.keyOf(News.builder().build())).isNull();
+    }
+
+    @Test
+    @DisplayName("test keyOf should throw IllegalArgumentException if result has no getId")
+    void testKeyOfShouldThrowIllegalArgumentExceptionIfResultHasNoGetId() {
+        DeleteResponse result = DeleteResponse.newBuilder().setMessage("deleted").build();
+
+        assertThatThrownBy(() -> KeyExtractors.keyOf(result))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("getId()");
+    }
+
+}
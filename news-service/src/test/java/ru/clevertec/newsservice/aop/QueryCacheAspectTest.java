@@ -0,0 +1,107 @@
+package ru.clevertec.newsservice.aop;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import ru.clevertec.newsservice.cache.QueryResultCache;
+import ru.clevertec.newsservice.dto.proto.NewsRequest;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.dto.proto.NewsResponseList;
+import ru.clevertec.newsservice.service.NewsService;
+import ru.clevertec.newsservice.service.impl.NewsServiceImpl;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsRequestTestBuilder;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QueryCacheAspectTest {
+
+    @Mock
+    private NewsServiceImpl newsService;
+    private QueryResultCache queryCache;
+    private NewsService proxy;
+
+    @BeforeEach
+    void setUp() {
+        queryCache = new QueryResultCache("news", 10, Duration.ofMinutes(1), Duration.ofSeconds(1));
+        AspectJProxyFactory factory = new AspectJProxyFactory(newsService);
+        factory.addAspect(new QueryCacheAspect(List.of(queryCache)));
+        proxy = factory.getProxy();
+    }
+
+    @Test
+    @DisplayName("test aspect should return cached page without calling service")
+    void testAspectShouldReturnCachedPageWithoutCallingService() {
+        NewsResponseList expectedValue = NewsResponseList.newBuilder()
+                .addNews(NewsResponseTestBuilder.aNewsResponse().build())
+                .build();
+
+        doReturn(expectedValue)
+                .when(newsService)
+                .findAll(any());
+
+        proxy.findAll(PageRequest.of(0, 20, Sort.by("id")));
+        NewsResponseList actualValue = proxy.findAll(PageRequest.of(0, 20, Sort.by("id")));
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+        verify(newsService, times(1)).findAll(any());
+    }
+
+    @Test
+    @DisplayName("test aspect should cache search ignoring case of params")
+    void testAspectShouldCacheSearchIgnoringCaseOfParams() {
+        doReturn(NewsResponseList.getDefaultInstance())
+                .when(newsService)
+                .findAllByMatchingTextParams(any(), any(), any());
+
+        proxy.findAllByMatchingTextParams("Apple", null, PageRequest.of(0, 20));
+        proxy.findAllByMatchingTextParams("APPLE", null, PageRequest.of(0, 20));
+        proxy.findAllByMatchingTextParams("apple", "text", PageRequest.of(0, 20));
+
+        verify(newsService, times(2)).findAllByMatchingTextParams(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("test save should invalidate cached pages")
+    void testSaveShouldInvalidateCachedPages() {
+        NewsRequest request = NewsRequestTestBuilder.aNewsRequest().build();
+        NewsResponse saved = NewsResponseTestBuilder.aNewsResponse().build();
+
+        doReturn(NewsResponseList.getDefaultInstance())
+                .when(newsService)
+                .findAll(any());
+
+        doReturn(saved)
+                .when(newsService)
+                .save(request, "jwt");
+
+        proxy.findAll(PageRequest.of(0, 20));
+        proxy.save(request, "jwt");
+        proxy.findAll(PageRequest.of(0, 20));
+
+        verify(newsService, times(2)).findAll(any());
+    }
+
+    @Test
+    @DisplayName("test delete should invalidate cached pages")
+    void testDeleteShouldInvalidateCachedPages() {
+        proxy.deleteById(1L, "jwt");
+
+        assertThat(queryCache.generation()).isEqualTo(1);
+    }
+
+}
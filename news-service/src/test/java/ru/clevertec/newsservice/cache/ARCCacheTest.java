@@ -0,0 +1,168 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.CacheTraces;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ARCCacheTest {
+
+    private ARCCache<Long, NewsResponse> cache;
+    private static final NewsResponseTestBuilder TEST_BUILDER = NewsResponseTestBuilder.aNewsResponse();
+
+    @BeforeEach
+    void setUp() {
+        cache = new ARCCache<>(3);
+        cache.put(1L, TEST_BUILDER.build());
+        cache.put(2L, TEST_BUILDER.withId(2L).build());
+        cache.put(3L, TEST_BUILDER.withId(3L).build());
+    }
+
+    @Test
+    @DisplayName("test get method should return value by key")
+    void testGetMethodShouldReturnValueByKey() {
+        NewsResponse actualValue = cache.get(1L);
+
+        assertThat(actualValue).isEqualTo(TEST_BUILDER.build());
+    }
+
+    @Test
+    @DisplayName("test put method should evict least recently used entry seen once")
+    void testPutMethodShouldEvictLeastRecentlyUsedEntrySeenOnce() {
+        cache.get(1L);
+
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.evictionCounts()).containsEntry(EvictionCause.SIZE, 1L);
+    }
+
+    @Test
+    @DisplayName("test put method of ghost key from T1 should enlarge target of T1")
+    void testPutMethodOfGhostKeyFromT1ShouldEnlargeTargetOfT1() {
+        cache.get(1L);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        cache.put(2L, TEST_BUILDER.withId(2L).build());
+
+        assertThat(cache.targetRecencySize()).isEqualTo(1);
+        assertThat(cache.get(2L)).isEqualTo(TEST_BUILDER.withId(2L).build());
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("test put method should return old value of resident key")
+    void testPutMethodShouldReturnOldValueOfResidentKey() {
+        NewsResponse actualValue = cache.put(1L, TEST_BUILDER.withTitle("Updated").build());
+
+        assertThat(actualValue).isEqualTo(TEST_BUILDER.build());
+        assertThat(cache.get(1L).getTitle()).isEqualTo("Updated");
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return removed value")
+    void testRemoveByKeyMethodShouldReturnRemovedValue() {
+        NewsResponse actualValue = cache.removeByKey(1L);
+
+        assertThat(actualValue).isEqualTo(TEST_BUILDER.build());
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.size()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("test entries and restore methods should keep entries seen twice in T2")
+    void testEntriesAndRestoreMethodsShouldKeepEntriesSeenTwiceInT2() {
+        cache.get(2L);
+        ARCCache<Long, NewsResponse> restored = new ARCCache<>(3);
+
+        restored.restore(cache.entries());
+
+        assertThat(restored.entries()).extracting(CacheEntry::key).containsExactly(1L, 3L, 2L);
+        assertThat(restored.entries()).extracting(CacheEntry::frequency).containsExactly(1, 1, 2);
+    }
+
+    @Test
+    @DisplayName("test resize method should evict entries beyond new capacity")
+    void testResizeMethodShouldEvictEntriesBeyondNewCapacity() {
+        cache.get(3L);
+
+        cache.resize(1);
+
+        assertThat(cache.capacity()).isEqualTo(1);
+        assertThat(cache.entries()).extracting(CacheEntry::key).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("test put method should return null if capacity of cache <= 0")
+    void testPutMethodShouldReturnNullIfCapacityIsZero() {
+        ARCCache<Long, NewsResponse> emptyCache = new ARCCache<>(0);
+
+        emptyCache.put(1L, TEST_BUILDER.build());
+
+        assertThat(emptyCache.size()).isZero();
+    }
+
+    @Nested
+    class HitRatioTest {
+
+        private static final int CAPACITY = 500;
+        private static final long[] EVERGREEN = CacheTraces.zipfian(200_000, 5_000, 0.9, 7);
+        private static final long[] BREAKING_NEWS = CacheTraces.shift(EVERGREEN, 1_000_000);
+
+        @Test
+        @DisplayName("test ARC should beat LRU when hot stories are mixed with listing scans")
+        void testArcShouldBeatLruOnScans() {
+            long[] trace = CacheTraces.interleave(EVERGREEN, CacheTraces.scan(10_000, 100_000), 2);
+
+            double arc = CacheTraces.hitRatio(new ARCCache<>(CAPACITY), trace);
+            double lru = CacheTraces.hitRatio(new LRUCache<>(CAPACITY), trace);
+
+            assertThat(arc).isGreaterThan(lru);
+        }
+
+        @Test
+        @DisplayName("test ARC should beat LFU when new stories become popular")
+        void testArcShouldBeatLfuOnPopularityShift() {
+            long[] trace = CacheTraces.concat(EVERGREEN, BREAKING_NEWS);
+
+            double arc = CacheTraces.hitRatio(new ARCCache<>(CAPACITY), trace);
+            double lfu = CacheTraces.hitRatio(new LFUCache<>(CAPACITY), trace);
+
+            assertThat(arc).isGreaterThan(lfu);
+        }
+
+        @Test
+        @DisplayName("test ARC should beat both LRU and LFU when recency and frequency phases alternate")
+        void testArcShouldBeatLruAndLfuOnAlternatingPhases() {
+            long[] trace = CacheTraces.concat(
+                    CacheTraces.interleave(EVERGREEN, CacheTraces.scan(10_000, 100_000), 2),
+                    BREAKING_NEWS,
+                    CacheTraces.interleave(EVERGREEN, CacheTraces.scan(200_000, 100_000), 2));
+
+            double arc = CacheTraces.hitRatio(new ARCCache<>(CAPACITY), trace);
+            double lru = CacheTraces.hitRatio(new LRUCache<>(CAPACITY), trace);
+            double lfu = CacheTraces.hitRatio(new LFUCache<>(CAPACITY), trace);
+
+            assertThat(arc).isGreaterThan(Math.max(lru, lfu));
+        }
+
+        @Test
+        @DisplayName("test ARC should not lose to LRU and LFU on a stable Zipfian workload")
+        void testArcShouldNotLoseOnZipfian() {
+            double arc = CacheTraces.hitRatio(new ARCCache<>(CAPACITY), EVERGREEN);
+            double lru = CacheTraces.hitRatio(new LRUCache<>(CAPACITY), EVERGREEN);
+            double lfu = CacheTraces.hitRatio(new LFUCache<>(CAPACITY), EVERGREEN);
+
+            assertThat(arc).isGreaterThanOrEqualTo(Math.max(lru, lfu) - 0.01);
+        }
+
+    }
+
+}
@@ -0,0 +1,172 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.CacheTraces;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ClockCacheTest {
+
+    private ClockCache<Long, NewsResponse> cache;
+    private static final NewsResponseTestBuilder TEST_BUILDER = NewsResponseTestBuilder.aNewsResponse();
+
+    @BeforeEach
+    void setUp() {
+        cache = new ClockCache<>(3);
+        cache.put(1L, TEST_BUILDER.build());
+        cache.put(2L, TEST_BUILDER.withId(2L).build());
+        cache.put(3L, TEST_BUILDER.withId(3L).build());
+    }
+
+    @Test
+    @DisplayName("test get method should return value by key")
+    void testGetMethodShouldReturnValueByKey() {
+        NewsResponse actualValue = cache.get(1L);
+
+        assertThat(actualValue).isEqualTo(TEST_BUILDER.build());
+    }
+
+    @Test
+    @DisplayName("test put method should evict first entry not referenced since last sweep")
+    void testPutMethodShouldEvictFirstEntryNotReferencedSinceLastSweep() {
+        cache.get(1L);
+
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.get(2L)).isNull();
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.evictionCounts()).containsEntry(EvictionCause.SIZE, 1L);
+    }
+
+    @Test
+    @DisplayName("test put method should evict entry at hand if all entries are referenced")
+    void testPutMethodShouldEvictEntryAtHandIfAllEntriesAreReferenced() {
+        cache.get(1L);
+        cache.get(2L);
+        cache.get(3L);
+
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.entries()).extracting(CacheEntry::key).containsExactlyInAnyOrder(2L, 3L, 4L);
+    }
+
+    @Test
+    @DisplayName("test put method should return old value of resident key")
+    void testPutMethodShouldReturnOldValueOfResidentKey() {
+        NewsResponse actualValue = cache.put(1L, TEST_BUILDER.withTitle("Updated").build());
+
+        assertThat(actualValue).isEqualTo(TEST_BUILDER.build());
+        assertThat(cache.get(1L).getTitle()).isEqualTo("Updated");
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should free slot of removed entry")
+    void testRemoveByKeyMethodShouldFreeSlotOfRemovedEntry() {
+        NewsResponse actualValue = cache.removeByKey(2L);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(actualValue).isEqualTo(TEST_BUILDER.withId(2L).build());
+        assertThat(cache.entries()).extracting(CacheEntry::key).containsExactly(1L, 4L, 3L);
+        assertThat(cache.evictionCounts()).containsEntry(EvictionCause.SIZE, 0L);
+    }
+
+    @Test
+    @DisplayName("test entries and restore methods should keep reference bits")
+    void testEntriesAndRestoreMethodsShouldKeepReferenceBits() {
+        cache.get(2L);
+        ClockCache<Long, NewsResponse> restored = new ClockCache<>(3);
+
+        restored.restore(cache.entries());
+
+        assertThat(restored.entries()).extracting(CacheEntry::key).containsExactly(1L, 2L, 3L);
+        assertThat(restored.entries()).extracting(CacheEntry::frequency).containsExactly(1, 2, 1);
+    }
+
+    @Test
+    @DisplayName("test resize method should evict entries beyond new capacity")
+    void testResizeMethodShouldEvictEntriesBeyondNewCapacity() {
+        cache.get(3L);
+
+        cache.resize(1);
+        cache.resize(2);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.capacity()).isEqualTo(2);
+        assertThat(cache.entries()).extracting(CacheEntry::key).containsExactly(3L, 4L);
+    }
+
+    @Test
+    @DisplayName("test put method should return null if capacity of cache <= 0")
+    void testPutMethodShouldReturnNullIfCapacityIsZero() {
+        ClockCache<Long, NewsResponse> emptyCache = new ClockCache<>(0);
+
+        emptyCache.put(1L, TEST_BUILDER.build());
+
+        assertThat(emptyCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("test concurrent gets and puts should never exceed capacity")
+    void testConcurrentGetsAndPutsShouldNeverExceedCapacity() {
+        ClockCache<Long, Long> concurrentCache = new ClockCache<>(100);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            CompletableFuture.allOf(IntStream.range(0, 8)
+                    .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                        for (long i = 0; i < 10_000; i++) {
+                            long key = (i * 31 + thread) % 500;
+                            if (concurrentCache.get(key) == null) {
+                                concurrentCache.put(key, key);
+                            }
+                        }
+                    }, executor))
+                    .toArray(CompletableFuture[]::new)).join();
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(concurrentCache.size()).isEqualTo(100);
+        assertThat(concurrentCache.entries()).hasSize(100)
+                .allSatisfy(entry -> assertThat(entry.value()).isEqualTo(entry.key()));
+    }
+
+    @Nested
+    class HitRatioTest {
+
+        private static final int CAPACITY = 500;
+        private static final long[] EVERGREEN = CacheTraces.zipfian(200_000, 5_000, 0.9, 7);
+
+        @Test
+        @DisplayName("test CLOCK should stay close to LRU on a stable Zipfian workload")
+        void testClockShouldStayCloseToLruOnZipfian() {
+            double clock = CacheTraces.hitRatio(new ClockCache<>(CAPACITY), EVERGREEN);
+            double lru = CacheTraces.hitRatio(new LRUCache<>(CAPACITY), EVERGREEN);
+
+            assertThat(clock).isGreaterThanOrEqualTo(lru - 0.02);
+        }
+
+        @Test
+        @DisplayName("test CLOCK should stay close to LRU when hot stories are mixed with listing scans")
+        void testClockShouldStayCloseToLruOnScans() {
+            long[] trace = CacheTraces.interleave(EVERGREEN, CacheTraces.scan(10_000, 100_000), 2);
+
+            double clock = CacheTraces.hitRatio(new ClockCache<>(CAPACITY), trace);
+            double lru = CacheTraces.hitRatio(new LRUCache<>(CAPACITY), trace);
+
+            assertThat(clock).isGreaterThanOrEqualTo(lru - 0.02);
+        }
+
+    }
+
+}
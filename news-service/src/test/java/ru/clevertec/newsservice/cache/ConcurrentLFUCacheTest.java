@@ -0,0 +1,197 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentLFUCacheTest {
+
+    private Cache<Long, NewsResponse> cache;
+    private static final NewsResponseTestBuilder TEST_BUILDER = NewsResponseTestBuilder.aNewsResponse();
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConcurrentLFUCache<>(3);
+        cache.put(1L, TEST_BUILDER.build());
+        cache.put(2L, TEST_BUILDER.withId(2L)
+                .withTitle("All stand together")
+                .withText("Go go go go go go")
+                .build());
+        cache.put(3L, TEST_BUILDER.withId(3L)
+                .withTitle("Лето пришло")
+                .withText("На заславском водохранилище утонуло 10 человек")
+                .build());
+    }
+
+    @Test
+    @DisplayName("test get method should return value by key")
+    void testGetMethodShouldReturnValueByKey() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.get(1L);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test get method should return null when cache does not contain a value by key")
+    void testGetMethodShouldReturnNull() {
+        NewsResponse actualValue = cache.get(4L);
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test expected key should be removed from all maps")
+    void testExpectedKeyShouldBeRemovedFromAllMaps() {
+        NewsResponse expectedValue = TEST_BUILDER.withId(4L).build();
+        cache.put(4L, expectedValue);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(4L)).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test cache should remove value with less frequency")
+    void testCacheShouldRemoveValueWithLessFrequency() {
+        cache.get(1L);
+        cache.get(2L);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.get(3L)).isNull();
+
+        cache.put(5L, TEST_BUILDER.withId(5L).build());
+
+        assertThat(cache.get(4L)).isNull();
+    }
+
+    @Test
+    @DisplayName("test put method should return deleted value if cache contains expected key")
+    void testPutMethodShouldReturnDeletedValueIfCacheContainsExpectedKey() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.put(1L, TEST_BUILDER.withId(5L).build());
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test put method should return null if capacity of cache <= 0")
+    void testPutMethodShouldReturnNullIfCapacityIsLessOrEqualZero() {
+        cache = new ConcurrentLFUCache<>(0);
+        NewsResponse actualValue = cache.put(1L, TEST_BUILDER.build());
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return removed value")
+    void testRemoveByKeyShouldReturnRemovedValue() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.removeByKey(1L);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return null when cache does not contain a value by key")
+    void testRemoveByKeyMethodShouldReturnNull() {
+        NewsResponse actualValue = cache.removeByKey(4L);
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test put of existing key should count as an access")
+    void testPutOfExistingKeyShouldCountAsAccess() {
+        cache.put(1L, TEST_BUILDER.build());
+        cache.get(2L);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.get(3L)).isNull();
+        assertThat(cache.get(1L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("test cache should keep frequent keys after removing others")
+    void testCacheShouldKeepFrequentKeysAfterRemovingOthers() {
+        cache.get(3L);
+        cache.get(3L);
+        cache.removeByKey(1L);
+        cache.removeByKey(2L);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+        cache.put(5L, TEST_BUILDER.withId(5L).build());
+        cache.put(6L, TEST_BUILDER.withId(6L).build());
+
+        assertThat(cache.get(3L)).isNotNull();
+        assertThat(cache.get(4L)).isNull();
+    }
+
+    @Test
+    @DisplayName("test toString method should return capacity and size")
+    void testToStringMethodShouldReturnCapacityAndSize() {
+        String actualValue = cache.toString();
+
+        assertThat(actualValue).isEqualTo("ConcurrentLFUCache(capacity=3, size=3)");
+    }
+
+    @Test
+    @DisplayName("test entries method should return entries from the least to the most frequently used")
+    void testEntriesMethodShouldReturnEntriesFromLeastToMostFrequentlyUsed() {
+        cache.get(3L);
+        cache.get(3L);
+        cache.get(2L);
+
+        List<CacheEntry<Long, NewsResponse>> actualValue = cache.entries();
+
+        assertThat(actualValue).extracting(CacheEntry::key).containsExactly(1L, 2L, 3L);
+        assertThat(actualValue).extracting(CacheEntry::frequency).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("test restore method should restore frequencies")
+    void testRestoreMethodShouldRestoreFrequencies() {
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(3L);
+        Cache<Long, NewsResponse> restored = new ConcurrentLFUCache<>(3);
+
+        restored.restore(cache.entries());
+        restored.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(restored.entries()).extracting(CacheEntry::key).containsExactly(4L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("test resize method should evict least frequently used entries beyond new capacity")
+    void testResizeMethodShouldEvictLeastFrequentlyUsedEntriesBeyondNewCapacity() {
+        cache.get(3L);
+        cache.get(3L);
+        cache.get(2L);
+
+        cache.resize(1);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.capacity()).isEqualTo(1);
+        assertThat(cache.entries()).extracting(CacheEntry::key).containsExactly(4L);
+        assertThat(cache.evictionCounts()).containsEntry(EvictionCause.SIZE, 3L);
+    }
+
+    @Test
+    @DisplayName("test resize method should let cache grow beyond old capacity")
+    void testResizeMethodShouldLetCacheGrowBeyondOldCapacity() {
+        cache.resize(4);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.size()).isEqualTo(4);
+        assertThat(cache.get(1L)).isEqualTo(TEST_BUILDER.build());
+    }
+
+}
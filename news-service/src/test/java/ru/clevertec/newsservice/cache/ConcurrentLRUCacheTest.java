@@ -0,0 +1,241 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ConcurrentLRUCacheTest {
+
+    private Cache<Long, NewsResponse> cache;
+    private static final NewsResponseTestBuilder TEST_BUILDER = NewsResponseTestBuilder.aNewsResponse();
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConcurrentLRUCache<>(3);
+        cache.put(1L, TEST_BUILDER.build());
+        cache.put(2L, TEST_BUILDER.withId(2L)
+                .withTitle("All stand together")
+                .withText("Go go go go go go")
+                .build());
+        cache.put(3L, TEST_BUILDER.withId(3L)
+                .withTitle("Лето пришло")
+                .withText("На заславском водохранилище утонуло 10 человек")
+                .build());
+    }
+
+    @Test
+    @DisplayName("test get method should return value by key")
+    void testGetMethodShouldReturnValueByKey() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.get(1L);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test get method should return null when cache does not contain a value by key")
+    void testGetMethodShouldReturnNull() {
+        NewsResponse actualValue = cache.get(4L);
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test expected value should be removed")
+    void testExpectedValueShouldBeRemoved() {
+        NewsResponse expectedValue = TEST_BUILDER.withId(4L).build();
+        cache.put(4L, expectedValue);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(4L)).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test cache should remove value that first in the queue")
+    void testCacheShouldRemoveValueThatFirstInTheQueue() {
+        cache.get(1L);
+        cache.get(2L);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.get(3L)).isNull();
+
+        cache.put(5L, TEST_BUILDER.withId(5L).build());
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("test peek method should return value without moving it in the queue")
+    void testPeekMethodShouldReturnValueWithoutMovingItInTheQueue() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.peek(1L);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+        assertThat(cache.containsKey(1L)).isFalse();
+        assertThat(cache.containsKey(2L)).isTrue();
+    }
+
+    @Test
+    @DisplayName("test put method should return deleted value if cache contains expected key")
+    void testPutMethodShouldReturnDeletedValueIfCacheContainsExpectedKey() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.put(1L, TEST_BUILDER.withId(5L).build());
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test put method should return null if capacity of cache <= 0")
+    void testPutMethodShouldReturnNullIfCapacityIsLessOrEqualZero() {
+        cache = new ConcurrentLRUCache<>(0);
+        NewsResponse actualValue = cache.put(1L, TEST_BUILDER.build());
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return removed value")
+    void testRemoveByKeyShouldReturnRemovedValue() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.removeByKey(1L);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return null when cache does not contain a value by key")
+    void testRemoveByKeyMethodShouldReturnNull() {
+        NewsResponse actualValue = cache.removeByKey(4L);
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test toString method should return capacity and size")
+    void testToStringMethodShouldReturnCapacityAndSize() {
+        String actualValue = cache.toString();
+
+        assertThat(actualValue).isEqualTo("ConcurrentLRUCache(capacity=3, weightedSize=3, size=3, evictionCount=0)");
+    }
+
+    @Test
+    @DisplayName("test cache should not exceed capacity under concurrent gets and puts")
+    void testCacheShouldNotExceedCapacityUnderConcurrentGetsAndPuts() throws InterruptedException {
+        ConcurrentLRUCache<Long, NewsResponse> concurrentCache = new ConcurrentLRUCache<>(50);
+        NewsResponse value = TEST_BUILDER.build();
+        int threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch latch = new CountDownLatch(threads);
+        for (int i = 0; i < threads; i++) {
+            long offset = i * 1_000L;
+            executor.execute(() -> {
+                for (long key = 0; key < 1_000; key++) {
+                    concurrentCache.put(offset + key, value);
+                    concurrentCache.get(offset + key / 2);
+                    concurrentCache.get(key);
+                }
+                latch.countDown();
+            });
+        }
+        latch.await(10, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        assertThat(concurrentCache.size()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("test weighted cache should evict by total serialized size")
+    void testWeightedCacheShouldEvictByTotalSerializedSize() {
+        NewsResponse small = TEST_BUILDER.withText("short").build();
+        NewsResponse large = TEST_BUILDER.withText("long".repeat(500)).build();
+        long maximumWeight = large.getSerializedSize() + small.getSerializedSize();
+        ConcurrentLRUCache<Object, Object> weightedCache =
+                new ConcurrentLRUCache<>(maximumWeight, new MessageSizeWeigher());
+        weightedCache.put(1L, small);
+        weightedCache.put(2L, small);
+        weightedCache.put(3L, small);
+
+        assertThat(weightedCache.size()).isEqualTo(3);
+        assertThat(weightedCache.weightedSize()).isEqualTo(3L * small.getSerializedSize());
+
+        weightedCache.put(4L, large);
+
+        assertThat(weightedCache.size()).isEqualTo(2);
+        assertThat(weightedCache.get(3L)).isEqualTo(small);
+        assertThat(weightedCache.weightedSize()).isEqualTo(maximumWeight);
+        assertThat(weightedCache.evictionCount()).isEqualTo(2);
+        assertThat(weightedCache.evictionWeight()).isEqualTo(2L * small.getSerializedSize());
+    }
+
+    @Test
+    @DisplayName("test weighted cache should update weight when value is replaced")
+    void testWeightedCacheShouldUpdateWeightWhenValueIsReplaced() {
+        NewsResponse small = TEST_BUILDER.withText("short").build();
+        NewsResponse medium = TEST_BUILDER.withText("medium".repeat(10)).build();
+        ConcurrentLRUCache<Object, Object> weightedCache = new ConcurrentLRUCache<>(1_000, new MessageSizeWeigher());
+        weightedCache.put(1L, small);
+
+        weightedCache.put(1L, medium);
+
+        assertThat(weightedCache.weightedSize()).isEqualTo(medium.getSerializedSize());
+
+        weightedCache.removeByKey(1L);
+
+        assertThat(weightedCache.weightedSize()).isZero();
+        assertThat(weightedCache.evictionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("test entry heavier than capacity should not be cached nor evict other entries")
+    void testEntryHeavierThanCapacityShouldNotBeCachedNorEvictOtherEntries() {
+        ConcurrentLRUCache<Long, Integer> weightedCache = new ConcurrentLRUCache<>(100, (key, value) -> value);
+        for (long key = 1; key <= 9; key++) {
+            weightedCache.put(key, 10);
+        }
+        weightedCache.put(10L, 200);
+        weightedCache.put(1L, 200);
+
+        assertThat(weightedCache.get(10L)).isNull();
+        assertThat(weightedCache.get(1L)).isNull();
+        assertThat(weightedCache.size()).isEqualTo(8);
+        assertThat(weightedCache.weightedSize()).isEqualTo(80);
+        assertThat(weightedCache.evictionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("test resize method should evict least recently used entries beyond new capacity")
+    void testResizeMethodShouldEvictLeastRecentlyUsedEntriesBeyondNewCapacity() {
+        cache.get(1L);
+
+        cache.resize(2);
+
+        assertThat(cache.capacity()).isEqualTo(2);
+        assertThat(cache.entries()).extracting(CacheEntry::key).containsExactly(3L, 1L);
+        assertThat(cache.evictionCounts()).containsEntry(EvictionCause.SIZE, 1L);
+    }
+
+    @Test
+    @DisplayName("test resize method should let cache grow beyond old capacity")
+    void testResizeMethodShouldLetCacheGrowBeyondOldCapacity() {
+        cache.resize(4);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.size()).isEqualTo(4);
+        assertThat(cache.get(1L)).isEqualTo(TEST_BUILDER.build());
+    }
+
+}
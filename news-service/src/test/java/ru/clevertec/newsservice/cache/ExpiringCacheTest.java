@@ -0,0 +1,218 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExpiringCacheTest {
+
+    private Cache<Long, NewsResponse> delegate;
+    private AtomicLong ticker;
+    private static final NewsResponseTestBuilder TEST_BUILDER = NewsResponseTestBuilder.aNewsResponse();
+
+    @BeforeEach
+    void setUp() {
+        delegate = new LRUCache<>(3);
+        ticker = new AtomicLong();
+    }
+
+    @Test
+    @DisplayName("test get method should return value before it expires after write")
+    void testGetMethodShouldReturnValueBeforeItExpiresAfterWrite() {
+        Cache<Long, NewsResponse> cache = new ExpiringCache<>(delegate,
+                Expiry.afterWrite(Duration.ofMinutes(1)), ticker::get);
+        NewsResponse expectedValue = TEST_BUILDER.build();
+        cache.put(1L, expectedValue);
+
+        advance(Duration.ofSeconds(59));
+
+        assertThat(cache.get(1L)).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test get method should return null after value expires after write even if it was read")
+    void testGetMethodShouldReturnNullAfterValueExpiresAfterWrite() {
+        Cache<Long, NewsResponse> cache = new ExpiringCache<>(delegate,
+                Expiry.afterWrite(Duration.ofMinutes(1)), ticker::get);
+        cache.put(1L, TEST_BUILDER.build());
+
+        advance(Duration.ofSeconds(30));
+        cache.get(1L);
+        advance(Duration.ofSeconds(30));
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("test read should extend the lifetime of value with expire after access")
+    void testReadShouldExtendLifetimeOfValueWithExpireAfterAccess() {
+        Cache<Long, NewsResponse> cache = new ExpiringCache<>(delegate,
+                Expiry.afterAccess(Duration.ofMinutes(1)), ticker::get);
+        NewsResponse expectedValue = TEST_BUILDER.build();
+        cache.put(1L, expectedValue);
+
+        for (int i = 0; i < 5; i++) {
+            advance(Duration.ofSeconds(45));
+            assertThat(cache.get(1L)).isEqualTo(expectedValue);
+        }
+        advance(Duration.ofSeconds(61));
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("test expired values should be removed from delegate when timer wheel advances")
+    void testExpiredValuesShouldBeRemovedFromDelegate() {
+        Cache<Long, NewsResponse> cache = new ExpiringCache<>(delegate,
+                Expiry.afterWrite(Duration.ofMinutes(5)), ticker::get);
+        cache.put(1L, TEST_BUILDER.build());
+        cache.put(2L, TEST_BUILDER.withId(2L).build(), Expiry.afterWrite(Duration.ofHours(2)));
+
+        advance(Duration.ofMinutes(10));
+        cache.put(3L, TEST_BUILDER.withId(3L).build());
+
+        assertThat(delegate.get(1L)).isNull();
+        assertThat(delegate.get(2L)).isNotNull();
+
+        advance(Duration.ofHours(3));
+        cache.put(4L, TEST_BUILDER.withId(4L).build(), Expiry.NEVER);
+
+        assertThat(delegate.get(2L)).isNull();
+        assertThat(delegate.get(3L)).isNull();
+        assertThat(delegate.get(4L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("test put method should reset the expiration of existing value")
+    void testPutMethodShouldResetExpirationOfExistingValue() {
+        Cache<Long, NewsResponse> cache = new ExpiringCache<>(delegate,
+                Expiry.afterWrite(Duration.ofMinutes(1)), ticker::get);
+        NewsResponse expectedValue = TEST_BUILDER.withId(5L).build();
+        cache.put(1L, TEST_BUILDER.build());
+
+        advance(Duration.ofSeconds(50));
+        NewsResponse oldValue = cache.put(1L, expectedValue);
+        advance(Duration.ofSeconds(50));
+
+        assertThat(oldValue).isEqualTo(TEST_BUILDER.build());
+        assertThat(cache.get(1L)).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return removed value")
+    void testRemoveByKeyShouldReturnRemovedValue() {
+        Cache<Long, NewsResponse> cache = new ExpiringCache<>(delegate,
+                Expiry.afterWrite(Duration.ofMinutes(1)), ticker::get);
+        NewsResponse expectedValue = TEST_BUILDER.build();
+        cache.put(1L, expectedValue);
+
+        NewsResponse actualValue = cache.removeByKey(1L);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("test value put with NEVER expiry should not expire")
+    void testValuePutWithNeverExpiryShouldNotExpire() {
+        Cache<Long, NewsResponse> cache = new ExpiringCache<>(delegate, Expiry.NEVER, ticker::get);
+        NewsResponse expectedValue = TEST_BUILDER.build();
+        cache.put(1L, expectedValue);
+
+        advance(Duration.ofDays(30));
+
+        assertThat(cache.get(1L)).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test entries method should leave out expired entries")
+    void testEntriesMethodShouldLeaveOutExpiredEntries() {
+        Cache<Long, NewsResponse> cache = new ExpiringCache<>(delegate,
+                Expiry.afterWrite(Duration.ofMinutes(1)), ticker::get);
+        cache.put(1L, TEST_BUILDER.build());
+        advance(Duration.ofSeconds(30));
+        cache.put(2L, TEST_BUILDER.withId(2L).build());
+
+        advance(Duration.ofSeconds(45));
+
+        assertThat(cache.entries()).extracting(CacheEntry::key).containsExactly(2L);
+    }
+
+    @Test
+    @DisplayName("test restore method should expire restored entries after write counting from now")
+    void testRestoreMethodShouldExpireRestoredEntriesCountingFromNow() {
+        Cache<Long, NewsResponse> cache = new ExpiringCache<>(delegate,
+                Expiry.afterWrite(Duration.ofMinutes(1)), ticker::get);
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        cache.restore(List.of(new CacheEntry<>(1L, expectedValue, 1)));
+        advance(Duration.ofSeconds(59));
+        NewsResponse beforeExpiry = cache.get(1L);
+        advance(Duration.ofSeconds(2));
+
+        assertThat(beforeExpiry).isEqualTo(expectedValue);
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("test restore method should not arm timers for entries the delegate did not keep")
+    void testRestoreMethodShouldNotArmTimersForEntriesTheDelegateDidNotKeep() {
+        ExpiringCache<Long, NewsResponse> cache = new ExpiringCache<>(delegate,
+                Expiry.afterWrite(Duration.ofMinutes(1)), ticker::get);
+
+        cache.restore(LongStream.rangeClosed(1, 5)
+                .mapToObj(id -> new CacheEntry<>(id, TEST_BUILDER.withId(id).build(), 1))
+                .toList());
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.timerCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("test timers of entries evicted by delegate should be bounded by its capacity")
+    void testTimersOfEntriesEvictedByDelegateShouldBeBoundedByItsCapacity() {
+        ExpiringCache<Long, NewsResponse> cache = new ExpiringCache<>(delegate,
+                Expiry.afterWrite(Duration.ofMinutes(30)), ticker::get);
+
+        for (long id = 1; id <= 1_000; id++) {
+            cache.put(id, TEST_BUILDER.withId(id).build());
+        }
+
+        assertThat(cache.size()).isEqualTo(3);
+        assertThat(cache.timerCount()).isLessThanOrEqualTo(64);
+        advance(Duration.ofMinutes(31));
+        cache.put(1_001L, TEST_BUILDER.withId(1_001L).build());
+        assertThat(cache.entries()).extracting(CacheEntry::key).containsExactly(1_001L);
+    }
+
+    @Test
+    @DisplayName("test peek method should not extend the lifetime of value with expire after access")
+    void testPeekMethodShouldNotExtendLifetimeOfValueWithExpireAfterAccess() {
+        Cache<Long, NewsResponse> cache = new ExpiringCache<>(new ConcurrentLRUCache<>(3),
+                Expiry.afterAccess(Duration.ofMinutes(1)), ticker::get);
+        NewsResponse expectedValue = TEST_BUILDER.build();
+        cache.put(1L, expectedValue);
+
+        advance(Duration.ofSeconds(45));
+        NewsResponse peeked = cache.peek(1L);
+        advance(Duration.ofSeconds(20));
+
+        assertThat(peeked).isEqualTo(expectedValue);
+        assertThat(cache.peek(1L)).isNull();
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    private void advance(Duration duration) {
+        ticker.addAndGet(duration.toNanos());
+    }
+
+}
@@ -0,0 +1,105 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GroupedCacheTest {
+
+    private AtomicInteger loads;
+    private List<Long> published;
+    private GroupedCache<Long, String> groupedCache;
+
+    @BeforeEach
+    void setUp() {
+        loads = new AtomicInteger();
+        published = new ArrayList<>();
+        groupedCache = new GroupedCache<>("newsWithComments", 10, Duration.ofMinutes(1), published::add);
+    }
+
+    @Test
+    @DisplayName("test get should load equal keys of a group once")
+    void testGetShouldLoadEqualKeysOfGroupOnce() {
+        String first = groupedCache.get(1L, "0:20:UNSORTED", this::load);
+        String second = groupedCache.get(1L, "0:20:UNSORTED", this::load);
+
+        assertThat(first).isEqualTo("result 1");
+        assertThat(second).isEqualTo("result 1");
+    }
+
+    @Test
+    @DisplayName("test invalidateGroup should drop only the results of the group")
+    void testInvalidateGroupShouldDropOnlyResultsOfGroup() {
+        groupedCache.get(1L, "page", this::load);
+        groupedCache.get(2L, "page", this::load);
+
+        groupedCache.invalidateGroup(1L);
+
+        assertThat(groupedCache.get(1L, "page", this::load)).isEqualTo("result 3");
+        assertThat(groupedCache.get(2L, "page", this::load)).isEqualTo("result 2");
+        assertThat(published).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("test invalidateLocal should not notify publisher")
+    void testInvalidateLocalShouldNotNotifyPublisher() {
+        groupedCache.get(1L, "page", this::load);
+
+        groupedCache.invalidateLocal(1L);
+
+        assertThat(groupedCache.get(1L, "page", this::load)).isEqualTo("result 2");
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("test updateGroup should rewrite every result of the group")
+    void testUpdateGroupShouldRewriteEveryResultOfGroup() {
+        groupedCache.get(1L, "first", this::load);
+        groupedCache.get(1L, "second", this::load);
+
+        groupedCache.updateGroup(1L, value -> value + " updated");
+
+        assertThat(groupedCache.get(1L, "first", this::load)).isEqualTo("result 1 updated");
+        assertThat(groupedCache.get(1L, "second", this::load)).isEqualTo("result 2 updated");
+        assertThat(loads).hasValue(2);
+        assertThat(published).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("test result of load running during invalidateGroup should not be reused")
+    void testResultOfLoadRunningDuringInvalidateGroupShouldNotBeReused() {
+        groupedCache.get(1L, "page", () -> {
+            groupedCache.invalidateGroup(1L);
+            return load();
+        });
+
+        String actualValue = groupedCache.get(1L, "page", this::load);
+
+        assertThat(actualValue).isEqualTo("result 2");
+    }
+
+    @Test
+    @DisplayName("test get should not cache more results per group than the limit")
+    void testGetShouldNotCacheMoreResultsPerGroupThanLimit() {
+        IntStream.range(0, GroupedCache.MAX_ENTRIES_PER_GROUP)
+                .forEach(page -> groupedCache.get(1L, page, this::load));
+
+        groupedCache.get(1L, "overflow", this::load);
+        String actualValue = groupedCache.get(1L, "overflow", this::load);
+
+        assertThat(actualValue).isEqualTo("result " + (GroupedCache.MAX_ENTRIES_PER_GROUP + 2));
+    }
+
+    private String load() {
+        return "result " + loads.incrementAndGet();
+    }
+
+}
@@ -0,0 +1,133 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class InstrumentedCacheTest {
+
+    private AtomicLong ticker;
+    private InstrumentedCache<Long, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        ticker = new AtomicLong();
+        cache = new InstrumentedCache<>(new ExpiringCache<>(new ConcurrentLRUCache<>(2),
+                Expiry.afterWrite(Duration.ofSeconds(10)), ticker::get));
+    }
+
+    @Test
+    @DisplayName("test stats should count hits and misses")
+    void testStatsShouldCountHitsAndMisses() {
+        cache.put(1L, "one");
+
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.hitCount()).isEqualTo(2);
+        assertThat(stats.missCount()).isEqualTo(1);
+        assertThat(stats.hitRate()).isEqualTo(2.0 / 3);
+        assertThat(stats.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test stats should report weight and capacity of weighted cache under decorators")
+    void testStatsShouldReportWeightAndCapacityOfWeightedCacheUnderDecorators() {
+        Cache<Long, String> weightedCache = new InstrumentedCache<>(new VersionedCache<>(new ExpiringCache<>(
+                new ConcurrentLRUCache<>(10, (Long key, String value) -> value.length()),
+                Expiry.afterWrite(Duration.ofSeconds(10)), ticker::get), String::length));
+        weightedCache.put(1L, "four");
+        weightedCache.put(2L, "five5");
+        weightedCache.put(3L, "six");
+
+        CacheStats stats = weightedCache.stats();
+        assertThat(stats.size()).isEqualTo(2);
+        assertThat(stats.weightedSize()).isEqualTo(8);
+        assertThat(stats.capacity()).isEqualTo(10);
+        assertThat(stats.evictionWeight()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("test get with loader should record loads and cache loaded value")
+    void testGetWithLoaderShouldRecordLoadsAndCacheLoadedValue() {
+        String first = cache.get(1L, key -> "one");
+        String second = cache.get(1L, key -> "other");
+
+        CacheStats stats = cache.stats();
+        assertThat(first).isEqualTo("one");
+        assertThat(second).isEqualTo("one");
+        assertThat(stats.loadSuccessCount()).isEqualTo(1);
+        assertThat(stats.loadTimeHistogram()).hasSize(32);
+        assertThat(stats.loadTimeHistogram().stream().mapToLong(Long::longValue).sum()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test getAll should load only missing keys at once and keep order of keys")
+    void testGetAllShouldLoadOnlyMissingKeysAtOnceAndKeepOrderOfKeys() {
+        List<Set<Long>> loads = new ArrayList<>();
+        cache.put(2L, "two");
+
+        Map<Long, String> actualValue = cache.getAll(List.of(3L, 2L, 1L, 4L), missingKeys -> {
+            loads.add(missingKeys);
+            return Map.of(1L, "one", 3L, "three");
+        });
+
+        CacheStats stats = cache.stats();
+        assertThat(actualValue).containsExactly(Map.entry(3L, "three"), Map.entry(2L, "two"), Map.entry(1L, "one"));
+        assertThat(loads).containsExactly(Set.of(3L, 1L, 4L));
+        assertThat(cache.getAll(List.of(1L, 3L))).containsOnlyKeys(1L, 3L);
+        assertThat(stats.hitCount()).isEqualTo(1);
+        assertThat(stats.missCount()).isEqualTo(3);
+        assertThat(stats.loadSuccessCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test failed load should be recorded and not cached")
+    void testFailedLoadShouldBeRecordedAndNotCached() {
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, key -> {
+            throw new IllegalStateException("Database is down");
+        }));
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.loadFailureCount()).isEqualTo(1);
+        assertThat(stats.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("test stats should report evictions by cause")
+    void testStatsShouldReportEvictionsByCause() {
+        cache.put(1L, "one");
+        cache.put(2L, "two");
+        cache.put(3L, "three");
+        ticker.addAndGet(Duration.ofSeconds(11).toNanos());
+        cache.put(4L, "four");
+
+        CacheStats stats = cache.stats();
+        assertThat(stats.evictionCount(EvictionCause.SIZE)).isEqualTo(1);
+        assertThat(stats.evictionCount(EvictionCause.EXPIRED)).isEqualTo(2);
+        assertThat(stats.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test bucketOf should place load times in power of two microsecond buckets")
+    void testBucketOfShouldPlaceLoadTimesInPowerOfTwoMicrosecondBuckets() {
+        assertThat(StatsCounter.bucketOf(500)).isZero();
+        assertThat(StatsCounter.bucketOf(1_000)).isEqualTo(1);
+        assertThat(StatsCounter.bucketOf(3_000)).isEqualTo(2);
+        assertThat(StatsCounter.bucketOf(1_000_000)).isEqualTo(10);
+        assertThat(StatsCounter.bucketOf(Long.MAX_VALUE)).isEqualTo(31);
+    }
+
+}
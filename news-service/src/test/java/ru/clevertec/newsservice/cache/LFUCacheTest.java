@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import ru.clevertec.newsservice.dto.proto.NewsResponse;
 import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class LFUCacheTest {
@@ -134,4 +136,56 @@ class LFUCacheTest {
         assertThat(cache.toString()).endsWith("=2)");
     }
 
+    @Test
+    @DisplayName("test entries method should return entries from the least to the most frequently used")
+    void testEntriesMethodShouldReturnEntriesFromLeastToMostFrequentlyUsed() {
+        cache.get(3L);
+        cache.get(3L);
+        cache.get(2L);
+
+        List<CacheEntry<Long, NewsResponse>> actualValue = cache.entries();
+
+        assertThat(actualValue).extracting(CacheEntry::key).containsExactly(1L, 2L, 3L);
+        assertThat(actualValue).extracting(CacheEntry::frequency).containsExactly(1, 2, 3);
+    }
+
+    @Test
+    @DisplayName("test restore method should restore frequencies")
+    void testRestoreMethodShouldRestoreFrequencies() {
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(3L);
+        Cache<Long, NewsResponse> restored = new LFUCache<>(3);
+
+        restored.restore(cache.entries());
+        restored.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(restored.entries()).extracting(CacheEntry::key).containsExactly(4L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("test resize method should evict least frequently used entries beyond new capacity")
+    void testResizeMethodShouldEvictLeastFrequentlyUsedEntriesBeyondNewCapacity() {
+        cache.get(3L);
+        cache.get(3L);
+        cache.get(2L);
+
+        cache.resize(1);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.capacity()).isEqualTo(1);
+        assertThat(cache.entries()).extracting(CacheEntry::key).containsExactly(4L);
+        assertThat(cache.evictionCounts()).containsEntry(EvictionCause.SIZE, 3L);
+    }
+
+    @Test
+    @DisplayName("test resize method should let cache grow beyond old capacity")
+    void testResizeMethodShouldLetCacheGrowBeyondOldCapacity() {
+        cache.resize(4);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.size()).isEqualTo(4);
+        assertThat(cache.get(1L)).isEqualTo(TEST_BUILDER.build());
+    }
+
 }
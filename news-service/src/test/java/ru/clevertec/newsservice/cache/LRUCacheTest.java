@@ -6,6 +6,8 @@ import org.junit.jupiter.api.Test;
 import ru.clevertec.newsservice.dto.proto.NewsResponse;
 import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 class LRUCacheTest {
@@ -106,4 +108,49 @@ class LRUCacheTest {
         assertThat(actualValue).isNull();
     }
 
+    @Test
+    @DisplayName("test entries method should return entries from the least to the most recently used")
+    void testEntriesMethodShouldReturnEntriesFromLeastToMostRecentlyUsed() {
+        cache.get(1L);
+
+        List<CacheEntry<Long, NewsResponse>> actualValue = cache.entries();
+
+        assertThat(actualValue).extracting(CacheEntry::key).containsExactly(2L, 3L, 1L);
+    }
+
+    @Test
+    @DisplayName("test restore method should restore recency")
+    void testRestoreMethodShouldRestoreRecency() {
+        cache.get(1L);
+        Cache<Long, NewsResponse> restored = new LRUCache<>(3);
+
+        restored.restore(cache.entries());
+        restored.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(restored.get(2L)).isNull();
+        assertThat(restored.entries()).extracting(CacheEntry::key).containsExactly(3L, 1L, 4L);
+    }
+
+    @Test
+    @DisplayName("test resize method should evict least recently used entries beyond new capacity")
+    void testResizeMethodShouldEvictLeastRecentlyUsedEntriesBeyondNewCapacity() {
+        cache.get(1L);
+
+        cache.resize(2);
+
+        assertThat(cache.capacity()).isEqualTo(2);
+        assertThat(cache.entries()).extracting(CacheEntry::key).containsExactly(3L, 1L);
+        assertThat(cache.evictionCounts()).containsEntry(EvictionCause.SIZE, 1L);
+    }
+
+    @Test
+    @DisplayName("test resize method should let cache grow beyond old capacity")
+    void testResizeMethodShouldLetCacheGrowBeyondOldCapacity() {
+        cache.resize(4);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.size()).isEqualTo(4);
+        assertThat(cache.get(1L)).isEqualTo(TEST_BUILDER.build());
+    }
+
 }
@@ -0,0 +1,180 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongCacheTest {
+
+    private Cache<Long, NewsResponse> cache;
+    private static final NewsResponseTestBuilder TEST_BUILDER = NewsResponseTestBuilder.aNewsResponse();
+
+    @BeforeEach
+    void setUp() {
+        cache = new LongCache<>(3);
+        cache.put(1L, TEST_BUILDER.build());
+        cache.put(2L, TEST_BUILDER.withId(2L)
+                .withTitle("All stand together")
+                .withText("Go go go go go go")
+                .build());
+        cache.put(3L, TEST_BUILDER.withId(3L)
+                .withTitle("Лето пришло")
+                .withText("На заславском водохранилище утонуло 10 человек")
+                .build());
+    }
+
+    @Test
+    @DisplayName("test get method should return value by key")
+    void testGetMethodShouldReturnValueByKey() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.get(1L);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test get method should return null when cache does not contain a value by key")
+    void testGetMethodShouldReturnNull() {
+        NewsResponse actualValue = cache.get(4L);
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test expected value should be removed")
+    void testExpectedValueShouldBeRemoved() {
+        NewsResponse expectedValue = TEST_BUILDER.withId(4L).build();
+        cache.put(4L, expectedValue);
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(4L)).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test cache should remove value that first in the queue")
+    void testCacheShouldRemoveValueThatFirstInTheQueue() {
+        cache.get(1L);
+        cache.get(2L);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.get(3L)).isNull();
+
+        cache.put(5L, TEST_BUILDER.withId(5L).build());
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("test put method should return deleted value if cache contains expected key")
+    void testPutMethodShouldReturnDeletedValueIfCacheContainsExpectedKey() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.put(1L, TEST_BUILDER.withId(5L).build());
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test put method should return null if capacity of cache <= 0")
+    void testPutMethodShouldReturnNullIfCapacityIsLessOrEqualZero() {
+        cache = new LongCache<>(0);
+        NewsResponse actualValue = cache.put(1L, TEST_BUILDER.build());
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return removed value")
+    void testRemoveByKeyShouldReturnRemovedValue() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.removeByKey(1L);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return null when cache does not contain a value by key")
+    void testRemoveByKeyMethodShouldReturnNull() {
+        NewsResponse actualValue = cache.removeByKey(4L);
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test toString method should return capacity and size")
+    void testToStringMethodShouldReturnCapacityAndSize() {
+        String actualValue = cache.toString();
+
+        assertThat(actualValue).isEqualTo("LongCache(capacity=3, size=3)");
+    }
+
+    @Test
+    @DisplayName("test primitive methods should behave like LRUCache under random puts, gets and removes")
+    void testPrimitiveMethodsShouldBehaveLikeLruCache() {
+        LongCache<Long> longCache = new LongCache<>(100);
+        LRUCache<Long, Long> expected = new LRUCache<>(100);
+        SplittableRandom random = new SplittableRandom(7);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextLong(300);
+            Long value = (long) i;
+            switch (random.nextInt(3)) {
+                case 0 -> assertThat(longCache.put(key, value)).isEqualTo(expected.put(key, value));
+                case 1 -> assertThat(longCache.get(key)).isEqualTo(expected.get(key));
+                default -> assertThat(longCache.removeByKey(key)).isEqualTo(expected.removeByKey(key));
+            }
+        }
+
+        assertThat(longCache.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(longCache.get(key.longValue())).isEqualTo(value));
+    }
+
+    @Test
+    @DisplayName("test concurrent gets should read consistent values while other threads put and remove")
+    void testConcurrentGetsShouldReadConsistentValuesWhileOtherThreadsPutAndRemove() throws Exception {
+        LongCache<Long> longCache = new LongCache<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> results = new ArrayList<>();
+
+        for (int thread = 0; thread < 4; thread++) {
+            int seed = thread;
+            results.add(executor.submit(() -> {
+                SplittableRandom random = new SplittableRandom(seed);
+                for (int i = 0; i < 100_000; i++) {
+                    long key = random.nextLong(200);
+                    switch (random.nextInt(4)) {
+                        case 0 -> longCache.put(key, Long.valueOf(key));
+                        case 1 -> longCache.removeByKey(key);
+                        default -> {
+                            Long value = longCache.get(key);
+                            assertThat(value == null || value == key).isTrue();
+                        }
+                    }
+                }
+            }));
+        }
+        for (Future<?> result : results) {
+            result.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        List<CacheEntry<Long, Long>> entries = longCache.entries();
+        assertThat(entries).hasSize(longCache.size());
+        entries.forEach(entry -> assertThat(entry.value()).isEqualTo(entry.key()));
+    }
+
+}
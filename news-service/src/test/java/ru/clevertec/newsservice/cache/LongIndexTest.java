@@ -0,0 +1,48 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LongIndexTest {
+
+    @Test
+    @DisplayName("test index should behave like HashMap under random puts and removes")
+    void testIndexShouldBehaveLikeHashMap() {
+        LongIndex index = new LongIndex(4);
+        Map<Long, Long> expected = new HashMap<>();
+        SplittableRandom random = new SplittableRandom(13);
+
+        for (int i = 0; i < 100_000; i++) {
+            long key = random.nextLong(2_000);
+            if (random.nextBoolean()) {
+                long value = random.nextLong(Long.MAX_VALUE);
+                assertThat(index.put(key, value)).isEqualTo(expected.getOrDefault(key, LongIndex.MISSING));
+                expected.put(key, value);
+            } else {
+                Long removed = expected.remove(key);
+                assertThat(index.remove(key)).isEqualTo(removed == null ? LongIndex.MISSING : removed);
+            }
+        }
+
+        assertThat(index.size()).isEqualTo(expected.size());
+        expected.forEach((key, value) -> assertThat(index.get(key)).isEqualTo(value));
+    }
+
+    @Test
+    @DisplayName("test conditional remove should only remove expected value")
+    void testConditionalRemoveShouldOnlyRemoveExpectedValue() {
+        LongIndex index = new LongIndex(16);
+        index.put(1L, 10L);
+
+        assertThat(index.remove(1L, 11L)).isFalse();
+        assertThat(index.remove(1L, 10L)).isTrue();
+        assertThat(index.get(1L)).isEqualTo(LongIndex.MISSING);
+    }
+
+}
@@ -0,0 +1,68 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class MemorySensitiveCacheTest {
+
+    private LRUCache<Long, String> delegate;
+    private MemorySensitiveCache<Long, String> cache;
+
+    @BeforeEach
+    void setUp() {
+        delegate = new LRUCache<>(4);
+        cache = new MemorySensitiveCache<>(delegate, 0.5);
+        for (long key = 1; key <= 4; key++) {
+            cache.put(key, "news " + key);
+        }
+    }
+
+    @Test
+    @DisplayName("test shed method should remove coldest part of entries")
+    void testShedMethodShouldRemoveColdestPartOfEntries() {
+        cache.get(1L);
+
+        int actualRemoved = cache.shed();
+
+        assertThat(actualRemoved).isEqualTo(2);
+        assertThat(cache.entries()).extracting(CacheEntry::key).containsExactly(4L, 1L);
+        assertThat(cache.capacity()).isEqualTo(4);
+    }
+
+    @Test
+    @DisplayName("test shed method should count removed entries as memory pressure evictions")
+    void testShedMethodShouldCountRemovedEntriesAsMemoryPressureEvictions() {
+        cache.put(5L, "news 5");
+
+        cache.shed();
+        cache.shed();
+
+        assertThat(cache.evictionCounts())
+                .containsEntry(EvictionCause.SIZE, 1L)
+                .containsEntry(EvictionCause.MEMORY_PRESSURE, 3L);
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test shed method should remove at least one entry of small cache")
+    void testShedMethodShouldRemoveAtLeastOneEntryOfSmallCache() {
+        MemorySensitiveCache<Long, String> smallCache = new MemorySensitiveCache<>(new LRUCache<>(4), 0.1);
+        smallCache.put(1L, "news 1");
+
+        int actualRemoved = smallCache.shed();
+
+        assertThat(actualRemoved).isEqualTo(1);
+        assertThat(smallCache.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("test constructor should throw IllegalArgumentException for shed fraction out of range")
+    void testConstructorShouldThrowIllegalArgumentExceptionForShedFractionOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new MemorySensitiveCache<>(delegate, 0));
+    }
+
+}
@@ -0,0 +1,43 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.dto.proto.CommentResponse;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.comment.CommentResponseTestBuilder;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MessageSizeWeigherTest {
+
+    private final MessageSizeWeigher weigher = new MessageSizeWeigher();
+
+    @Test
+    @DisplayName("test weigh should return serialized size of protobuf message")
+    void testWeighShouldReturnSerializedSizeOfProtobufMessage() {
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().build();
+
+        int actualValue = weigher.weigh(1L, news);
+
+        assertThat(actualValue).isEqualTo(news.toByteArray().length);
+    }
+
+    @Test
+    @DisplayName("test news with long text should weigh more than short comment")
+    void testNewsWithLongTextShouldWeighMoreThanShortComment() {
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().build();
+        CommentResponse comment = CommentResponseTestBuilder.aCommentResponse().build();
+
+        assertThat(weigher.weigh(1L, news)).isGreaterThan(weigher.weigh(1L, comment));
+    }
+
+    @Test
+    @DisplayName("test weigh should return 1 for value that is not protobuf message")
+    void testWeighShouldReturnOneForNonProtobufValue() {
+        int actualValue = weigher.weigh(1L, "value");
+
+        assertThat(actualValue).isEqualTo(1);
+    }
+
+}
@@ -0,0 +1,112 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.exceptionhandlerstarter.exception.NoSuchNewsException;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NegativeCacheTest {
+
+    private static final NewsResponseTestBuilder TEST_BUILDER = NewsResponseTestBuilder.aNewsResponse();
+    private AtomicInteger loads;
+    private Function<Long, NewsResponse> missingLoader;
+    private NegativeCachingCache<Long, NewsResponse> cache;
+
+    @BeforeEach
+    void setUp() {
+        loads = new AtomicInteger();
+        missingLoader = id -> {
+            loads.incrementAndGet();
+            throw new NoSuchNewsException("News with ID " + id + " does not exist");
+        };
+        cache = new NegativeCachingCache<>(new ConcurrentLRUCache<>(3),
+                new NegativeCache<>(3, Duration.ofMinutes(1), NoSuchNewsException.class::isInstance));
+    }
+
+    @Test
+    @DisplayName("test missing key should be loaded once and then rethrown from negative cache")
+    void testMissingKeyShouldBeLoadedOnceAndThenRethrownFromNegativeCache() {
+        assertThrows(NoSuchNewsException.class, () -> cache.get(1L, missingLoader));
+        assertThrows(NoSuchNewsException.class, () -> cache.get(1L, missingLoader));
+
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("test put should forget missing key")
+    void testPutShouldForgetMissingKey() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+        assertThrows(NoSuchNewsException.class, () -> cache.get(1L, missingLoader));
+
+        cache.put(1L, expectedValue);
+
+        assertThat(cache.get(1L, missingLoader)).isEqualTo(expectedValue);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("test other exceptions should not be remembered")
+    void testOtherExceptionsShouldNotBeRemembered() {
+        Function<Long, NewsResponse> failingLoader = id -> {
+            loads.incrementAndGet();
+            throw new IllegalStateException("Database is down");
+        };
+
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, failingLoader));
+        assertThrows(IllegalStateException.class, () -> cache.get(1L, failingLoader));
+
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("test load in flight during a put should not remember the key as missing")
+    void testLoadInFlightDuringPutShouldNotRememberTheKeyAsMissing() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+        Function<Long, NewsResponse> racingLoader = id -> {
+            cache.put(id, expectedValue);
+            throw new NoSuchNewsException("News with ID " + id + " does not exist");
+        };
+        assertThrows(NoSuchNewsException.class, () -> cache.get(1L, racingLoader));
+        cache.removeByKey(1L);
+
+        assertThrows(NoSuchNewsException.class, () -> cache.get(1L, missingLoader));
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("test missing key should be forgotten after ttl")
+    void testMissingKeyShouldBeForgottenAfterTtl() throws InterruptedException {
+        cache = new NegativeCachingCache<>(new ConcurrentLRUCache<>(3),
+                new NegativeCache<>(3, Duration.ofMillis(1), NoSuchNewsException.class::isInstance));
+        assertThrows(NoSuchNewsException.class, () -> cache.get(1L, missingLoader));
+
+        Thread.sleep(5);
+
+        assertThrows(NoSuchNewsException.class, () -> cache.get(1L, missingLoader));
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("test missing key loaded asynchronously should be remembered")
+    void testMissingKeyLoadedAsynchronouslyShouldBeRemembered() {
+        CompletionException first = assertThrows(CompletionException.class,
+                () -> cache.getAsync(1L, missingLoader).join());
+        CompletionException second = assertThrows(CompletionException.class,
+                () -> cache.getAsync(1L, missingLoader).join());
+
+        assertThat(first).hasCauseInstanceOf(NoSuchNewsException.class);
+        assertThat(second).hasCauseInstanceOf(NoSuchNewsException.class);
+        assertThat(loads).hasValue(1);
+    }
+
+}
@@ -0,0 +1,105 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class OffHeapCacheTest {
+
+    private OffHeapCache<NewsResponse> cache;
+    private static final NewsResponseTestBuilder TEST_BUILDER = NewsResponseTestBuilder.aNewsResponse();
+
+    @BeforeEach
+    void setUp() {
+        cache = new OffHeapCache<>(NewsResponse.parser(), 4096, 1024);
+        cache.put(1L, TEST_BUILDER.build());
+        cache.put(2L, TEST_BUILDER.withId(2L)
+                .withTitle("All stand together")
+                .withText("Go go go go go go")
+                .build());
+        cache.put(3L, TEST_BUILDER.withId(3L)
+                .withTitle("Лето пришло")
+                .withText("На заславском водохранилище утонуло 10 человек")
+                .build());
+    }
+
+    @Test
+    @DisplayName("test get method should return value parsed from off-heap bytes")
+    void testGetMethodShouldReturnValueByKey() {
+        NewsResponse expectedValue = TEST_BUILDER.withId(3L)
+                .withTitle("Лето пришло")
+                .withText("На заславском водохранилище утонуло 10 человек")
+                .build();
+
+        NewsResponse actualValue = cache.get(3L);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test get method should return null when cache does not contain a value by key")
+    void testGetMethodShouldReturnNull() {
+        NewsResponse actualValue = cache.get(4L);
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test put method should replace value and return null if cache contains expected key")
+    void testPutMethodShouldReplaceValueAndReturnNullIfCacheContainsExpectedKey() {
+        NewsResponse newValue = TEST_BUILDER.withTitle("Updated").build();
+
+        NewsResponse actualValue = cache.put(1L, newValue);
+
+        assertThat(actualValue).isNull();
+        assertThat(cache.get(1L)).isEqualTo(newValue);
+        assertThat(cache.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return removed value")
+    void testRemoveByKeyShouldReturnRemovedValue() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.removeByKey(1L);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return null when cache does not contain a value by key")
+    void testRemoveByKeyMethodShouldReturnNull() {
+        NewsResponse actualValue = cache.removeByKey(4L);
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test cache should recycle the oldest slab when memory is full")
+    void testCacheShouldRecycleOldestSlabWhenMemoryIsFull() {
+        for (long id = 4; id <= 40; id++) {
+            cache.put(id, TEST_BUILDER.withId(id).build());
+        }
+
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.get(40L)).isEqualTo(TEST_BUILDER.withId(40L).build());
+        assertThat(cache.evictionCount()).isPositive();
+        assertThat(cache.offHeapBytes()).isEqualTo(4096);
+    }
+
+    @Test
+    @DisplayName("test value larger than a slab should not be cached")
+    void testValueLargerThanSlabShouldNotBeCached() {
+        NewsResponse largeValue = TEST_BUILDER.withText("x".repeat(2048)).build();
+
+        cache.put(1L, largeValue);
+
+        assertThat(cache.get(1L)).isNull();
+    }
+
+}
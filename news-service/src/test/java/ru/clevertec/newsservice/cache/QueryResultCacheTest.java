@@ -0,0 +1,84 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class QueryResultCacheTest {
+
+    private AtomicInteger loads;
+    private QueryResultCache queryCache;
+
+    @BeforeEach
+    void setUp() {
+        loads = new AtomicInteger();
+        queryCache = new QueryResultCache("news", 10, Duration.ofMinutes(1), Duration.ofSeconds(1));
+    }
+
+    @Test
+    @DisplayName("test get should load equal queries once")
+    void testGetShouldLoadEqualQueriesOnce() {
+        String first = queryCache.get(List.of("findAll", "0:20:UNSORTED"), this::load);
+        String second = queryCache.get(List.of("findAll", "0:20:UNSORTED"), this::load);
+
+        assertThat(first).isEqualTo("result 1");
+        assertThat(second).isEqualTo("result 1");
+        assertThat(queryCache.stats().hitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test get should load different queries separately")
+    void testGetShouldLoadDifferentQueriesSeparately() {
+        queryCache.get(List.of("findAll", "0:20:UNSORTED"), this::load);
+        String actualValue = queryCache.get(List.of("findAll", "1:20:UNSORTED"), this::load);
+
+        assertThat(actualValue).isEqualTo("result 2");
+    }
+
+    @Test
+    @DisplayName("test invalidateAll should make cached results unreachable")
+    void testInvalidateAllShouldMakeCachedResultsUnreachable() {
+        queryCache.get("query", this::load);
+
+        queryCache.invalidateAll();
+        String actualValue = queryCache.get("query", this::load);
+
+        assertThat(actualValue).isEqualTo("result 2");
+        assertThat(queryCache.generation()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test result of load running during invalidateAll should not be reused")
+    void testResultOfLoadRunningDuringInvalidateAllShouldNotBeReused() {
+        queryCache.get("query", () -> {
+            queryCache.invalidateAll();
+            return load();
+        });
+
+        String actualValue = queryCache.get("query", this::load);
+
+        assertThat(actualValue).isEqualTo("result 2");
+    }
+
+    @Test
+    @DisplayName("test zero capacity should disable caching")
+    void testZeroCapacityShouldDisableCaching() {
+        queryCache = new QueryResultCache("news", 0, Duration.ofMinutes(1), Duration.ofSeconds(1));
+
+        queryCache.get("query", this::load);
+        String actualValue = queryCache.get("query", this::load);
+
+        assertThat(actualValue).isEqualTo("result 2");
+    }
+
+    private String load() {
+        return "result " + loads.incrementAndGet();
+    }
+
+}
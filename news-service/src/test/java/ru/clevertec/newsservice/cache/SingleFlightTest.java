@@ -0,0 +1,236 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("test concurrent loads of the same key should run the loader once")
+    void testConcurrentLoadsOfTheSameKeyShouldRunTheLoaderOnce() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(10));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<String>> results = new ArrayList<>();
+
+        results.add(executor.submit(() -> singleFlight.load(1L, () -> {
+            loads.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "news";
+        })));
+        leaderStarted.await(5, TimeUnit.SECONDS);
+        for (int i = 0; i < 7; i++) {
+            results.add(executor.submit(() -> singleFlight.load(1L, () -> {
+                loads.incrementAndGet();
+                return "duplicate";
+            })));
+        }
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("news");
+        }
+        executor.shutdown();
+        assertThat(loads).hasValue(1);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("test waiting caller should load directly after max wait")
+    void testWaitingCallerShouldLoadDirectlyAfterMaxWait() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        Future<String> leader = executor.submit(() -> singleFlight.load(1L, () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "slow";
+        }));
+        leaderStarted.await(5, TimeUnit.SECONDS);
+
+        String actualValue = singleFlight.load(1L, () -> "direct");
+
+        release.countDown();
+        assertThat(actualValue).isEqualTo("direct");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("test failed load should be rethrown and not remembered")
+    void testFailedLoadShouldBeRethrownAndNotRemembered() {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(1));
+
+        assertThrows(IllegalStateException.class, () -> singleFlight.load(1L, () -> {
+            throw new IllegalStateException("Database is down");
+        }));
+
+        assertThat(singleFlight.load(1L, () -> "news")).isEqualTo("news");
+    }
+
+    @Test
+    @DisplayName("test coalescing cache should put the shared load into the cache")
+    void testCoalescingCacheShouldPutTheSharedLoadIntoTheCache() {
+        CoalescingCache<Long, String> cache = new CoalescingCache<>(new ConcurrentLRUCache<>(3), Duration.ofSeconds(1));
+
+        String first = cache.get(1L, key -> "news");
+        String second = cache.get(1L, key -> "reloaded");
+
+        assertThat(first).isEqualTo("news");
+        assertThat(second).isEqualTo("news");
+        assertThat(cache.size()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test concurrent async and blocking loads of the same key should run the loader once")
+    void testConcurrentAsyncAndBlockingLoadsOfTheSameKeyShouldRunTheLoaderOnce() throws Exception {
+        CoalescingCache<Long, String> cache = new CoalescingCache<>(new ConcurrentLRUCache<>(3), Duration.ofSeconds(5));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        List<CompletableFuture<String>> results = new ArrayList<>();
+
+        for (int i = 0; i < 8; i++) {
+            results.add(cache.getAsync(1L, key -> {
+                loads.incrementAndGet();
+                await(release);
+                return "news";
+            }));
+        }
+        Future<String> blocking = executor.submit(() -> cache.get(1L, key -> {
+            loads.incrementAndGet();
+            return "duplicate";
+        }));
+        release.countDown();
+
+        for (CompletableFuture<String> result : results) {
+            assertThat(result.get(5, TimeUnit.SECONDS)).isEqualTo("news");
+        }
+        assertThat(blocking.get(5, TimeUnit.SECONDS)).isEqualTo("news");
+        executor.shutdown();
+        assertThat(loads).hasValue(1);
+        assertThat(cache.get(1L)).isEqualTo("news");
+    }
+
+    @Test
+    @DisplayName("test failed async load should fail its callers and not be remembered")
+    void testFailedAsyncLoadShouldFailItsCallersAndNotBeRemembered() {
+        CoalescingCache<Long, String> cache = new CoalescingCache<>(new ConcurrentLRUCache<>(3), Duration.ofSeconds(1));
+
+        CompletableFuture<String> failed = cache.getAsync(1L, key -> {
+            throw new IllegalStateException("Database is down");
+        });
+
+        CompletionException exception = assertThrows(CompletionException.class, failed::join);
+        assertThat(exception).hasCauseInstanceOf(IllegalStateException.class);
+        assertThat(cache.getAsync(1L, key -> "news").join()).isEqualTo("news");
+        assertThat(cache.get(1L)).isEqualTo("news");
+    }
+
+    @Test
+    @DisplayName("test cancelling a returned future should not cancel the shared load")
+    void testCancellingAReturnedFutureShouldNotCancelTheSharedLoad() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofSeconds(1));
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CompletableFuture<String> cancelled = singleFlight.loadAsync(1L, () -> {
+            await(release);
+            return "news";
+        }, executor);
+        CompletableFuture<String> waiting = singleFlight.loadAsync(1L, () -> "duplicate", executor);
+
+        cancelled.cancel(true);
+        release.countDown();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo("news");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("test waiting async caller should load directly after max wait")
+    void testWaitingAsyncCallerShouldLoadDirectlyAfterMaxWait() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CompletableFuture<String> leader = singleFlight.loadAsync(1L, () -> {
+            await(release);
+            return "slow";
+        }, executor);
+
+        CompletableFuture<String> waiting = singleFlight.loadAsync(1L, () -> "direct", executor);
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo("direct");
+        release.countDown();
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("slow");
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("test waiting async caller should not load after shared load completed")
+    void testWaitingAsyncCallerShouldNotLoadAfterSharedLoadCompleted() throws Exception {
+        SingleFlight<Long, String> singleFlight = new SingleFlight<>(Duration.ofMillis(50));
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CompletableFuture<String> leader = singleFlight.loadAsync(1L, () -> {
+            await(release);
+            return "news";
+        }, executor);
+        CompletableFuture<String> waiting = singleFlight.loadAsync(1L, () -> {
+            loads.incrementAndGet();
+            return "direct";
+        }, executor);
+
+        release.countDown();
+
+        assertThat(waiting.get(5, TimeUnit.SECONDS)).isEqualTo("news");
+        assertThat(leader.get(5, TimeUnit.SECONDS)).isEqualTo("news");
+        Thread.sleep(100);
+        assertThat(loads).hasValue(0);
+        executor.shutdown();
+    }
+
+    @Test
+    @DisplayName("test async load rejected by executor should run on calling thread")
+    void testAsyncLoadRejectedByExecutorShouldRunOnCallingThread() {
+        SingleFlight<Long, Thread> singleFlight = new SingleFlight<>(Duration.ofSeconds(1));
+        Thread caller = Thread.currentThread();
+
+        CompletableFuture<Thread> actualThread = singleFlight.loadAsync(1L, Thread::currentThread, task -> {
+            throw new RejectedExecutionException("Queue is full");
+        });
+
+        assertThat(actualThread.join()).isSameAs(caller);
+        assertThat(singleFlight.inFlightCount()).isZero();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
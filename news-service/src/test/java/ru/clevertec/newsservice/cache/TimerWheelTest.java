@@ -0,0 +1,94 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.cache.TimerWheel.Timer;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimerWheelTest {
+
+    private TimerWheel<Long> timerWheel;
+    private List<Long> expired;
+
+    @BeforeEach
+    void setUp() {
+        timerWheel = new TimerWheel<>(0);
+        expired = new ArrayList<>();
+    }
+
+    @Test
+    @DisplayName("test advance should expire timers in every level of the wheel")
+    void testAdvanceShouldExpireTimersInEveryLevel() {
+        schedule(1L, Duration.ofSeconds(5));
+        schedule(2L, Duration.ofMinutes(30));
+        schedule(3L, Duration.ofHours(10));
+        schedule(4L, Duration.ofDays(2));
+        schedule(5L, Duration.ofDays(10));
+
+        advance(Duration.ofSeconds(10));
+        assertThat(expired).containsExactly(1L);
+
+        advance(Duration.ofMinutes(31));
+        assertThat(expired).containsExactly(1L, 2L);
+
+        advance(Duration.ofHours(11));
+        assertThat(expired).containsExactly(1L, 2L, 3L);
+
+        advance(Duration.ofDays(3));
+        assertThat(expired).containsExactly(1L, 2L, 3L, 4L);
+
+        advance(Duration.ofDays(11));
+        assertThat(expired).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("test advance should not expire timers before their deadline")
+    void testAdvanceShouldNotExpireTimersBeforeDeadline() {
+        schedule(1L, Duration.ofMinutes(10));
+
+        advance(Duration.ofMinutes(9));
+
+        assertThat(expired).isEmpty();
+    }
+
+    @Test
+    @DisplayName("test descheduled timer should not expire")
+    void testDescheduledTimerShouldNotExpire() {
+        Timer<Long> timer = schedule(1L, Duration.ofSeconds(5));
+
+        timerWheel.deschedule(timer);
+        advance(Duration.ofMinutes(1));
+
+        assertThat(expired).isEmpty();
+    }
+
+    @Test
+    @DisplayName("test timer with extended deadline should be rescheduled instead of expired")
+    void testTimerWithExtendedDeadlineShouldBeRescheduled() {
+        Timer<Long> timer = schedule(1L, Duration.ofSeconds(5));
+
+        timer.deadline = Duration.ofMinutes(5).toNanos();
+        advance(Duration.ofMinutes(1));
+        assertThat(expired).isEmpty();
+
+        advance(Duration.ofMinutes(5));
+        assertThat(expired).containsExactly(1L);
+    }
+
+    private Timer<Long> schedule(Long key, Duration delay) {
+        Timer<Long> timer = new Timer<>(key, timerWheel.nanos() + delay.toNanos());
+        timerWheel.schedule(timer);
+        return timer;
+    }
+
+    private void advance(Duration duration) {
+        timerWheel.advance(timerWheel.nanos() + duration.toNanos(), timer -> expired.add(timer.key));
+    }
+
+}
@@ -0,0 +1,148 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.CacheTraces;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TinyLFUCacheTest {
+
+    private Cache<Long, NewsResponse> cache;
+    private static final NewsResponseTestBuilder TEST_BUILDER = NewsResponseTestBuilder.aNewsResponse();
+
+    @BeforeEach
+    void setUp() {
+        cache = new TinyLFUCache<>(3);
+        cache.put(1L, TEST_BUILDER.build());
+        cache.put(2L, TEST_BUILDER.withId(2L)
+                .withTitle("All stand together")
+                .withText("Go go go go go go")
+                .build());
+        cache.put(3L, TEST_BUILDER.withId(3L)
+                .withTitle("Лето пришло")
+                .withText("На заславском водохранилище утонуло 10 человек")
+                .build());
+    }
+
+    @Test
+    @DisplayName("test get method should return value by key")
+    void testGetMethodShouldReturnValueByKey() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.get(1L);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test get method should return null when cache does not contain a value by key")
+    void testGetMethodShouldReturnNull() {
+        NewsResponse actualValue = cache.get(4L);
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test cache should keep frequently used value and reject new one-off value")
+    void testCacheShouldKeepFrequentlyUsedValue() {
+        cache.get(1L);
+        cache.get(1L);
+        cache.put(4L, TEST_BUILDER.withId(4L).build());
+
+        assertThat(cache.get(1L)).isNotNull();
+        assertThat(cache.get(3L)).isNull();
+        assertThat(((TinyLFUCache<Long, NewsResponse>) cache).size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("test put method should return deleted value if cache contains expected key")
+    void testPutMethodShouldReturnDeletedValueIfCacheContainsExpectedKey() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.put(1L, TEST_BUILDER.withId(5L).build());
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test put method should return null if capacity of cache <= 0")
+    void testPutMethodShouldReturnNullIfCapacityIsLessOrEqualZero() {
+        cache = new TinyLFUCache<>(0);
+        NewsResponse actualValue = cache.put(1L, TEST_BUILDER.build());
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return removed value")
+    void testRemoveByKeyShouldReturnRemovedValue() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.removeByKey(1L);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test removeByKey method should return null when cache does not contain a value by key")
+    void testRemoveByKeyMethodShouldReturnNull() {
+        NewsResponse actualValue = cache.removeByKey(4L);
+
+        assertThat(actualValue).isNull();
+    }
+
+    @Test
+    @DisplayName("test toString method should return capacity and size")
+    void testToStringMethodShouldReturnCapacityAndSize() {
+        String actualValue = cache.toString();
+
+        assertThat(actualValue).isEqualTo("TinyLFUCache(capacity=3, size=3)");
+    }
+
+    @Nested
+    class HitRatioTest {
+
+        private static final int CAPACITY = 500;
+        private static final long[] FRONT_PAGE = CacheTraces.zipfian(200_000, 5_000, 0.9, 7);
+        private static final long[] BREAKING_NEWS = CacheTraces.shift(FRONT_PAGE, 1_000_000);
+
+        @Test
+        @DisplayName("test TinyLFU should beat LRU when hot stories are mixed with listing scans")
+        void testTinyLfuShouldBeatLruOnScans() {
+            long[] trace = CacheTraces.interleave(FRONT_PAGE, CacheTraces.scan(10_000, 100_000), 2);
+
+            double tinyLfu = CacheTraces.hitRatio(new TinyLFUCache<>(CAPACITY), trace);
+            double lru = CacheTraces.hitRatio(new LRUCache<>(CAPACITY), trace);
+
+            assertThat(tinyLfu).isGreaterThan(lru);
+        }
+
+        @Test
+        @DisplayName("test TinyLFU should beat LFU when new stories become popular")
+        void testTinyLfuShouldBeatLfuOnPopularityShift() {
+            long[] trace = CacheTraces.concat(FRONT_PAGE, BREAKING_NEWS);
+
+            double tinyLfu = CacheTraces.hitRatio(new TinyLFUCache<>(CAPACITY), trace);
+            double lfu = CacheTraces.hitRatio(new LFUCache<>(CAPACITY), trace);
+
+            assertThat(tinyLfu).isGreaterThan(lfu);
+        }
+
+        @Test
+        @DisplayName("test TinyLFU should not lose to LRU and LFU on a stable Zipfian workload")
+        void testTinyLfuShouldNotLoseOnZipfian() {
+            double tinyLfu = CacheTraces.hitRatio(new TinyLFUCache<>(CAPACITY), FRONT_PAGE);
+            double lru = CacheTraces.hitRatio(new LRUCache<>(CAPACITY), FRONT_PAGE);
+            double lfu = CacheTraces.hitRatio(new LFUCache<>(CAPACITY), FRONT_PAGE);
+
+            assertThat(tinyLfu).isGreaterThanOrEqualTo(Math.max(lru, lfu) - 0.01);
+        }
+
+    }
+
+}
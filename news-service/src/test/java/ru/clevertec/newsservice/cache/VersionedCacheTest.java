@@ -0,0 +1,153 @@
+package ru.clevertec.newsservice.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Month;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VersionedCacheTest {
+
+    private static final LocalDateTime CREATED = LocalDateTime.of(2023, Month.JUNE, 14, 10, 40, 15);
+    private static final NewsResponse ORIGINAL = NewsResponseTestBuilder.aNewsResponse()
+            .withTime(CREATED)
+            .build();
+    private static final NewsResponse UPDATED = NewsResponseTestBuilder.aNewsResponse()
+            .withTime(CREATED.plusNanos(1_000))
+            .withTitle("Updated")
+            .build();
+
+    private VersionedCache<Long, NewsResponse> cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new VersionedCache<>(new LRUCache<>(3), news -> VersionedCache.timeVersion(news.getTime()));
+    }
+
+    @Test
+    @DisplayName("test put method should not replace newer version")
+    void testPutMethodShouldNotReplaceNewerVersion() {
+        cache.put(1L, UPDATED);
+
+        NewsResponse actualValue = cache.put(1L, ORIGINAL);
+
+        assertThat(actualValue).isEqualTo(UPDATED);
+        assertThat(cache.get(1L)).isEqualTo(UPDATED);
+        assertThat(cache.staleWriteCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test rejected put should be counted as stale write and not as eviction")
+    void testRejectedPutShouldBeCountedAsStaleWriteAndNotAsEviction() {
+        Cache<Long, NewsResponse> instrumented = new InstrumentedCache<>(cache);
+        instrumented.put(1L, UPDATED);
+
+        instrumented.put(1L, ORIGINAL);
+
+        assertThat(instrumented.stats().staleWriteCount()).isEqualTo(1);
+        assertThat(instrumented.stats().evictionCounts().values()).allMatch(count -> count == 0);
+    }
+
+    @Test
+    @DisplayName("test version check should not count as access of cached value")
+    void testVersionCheckShouldNotCountAsAccessOfCachedValue() {
+        VersionedCache<Long, NewsResponse> lfuCache = new VersionedCache<>(new LFUCache<>(2),
+                news -> VersionedCache.timeVersion(news.getTime()));
+        lfuCache.put(1L, UPDATED);
+        lfuCache.put(2L, UPDATED.toBuilder().setId(2L).build());
+
+        lfuCache.put(1L, ORIGINAL);
+        lfuCache.put(3L, UPDATED.toBuilder().setId(3L).build());
+
+        assertThat(lfuCache.peek(1L)).isNull();
+        assertThat(lfuCache.peek(2L)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("test put method should replace older version")
+    void testPutMethodShouldReplaceOlderVersion() {
+        cache.put(1L, ORIGINAL);
+
+        NewsResponse actualValue = cache.put(1L, UPDATED);
+
+        assertThat(actualValue).isEqualTo(ORIGINAL);
+        assertThat(cache.get(1L)).isEqualTo(UPDATED);
+        assertThat(cache.staleWriteCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("test put method should replace value of same version")
+    void testPutMethodShouldReplaceValueOfSameVersion() {
+        NewsResponse sameVersion = ORIGINAL.toBuilder().setTitle("Same version").build();
+        cache.put(1L, ORIGINAL);
+
+        cache.put(1L, sameVersion, Expiry.NEVER);
+
+        assertThat(cache.get(1L)).isEqualTo(sameVersion);
+    }
+
+    @Test
+    @DisplayName("test put method should put old version after removal")
+    void testPutMethodShouldPutOldVersionAfterRemoval() {
+        cache.put(1L, UPDATED);
+        cache.removeByKey(1L);
+
+        cache.put(1L, ORIGINAL);
+
+        assertThat(cache.get(1L)).isEqualTo(ORIGINAL);
+    }
+
+    @Test
+    @DisplayName("test slow reader should not overwrite update made during its load")
+    void testSlowReaderShouldNotOverwriteUpdateMadeDuringItsLoad() throws Exception {
+        Cache<Long, NewsResponse> coalescing = new CoalescingCache<>(cache, Duration.ofSeconds(5));
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch updated = new CountDownLatch(1);
+
+        CompletableFuture<NewsResponse> reader = CompletableFuture.supplyAsync(() -> coalescing.get(1L, id -> {
+            loaded.countDown();
+            await(updated);
+            return ORIGINAL;
+        }));
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+        coalescing.put(1L, UPDATED);
+        updated.countDown();
+
+        assertThat(reader.get(5, TimeUnit.SECONDS)).isEqualTo(ORIGINAL);
+        assertThat(coalescing.get(1L)).isEqualTo(UPDATED);
+    }
+
+    @Test
+    @DisplayName("test timeVersion method should order times by microseconds")
+    void testTimeVersionMethodShouldOrderTimesByMicroseconds() {
+        long earlier = VersionedCache.timeVersion("2023-06-14T10:40:15");
+        long later = VersionedCache.timeVersion("2023-06-14T10:40:15.000001");
+
+        assertThat(later - earlier).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test timeVersion method should return minimum for malformed time")
+    void testTimeVersionMethodShouldReturnMinimumForMalformedTime() {
+        assertThat(VersionedCache.timeVersion("")).isEqualTo(Long.MIN_VALUE);
+        assertThat(VersionedCache.timeVersion("yesterday")).isEqualTo(Long.MIN_VALUE);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
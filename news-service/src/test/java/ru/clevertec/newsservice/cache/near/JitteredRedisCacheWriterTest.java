@@ -0,0 +1,55 @@
+package ru.clevertec.newsservice.cache.near;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JitteredRedisCacheWriterTest {
+
+    private static final byte[] KEY = {1};
+    private static final byte[] VALUE = {2};
+
+    @Mock
+    private RedisCacheWriter delegate;
+
+    @Test
+    @DisplayName("test put should shorten ttl by random part of jitter")
+    void testPutShouldShortenTtlByRandomPartOfJitter() {
+        JitteredRedisCacheWriter writer = new JitteredRedisCacheWriter(delegate, 0.1, () -> 0.5);
+
+        writer.put("news", KEY, VALUE, Duration.ofMinutes(30));
+
+        verify(delegate).put("news", KEY, VALUE, Duration.ofSeconds(1710));
+    }
+
+    @Test
+    @DisplayName("test putIfAbsent should shorten ttl by at most jitter")
+    void testPutIfAbsentShouldShortenTtlByAtMostJitter() {
+        JitteredRedisCacheWriter writer = new JitteredRedisCacheWriter(delegate, 0.1);
+
+        for (int i = 0; i < 100; i++) {
+            assertThat(writer.jitter(Duration.ofMinutes(30)))
+                    .isBetween(Duration.ofMinutes(27), Duration.ofMinutes(30));
+        }
+        writer.putIfAbsent("news", KEY, VALUE, Duration.ZERO);
+
+        verify(delegate).putIfAbsent("news", KEY, VALUE, Duration.ZERO);
+    }
+
+    @Test
+    @DisplayName("test constructor should throw IllegalArgumentException for jitter out of range")
+    void testConstructorShouldThrowIllegalArgumentExceptionForJitterOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new JitteredRedisCacheWriter(delegate, -0.1));
+    }
+
+}
@@ -0,0 +1,454 @@
+package ru.clevertec.newsservice.cache.near;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.connection.DefaultMessage;
+import ru.clevertec.exceptionhandlerstarter.exception.NoSuchNewsException;
+import ru.clevertec.newsservice.cache.ConcurrentLRUCache;
+import ru.clevertec.newsservice.cache.ExpiringCache;
+import ru.clevertec.newsservice.cache.Expiry;
+import ru.clevertec.newsservice.cache.NegativeCache;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class NearCacheTest {
+
+    private static final NewsResponseTestBuilder TEST_BUILDER = NewsResponseTestBuilder.aNewsResponse();
+    private ConcurrentMapCache remote;
+    private List<String> published;
+    private NearCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new ConcurrentMapCache("news");
+        published = new ArrayList<>();
+        cache = new NearCache(remote, () -> new ConcurrentLRUCache<>(3),
+                (cacheName, key) -> published.add(cacheName + ":" + key), Duration.ofSeconds(1), negativeCache());
+    }
+
+    private static NegativeCache<Object> negativeCache() {
+        return new NegativeCache<>(10, Duration.ofMinutes(1), e -> e.getCause() instanceof NoSuchNewsException);
+    }
+
+    @Test
+    @DisplayName("test get should fill local cache from remote cache")
+    void testGetShouldFillLocalCacheFromRemoteCache() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+        remote.put(1L, expectedValue);
+
+        Object first = cache.get(1L).get();
+        remote.evict(1L);
+        Object second = cache.get(1L).get();
+
+        assertThat(first).isEqualTo(expectedValue);
+        assertThat(second).isEqualTo(expectedValue);
+        assertThat(cache.remoteHitCount()).isEqualTo(1);
+        assertThat(cache.localHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test get should return null and count miss when both tiers miss")
+    void testGetShouldReturnNullAndCountMiss() {
+        assertThat(cache.get(1L)).isNull();
+        assertThat(cache.missCount()).isEqualTo(1);
+        assertThat(cache.localHitRatio()).isZero();
+        assertThat(cache.remoteHitRatio()).isZero();
+    }
+
+    @Test
+    @DisplayName("test get with loader should load once and cache in both tiers")
+    void testGetWithLoaderShouldLoadOnceAndCacheInBothTiers() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        NewsResponse actualValue = cache.get(1L, () -> expectedValue);
+
+        assertThat(actualValue).isEqualTo(expectedValue);
+        assertThat(remote.get(1L).get()).isEqualTo(expectedValue);
+        assertThat(cache.get(1L, NewsResponse.class)).isEqualTo(expectedValue);
+        assertThat(cache.localHitCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("test put and evict should write both tiers and publish invalidation")
+    void testPutAndEvictShouldWriteBothTiersAndPublishInvalidation() {
+        NewsResponse expectedValue = TEST_BUILDER.build();
+
+        cache.put(1L, expectedValue);
+
+        assertThat(remote.get(1L).get()).isEqualTo(expectedValue);
+        assertThat(cache.get(1L).get()).isEqualTo(expectedValue);
+        assertThat(cache.localHitCount()).isEqualTo(1);
+
+        cache.evict(1L);
+
+        assertThat(remote.get(1L)).isNull();
+        assertThat(cache.get(1L)).isNull();
+        assertThat(published).containsExactly("news:1", "news:1");
+    }
+
+    @Test
+    @DisplayName("test putIfAbsent should keep remote value, fill local cache and not publish invalidation")
+    void testPutIfAbsentShouldKeepRemoteValueFillLocalCacheAndNotPublishInvalidation() {
+        NewsResponse newerValue = TEST_BUILDER.withTitle("Updated").build();
+        remote.put(1L, newerValue);
+
+        Cache.ValueWrapper existing = cache.putIfAbsent(1L, TEST_BUILDER.build());
+        Cache.ValueWrapper absent = cache.putIfAbsent(2L, TEST_BUILDER.withId(2L).build());
+
+        assertThat(existing.get()).isEqualTo(newerValue);
+        assertThat(absent).isNull();
+        assertThat(remote.get(1L).get()).isEqualTo(newerValue);
+        assertThat(remote.get(2L).get()).isEqualTo(TEST_BUILDER.withId(2L).build());
+        assertThat(cache.get(1L).get()).isEqualTo(newerValue);
+        assertThat(cache.get(2L)).isNotNull();
+        assertThat(cache.localHitCount()).isEqualTo(2);
+        assertThat(published).isEmpty();
+    }
+
+    @Test
+    @DisplayName("test hit ratios should be reported per tier")
+    void testHitRatiosShouldBeReportedPerTier() {
+        remote.put(1L, TEST_BUILDER.build());
+
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(1L);
+        cache.get(2L);
+
+        assertThat(cache.localHitRatio()).isEqualTo(0.5);
+        assertThat(cache.remoteHitRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    @DisplayName("test missing key should be remembered until it is put")
+    void testMissingKeyShouldBeRememberedUntilItIsPut() {
+        AtomicInteger loads = new AtomicInteger();
+        Callable<NewsResponse> missingLoader = () -> {
+            loads.incrementAndGet();
+            throw new NoSuchNewsException("News with ID 1 does not exist");
+        };
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(1L, missingLoader));
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(1L, missingLoader));
+
+        assertThat(loads).hasValue(1);
+
+        cache.put(1L, TEST_BUILDER.build());
+
+        assertThat(cache.get(1L, missingLoader)).isEqualTo(TEST_BUILDER.build());
+    }
+
+    @Test
+    @DisplayName("test local copy should expire with remote entry")
+    void testLocalCopyShouldExpireWithRemoteEntry() {
+        AtomicLong time = new AtomicLong();
+        TtlMapCache ttlRemote = new TtlMapCache();
+        ttlRemote.put(1L, TEST_BUILDER.build());
+        ttlRemote.remaining = Duration.ofSeconds(10);
+        cache = new NearCache(ttlRemote,
+                () -> new ExpiringCache<>(new ConcurrentLRUCache<>(3), Expiry.afterWrite(Duration.ofSeconds(100)),
+                        time::get),
+                (cacheName, key) -> {
+                }, Duration.ofSeconds(1), negativeCache(), Duration.ofSeconds(100), RefreshAhead.disabled());
+        cache.get(1L);
+        ttlRemote.evict(1L);
+
+        time.set(Duration.ofSeconds(9).toNanos());
+        assertThat(cache.get(1L)).isNotNull();
+
+        time.set(Duration.ofSeconds(10).toNanos());
+        assertThat(cache.get(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("test entry that remote cache no longer holds should not be copied")
+    void testEntryThatRemoteCacheNoLongerHoldsShouldNotBeCopied() {
+        TtlMapCache ttlRemote = new TtlMapCache();
+        ttlRemote.put(1L, TEST_BUILDER.build());
+        ttlRemote.remaining = Duration.ZERO;
+        cache = new NearCache(ttlRemote, () -> new ConcurrentLRUCache<>(3), (cacheName, key) -> {
+        }, Duration.ofSeconds(1), negativeCache(), Duration.ofSeconds(100), RefreshAhead.disabled());
+
+        cache.get(1L);
+        cache.get(1L);
+
+        assertThat(cache.localHitCount()).isZero();
+        assertThat(cache.remoteHitCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("test invalidation during remote read should keep read value out of local cache")
+    void testInvalidationDuringRemoteReadShouldKeepReadValueOutOfLocalCache() {
+        NewsResponse oldValue = TEST_BUILDER.build();
+        ConcurrentMapCache racingRemote = new ConcurrentMapCache("news") {
+            @Override
+            public ValueWrapper get(Object key) {
+                ValueWrapper wrapper = super.get(key);
+                cache.invalidateLocal(key);
+                return wrapper;
+            }
+        };
+        racingRemote.put(1L, oldValue);
+        cache = new NearCache(racingRemote, () -> new ConcurrentLRUCache<>(3), (cacheName, key) -> {
+        }, Duration.ofSeconds(1), negativeCache());
+
+        assertThat(cache.get(1L).get()).isEqualTo(oldValue);
+        assertThat(cache.get(1L, () -> oldValue)).isEqualTo(oldValue);
+
+        assertThat(cache.localHitCount()).isZero();
+        assertThat(cache.remoteHitCount()).isEqualTo(2);
+    }
+
+    @Nested
+    class RefreshAheadHitsTest {
+
+        private static final Duration TTL = Duration.ofSeconds(100);
+        private final NewsResponse stale = TEST_BUILDER.build();
+        private final NewsResponse fresh = TEST_BUILDER.withTitle("Apple delays iPhone 15").build();
+        private AtomicLong time;
+        private List<Runnable> submitted;
+        private RefreshAhead refreshAhead;
+
+        @BeforeEach
+        void setUp() {
+            time = new AtomicLong();
+            submitted = new ArrayList<>();
+            refreshAhead = new RefreshAhead(0.2, submitted::add, time::get);
+            cache = new NearCache(remote, () -> new ConcurrentLRUCache<>(3),
+                    (cacheName, key) -> published.add(cacheName + ":" + key), Duration.ofSeconds(1), negativeCache(),
+                    TTL, refreshAhead);
+            cache.put(1L, stale);
+        }
+
+        @Test
+        @DisplayName("test hit before refresh window should not reload")
+        void testHitBeforeRefreshWindowShouldNotReload() {
+            time.set(Duration.ofSeconds(79).toNanos());
+
+            NewsResponse actualValue = cache.get(1L, () -> fresh);
+
+            assertThat(actualValue).isEqualTo(stale);
+            assertThat(submitted).isEmpty();
+        }
+
+        @Test
+        @DisplayName("test hit in refresh window should serve stale value and reload once in background")
+        void testHitInRefreshWindowShouldServeStaleValueAndReloadOnce() {
+            time.set(Duration.ofSeconds(80).toNanos());
+
+            NewsResponse first = cache.get(1L, () -> fresh);
+            NewsResponse second = cache.get(1L, () -> fresh);
+
+            assertThat(first).isEqualTo(stale);
+            assertThat(second).isEqualTo(stale);
+            assertThat(submitted).hasSize(1);
+            assertThat(cache.refreshingCount()).isEqualTo(1);
+
+            submitted.get(0).run();
+
+            assertThat(cache.get(1L, () -> fresh)).isEqualTo(fresh);
+            assertThat(remote.get(1L).get()).isEqualTo(fresh);
+            assertThat(cache.refreshingCount()).isZero();
+            assertThat(refreshAhead.refreshCount()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("test reload should not overwrite value put while it was loading")
+        void testReloadShouldNotOverwriteValuePutWhileItWasLoading() {
+            NewsResponse written = TEST_BUILDER.withTitle("Apple cancels iPhone 15").build();
+            time.set(Duration.ofSeconds(90).toNanos());
+            cache.get(1L, () -> fresh);
+
+            cache.put(1L, written);
+            submitted.get(0).run();
+
+            assertThat(cache.get(1L).get()).isEqualTo(written);
+            assertThat(remote.get(1L).get()).isEqualTo(written);
+        }
+
+        @Test
+        @DisplayName("test failed reload should keep stale value")
+        void testFailedReloadShouldKeepStaleValue() {
+            time.set(Duration.ofSeconds(90).toNanos());
+            cache.get(1L, () -> {
+                throw new IllegalStateException("Database is down");
+            });
+
+            submitted.get(0).run();
+
+            assertThat(cache.get(1L).get()).isEqualTo(stale);
+            assertThat(cache.refreshingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("test rejected reload should be counted and retried on next hit")
+        void testRejectedReloadShouldBeCountedAndRetriedOnNextHit() {
+            RefreshAhead rejecting = new RefreshAhead(0.2, runnable -> {
+                throw new RejectedExecutionException();
+            }, time::get);
+            cache = new NearCache(remote, () -> new ConcurrentLRUCache<>(3), (cacheName, key) -> {
+            }, Duration.ofSeconds(1), negativeCache(), TTL, rejecting);
+            cache.put(1L, stale);
+            time.set(Duration.ofSeconds(90).toNanos());
+
+            cache.get(1L, () -> fresh);
+            cache.get(1L, () -> fresh);
+
+            assertThat(rejecting.rejectionCount()).isEqualTo(2);
+            assertThat(cache.refreshingCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("test hit of entry copied late in its remote life should reload before remote expiry")
+        void testHitOfEntryCopiedLateInItsRemoteLifeShouldReloadBeforeRemoteExpiry() {
+            TtlMapCache ttlRemote = new TtlMapCache();
+            ttlRemote.put(1L, stale);
+            ttlRemote.remaining = Duration.ofSeconds(10);
+            cache = new NearCache(ttlRemote, () -> new ConcurrentLRUCache<>(3), (cacheName, key) -> {
+            }, Duration.ofSeconds(1), negativeCache(), TTL, refreshAhead);
+
+            NewsResponse actualValue = cache.get(1L, () -> fresh);
+
+            assertThat(actualValue).isEqualTo(stale);
+            assertThat(submitted).hasSize(1);
+        }
+
+        @Test
+        @DisplayName("test hit of entry copied early in its remote life should not reload")
+        void testHitOfEntryCopiedEarlyInItsRemoteLifeShouldNotReload() {
+            TtlMapCache ttlRemote = new TtlMapCache();
+            ttlRemote.put(1L, stale);
+            ttlRemote.remaining = Duration.ofSeconds(50);
+            cache = new NearCache(ttlRemote, () -> new ConcurrentLRUCache<>(3), (cacheName, key) -> {
+            }, Duration.ofSeconds(1), negativeCache(), TTL, refreshAhead);
+            cache.get(1L);
+            time.set(Duration.ofSeconds(29).toNanos());
+
+            cache.get(1L, () -> fresh);
+
+            assertThat(submitted).isEmpty();
+
+            time.set(Duration.ofSeconds(30).toNanos());
+            cache.get(1L, () -> fresh);
+
+            assertThat(submitted).hasSize(1);
+        }
+
+    }
+
+    @Nested
+    class TwoNodesTest {
+
+        private ConcurrentMapCacheManager sharedRemote;
+        private NearCacheManager firstNode;
+        private NearCacheManager secondNode;
+
+        @BeforeEach
+        void setUp() {
+            sharedRemote = new ConcurrentMapCacheManager("news");
+            List<InvalidationMessageListener> listeners = new ArrayList<>();
+            firstNode = node("first", listeners);
+            secondNode = node("second", listeners);
+        }
+
+        @Test
+        @DisplayName("test put on one node should invalidate local cache of the other node")
+        void testPutOnOneNodeShouldInvalidateLocalCacheOfTheOtherNode() {
+            NewsResponse oldValue = TEST_BUILDER.build();
+            NewsResponse newValue = TEST_BUILDER.withTitle("Updated").build();
+            firstNode.getCache("news").put(1L, oldValue);
+            assertThat(secondNode.getCache("news").get(1L).get()).isEqualTo(oldValue);
+
+            firstNode.getCache("news").put(1L, newValue);
+
+            assertThat(secondNode.getCache("news").get(1L).get()).isEqualTo(newValue);
+            assertThat(secondNode.getCache("news").remoteHitCount()).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("test clear on one node should drop local cache of the other node")
+        void testClearOnOneNodeShouldDropLocalCacheOfTheOtherNode() {
+            firstNode.getCache("news").put(1L, TEST_BUILDER.build());
+            secondNode.getCache("news").get(1L);
+
+            firstNode.getCache("news").clear();
+
+            assertThat(secondNode.getCache("news").get(1L)).isNull();
+        }
+
+        @Test
+        @DisplayName("test put on one node should notify invalidation listeners of the other node")
+        void testPutOnOneNodeShouldNotifyInvalidationListenersOfTheOtherNode() {
+            List<String> invalidations = new ArrayList<>();
+            secondNode.addInvalidationListener((cacheName, key) -> invalidations.add(cacheName + ":" + key));
+
+            firstNode.getCache("news").put(1L, TEST_BUILDER.build());
+
+            assertThat(invalidations).containsExactly("news:1");
+        }
+
+        @Test
+        @DisplayName("test put on one node should forget missing key on the other node")
+        void testPutOnOneNodeShouldForgetMissingKeyOnTheOtherNode() {
+            Callable<NewsResponse> missingLoader = () -> {
+                throw new NoSuchNewsException("News with ID 1 does not exist");
+            };
+            assertThrows(Cache.ValueRetrievalException.class,
+                    () -> secondNode.getCache("news").get(1L, missingLoader));
+
+            firstNode.getCache("news").put(1L, TEST_BUILDER.build());
+
+            assertThat(secondNode.getCache("news").get(1L, missingLoader)).isEqualTo(TEST_BUILDER.build());
+        }
+
+        private NearCacheManager node(String nodeId, List<InvalidationMessageListener> listeners) {
+            NearCacheManager manager = new NearCacheManager(sharedRemote, () -> new ConcurrentLRUCache<>(3),
+                    (cacheName, key) -> {
+                        String body = nodeId + "|" + cacheName + "|" + (key == null ? "" : key);
+                        DefaultMessage message = new DefaultMessage("channel".getBytes(StandardCharsets.UTF_8),
+                                body.getBytes(StandardCharsets.UTF_8));
+                        listeners.forEach(listener -> listener.onMessage(message, null));
+                    }, Duration.ofSeconds(1), NearCacheTest::negativeCache);
+            listeners.add(new InvalidationMessageListener(nodeId, manager));
+            return manager;
+        }
+
+    }
+
+    /**
+     * A remote cache whose entries all have the same remaining time-to-live.
+     */
+    private static class TtlMapCache extends ConcurrentMapCache implements RemainingTtl {
+
+        private Duration remaining;
+
+        TtlMapCache() {
+            super("news");
+        }
+
+        @Override
+        public Entry getWithRemainingTtl(Object key) {
+            ValueWrapper wrapper = get(key);
+            return wrapper == null ? null : new Entry(wrapper.get(), remaining);
+        }
+
+    }
+
+}
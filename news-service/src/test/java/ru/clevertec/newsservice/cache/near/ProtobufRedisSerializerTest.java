@@ -0,0 +1,69 @@
+package ru.clevertec.newsservice.cache.near;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import ru.clevertec.newsservice.cache.near.ProtobufRedisSerializer.MessageType;
+import ru.clevertec.newsservice.dto.proto.CommentResponse;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.comment.CommentResponseTestBuilder;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class ProtobufRedisSerializerTest {
+
+    private final ProtobufRedisSerializer serializer = new ProtobufRedisSerializer(256,
+            new MessageType<>(1, NewsResponse.class, NewsResponse.parser()),
+            new MessageType<>(2, CommentResponse.class, CommentResponse.parser()));
+
+    @Test
+    @DisplayName("test serialize should write tag and wire bytes below compression threshold")
+    void testSerializeShouldWriteTagAndWireBytesBelowCompressionThreshold() {
+        CommentResponse comment = CommentResponseTestBuilder.aCommentResponse().build();
+
+        byte[] bytes = serializer.serialize(comment);
+
+        assertThat(bytes).hasSize(1 + comment.getSerializedSize());
+        assertThat(bytes[0]).isEqualTo((byte) 2);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(comment);
+    }
+
+    @Test
+    @DisplayName("test serialize should deflate large message and read it back")
+    void testSerializeShouldDeflateLargeMessageAndReadItBack() {
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().withText("breaking news ".repeat(100)).build();
+
+        byte[] bytes = serializer.serialize(news);
+
+        assertThat(bytes.length).isLessThan(news.getSerializedSize());
+        assertThat(bytes[0]).isEqualTo((byte) 0x81);
+        assertThat(serializer.deserialize(bytes)).isEqualTo(news);
+    }
+
+    @Test
+    @DisplayName("test deserialize should read JDK serialized value as missing")
+    void testDeserializeShouldReadJdkSerializedValueAsMissing() {
+        byte[] bytes = new JdkSerializationRedisSerializer().serialize(NewsResponseTestBuilder.aNewsResponse().build());
+
+        assertThat(serializer.deserialize(bytes)).isNull();
+        assertThat(serializer.deserialize(new byte[0])).isNull();
+    }
+
+    @Test
+    @DisplayName("test serialize should throw SerializationException for unregistered type")
+    void testSerializeShouldThrowSerializationExceptionForUnregisteredType() {
+        assertThrows(SerializationException.class, () -> serializer.serialize("news"));
+    }
+
+    @Test
+    @DisplayName("test constructor should throw IllegalArgumentException for duplicate tag")
+    void testConstructorShouldThrowIllegalArgumentExceptionForDuplicateTag() {
+        assertThrows(IllegalArgumentException.class, () -> new ProtobufRedisSerializer(0,
+                new MessageType<>(1, NewsResponse.class, NewsResponse.parser()),
+                new MessageType<>(1, CommentResponse.class, CommentResponse.parser())));
+    }
+
+}
@@ -0,0 +1,46 @@
+package ru.clevertec.newsservice.cache.near;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class RefreshAheadTest {
+
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    @Test
+    @DisplayName("test isDue should be true only in last fraction of ttl")
+    void testIsDueShouldBeTrueOnlyInLastFractionOfTtl() {
+        AtomicLong time = new AtomicLong();
+        RefreshAhead refreshAhead = new RefreshAhead(0.25, Runnable::run, time::get);
+
+        time.set(Duration.ofSeconds(449).toNanos());
+        boolean beforeWindow = refreshAhead.isDue(0, TTL);
+        time.set(Duration.ofSeconds(450).toNanos());
+        boolean inWindow = refreshAhead.isDue(0, TTL);
+
+        assertThat(beforeWindow).isFalse();
+        assertThat(inWindow).isTrue();
+    }
+
+    @Test
+    @DisplayName("test isDue should be false for eternal entries and disabled refresh")
+    void testIsDueShouldBeFalseForEternalEntriesAndDisabledRefresh() {
+        RefreshAhead refreshAhead = new RefreshAhead(0.25, Runnable::run, () -> Long.MAX_VALUE);
+
+        assertThat(refreshAhead.isDue(0, Duration.ZERO)).isFalse();
+        assertThat(RefreshAhead.disabled().isDue(Long.MIN_VALUE, TTL)).isFalse();
+    }
+
+    @Test
+    @DisplayName("test constructor should throw IllegalArgumentException for fraction out of range")
+    void testConstructorShouldThrowIllegalArgumentExceptionForFractionOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new RefreshAhead(1, Runnable::run));
+    }
+
+}
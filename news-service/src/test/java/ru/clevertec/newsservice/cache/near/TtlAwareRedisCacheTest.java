@@ -0,0 +1,76 @@
+package ru.clevertec.newsservice.cache.near;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisKeyCommands;
+import org.springframework.data.redis.connection.RedisStringCommands;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class TtlAwareRedisCacheTest {
+
+    private static final byte[] CACHE_KEY = "news::1".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] VALUE = RedisSerializer.java().serialize("news");
+
+    @Mock
+    private RedisCacheWriter cacheWriter;
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+    @Mock
+    private RedisConnection connection;
+    @Mock
+    private RedisKeyCommands keyCommands;
+    @Mock
+    private RedisStringCommands stringCommands;
+
+    private TtlAwareRedisCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new TtlAwareRedisCache("news", cacheWriter, RedisCacheConfiguration.defaultCacheConfig(),
+                connectionFactory);
+        doReturn(connection).when(connectionFactory).getConnection();
+        doReturn(keyCommands).when(connection).keyCommands();
+        doReturn(stringCommands).when(connection).stringCommands();
+    }
+
+    @Test
+    @DisplayName("test getWithRemainingTtl should pipeline get and pttl of cache key and close connection")
+    void testGetWithRemainingTtlShouldPipelineGetAndPttlOfCacheKeyAndCloseConnection() {
+        doReturn(Arrays.asList(VALUE, 1_500L)).when(connection).closePipeline();
+
+        RemainingTtl.Entry actualEntry = cache.getWithRemainingTtl(1L);
+
+        assertThat(actualEntry).isEqualTo(new RemainingTtl.Entry("news", Duration.ofMillis(1_500)));
+        verify(connection).openPipeline();
+        verify(stringCommands).get(CACHE_KEY);
+        verify(keyCommands).pTtl(CACHE_KEY);
+        verify(connection).close();
+    }
+
+    @Test
+    @DisplayName("test getWithRemainingTtl should return null for missing key and null ttl for key without expiry")
+    void testGetWithRemainingTtlShouldReturnNullForMissingKeyAndNullTtlForKeyWithoutExpiry() {
+        doReturn(Arrays.asList(null, -2L), Arrays.asList(VALUE, -1L)).when(connection).closePipeline();
+
+        assertThat(cache.getWithRemainingTtl(1L)).isNull();
+        assertThat(cache.getWithRemainingTtl(1L)).isEqualTo(new RemainingTtl.Entry("news", null));
+    }
+
+}
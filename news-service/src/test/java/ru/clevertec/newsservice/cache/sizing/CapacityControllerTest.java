@@ -0,0 +1,120 @@
+package ru.clevertec.newsservice.cache.sizing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.InstrumentedCache;
+import ru.clevertec.newsservice.cache.LRUCache;
+import ru.clevertec.newsservice.cache.TinyLFUCache;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class CapacityControllerTest {
+
+    private AtomicLong time;
+    private Cache<Long, String> cache;
+    private CapacityController controller;
+
+    @BeforeEach
+    void setUp() {
+        time = new AtomicLong();
+        cache = new InstrumentedCache<>(new LRUCache<>(10));
+        cache.put(0L, "news");
+        controller = new CapacityController(0.05, 2, 0.5, 10, Duration.ofMinutes(1), time::get);
+        controller.register("news", cache, 5, 40);
+    }
+
+    @Test
+    @DisplayName("test adjust should grow cache while hit ratio gain pays off up to max capacity")
+    void testAdjustShouldGrowCacheWhileHitRatioGainPaysOffUpToMaxCapacity() {
+        lookups(5, 5);
+        controller.adjust();
+        lookups(8, 2);
+        controller.adjust();
+        lookups(9, 1);
+        controller.adjust();
+
+        assertThat(cache.capacity()).isEqualTo(40);
+        assertThat(controller.capacities()).containsEntry("news", 40L);
+    }
+
+    @Test
+    @DisplayName("test adjust should stop growing when gain is below min gain and resume when hit ratio drops")
+    void testAdjustShouldStopGrowingWhenGainIsBelowMinGainAndResumeWhenHitRatioDrops() {
+        lookups(5, 5);
+        controller.adjust();
+        lookups(5, 5);
+        controller.adjust();
+        lookups(5, 5);
+        controller.adjust();
+
+        assertThat(cache.capacity()).isEqualTo(20);
+
+        lookups(2, 8);
+        controller.adjust();
+
+        assertThat(cache.capacity()).isEqualTo(40);
+    }
+
+    @Test
+    @DisplayName("test adjust should not judge interval with too few requests")
+    void testAdjustShouldNotJudgeIntervalWithTooFewRequests() {
+        lookups(1, 1);
+        controller.adjust();
+
+        assertThat(cache.capacity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("test onMemoryPressure should shrink cache and suspend growth during cooldown")
+    void testOnMemoryPressureShouldShrinkCacheAndSuspendGrowthDuringCooldown() {
+        controller.onMemoryPressure();
+
+        assertThat(cache.capacity()).isEqualTo(5);
+
+        lookups(5, 5);
+        controller.adjust();
+        lookups(0, 10);
+        controller.adjust();
+
+        assertThat(cache.capacity()).isEqualTo(5);
+
+        time.set(Duration.ofMinutes(1).toNanos());
+        lookups(0, 10);
+        controller.adjust();
+
+        assertThat(cache.capacity()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("test onMemoryPressure should not shrink cache below min capacity")
+    void testOnMemoryPressureShouldNotShrinkCacheBelowMinCapacity() {
+        controller.onMemoryPressure();
+        controller.onMemoryPressure();
+
+        assertThat(cache.capacity()).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("test register should throw IllegalArgumentException for cache that cannot be resized")
+    void testRegisterShouldThrowIllegalArgumentExceptionForCacheThatCannotBeResized() {
+        TinyLFUCache<Long, String> tinyLfuCache = new TinyLFUCache<>(10);
+
+        assertThrows(IllegalArgumentException.class, () -> controller.register("comment", tinyLfuCache, 1, 20));
+    }
+
+    private void lookups(int hits, int misses) {
+        for (int i = 0; i < hits; i++) {
+            cache.get(0L);
+        }
+        for (long i = 1; i <= misses; i++) {
+            cache.get(-i);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package ru.clevertec.newsservice.cache.sizing;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.management.Notification;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryNotificationInfo;
+import java.lang.management.MemoryPoolMXBean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class HeapPressureMonitorTest {
+
+    private final AtomicInteger pressures = new AtomicInteger();
+    private final HeapPressureMonitor monitor = new HeapPressureMonitor(0.9);
+
+    @BeforeEach
+    void setUp() {
+        monitor.addListener(pressures::incrementAndGet);
+    }
+
+    @Test
+    @DisplayName("test handleNotification should report only threshold notifications")
+    void testHandleNotificationShouldReportOnlyThresholdNotifications() {
+        monitor.handleNotification(new Notification(MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED, this, 1), null);
+        monitor.handleNotification(
+                new Notification(MemoryNotificationInfo.MEMORY_COLLECTION_THRESHOLD_EXCEEDED, this, 2), null);
+        monitor.handleNotification(new Notification("jmx.attribute.change", this, 3), null);
+
+        assertThat(pressures).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("test handleNotification should run added listeners even if one fails")
+    void testHandleNotificationShouldRunAddedListenersEvenIfOneFails() {
+        AtomicInteger shrinks = new AtomicInteger();
+        Runnable removed = shrinks::incrementAndGet;
+        monitor.addListener(() -> {
+            throw new IllegalStateException("Shedding failed");
+        });
+        monitor.addListener(shrinks::incrementAndGet);
+        monitor.addListener(removed);
+        monitor.removeListener(removed);
+
+        monitor.handleNotification(new Notification(MemoryNotificationInfo.MEMORY_THRESHOLD_EXCEEDED, this, 1), null);
+
+        assertThat(pressures).hasValue(1);
+        assertThat(shrinks).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("test start should not set thresholds twice")
+    void testStartShouldNotSetThresholdsTwice() {
+        int monitoredPools = monitor.start();
+        int restartedPools = monitor.start();
+        monitor.stop();
+
+        assertThat(restartedPools).isEqualTo(monitoredPools);
+    }
+
+    @Test
+    @DisplayName("test stop should clear thresholds set by start")
+    void testStopShouldClearThresholdsSetByStart() {
+        int monitoredPools = monitor.start();
+        monitor.stop();
+
+        assertThat(monitoredPools).isPositive();
+        assertThat(ManagementFactory.getMemoryPoolMXBeans())
+                .filteredOn(MemoryPoolMXBean::isUsageThresholdSupported)
+                .allSatisfy(pool -> assertThat(pool.getUsageThreshold()).isZero());
+    }
+
+    @Test
+    @DisplayName("test constructor should throw IllegalArgumentException for usage fraction out of range")
+    void testConstructorShouldThrowIllegalArgumentExceptionForUsageFractionOutOfRange() {
+        assertThrows(IllegalArgumentException.class, () -> new HeapPressureMonitor(1));
+    }
+
+}
@@ -0,0 +1,66 @@
+package ru.clevertec.newsservice.cache.snapshot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import ru.clevertec.newsservice.cache.CacheEntry;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CacheSnapshotFileTest {
+
+    @TempDir
+    private Path directory;
+
+    @Test
+    @DisplayName("test read should return written header and entries in order")
+    void testReadShouldReturnWrittenHeaderAndEntriesInOrder() throws IOException {
+        Path path = directory.resolve("news.snapshot");
+        Instant createdAt = Instant.parse("2023-06-14T10:40:15Z");
+        List<CacheEntry<Long, NewsResponse>> expectedValue = LongStream.rangeClosed(1, 5)
+                .mapToObj(id -> new CacheEntry<>(id, NewsResponseTestBuilder.aNewsResponse().withId(id).build(),
+                        (int) id))
+                .toList();
+
+        CacheSnapshotFile.write(path, "news", List.copyOf(expectedValue), createdAt);
+        CacheSnapshotFile snapshot = CacheSnapshotFile.open(path);
+        List<List<CacheEntry<Long, NewsResponse>>> batches = new ArrayList<>();
+        snapshot.readEntries(NewsResponse.parser(), 2, batches::add);
+
+        assertThat(snapshot.header().getCacheName()).isEqualTo("news");
+        assertThat(snapshot.header().getVersion()).isEqualTo(CacheSnapshotFile.VERSION);
+        assertThat(snapshot.header().getCreatedAt()).isEqualTo(createdAt.toEpochMilli());
+        assertThat(batches).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat(batches.stream().flatMap(List::stream)).containsExactlyElementsOf(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test write should replace previous snapshot without leaving temporary file")
+    void testWriteShouldReplacePreviousSnapshotWithoutLeavingTemporaryFile() throws IOException {
+        Path path = directory.resolve("news.snapshot");
+        NewsResponse news = NewsResponseTestBuilder.aNewsResponse().build();
+        CacheSnapshotFile.write(path, "news", List.of(new CacheEntry<>(1L, news, 1), new CacheEntry<>(2L, news, 1)),
+                Instant.now());
+
+        CacheSnapshotFile.write(path, "news", List.of(new CacheEntry<>(3L, news, 1)), Instant.now());
+        List<Long> actualValue = new ArrayList<>();
+        CacheSnapshotFile.open(path).readEntries(NewsResponse.parser(), 10,
+                batch -> batch.forEach(entry -> actualValue.add(entry.key())));
+
+        assertThat(actualValue).containsExactly(3L);
+        try (var files = Files.list(directory)) {
+            assertThat(files).containsExactly(path);
+        }
+    }
+
+}
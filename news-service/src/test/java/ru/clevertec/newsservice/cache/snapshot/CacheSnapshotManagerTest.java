@@ -0,0 +1,131 @@
+package ru.clevertec.newsservice.cache.snapshot;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.CacheEntry;
+import ru.clevertec.newsservice.cache.LRUCache;
+import ru.clevertec.newsservice.cache.factory.CacheFactory;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.repository.CommentRepository;
+import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.repository.projection.EntityTime;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class CacheSnapshotManagerTest {
+
+    @Mock
+    private CacheFactory<Object, Object> cacheFactory;
+    @Mock
+    private NewsRepository newsRepository;
+    @Mock
+    private CommentRepository commentRepository;
+    @TempDir
+    private Path directory;
+    private CacheSnapshotManager snapshotManager;
+    private final Map<Long, LocalDateTime> databaseTimes = new HashMap<>();
+
+    @BeforeEach
+    void setUp() {
+        snapshotManager = new CacheSnapshotManager(cacheFactory, newsRepository, commentRepository);
+        ReflectionTestUtils.setField(snapshotManager, "enabled", true);
+        ReflectionTestUtils.setField(snapshotManager, "directory", directory);
+        ReflectionTestUtils.setField(snapshotManager, "maxAge", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(snapshotManager, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("test restore should put saved entries back in recency order and delete snapshot")
+    void testRestoreShouldPutSavedEntriesBackInRecencyOrderAndDeleteSnapshot() {
+        Cache<Object, Object> saved = new LRUCache<>(10);
+        for (long id = 1; id <= 3; id++) {
+            saved.put(id, news(id));
+        }
+        saved.get(1L);
+        Cache<Object, Object> restored = new LRUCache<>(10);
+        doReturn(restored)
+                .when(cacheFactory)
+                .getCache("news");
+
+        snapshotManager.save("news", saved);
+        int actualValue = snapshotManager.restore("news", NewsResponse.parser(), NewsResponse::getTime, this::times);
+
+        assertThat(actualValue).isEqualTo(3);
+        assertThat(restored.entries()).extracting(CacheEntry::key).containsExactly(2L, 3L, 1L);
+        assertThat(Files.exists(directory.resolve("news.snapshot"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("test restore should discard entries whose time does not match database")
+    void testRestoreShouldDiscardEntriesWhoseTimeDoesNotMatchDatabase() {
+        Cache<Object, Object> saved = new LRUCache<>(10);
+        saved.put(1L, news(1L));
+        saved.put(2L, news(2L));
+        saved.put(3L, news(3L));
+        databaseTimes.put(2L, databaseTimes.get(2L).plusSeconds(1));
+        databaseTimes.remove(3L);
+        Cache<Object, Object> restored = new LRUCache<>(10);
+        doReturn(restored)
+                .when(cacheFactory)
+                .getCache("news");
+
+        snapshotManager.save("news", saved);
+        snapshotManager.restore("news", NewsResponse.parser(), NewsResponse::getTime, this::times);
+
+        assertThat(restored.entries()).extracting(CacheEntry::key).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("test restore should discard snapshot older than max age")
+    void testRestoreShouldDiscardSnapshotOlderThanMaxAge() throws IOException {
+        NewsResponse news = news(1L);
+        CacheSnapshotFile.write(directory.resolve("news.snapshot"), "news", List.of(new CacheEntry<>(1L, news, 1)),
+                Instant.now().minus(Duration.ofMinutes(11)));
+
+        int actualValue = snapshotManager.restore("news", NewsResponse.parser(), NewsResponse::getTime, this::times);
+
+        assertThat(actualValue).isZero();
+        assertThat(Files.exists(directory.resolve("news.snapshot"))).isFalse();
+    }
+
+    private NewsResponse news(long id) {
+        LocalDateTime time = LocalDateTime.of(2023, 6, 14, 10, 40, 15).plusMinutes(id);
+        databaseTimes.put(id, time);
+        return NewsResponseTestBuilder.aNewsResponse()
+                .withId(id)
+                .withTime(time)
+                .build();
+    }
+
+    private List<EntityTime> times(Collection<Long> ids) {
+        return ids.stream()
+                .filter(databaseTimes::containsKey)
+                .<EntityTime>map(id -> new Time(id, databaseTimes.get(id)))
+                .toList();
+    }
+
+    private record Time(Long getId, LocalDateTime getTime) implements EntityTime {
+    }
+
+}
@@ -0,0 +1,143 @@
+package ru.clevertec.newsservice.cache.warmup;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.mapper.NewsMapper;
+import ru.clevertec.newsservice.model.News;
+import ru.clevertec.newsservice.repository.NewsRepository;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsTestBuilder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NewsCacheWarmUpTest {
+
+    @Mock
+    private NewsRepository newsRepository;
+    @Mock
+    private NewsMapper newsMapper;
+    private Map<Long, NewsResponse> cache;
+    private NewsCacheWarmUp warmUp;
+
+    @BeforeEach
+    void setUp() {
+        cache = new ConcurrentHashMap<>();
+        warmUp = new NewsCacheWarmUp(newsRepository, newsMapper, cache::put);
+        ReflectionTestUtils.setField(warmUp, "enabled", true);
+        ReflectionTestUtils.setField(warmUp, "size", 5);
+        ReflectionTestUtils.setField(warmUp, "batchSize", 2);
+        ReflectionTestUtils.setField(warmUp, "parallelism", 2);
+        ReflectionTestUtils.setField(warmUp, "timeout", Duration.ofSeconds(5));
+    }
+
+    @Test
+    @DisplayName("test warmUp should load most recent news in pages")
+    void testWarmUpShouldLoadMostRecentNewsInPages() {
+        givenMostRecentNews();
+
+        warmUp.warmUp();
+
+        verify(newsRepository, times(3)).findAll(any(Pageable.class));
+        assertThat(cache).containsOnlyKeys(1L, 2L, 3L, 4L, 5L);
+        assertThat(warmUp.getEntriesLoaded()).isEqualTo(5);
+        assertThat(warmUp.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("test warmUp should load no more news than capacity of target and skip cached news")
+    void testWarmUpShouldLoadNoMoreNewsThanCapacityOfTargetAndSkipCachedNews() {
+        cache.put(2L, NewsResponseTestBuilder.aNewsResponse().withId(2L).build());
+        warmUp = new NewsCacheWarmUp(newsRepository, newsMapper, new WarmUpTarget() {
+
+            @Override
+            public void put(Long id, NewsResponse news) {
+                cache.put(id, news);
+            }
+
+            @Override
+            public long capacity() {
+                return 3;
+            }
+
+            @Override
+            public boolean contains(Long id) {
+                return cache.containsKey(id);
+            }
+
+        });
+        ReflectionTestUtils.setField(warmUp, "size", 1000);
+        ReflectionTestUtils.setField(warmUp, "batchSize", 100);
+        ReflectionTestUtils.setField(warmUp, "parallelism", 2);
+        ReflectionTestUtils.setField(warmUp, "timeout", Duration.ofSeconds(5));
+        givenMostRecentNews();
+
+        warmUp.warmUp();
+
+        verify(newsRepository).findAll(PageRequest.of(0, 3, Sort.by(Sort.Order.desc("time"), Sort.Order.desc("id"))));
+        verify(newsMapper, times(2)).toResponse(any());
+        assertThat(cache).containsOnlyKeys(1L, 2L, 3L);
+        assertThat(warmUp.getEntriesLoaded()).isEqualTo(2);
+        assertThat(warmUp.isCompleted()).isTrue();
+    }
+
+    @Test
+    @DisplayName("test warmUp should stop after timeout")
+    void testWarmUpShouldStopAfterTimeout() {
+        ReflectionTestUtils.setField(warmUp, "timeout", Duration.ofMillis(50));
+        CountDownLatch never = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            never.await();
+            return Page.empty();
+        })
+                .when(newsRepository)
+                .findAll(any(Pageable.class));
+
+        warmUp.warmUp();
+
+        assertThat(cache).isEmpty();
+        assertThat(warmUp.isCompleted()).isFalse();
+        assertThat(warmUp.getDurationMillis()).isLessThan(5000);
+    }
+
+    private void givenMostRecentNews() {
+        doAnswer(invocation -> {
+            Pageable pageable = invocation.getArgument(0);
+            long first = pageable.getOffset() + 1;
+            List<News> news = LongStream.range(first, first + pageable.getPageSize())
+                    .mapToObj(id -> NewsTestBuilder.aNews().withId(id).build())
+                    .toList();
+            return new PageImpl<>(news, pageable, 1000);
+        })
+                .when(newsRepository)
+                .findAll(any(Pageable.class));
+        doAnswer(invocation -> NewsResponseTestBuilder.aNewsResponse()
+                .withId(invocation.<News>getArgument(0).getId())
+                .build())
+                .when(newsMapper)
+                .toResponse(any());
+    }
+
+}
@@ -1,22 +1,49 @@
 package ru.clevertec.newsservice.config;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.Mock;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.interceptor.CacheOperationInvoker;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.clevertec.exceptionhandlerstarter.exception.NoSuchNewsException;
+import ru.clevertec.newsservice.cache.ConcurrentLRUCache;
+import ru.clevertec.newsservice.cache.NegativeCache;
+import ru.clevertec.newsservice.cache.near.NearCache;
+import ru.clevertec.newsservice.cache.near.NearCacheManager;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
 
 import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @ExtendWith(MockitoExtension.class)
 class RedisCacheConfigTest {
 
     @Spy
     private RedisCacheConfig redisCacheConfig;
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(redisCacheConfig, "compressionThreshold", 1024);
+    }
 
     @Test
     @DisplayName("test should return not null RedisCacheConfiguration")
@@ -33,8 +60,66 @@ class RedisCacheConfigTest {
 
         assertAll(
                 () -> assertThat(configuration.getAllowCacheNullValues()).isFalse(),
-                () -> assertThat(configuration.getTtl()).isEqualTo(Duration.ofMinutes(30))
+                () -> assertThat(configuration.getTtl()).isEqualTo(Duration.ofMinutes(30)),
+                () -> assertThat(configuration.getValueSerializationPair().read(configuration
+                        .getValueSerializationPair().write(NewsResponseTestBuilder.aNewsResponse().build())))
+                        .isEqualTo(NewsResponseTestBuilder.aNewsResponse().build())
         );
     }
 
+    @Test
+    @DisplayName("test should return NearCacheManager that decorates Redis caches")
+    void testShouldReturnNearCacheManagerThatDecoratesRedisCaches() {
+        ReflectionTestUtils.setField(redisCacheConfig, "nearCacheCapacity", 10);
+        ReflectionTestUtils.setField(redisCacheConfig, "invalidationChannel", "cache-invalidation");
+        ReflectionTestUtils.setField(redisCacheConfig, "singleFlightMaxWait", Duration.ofSeconds(5));
+        ReflectionTestUtils.setField(redisCacheConfig, "negativeCapacity", 10);
+        ReflectionTestUtils.setField(redisCacheConfig, "negativeTtl", Duration.ofSeconds(30));
+        ReflectionTestUtils.setField(redisCacheConfig, "newsTtl", Duration.ofMinutes(30));
+        ReflectionTestUtils.setField(redisCacheConfig, "commentTtl", Duration.ofMinutes(10));
+        ReflectionTestUtils.setField(redisCacheConfig, "ttlJitter", 0.1);
+        ReflectionTestUtils.setField(redisCacheConfig, "refreshAheadFraction", 0.2);
+        ReflectionTestUtils.setField(redisCacheConfig, "refreshAheadThreads", 1);
+        ReflectionTestUtils.setField(redisCacheConfig, "refreshAheadQueueCapacity", 10);
+
+        NearCacheManager cacheManager = redisCacheConfig.cacheManager(connectionFactory, redisTemplate);
+
+        assertThat(cacheManager.getCache("news")).isInstanceOf(NearCache.class);
+        assertThat(cacheManager.getCache("news").getName()).isEqualTo("news");
+    }
+
+    @Test
+    @DisplayName("test should return bounded refresh-ahead executor")
+    void testShouldReturnBoundedRefreshAheadExecutor() {
+        ReflectionTestUtils.setField(redisCacheConfig, "refreshAheadThreads", 2);
+        ReflectionTestUtils.setField(redisCacheConfig, "refreshAheadQueueCapacity", 10);
+
+        ThreadPoolExecutor executor = redisCacheConfig.refreshAheadExecutor();
+
+        assertAll(
+                () -> assertThat(executor.getMaximumPoolSize()).isEqualTo(2),
+                () -> assertThat(executor.getQueue().remainingCapacity()).isEqualTo(10)
+        );
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("test missing news thrown through cache interceptor should be remembered")
+    void testMissingNewsThrownThroughCacheInterceptorShouldBeRemembered() {
+        NearCache cache = new NearCache(new ConcurrentMapCache("news"), () -> new ConcurrentLRUCache<>(3),
+                (cacheName, key) -> {
+                }, Duration.ofSeconds(1),
+                new NegativeCache<>(10, Duration.ofSeconds(30), RedisCacheConfig::isMissingEntity));
+        AtomicInteger loads = new AtomicInteger();
+        Callable<Object> interceptedLoader = () -> {
+            loads.incrementAndGet();
+            throw new CacheOperationInvoker.ThrowableWrapper(new NoSuchNewsException("News with ID 1 does not exist"));
+        };
+
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(1L, interceptedLoader));
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get(1L, interceptedLoader));
+
+        assertThat(loads).hasValue(1);
+    }
+
 }
@@ -0,0 +1,84 @@
+package ru.clevertec.newsservice.event.listener;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.clevertec.newsservice.cache.GroupedCache;
+import ru.clevertec.newsservice.dto.proto.NewsResponse;
+import ru.clevertec.newsservice.dto.proto.NewsWithCommentsResponse;
+import ru.clevertec.newsservice.event.CommentsChangedEvent;
+import ru.clevertec.newsservice.event.NewsDeletedEvent;
+import ru.clevertec.newsservice.event.NewsUpdatedEvent;
+import ru.clevertec.newsservice.mapper.CommentMapper;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsResponseTestBuilder;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsWithCommentsResponseTestBuilder;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class NewsWithCommentsCacheListenerTest {
+
+    @Mock
+    private CommentMapper commentMapper;
+    private GroupedCache<Long, NewsWithCommentsResponse> groupedCache;
+    private NewsWithCommentsCacheListener listener;
+
+    @BeforeEach
+    void setUp() {
+        groupedCache = new GroupedCache<>("newsWithComments", 10, Duration.ofMinutes(1), newsId -> {
+        });
+        listener = new NewsWithCommentsCacheListener(groupedCache, commentMapper);
+    }
+
+    @Test
+    @DisplayName("test onCommentsChanged should drop only the pages of the news")
+    void testOnCommentsChangedShouldDropOnlyPagesOfNews() {
+        NewsWithCommentsResponse first = NewsWithCommentsResponseTestBuilder.aNewsWithCommentsResponse().build();
+        NewsWithCommentsResponse second = first.toBuilder().setId(2L).build();
+        groupedCache.get(1L, "page", () -> first);
+        groupedCache.get(2L, "page", () -> second);
+
+        listener.onCommentsChanged(new CommentsChangedEvent(1L));
+
+        assertThat(groupedCache.get(1L, "page", () -> null)).isNull();
+        assertThat(groupedCache.get(2L, "page", () -> null)).isEqualTo(second);
+    }
+
+    @Test
+    @DisplayName("test onNewsUpdated should replace the news embedded in the cached pages")
+    void testOnNewsUpdatedShouldReplaceNewsEmbeddedInCachedPages() {
+        NewsWithCommentsResponse cached = NewsWithCommentsResponseTestBuilder.aNewsWithCommentsResponse().build();
+        NewsResponse updatedNews = NewsResponseTestBuilder.aNewsResponse()
+                .withId(cached.getId())
+                .withTitle("Updated title")
+                .build();
+        NewsWithCommentsResponse expectedValue = cached.toBuilder().setTitle("Updated title").build();
+        groupedCache.get(cached.getId(), "page", () -> cached);
+
+        doReturn(expectedValue)
+                .when(commentMapper)
+                .toNewsWithCommentsResponse(updatedNews, cached.getCommentsList());
+
+        listener.onNewsUpdated(new NewsUpdatedEvent(updatedNews));
+
+        assertThat(groupedCache.get(cached.getId(), "page", () -> null)).isEqualTo(expectedValue);
+    }
+
+    @Test
+    @DisplayName("test onNewsDeleted should drop the pages of the news")
+    void testOnNewsDeletedShouldDropPagesOfNews() {
+        NewsWithCommentsResponse cached = NewsWithCommentsResponseTestBuilder.aNewsWithCommentsResponse().build();
+        groupedCache.get(cached.getId(), "page", () -> cached);
+
+        listener.onNewsDeleted(new NewsDeletedEvent(cached.getId()));
+
+        assertThat(groupedCache.get(cached.getId(), "page", () -> null)).isNull();
+    }
+
+}
@@ -85,6 +85,21 @@ class CommentControllerTest extends BaseIntegrationTest {
 
     }
 
+    @Nested
+    class FindAllByIdsGetEndpointTest {
+
+        @Test
+        @DisplayName("test should return existing values in order of ids and status 200")
+        void testShouldReturnExistingValuesInOrderOfIdsAndStatus200() throws Exception {
+            mockMvc.perform(get("/comments").param("ids", "5", "122", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.comments.length()").value(2))
+                    .andExpect(jsonPath("$.comments[0].id").value("5"))
+                    .andExpect(jsonPath("$.comments[1].id").value("1"));
+        }
+
+    }
+
     @Nested
     class FindNewsByNewsIdWithCommentsGetEndpointTest {
 
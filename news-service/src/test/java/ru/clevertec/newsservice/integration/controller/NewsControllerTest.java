@@ -82,6 +82,21 @@ class NewsControllerTest extends BaseIntegrationTest {
 
     }
 
+    @Nested
+    class FindAllByIdsGetEndpointTest {
+
+        @Test
+        @DisplayName("test should return existing values in order of ids and status 200")
+        void testShouldReturnExistingValuesInOrderOfIdsAndStatus200() throws Exception {
+            mockMvc.perform(get("/news").param("ids", "5", "122", "1"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.news.length()").value(2))
+                    .andExpect(jsonPath("$.news[0].id").value("5"))
+                    .andExpect(jsonPath("$.news[1].id").value("1"));
+        }
+
+    }
+
     @Nested
     class FindAllGetEndpointTest {
 
@@ -0,0 +1,61 @@
+package ru.clevertec.newsservice.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import ru.clevertec.newsservice.cache.Cache;
+import ru.clevertec.newsservice.cache.ConcurrentLRUCache;
+import ru.clevertec.newsservice.cache.InstrumentedCache;
+import ru.clevertec.newsservice.cache.factory.CacheFactory;
+import ru.clevertec.newsservice.dto.proto.CacheStatsResponse;
+import ru.clevertec.newsservice.dto.proto.CacheStatsResponseList;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doReturn;
+
+@ExtendWith(MockitoExtension.class)
+class CacheStatsServiceImplTest {
+
+    @InjectMocks
+    private CacheStatsServiceImpl cacheStatsService;
+    @Mock
+    private CacheFactory<Object, Object> cacheFactory;
+
+    @Test
+    @DisplayName("test findAll should return statistics of every cache")
+    void testFindAllShouldReturnStatisticsOfEveryCache() {
+        Cache<Object, Object> newsCache = new InstrumentedCache<>(new ConcurrentLRUCache<>(1));
+        newsCache.put(1L, "first");
+        newsCache.put(2L, "second");
+        newsCache.get(2L);
+        newsCache.get(1L);
+        Map<String, Cache<Object, Object>> caches = new LinkedHashMap<>();
+        caches.put("news", newsCache);
+        caches.put("comment", new ConcurrentLRUCache<>(1));
+
+        doReturn(caches)
+                .when(cacheFactory)
+                .getCaches();
+
+        CacheStatsResponseList actualValue = cacheStatsService.findAll();
+
+        CacheStatsResponse news = actualValue.getCaches(0);
+        assertThat(actualValue.getCachesList()).hasSize(2);
+        assertThat(news.getName()).isEqualTo("news");
+        assertThat(news.getSize()).isEqualTo(1);
+        assertThat(news.getWeightedSize()).isEqualTo(1);
+        assertThat(news.getCapacity()).isEqualTo(1);
+        assertThat(news.getEvictionWeight()).isEqualTo(1);
+        assertThat(news.getHitCount()).isEqualTo(1);
+        assertThat(news.getMissCount()).isEqualTo(1);
+        assertThat(news.getEvictionCountsMap()).containsEntry("SIZE", 1L);
+        assertThat(actualValue.getCaches(1).getName()).isEqualTo("comment");
+    }
+
+}
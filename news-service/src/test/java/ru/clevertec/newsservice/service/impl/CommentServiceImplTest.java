@@ -12,6 +12,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.Page;
@@ -28,6 +29,7 @@ import ru.clevertec.newsservice.dto.proto.NewsResponse;
 import ru.clevertec.newsservice.dto.proto.NewsWithCommentsResponse;
 import ru.clevertec.newsservice.dto.proto.Role;
 import ru.clevertec.newsservice.dto.proto.TokenValidationResponse;
+import ru.clevertec.newsservice.event.CommentsChangedEvent;
 import ru.clevertec.newsservice.mapper.CommentMapper;
 import ru.clevertec.newsservice.mapper.NewsMapper;
 import ru.clevertec.newsservice.model.Comment;
@@ -72,6 +74,8 @@ class CommentServiceImplTest {
     private NewsService newsService;
     @Mock
     private NewsMapper newsMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @Captor
     private ArgumentCaptor<Comment> captor;
 
@@ -124,6 +128,37 @@ class CommentServiceImplTest {
 
     }
 
+    @Nested
+    class FindAllByIdsTest {
+
+        @Test
+        @DisplayName("test should return found Comments in order of ids")
+        void testShouldReturnFoundCommentsInOrderOfIds() {
+            Comment firstComment = CommentTestBuilder.aComment().withId(1L).build();
+            Comment secondComment = CommentTestBuilder.aComment().withId(2L).build();
+            CommentResponse firstResponse = CommentResponseTestBuilder.aCommentResponse().withId(1L).build();
+            CommentResponse secondResponse = CommentResponseTestBuilder.aCommentResponse().withId(2L).build();
+            List<Long> ids = List.of(2L, 3L, 1L);
+
+            doReturn(List.of(firstComment, secondComment))
+                    .when(commentRepository)
+                    .findAllById(ids);
+
+            doReturn(firstResponse)
+                    .when(commentMapper)
+                    .toResponse(firstComment);
+
+            doReturn(secondResponse)
+                    .when(commentMapper)
+                    .toResponse(secondComment);
+
+            List<CommentResponse> actualValues = commentService.findAllByIds(ids);
+
+            assertThat(actualValues).containsExactly(secondResponse, firstResponse);
+        }
+
+    }
+
     @Nested
     class FindNewsByNewsIdWithComments {
 
@@ -427,6 +462,32 @@ class CommentServiceImplTest {
             assertThat(actualValue).isEqualTo(expectedValue);
         }
 
+        @Test
+        @DisplayName("test should publish CommentsChangedEvent with the ID of the News")
+        void testShouldPublishCommentsChangedEvent() {
+            Comment mockedComment = CommentTestBuilder.aComment().build();
+            CommentRequest mockedCommentRequest = CommentRequestTestBuilder.aCommentRequest().build();
+            long id = mockedComment.getId();
+            TokenValidationResponse response = TokenValidationResponseTestBuilder.aTokenValidationResponse().build();
+            String token = "jwt";
+
+            doReturn(response)
+                    .when(authenticationService)
+                    .checkTokenValidationForRole(token, Role.SUBSCRIBER);
+
+            doReturn(Optional.of(mockedComment))
+                    .when(commentRepository)
+                    .findById(id);
+
+            doReturn(mockedComment)
+                    .when(commentRepository)
+                    .saveAndFlush(mockedComment);
+
+            commentService.updateById(id, mockedCommentRequest, token);
+
+            verify(eventPublisher).publishEvent(new CommentsChangedEvent(mockedComment.getNews().getId()));
+        }
+
         @Test
         @DisplayName("test should throw NoSuchCommentException")
         void testShouldThrowNoSuchCommentException() {
@@ -525,6 +586,27 @@ class CommentServiceImplTest {
                     .delete(mockedComment);
         }
 
+        @Test
+        @DisplayName("test should publish CommentsChangedEvent with the ID of the News")
+        void testShouldPublishCommentsChangedEvent() {
+            Comment mockedComment = CommentTestBuilder.aComment().build();
+            long id = mockedComment.getId();
+            TokenValidationResponse response = TokenValidationResponseTestBuilder.aTokenValidationResponse().build();
+            String token = "jwt";
+
+            doReturn(response)
+                    .when(authenticationService)
+                    .checkTokenValidationForRole(token, Role.SUBSCRIBER);
+
+            doReturn(Optional.of(mockedComment))
+                    .when(commentRepository)
+                    .findById(id);
+
+            commentService.deleteById(id, token);
+
+            verify(eventPublisher).publishEvent(new CommentsChangedEvent(mockedComment.getNews().getId()));
+        }
+
         @Test
         @DisplayName("test should throw NoSuchCommentException")
         void testShouldThrowNoSuchCommentException() {
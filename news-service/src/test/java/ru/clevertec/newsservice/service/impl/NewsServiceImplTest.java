@@ -12,6 +12,7 @@ import org.mockito.Captor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Example;
 import org.springframework.data.domain.ExampleMatcher;
 import org.springframework.data.domain.Page;
@@ -25,6 +26,8 @@ import ru.clevertec.newsservice.dto.proto.NewsResponse;
 import ru.clevertec.newsservice.dto.proto.NewsResponseList;
 import ru.clevertec.newsservice.dto.proto.Role;
 import ru.clevertec.newsservice.dto.proto.TokenValidationResponse;
+import ru.clevertec.newsservice.event.NewsDeletedEvent;
+import ru.clevertec.newsservice.event.NewsUpdatedEvent;
 import ru.clevertec.newsservice.mapper.NewsMapper;
 import ru.clevertec.newsservice.model.News;
 import ru.clevertec.newsservice.repository.NewsRepository;
@@ -58,6 +61,8 @@ class NewsServiceImplTest {
     private AuthenticationService authenticationService;
     @Mock
     private NewsMapper newsMapper;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @Captor
     private ArgumentCaptor<News> captor;
 
@@ -110,6 +115,37 @@ class NewsServiceImplTest {
 
     }
 
+    @Nested
+    class FindAllByIdsTest {
+
+        @Test
+        @DisplayName("test should return found News in order of ids")
+        void testShouldReturnFoundNewsInOrderOfIds() {
+            News firstNews = NewsTestBuilder.aNews().withId(1L).build();
+            News secondNews = NewsTestBuilder.aNews().withId(2L).build();
+            NewsResponse firstResponse = NewsResponseTestBuilder.aNewsResponse().withId(1L).build();
+            NewsResponse secondResponse = NewsResponseTestBuilder.aNewsResponse().withId(2L).build();
+            List<Long> ids = List.of(2L, 3L, 1L);
+
+            doReturn(List.of(firstNews, secondNews))
+                    .when(newsRepository)
+                    .findAllById(ids);
+
+            doReturn(firstResponse)
+                    .when(newsMapper)
+                    .toResponse(firstNews);
+
+            doReturn(secondResponse)
+                    .when(newsMapper)
+                    .toResponse(secondNews);
+
+            List<NewsResponse> actualValues = newsService.findAllByIds(ids);
+
+            assertThat(actualValues).containsExactly(secondResponse, firstResponse);
+        }
+
+    }
+
     @Nested
     class FindAllTest {
 
@@ -334,6 +370,37 @@ class NewsServiceImplTest {
             assertThat(actualValue).isEqualTo(expectedValue);
         }
 
+        @Test
+        @DisplayName("test should publish NewsUpdatedEvent with updated value")
+        void testShouldPublishNewsUpdatedEvent() {
+            News mockedNews = NewsTestBuilder.aNews().build();
+            NewsResponse expectedValue = NewsResponseTestBuilder.aNewsResponse().build();
+            NewsRequest mockedNewsRequest = NewsRequestTestBuilder.aNewsRequest().build();
+            long id = mockedNews.getId();
+            TokenValidationResponse response = TokenValidationResponseTestBuilder.aTokenValidationResponse().build();
+            String token = "jwt";
+
+            doReturn(response)
+                    .when(authenticationService)
+                    .checkTokenValidationForRole(token, Role.JOURNALIST);
+
+            doReturn(Optional.of(mockedNews))
+                    .when(newsRepository)
+                    .findById(id);
+
+            doReturn(mockedNews)
+                    .when(newsRepository)
+                    .saveAndFlush(mockedNews);
+
+            doReturn(expectedValue)
+                    .when(newsMapper)
+                    .toResponse(mockedNews);
+
+            newsService.updateById(id, mockedNewsRequest, token);
+
+            verify(eventPublisher).publishEvent(new NewsUpdatedEvent(expectedValue));
+        }
+
         @Test
         @DisplayName("test should throw NoSuchNewsException")
         void testShouldThrowNoSuchNewsException() {
@@ -432,6 +499,27 @@ class NewsServiceImplTest {
                     .delete(mockedNews);
         }
 
+        @Test
+        @DisplayName("test should publish NewsDeletedEvent with the ID")
+        void testShouldPublishNewsDeletedEvent() {
+            News mockedNews = NewsTestBuilder.aNews().build();
+            long id = mockedNews.getId();
+            TokenValidationResponse response = TokenValidationResponseTestBuilder.aTokenValidationResponse().build();
+            String token = "jwt";
+
+            doReturn(response)
+                    .when(authenticationService)
+                    .checkTokenValidationForRole(token, Role.JOURNALIST);
+
+            doReturn(Optional.of(mockedNews))
+                    .when(newsRepository)
+                    .findById(id);
+
+            newsService.deleteById(id, token);
+
+            verify(eventPublisher).publishEvent(new NewsDeletedEvent(id));
+        }
+
         @Test
         @DisplayName("test should throw NoSuchNewsException")
         void testShouldThrowNoSuchNewsException() {
@@ -0,0 +1,121 @@
+package ru.clevertec.newsservice.util;
+
+import ru.clevertec.newsservice.cache.Cache;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * Generates news id access traces and replays them against a {@link Cache} to measure its hit ratio.
+ */
+public final class CacheTraces {
+
+    private CacheTraces() {
+    }
+
+    /**
+     * Draws a sequence of ids from a Zipfian distribution, where id 1 is the most popular story and the popularity
+     * of id n is proportional to 1 / n^exponent.
+     *
+     * @param count    the number of ids to draw.
+     * @param keySpace the number of distinct ids.
+     * @param exponent the skew of the distribution, usually close to 1.
+     * @param seed     the seed of the random generator.
+     * @return the drawn ids.
+     */
+    public static long[] zipfian(int count, int keySpace, double exponent, long seed) {
+        double[] cumulative = new double[keySpace];
+        double sum = 0;
+        for (int i = 0; i < keySpace; i++) {
+            sum += 1 / Math.pow(i + 1, exponent);
+            cumulative[i] = sum;
+        }
+        SplittableRandom random = new SplittableRandom(seed);
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            int index = Arrays.binarySearch(cumulative, random.nextDouble() * sum);
+            keys[i] = (index < 0 ? -index - 1 : index) + 1L;
+        }
+        return keys;
+    }
+
+    /**
+     * Returns a sequential scan of ids, as produced by clients paging through a listing.
+     *
+     * @param from  the first id of the scan.
+     * @param count the number of ids in the scan.
+     * @return the scanned ids.
+     */
+    public static long[] scan(long from, int count) {
+        long[] keys = new long[count];
+        for (int i = 0; i < count; i++) {
+            keys[i] = from + i;
+        }
+        return keys;
+    }
+
+    /**
+     * Shifts all ids of the trace by the offset, to model a new set of popular stories.
+     *
+     * @param trace  the trace to shift.
+     * @param offset the offset added to every id.
+     * @return the shifted trace.
+     */
+    public static long[] shift(long[] trace, long offset) {
+        return Arrays.stream(trace).map(key -> key + offset).toArray();
+    }
+
+    /**
+     * Concatenates the traces in the given order.
+     *
+     * @param traces the traces to concatenate.
+     * @return the concatenated trace.
+     */
+    public static long[] concat(long[]... traces) {
+        return Arrays.stream(traces).flatMapToLong(Arrays::stream).toArray();
+    }
+
+    /**
+     * Interleaves two traces, taking {@code run} ids of the first one for every id of the second one.
+     *
+     * @param first  the main trace.
+     * @param second the trace mixed into the main one.
+     * @param run    the number of ids of the first trace between two ids of the second trace.
+     * @return the interleaved trace.
+     */
+    public static long[] interleave(long[] first, long[] second, int run) {
+        long[] keys = new long[first.length + second.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (i < first.length || j < second.length) {
+            for (int r = 0; r < run && i < first.length; r++) {
+                keys[k++] = first[i++];
+            }
+            if (j < second.length) {
+                keys[k++] = second[j++];
+            }
+        }
+        return keys;
+    }
+
+    /**
+     * Replays the trace against the cache the way the cache aspects do: a miss is followed by a put.
+     *
+     * @param cache the cache to replay the trace against.
+     * @param trace the trace of ids.
+     * @return the hit ratio of the cache on the trace.
+     */
+    public static double hitRatio(Cache<Long, Long> cache, long[] trace) {
+        int hits = 0;
+        for (long key : trace) {
+            if (cache.get(key) == null) {
+                cache.put(key, key);
+            } else {
+                hits++;
+            }
+        }
+        return (double) hits / trace.length;
+    }
+
+}
@@ -4,7 +4,9 @@ import lombok.AllArgsConstructor;
 import lombok.NoArgsConstructor;
 import lombok.With;
 import ru.clevertec.newsservice.model.Comment;
+import ru.clevertec.newsservice.model.News;
 import ru.clevertec.newsservice.util.TestBuilder;
+import ru.clevertec.newsservice.util.testbuilder.news.NewsTestBuilder;
 
 import java.time.LocalDateTime;
 import java.time.Month;
@@ -19,6 +21,7 @@ public class CommentTestBuilder implements TestBuilder<Comment> {
     private String text = "Wow! That's scary! I hope everyone is safe!";
     private String username = "LavaLover";
     private String email = "lavalover@gmail.com";
+    private News news = NewsTestBuilder.aNews().build();
 
     @Override
     public Comment build() {
@@ -28,6 +31,7 @@ public class CommentTestBuilder implements TestBuilder<Comment> {
                 .text(text)
                 .username(username)
                 .email(email)
+                .news(news)
                 .build();
     }
 